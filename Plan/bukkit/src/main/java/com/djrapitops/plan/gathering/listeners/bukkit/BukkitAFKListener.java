@@ -29,9 +29,8 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.player.*;
 
 import javax.inject.Inject;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 /**
  * Listener that keeps track of actions that are not considered being AFK.
@@ -46,13 +45,13 @@ public class BukkitAFKListener implements Listener {
     // Static so that /reload does not cause afk tracking to fail.
     static AFKTracker AFK_TRACKER;
 
-    private final Map<UUID, Boolean> ignorePermissionInfo;
+    private static final Predicate<Player> HAS_IGNORE_PERMISSION = player -> player.hasPermission(Permissions.IGNORE_AFK.getPermission());
+
     private final ErrorLogger errorLogger;
 
     @Inject
     public BukkitAFKListener(PlanConfig config, ErrorLogger errorLogger) {
         this.errorLogger = errorLogger;
-        this.ignorePermissionInfo = new HashMap<>();
 
         BukkitAFKListener.assignAFKTracker(config);
     }
@@ -66,19 +65,7 @@ public class BukkitAFKListener implements Listener {
     private void event(PlayerEvent event) {
         try {
             Player player = event.getPlayer();
-            UUID uuid = player.getUniqueId();
-            long time = System.currentTimeMillis();
-
-            boolean ignored = ignorePermissionInfo.computeIfAbsent(uuid, keyUUID -> player.hasPermission(Permissions.IGNORE_AFK.getPermission()));
-            if (ignored) {
-                AFK_TRACKER.hasIgnorePermission(uuid);
-                ignorePermissionInfo.put(uuid, true);
-                return;
-            } else {
-                ignorePermissionInfo.put(uuid, false);
-            }
-
-            AFK_TRACKER.performedAction(uuid, time);
+            AFK_TRACKER.performedAction(player.getUniqueId(), System.currentTimeMillis(), player, HAS_IGNORE_PERMISSION);
         } catch (Exception e) {
             errorLogger.log(L.ERROR, e, ErrorContext.builder().related(event).build());
         }
@@ -105,8 +92,9 @@ public class BukkitAFKListener implements Listener {
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
-    public void onLeave(PlayerQuitEvent event) {
-        ignorePermissionInfo.remove(event.getPlayer().getUniqueId());
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        // Permissions can be different per world.
+        AFK_TRACKER.refreshPermission(event.getPlayer().getUniqueId());
     }
 
 }
\ No newline at end of file
@@ -19,7 +19,7 @@ package com.djrapitops.plan.gathering.listeners.bukkit;
 import com.djrapitops.plan.delivery.domain.Nickname;
 import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
 import com.djrapitops.plan.delivery.export.Exporter;
-import com.djrapitops.plan.delivery.webserver.cache.DataID;
+import com.djrapitops.plan.delivery.webserver.cache.DataDomain;
 import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
 import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.ExtensionSvc;
@@ -152,8 +152,7 @@ public class PlayerOnlineListener implements Listener {
         UUID playerUUID = player.getUniqueId();
         UUID serverUUID = serverInfo.getServerUUID();
         long time = System.currentTimeMillis();
-        JSONCache.invalidate(DataID.SERVER_OVERVIEW, serverUUID);
-        JSONCache.invalidate(DataID.GRAPH_PERFORMANCE, serverUUID);
+        JSONCache.invalidate(DataDomain.ONLINE_PLAYERS, serverUUID);
 
         BukkitAFKListener.AFK_TRACKER.performedAction(playerUUID, time);
 
@@ -216,8 +215,7 @@ public class PlayerOnlineListener implements Listener {
         String playerName = player.getName();
         UUID playerUUID = player.getUniqueId();
         UUID serverUUID = serverInfo.getServerUUID();
-        JSONCache.invalidate(DataID.SERVER_OVERVIEW, serverUUID);
-        JSONCache.invalidate(DataID.GRAPH_PERFORMANCE, serverUUID);
+        JSONCache.invalidate(DataDomain.ONLINE_PLAYERS, serverUUID);
 
         BukkitAFKListener.AFK_TRACKER.loggedOut(playerUUID, time);
 
@@ -23,12 +23,12 @@
  */
 package com.djrapitops.plan.gathering.timed;
 
-import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.gathering.domain.Ping;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.transactions.events.PingStoreTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.PingBatchStoreTransaction;
 import com.djrapitops.plan.utilities.java.Reflection;
 import com.djrapitops.plugin.api.TimeAmount;
 import com.djrapitops.plugin.task.AbsRunnable;
@@ -47,6 +47,7 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -82,10 +83,11 @@ public class BukkitPingCounter extends AbsRunnable implements Listener {
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
         this.runnableFactory = runnableFactory;
-        playerHistory = new HashMap<>();
+        playerHistory = new ConcurrentHashMap<>();
     }
 
-    private final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    private final Map<UUID, PingHistory> playerHistory;
+    private int runsSinceStore;
 
     private final PlanConfig config;
     private final DBSystem dbSystem;
@@ -138,12 +140,12 @@ public class BukkitPingCounter extends AbsRunnable implements Listener {
     @Override
     public void run() {
         long time = System.currentTimeMillis();
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
+        Iterator<Map.Entry<UUID, PingHistory>> iterator = playerHistory.entrySet().iterator();
 
         while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
+            Map.Entry<UUID, PingHistory> entry = iterator.next();
             UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
+            PingHistory history = entry.getValue();
             Player player = Bukkit.getPlayer(uuid);
             if (player != null) {
                 int ping = getPing(player);
@@ -151,21 +153,30 @@ public class BukkitPingCounter extends AbsRunnable implements Listener {
                     // Don't accept bad values
                     continue;
                 }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
-                    dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
-                    );
-                    history.clear();
-                }
+                history.add(time, ping);
             } else {
                 iterator.remove();
             }
         }
+
+        runsSinceStore++;
+        if (runsSinceStore >= PingHistory.SAMPLES_PER_AGGREGATE) {
+            runsSinceStore = 0;
+            storeAggregates();
+        }
+    }
+
+    private void storeAggregates() {
+        UUID serverUUID = serverInfo.getServerUUID();
+        Map<UUID, Ping> aggregates = PingHistory.aggregateAll(playerHistory, serverUUID);
+        if (!aggregates.isEmpty()) {
+            // Every player is stored on the same interval boundary in a single transaction.
+            dbSystem.getDatabase().executeTransaction(new PingBatchStoreTransaction(serverUUID, aggregates));
+        }
     }
 
     public void addPlayer(Player player) {
-        playerHistory.put(player.getUniqueId(), new ArrayList<>());
+        playerHistory.put(player.getUniqueId(), new PingHistory());
     }
 
     public void removePlayer(Player player) {
@@ -18,7 +18,7 @@ package com.djrapitops.plan.gathering.listeners.bungee;
 
 import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
 import com.djrapitops.plan.delivery.export.Exporter;
-import com.djrapitops.plan.delivery.webserver.cache.DataID;
+import com.djrapitops.plan.delivery.webserver.cache.DataDomain;
 import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
 import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.ExtensionSvc;
@@ -123,11 +123,8 @@ public class PlayerOnlineListener implements Listener {
             processing.submitNonCritical(() -> exporter.exportPlayerPage(playerUUID, playerName));
         }
 
-        UUID serverUUID = serverInfo.getServerUUID();
-        JSONCache.invalidateMatching(DataID.SERVER_OVERVIEW);
-        JSONCache.invalidate(DataID.GRAPH_ONLINE, serverUUID);
-        JSONCache.invalidate(DataID.SERVERS);
-        JSONCache.invalidate(DataID.SESSIONS);
+        // Online players of all servers are shown through the proxy.
+        JSONCache.invalidate(DataDomain.ONLINE_PLAYERS);
     }
 
     @EventHandler(priority = EventPriority.NORMAL)
@@ -157,21 +154,9 @@ public class PlayerOnlineListener implements Listener {
             processing.submitNonCritical(() -> exporter.exportPlayerPage(playerUUID, playerName));
         }
         processing.submit(() -> {
-            JSONCache.invalidateMatching(
-                    DataID.SERVER_OVERVIEW,
-                    DataID.SESSIONS,
-                    DataID.GRAPH_WORLD_PIE,
-                    DataID.GRAPH_PUNCHCARD,
-                    DataID.KILLS,
-                    DataID.ONLINE_OVERVIEW,
-                    DataID.SESSIONS_OVERVIEW,
-                    DataID.PVP_PVE,
-                    DataID.GRAPH_UNIQUE_NEW,
-                    DataID.GRAPH_CALENDAR
-            );
-            UUID serverUUID = serverInfo.getServerUUID();
-            JSONCache.invalidate(DataID.GRAPH_ONLINE, serverUUID);
-            JSONCache.invalidate(DataID.SERVERS);
+            // Sessions of the servers behind the proxy are stored by those servers.
+            JSONCache.invalidate(DataDomain.SESSIONS);
+            JSONCache.invalidate(DataDomain.ONLINE_PLAYERS);
         });
     }
 
@@ -199,6 +184,6 @@ public class PlayerOnlineListener implements Listener {
             processing.submitNonCritical(() -> exporter.exportPlayerPage(playerUUID, playerName));
         }
 
-        JSONCache.invalidate(DataID.SERVERS);
+        JSONCache.invalidate(DataDomain.ONLINE_PLAYERS);
     }
 }
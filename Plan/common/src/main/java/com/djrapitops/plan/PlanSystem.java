@@ -26,6 +26,8 @@ import com.djrapitops.plan.delivery.webserver.WebServerSystem;
 import com.djrapitops.plan.exceptions.EnableException;
 import com.djrapitops.plan.extension.ExtensionService;
 import com.djrapitops.plan.extension.ExtensionSvc;
+import com.djrapitops.plan.extension.implementation.ExtensionGatheringExecutor;
+import com.djrapitops.plan.extension.implementation.ExtensionUpdateScheduler;
 import com.djrapitops.plan.gathering.cache.CacheSystem;
 import com.djrapitops.plan.gathering.importing.ImportSystem;
 import com.djrapitops.plan.gathering.listeners.ListenerSystem;
@@ -72,6 +74,8 @@ public class PlanSystem implements SubSystem {
     private final WebServerSystem webServerSystem;
 
     private final Processing processing;
+    private final ExtensionGatheringExecutor extensionGatheringExecutor;
+    private final ExtensionUpdateScheduler extensionUpdateScheduler;
 
     private final ImportSystem importSystem;
     private final ExportSystem exportSystem;
@@ -98,6 +102,8 @@ public class PlanSystem implements SubSystem {
             ServerInfo serverInfo,
             WebServerSystem webServerSystem,
             Processing processing,
+            ExtensionGatheringExecutor extensionGatheringExecutor,
+            ExtensionUpdateScheduler extensionUpdateScheduler,
             ImportSystem importSystem,
             ExportSystem exportSystem,
             DeliveryUtilities deliveryUtilities,
@@ -122,6 +128,8 @@ public class PlanSystem implements SubSystem {
         this.serverInfo = serverInfo;
         this.webServerSystem = webServerSystem;
         this.processing = processing;
+        this.extensionGatheringExecutor = extensionGatheringExecutor;
+        this.extensionUpdateScheduler = extensionUpdateScheduler;
         this.importSystem = importSystem;
         this.exportSystem = exportSystem;
         this.deliveryUtilities = deliveryUtilities;
@@ -165,6 +173,8 @@ public class PlanSystem implements SubSystem {
                 databaseSystem,
                 webServerSystem,
                 processing,
+                extensionGatheringExecutor,
+                extensionUpdateScheduler,
                 serverInfo,
                 importSystem,
                 exportSystem,
@@ -205,6 +215,8 @@ public class PlanSystem implements SubSystem {
                 listenerSystem,
                 importSystem,
                 exportSystem,
+                extensionUpdateScheduler,
+                extensionGatheringExecutor,
                 processing,
                 databaseSystem,
                 webServerSystem,
@@ -0,0 +1,104 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain;
+
+import com.djrapitops.plan.gathering.domain.Session;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Represents a single page of the most recent sessions.
+ * <p>
+ * The sessions of a page do not contain world times breakdown or player kills,
+ * those are loaded separately for a single session.
+ *
+ * @author Rsl1122
+ * @see SessionPageRequest
+ */
+public class SessionPage {
+
+    private final List<Session> sessions;
+    private final Cursor nextCursor;
+
+    public SessionPage(List<Session> sessions, Cursor nextCursor) {
+        this.sessions = sessions;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Session> getSessions() {
+        return sessions;
+    }
+
+    /**
+     * Get the cursor for requesting the next page.
+     *
+     * @return Cursor, or empty if this is the last page.
+     */
+    public Optional<Cursor> getNextCursor() {
+        return Optional.ofNullable(nextCursor);
+    }
+
+    /**
+     * Position of the last session of a page, sessions are ordered by start and id, most recent first.
+     */
+    public static class Cursor {
+
+        private final long sessionStart;
+        private final int sessionId;
+
+        public Cursor(long sessionStart, int sessionId) {
+            this.sessionStart = sessionStart;
+            this.sessionId = sessionId;
+        }
+
+        /**
+         * Decode a cursor given by a client.
+         *
+         * @param encoded Value returned by {@link #encode()}.
+         * @return The cursor, or empty if the value is not a valid cursor.
+         */
+        public static Optional<Cursor> decode(String encoded) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+                int startEnd = decoded.indexOf('\n');
+                if (startEnd == -1) return Optional.empty();
+                return Optional.of(new Cursor(
+                        Long.parseLong(decoded.substring(0, startEnd)),
+                        Integer.parseInt(decoded.substring(startEnd + 1))
+                ));
+            } catch (IllegalArgumentException e) { // Includes NumberFormatException
+                return Optional.empty();
+            }
+        }
+
+        public String encode() {
+            String decoded = Long.toString(sessionStart) + '\n' + sessionId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(decoded.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public long getSessionStart() {
+            return sessionStart;
+        }
+
+        public int getSessionId() {
+            return sessionId;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Represents a request for a single page of the most recent sessions.
+ *
+ * @author Rsl1122
+ * @see SessionPage
+ */
+public class SessionPageRequest {
+
+    private final UUID serverUUID;
+    private final UUID playerUUID;
+    private final String world;
+    private final int size;
+    private final SessionPage.Cursor after;
+
+    /**
+     * Create a new request.
+     *
+     * @param serverUUID UUID of the server the sessions were played on, null for sessions of all servers.
+     * @param playerUUID UUID of the player who played the sessions, null for sessions of all players.
+     * @param world      Name of a world that was visited during the sessions, null for any world.
+     * @param size       Maximum number of sessions on the page.
+     * @param after      Cursor returned with the previous page, null for the first page.
+     */
+    public SessionPageRequest(UUID serverUUID, UUID playerUUID, String world, int size, SessionPage.Cursor after) {
+        this.serverUUID = serverUUID;
+        this.playerUUID = playerUUID;
+        this.world = world;
+        this.size = size;
+        this.after = after;
+    }
+
+    public Optional<UUID> getServerUUID() {
+        return Optional.ofNullable(serverUUID);
+    }
+
+    public Optional<UUID> getPlayerUUID() {
+        return Optional.ofNullable(playerUUID);
+    }
+
+    public Optional<String> getWorld() {
+        return world == null || world.isEmpty() ? Optional.empty() : Optional.of(world);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public Optional<SessionPage.Cursor> getAfter() {
+        return Optional.ofNullable(after);
+    }
+}
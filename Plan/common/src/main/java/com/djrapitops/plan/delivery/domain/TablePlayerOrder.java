@@ -0,0 +1,86 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain;
+
+import java.util.Optional;
+
+/**
+ * Columns of the players table that the table can be ordered by.
+ * <p>
+ * Extension columns are ordered with {@link #EXTENSION} and the name of the provider.
+ *
+ * @author Rsl1122
+ * @see TablePlayerPageRequest
+ */
+public enum TablePlayerOrder {
+    NAME("name", ValueType.TEXT),
+    ACTIVITY_INDEX("index", ValueType.DECIMAL),
+    PLAYTIME("playtime", ValueType.NUMBER),
+    SESSIONS("sessions", ValueType.NUMBER),
+    REGISTERED("registered", ValueType.NUMBER),
+    LAST_SEEN("seen", ValueType.NUMBER),
+    GEOLOCATION("geolocation", ValueType.TEXT),
+    /**
+     * Value of an extension provider, data property and value type depend on the provider.
+     */
+    EXTENSION(null, null);
+
+    private final String dataProperty;
+    private final ValueType valueType;
+
+    TablePlayerOrder(String dataProperty, ValueType valueType) {
+        this.dataProperty = dataProperty;
+        this.valueType = valueType;
+    }
+
+    /**
+     * Find the order by the data property used for the column in players table JSON.
+     *
+     * @param dataProperty Data property of the column, eg. "seen"
+     * @return Order of the column, or empty if the column can not be ordered by.
+     */
+    public static Optional<TablePlayerOrder> fromDataProperty(String dataProperty) {
+        for (TablePlayerOrder order : values()) {
+            if (order.dataProperty != null && order.dataProperty.equals(dataProperty)) {
+                return Optional.of(order);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public String getDataProperty() {
+        return dataProperty;
+    }
+
+    /**
+     * Get the type of the values the column is ordered by.
+     *
+     * @return Type of the values, or null for {@link #EXTENSION}.
+     */
+    public ValueType getValueType() {
+        return valueType;
+    }
+
+    /**
+     * Type of the values a column is ordered by.
+     */
+    public enum ValueType {
+        TEXT,
+        NUMBER,
+        DECIMAL
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Represents a single page of the players table.
+ *
+ * @author Rsl1122
+ * @see TablePlayerPageRequest
+ */
+public class TablePlayerPage {
+
+    private final List<TablePlayer> players;
+    private final int totalCount;
+    private final int filteredCount;
+    private final Cursor nextCursor;
+
+    public TablePlayerPage(List<TablePlayer> players, int totalCount, int filteredCount, Cursor nextCursor) {
+        this.players = players;
+        this.totalCount = totalCount;
+        this.filteredCount = filteredCount;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<TablePlayer> getPlayers() {
+        return players;
+    }
+
+    /**
+     * Get the number of players in the whole table.
+     *
+     * @return Number of players without the search filter.
+     */
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Get the number of players that match the search filter.
+     *
+     * @return Number of players on all pages.
+     */
+    public int getFilteredCount() {
+        return filteredCount;
+    }
+
+    /**
+     * Get the cursor for requesting the next page.
+     *
+     * @return Cursor, or empty if this is the last page.
+     */
+    public Optional<Cursor> getNextCursor() {
+        return Optional.ofNullable(nextCursor);
+    }
+
+    /**
+     * Position of the last player of a page in the order of the table.
+     * <p>
+     * The cursor also holds the date the Activity Index of the first page was calculated with,
+     * so that the following pages are ordered by the same values.
+     */
+    public static class Cursor {
+
+        private static final String EXTENSION_PREFIX = "extension:";
+
+        private final TablePlayerOrder order;
+        private final String extensionProvider;
+        private final TablePlayerOrder.ValueType valueType;
+        private final String sortValue;
+        private final int userId;
+        private final long date;
+
+        /**
+         * Create a new cursor.
+         *
+         * @param order             Order of the page.
+         * @param extensionProvider Name of the provider if the order is {@link TablePlayerOrder#EXTENSION}, otherwise null.
+         * @param valueType         Type of the sort value.
+         * @param sortValue         Value the last player of the page was ordered by.
+         * @param userId            ID of the last player of the page.
+         * @param date              Date used for Activity Index calculation of the page.
+         */
+        public Cursor(TablePlayerOrder order, String extensionProvider, TablePlayerOrder.ValueType valueType, String sortValue, int userId, long date) {
+            this.order = order;
+            this.extensionProvider = extensionProvider;
+            this.valueType = valueType;
+            this.sortValue = sortValue;
+            this.userId = userId;
+            this.date = date;
+        }
+
+        /**
+         * Decode a cursor given by a client.
+         *
+         * @param encoded Value returned by {@link #encode()}.
+         * @return The cursor, or empty if the value is not a valid cursor.
+         */
+        public static Optional<Cursor> decode(String encoded) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+                String[] parts = decoded.split("\n", 5);
+                if (parts.length != 5) return Optional.empty();
+
+                String orderProperty = parts[0];
+                TablePlayerOrder.ValueType valueType = TablePlayerOrder.ValueType.valueOf(parts[1]);
+                Cursor cursor;
+                if (orderProperty.startsWith(EXTENSION_PREFIX)) {
+                    cursor = new Cursor(TablePlayerOrder.EXTENSION, orderProperty.substring(EXTENSION_PREFIX.length()),
+                            valueType, parts[4], Integer.parseInt(parts[3]), Long.parseLong(parts[2]));
+                } else {
+                    Optional<TablePlayerOrder> order = TablePlayerOrder.fromDataProperty(orderProperty);
+                    if (!order.isPresent() || order.get().getValueType() != valueType) return Optional.empty();
+                    cursor = new Cursor(order.get(), null, valueType, parts[4], Integer.parseInt(parts[3]), Long.parseLong(parts[2]));
+                }
+                if (valueType == TablePlayerOrder.ValueType.DECIMAL) {
+                    cursor.getDecimalSortValue();
+                } else if (valueType == TablePlayerOrder.ValueType.NUMBER) {
+                    cursor.getNumberSortValue();
+                }
+                return Optional.of(cursor);
+            } catch (IllegalArgumentException e) { // Includes NumberFormatException
+                return Optional.empty();
+            }
+        }
+
+        public String encode() {
+            String orderProperty = order == TablePlayerOrder.EXTENSION ? EXTENSION_PREFIX + extensionProvider : order.getDataProperty();
+            String decoded = orderProperty + '\n' + valueType.name() + '\n' + date + '\n' + userId + '\n' + sortValue;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(decoded.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public TablePlayerOrder getOrder() {
+            return order;
+        }
+
+        /**
+         * Get the name of the extension provider the page was ordered by.
+         *
+         * @return Name of the provider, or empty if the order is not {@link TablePlayerOrder#EXTENSION}.
+         */
+        public Optional<String> getExtensionProvider() {
+            return Optional.ofNullable(extensionProvider);
+        }
+
+        public TablePlayerOrder.ValueType getValueType() {
+            return valueType;
+        }
+
+        public String getSortValue() {
+            return sortValue;
+        }
+
+        public long getNumberSortValue() {
+            return Long.parseLong(sortValue);
+        }
+
+        public double getDecimalSortValue() {
+            return Double.parseDouble(sortValue);
+        }
+
+        public int getUserId() {
+            return userId;
+        }
+
+        /**
+         * Get the date the Activity Index of the pages is calculated with.
+         *
+         * @return Epoch ms.
+         */
+        public long getDate() {
+            return date;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain;
+
+import java.util.Optional;
+
+/**
+ * Represents a request for a single page of the players table.
+ * <p>
+ * Pages are requested with a cursor returned with the previous page (keyset pagination),
+ * or with an offset when the cursor is not known.
+ *
+ * @author Rsl1122
+ * @see TablePlayerPage
+ */
+public class TablePlayerPageRequest {
+
+    private final TablePlayerOrder order;
+    private final String extensionProvider;
+    private final boolean descending;
+    private final String search;
+    private final int size;
+    private final TablePlayerPage.Cursor after;
+    private final int offset;
+
+    /**
+     * Create a new request.
+     *
+     * @param order      Column to order the players by.
+     * @param descending Should the order be descending.
+     * @param search     Text the player names or extension values should contain, null or empty for all players.
+     * @param size       Maximum number of players on the page.
+     * @param after      Cursor returned with the previous page, or null.
+     * @param offset     Number of players to skip when after is not given.
+     */
+    public TablePlayerPageRequest(TablePlayerOrder order, boolean descending, String search, int size, TablePlayerPage.Cursor after, int offset) {
+        this(order, null, descending, search, size, after, offset);
+    }
+
+    /**
+     * Create a new request for a page ordered by values of an extension provider.
+     *
+     * @param extensionProvider Name of the provider to order the players by.
+     * @param descending        Should the order be descending.
+     * @param search            Text the player names or extension values should contain, null or empty for all players.
+     * @param size              Maximum number of players on the page.
+     * @param after             Cursor returned with the previous page, or null.
+     * @param offset            Number of players to skip when after is not given.
+     * @return The request.
+     */
+    public static TablePlayerPageRequest orderedByExtension(String extensionProvider, boolean descending, String search, int size, TablePlayerPage.Cursor after, int offset) {
+        return new TablePlayerPageRequest(TablePlayerOrder.EXTENSION, extensionProvider, descending, search, size, after, offset);
+    }
+
+    private TablePlayerPageRequest(TablePlayerOrder order, String extensionProvider, boolean descending, String search, int size, TablePlayerPage.Cursor after, int offset) {
+        this.order = order;
+        this.extensionProvider = extensionProvider;
+        this.descending = descending;
+        this.search = search;
+        this.size = size;
+        this.after = after;
+        this.offset = offset;
+    }
+
+    public TablePlayerOrder getOrder() {
+        return order;
+    }
+
+    /**
+     * Get the name of the extension provider the page is ordered by.
+     *
+     * @return Name of the provider, or empty if the order is not {@link TablePlayerOrder#EXTENSION}.
+     */
+    public Optional<String> getExtensionProvider() {
+        return Optional.ofNullable(extensionProvider);
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public Optional<String> getSearch() {
+        return search == null || search.isEmpty() ? Optional.empty() : Optional.of(search);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public Optional<TablePlayerPage.Cursor> getAfter() {
+        return Optional.ofNullable(after);
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+}
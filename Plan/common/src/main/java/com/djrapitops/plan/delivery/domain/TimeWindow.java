@@ -0,0 +1,67 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain;
+
+import java.util.Objects;
+
+/**
+ * Represents a time frame between two epoch ms, both inclusive.
+ * <p>
+ * Used as the key for values that are queried for multiple time frames at once.
+ *
+ * @author Rsl1122
+ */
+public class TimeWindow {
+
+    private final long after;
+    private final long before;
+
+    public TimeWindow(long after, long before) {
+        this.after = after;
+        this.before = before;
+    }
+
+    public long getAfter() {
+        return after;
+    }
+
+    public long getBefore() {
+        return before;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TimeWindow that = (TimeWindow) o;
+        return after == that.after &&
+                before == that.before;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(after, before);
+    }
+
+    @Override
+    public String toString() {
+        return "TimeWindow{" +
+                "after=" + after +
+                ", before=" + before +
+                '}';
+    }
+}
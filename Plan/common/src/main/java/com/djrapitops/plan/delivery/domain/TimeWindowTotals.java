@@ -0,0 +1,124 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain;
+
+/**
+ * Session and player totals of a server within a {@link TimeWindow}.
+ * <p>
+ * Daily averages are only filled when the totals were queried with them.
+ *
+ * @author Rsl1122
+ * @see com.djrapitops.plan.storage.database.queries.analysis.TimeWindowQueries
+ */
+public class TimeWindowTotals {
+
+    private final TimeWindow window;
+
+    private int uniquePlayers;
+    private int newPlayers;
+    private long sessionCount;
+    private long playtime;
+    private long afkTime;
+
+    private int averageUniquePlayersPerDay;
+    private int averageNewPlayersPerDay;
+    private long averagePlaytimePerDay;
+
+    public TimeWindowTotals(TimeWindow window) {
+        this.window = window;
+    }
+
+    public TimeWindow getWindow() {
+        return window;
+    }
+
+    public int getUniquePlayers() {
+        return uniquePlayers;
+    }
+
+    public void setUniquePlayers(int uniquePlayers) {
+        this.uniquePlayers = uniquePlayers;
+    }
+
+    public int getNewPlayers() {
+        return newPlayers;
+    }
+
+    public void setNewPlayers(int newPlayers) {
+        this.newPlayers = newPlayers;
+    }
+
+    public long getSessionCount() {
+        return sessionCount;
+    }
+
+    public void setSessionCount(long sessionCount) {
+        this.sessionCount = sessionCount;
+    }
+
+    public long getPlaytime() {
+        return playtime;
+    }
+
+    public void setPlaytime(long playtime) {
+        this.playtime = playtime;
+    }
+
+    public long getAfkTime() {
+        return afkTime;
+    }
+
+    public void setAfkTime(long afkTime) {
+        this.afkTime = afkTime;
+    }
+
+    public int getAverageUniquePlayersPerDay() {
+        return averageUniquePlayersPerDay;
+    }
+
+    public void setAverageUniquePlayersPerDay(int averageUniquePlayersPerDay) {
+        this.averageUniquePlayersPerDay = averageUniquePlayersPerDay;
+    }
+
+    public int getAverageNewPlayersPerDay() {
+        return averageNewPlayersPerDay;
+    }
+
+    public void setAverageNewPlayersPerDay(int averageNewPlayersPerDay) {
+        this.averageNewPlayersPerDay = averageNewPlayersPerDay;
+    }
+
+    public long getAveragePlaytimePerDay() {
+        return averagePlaytimePerDay;
+    }
+
+    public void setAveragePlaytimePerDay(long averagePlaytimePerDay) {
+        this.averagePlaytimePerDay = averagePlaytimePerDay;
+    }
+
+    public long getAverageSessionLength() {
+        return sessionCount != 0 ? playtime / sessionCount : 0L;
+    }
+
+    public long getAveragePlaytimePerPlayer() {
+        return uniquePlayers != 0 ? playtime / uniquePlayers : 0L;
+    }
+
+    public long getAverageAfkTimePerPlayer() {
+        return uniquePlayers != 0 ? afkTime / uniquePlayers : 0L;
+    }
+}
@@ -59,9 +59,8 @@ public class DynamicDataContainer implements DataContainer {
 
     @Override
     public <T> Optional<T> getValue(Key<T> key) {
-        Optional<T> raw = rawDataContainer.getValue(key);
-        if (raw.isPresent()) {
-            return raw;
+        if (rawDataContainer.supports(key)) {
+            return rawDataContainer.getValue(key);
         } else {
             return supplierDataContainer.getValue(key);
         }
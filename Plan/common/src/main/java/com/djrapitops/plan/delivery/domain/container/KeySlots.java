@@ -0,0 +1,72 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain.container;
+
+import com.djrapitops.plan.delivery.domain.keys.Key;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * Array of values indexed by {@link Key#getOrdinal()}.
+ * <p>
+ * Used by DataContainers instead of a HashMap, since looking up a value only needs an array access.
+ *
+ * @param <V> Type of the stored values.
+ * @author Rsl1122
+ */
+final class KeySlots<V> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private Object[] slots = EMPTY;
+
+    V get(Key<?> key) {
+        int ordinal = key.getOrdinal();
+        return ordinal < slots.length ? (V) slots[ordinal] : null;
+    }
+
+    boolean contains(Key<?> key) {
+        return get(key) != null;
+    }
+
+    void put(Key<?> key, V value) {
+        int ordinal = key.getOrdinal();
+        if (ordinal >= slots.length) {
+            // Most keys are created in static fields, so this grows once to fit all of them.
+            slots = Arrays.copyOf(slots, Math.max(ordinal + 1, Key.getKeyCount()));
+        }
+        slots[ordinal] = value;
+    }
+
+    void putAll(KeySlots<V> other) {
+        other.forEach(this::put);
+    }
+
+    void clear() {
+        slots = EMPTY;
+    }
+
+    void forEach(BiConsumer<Key<?>, V> action) {
+        Object[] current = slots;
+        for (int ordinal = 0; ordinal < current.length; ordinal++) {
+            if (current[ordinal] != null) {
+                action.accept(Key.forOrdinal(ordinal), (V) current[ordinal]);
+            }
+        }
+    }
+}
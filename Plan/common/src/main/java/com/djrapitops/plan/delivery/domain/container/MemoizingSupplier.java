@@ -0,0 +1,46 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain.container;
+
+import java.util.function.Supplier;
+
+/**
+ * Caching layer between Supplier and caller that calls the original Supplier only once.
+ * <p>
+ * Used for values that do not change during the lifetime of the container, so no timestamps are needed.
+ *
+ * @author Rsl1122
+ * @see CachingSupplier for values that need to be refreshed.
+ */
+public class MemoizingSupplier<T> implements Supplier<T> {
+
+    private Supplier<T> original;
+    private T value;
+
+    public MemoizingSupplier(Supplier<T> original) {
+        this.original = original;
+    }
+
+    @Override
+    public T get() {
+        if (original != null) {
+            value = original.get();
+            original = null; // Allow the original and everything it captured to be garbage collected.
+        }
+        return value;
+    }
+}
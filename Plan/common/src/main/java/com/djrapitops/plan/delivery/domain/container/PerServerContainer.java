@@ -35,9 +35,8 @@ import java.util.*;
 public class PerServerContainer extends HashMap<UUID, DataContainer> {
 
     public <T> void putToContainerOfServer(UUID serverUUID, Key<T> key, T value) {
-        DataContainer container = getOrDefault(serverUUID, new DynamicDataContainer());
+        DataContainer container = computeIfAbsent(serverUUID, uuid -> new DynamicDataContainer());
         container.putRawData(key, value);
-        put(serverUUID, container);
     }
 
     public void putUserInfo(UserInfo userInfo) {
@@ -80,12 +79,11 @@ public class PerServerContainer extends HashMap<UUID, DataContainer> {
         }
 
         UUID serverUUID = session.getUnsafe(SessionKeys.SERVER_UUID);
-        DataContainer container = getOrDefault(serverUUID, new DynamicDataContainer());
+        DataContainer container = computeIfAbsent(serverUUID, uuid -> new DynamicDataContainer());
         if (!container.supports(PerServerKeys.SESSIONS)) {
             container.putRawData(PerServerKeys.SESSIONS, new ArrayList<>());
         }
         container.getUnsafe(PerServerKeys.SESSIONS).add(session);
-        put(serverUUID, container);
     }
 
     public void putPing(List<Ping> pings) {
@@ -104,11 +102,10 @@ public class PerServerContainer extends HashMap<UUID, DataContainer> {
         }
 
         UUID serverUUID = ping.getServerUUID();
-        DataContainer container = getOrDefault(serverUUID, new DynamicDataContainer());
+        DataContainer container = computeIfAbsent(serverUUID, uuid -> new DynamicDataContainer());
         if (!container.supports(PerServerKeys.PING)) {
             container.putRawData(PerServerKeys.PING, new ArrayList<>());
         }
         container.getUnsafe(PerServerKeys.PING).add(ping);
-        put(serverUUID, container);
     }
 }
\ No newline at end of file
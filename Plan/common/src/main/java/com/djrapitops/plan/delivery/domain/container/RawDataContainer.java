@@ -30,13 +30,13 @@ import java.util.function.Supplier;
  */
 public class RawDataContainer implements DataContainer {
 
-    private final Map<Key, Object> map;
+    private final KeySlots<Object> values;
 
     /**
      * Create a RawDataContainer.
      */
     public RawDataContainer() {
-        map = new HashMap<>();
+        values = new KeySlots<>();
     }
 
     @Override
@@ -44,7 +44,7 @@ public class RawDataContainer implements DataContainer {
         if (obj == null) {
             return;
         }
-        map.put(key, obj);
+        values.put(key, obj);
     }
 
     @Override
@@ -62,13 +62,13 @@ public class RawDataContainer implements DataContainer {
 
     @Override
     public <T> boolean supports(Key<T> key) {
-        return map.containsKey(key);
+        return values.contains(key);
     }
 
     @Override
     public <T> Optional<T> getValue(Key<T> key) {
         try {
-            return Optional.ofNullable(key.typeCast(map.get(key)));
+            return Optional.ofNullable(key.typeCast(values.get(key)));
         } catch (ClassCastException e) {
             return Optional.empty();
         }
@@ -76,7 +76,7 @@ public class RawDataContainer implements DataContainer {
 
     @Override
     public <T> T getUnsafe(Key<T> key) {
-        Object value = map.get(key);
+        Object value = values.get(key);
         if (value == null) {
             throw new IllegalArgumentException("Unsupported Key: " + key.getKeyName());
         }
@@ -86,23 +86,27 @@ public class RawDataContainer implements DataContainer {
     @Override
     public void putAll(DataContainer dataContainer) {
         if (dataContainer instanceof RawDataContainer) {
-            putAll(((RawDataContainer) dataContainer).map);
+            values.putAll(((RawDataContainer) dataContainer).values);
         } else {
             putAll(dataContainer.getMap());
         }
     }
 
     void putAll(Map<Key, Object> map) {
-        this.map.putAll(map);
+        for (Map.Entry<Key, Object> entry : map.entrySet()) {
+            putRawData(entry.getKey(), entry.getValue());
+        }
     }
 
     @Override
     public void clear() {
-        map.clear();
+        values.clear();
     }
 
     @Override
     public Map<Key, Object> getMap() {
+        Map<Key, Object> map = new HashMap<>();
+        values.forEach(map::put);
         return map;
     }
 }
\ No newline at end of file
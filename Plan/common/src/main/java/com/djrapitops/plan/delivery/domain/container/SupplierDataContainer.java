@@ -21,7 +21,6 @@ import com.djrapitops.plan.delivery.domain.keys.Key;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 /**
@@ -31,14 +30,18 @@ import java.util.function.Supplier;
  */
 public class SupplierDataContainer implements DataContainer {
 
-    private final Map<Key, Supplier> map;
+    private static final long NO_EXPIRY = -1L;
+
+    private final KeySlots<Supplier> suppliers;
     private final long timeToLive;
 
     /**
-     * Create a SupplierDataContainer with a default TTL of 30 seconds.
+     * Create a SupplierDataContainer where caching suppliers are called only once.
+     * <p>
+     * Containers are created for a single query or render, so the values do not need to expire.
      */
     public SupplierDataContainer() {
-        this(TimeUnit.SECONDS.toMillis(30L));
+        this(NO_EXPIRY);
     }
 
     /**
@@ -46,11 +49,11 @@ public class SupplierDataContainer implements DataContainer {
      * <p>
      * The old value is not removed from memory until the supplier is called again.
      *
-     * @param timeToLive TTL that determines how long a CachingSupplier value is deemed valid.
+     * @param timeToLive TTL that determines how long a CachingSupplier value is deemed valid, negative for no expiry.
      */
     public SupplierDataContainer(long timeToLive) {
         this.timeToLive = timeToLive;
-        map = new HashMap<>();
+        suppliers = new KeySlots<>();
     }
 
     @Override
@@ -63,7 +66,7 @@ public class SupplierDataContainer implements DataContainer {
         if (supplier == null) {
             return;
         }
-        map.put(key, supplier);
+        suppliers.put(key, supplier);
     }
 
     @Override
@@ -71,16 +74,16 @@ public class SupplierDataContainer implements DataContainer {
         if (supplier == null) {
             return;
         }
-        map.put(key, new CachingSupplier<>(supplier, timeToLive));
+        suppliers.put(key, timeToLive < 0 ? new MemoizingSupplier<>(supplier) : new CachingSupplier<>(supplier, timeToLive));
     }
 
     private <T> Supplier<T> getSupplier(Key<T> key) {
-        return (Supplier<T>) map.get(key);
+        return (Supplier<T>) suppliers.get(key);
     }
 
     @Override
     public <T> boolean supports(Key<T> key) {
-        return map.containsKey(key);
+        return suppliers.contains(key);
     }
 
     @Override
@@ -98,21 +101,17 @@ public class SupplierDataContainer implements DataContainer {
 
     @Override
     public <T> T getUnsafe(Key<T> key) {
-        Supplier supplier = map.get(key);
+        Supplier supplier = suppliers.get(key);
         if (supplier == null) {
             throw new IllegalArgumentException("Unsupported Key: " + key.getKeyName());
         }
         return key.typeCast(supplier.get());
     }
 
-    private void putAll(Map<Key, Supplier> toPut) {
-        map.putAll(toPut);
-    }
-
     @Override
     public void putAll(DataContainer dataContainer) {
         if (dataContainer instanceof SupplierDataContainer) {
-            putAll(((SupplierDataContainer) dataContainer).map);
+            suppliers.putAll(((SupplierDataContainer) dataContainer).suppliers);
         } else {
             for (Map.Entry<Key, Object> entry : dataContainer.getMap().entrySet()) {
                 putRawData(entry.getKey(), entry.getValue());
@@ -122,16 +121,14 @@ public class SupplierDataContainer implements DataContainer {
 
     @Override
     public void clear() {
-        map.clear();
+        suppliers.clear();
     }
 
     @Override
     public Map<Key, Object> getMap() {
         // Fetches all objects from their Suppliers.
         Map<Key, Object> objectMap = new HashMap<>();
-        for (Map.Entry<Key, Supplier> entry : map.entrySet()) {
-            objectMap.put(entry.getKey(), entry.getValue().get());
-        }
+        suppliers.forEach((key, supplier) -> objectMap.put(key, supplier.get()));
         return objectMap;
     }
 }
\ No newline at end of file
@@ -16,7 +16,11 @@
  */
 package com.djrapitops.plan.delivery.domain.keys;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Identifier used for storing and fetching data from DataContainers.
@@ -26,8 +30,12 @@ import java.util.Objects;
  */
 public class Key<T> {
 
+    private static final Map<Key<?>, Integer> ORDINALS = new ConcurrentHashMap<>();
+    private static final List<Key<?>> KEYS_BY_ORDINAL = new CopyOnWriteArrayList<>();
+
     private final Type<T> type;
     private final String keyName;
+    private final int ordinal;
 
     /**
      * Create a new key.
@@ -48,6 +56,32 @@ public class Key<T> {
     public Key(Type<T> type, String keyName) {
         this.type = type;
         this.keyName = keyName;
+        this.ordinal = ORDINALS.computeIfAbsent(this, Key::register);
+    }
+
+    private static synchronized int register(Key<?> key) {
+        KEYS_BY_ORDINAL.add(key);
+        return KEYS_BY_ORDINAL.size() - 1;
+    }
+
+    /**
+     * Get the Key that was registered with the given ordinal.
+     *
+     * @param ordinal Ordinal of the Key, see {@link Key#getOrdinal()}.
+     * @return Key that is equal to all keys with the same ordinal.
+     * @throws IndexOutOfBoundsException If no key has the given ordinal.
+     */
+    public static Key<?> forOrdinal(int ordinal) {
+        return KEYS_BY_ORDINAL.get(ordinal);
+    }
+
+    /**
+     * Get the number of distinct keys that have been created.
+     *
+     * @return Largest ordinal + 1.
+     */
+    public static int getKeyCount() {
+        return KEYS_BY_ORDINAL.size();
     }
 
     /**
@@ -68,6 +102,17 @@ public class Key<T> {
         return keyName;
     }
 
+    /**
+     * Get the dense ordinal of this key.
+     * <p>
+     * Keys that are equal share the same ordinal, so DataContainers can store values in arrays.
+     *
+     * @return 0 or positive number, unique among keys that are not equal.
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -257,6 +257,40 @@ public class SessionsMutator {
                 sessionMap -> sessionMap.get("server_name"));
     }
 
+    /**
+     * Create JSON maps of the sessions without world times breakdown and player kills.
+     *
+     * @param worldAliasSettings World alias settings for most used world.
+     * @param formatters         Formatters for dates and lengths.
+     * @return Maps with player name as the name of the session, in the order of the sessions.
+     * @see #toDetailsJSONMaps(Graphs, Formatters) for the rest of the data.
+     */
+    public List<Map<String, Object>> toPlayerNameSummaryJSONMaps(
+            WorldAliasSettings worldAliasSettings,
+            Formatters formatters
+    ) {
+        return Lists.map(sessions, session -> toSummaryJSONMap(session, worldAliasSettings, formatters,
+                sessionMap -> sessionMap.get("player_name")));
+    }
+
+    /**
+     * Create JSON maps of the world times breakdown and player kills of the sessions.
+     *
+     * @param graphs     Graphs for world pie.
+     * @param formatters Formatters for kill dates.
+     * @return Maps in the order of the sessions.
+     */
+    public List<Map<String, Object>> toDetailsJSONMaps(
+            Graphs graphs,
+            Formatters formatters
+    ) {
+        return Lists.map(sessions, session -> {
+            Map<String, Object> sessionMap = new HashMap<>();
+            putDetails(sessionMap, session, graphs, formatters);
+            return sessionMap;
+        });
+    }
+
     private List<Map<String, Object>> toJSONMaps(
             Graphs graphs,
             WorldAliasSettings worldAliasSettings,
@@ -264,45 +298,62 @@ public class SessionsMutator {
             Function<Map<String, Object>, Object> nameFunction
     ) {
         return Lists.map(sessions, session -> {
-            Map<String, Object> sessionMap = new HashMap<>();
-            String playerUUID = session.getUnsafe(SessionKeys.UUID).toString();
-            String serverUUID = session.getUnsafe(SessionKeys.SERVER_UUID).toString();
-            String playerName = session.getValue(SessionKeys.NAME).orElse(playerUUID);
-            String serverName = session.getValue(SessionKeys.SERVER_NAME).orElse(serverUUID);
-            sessionMap.put("player_name", playerName);
-            sessionMap.put("player_url_name", Html.encodeToURL(playerName));
-            sessionMap.put("player_uuid", playerUUID);
-            sessionMap.put("server_name", serverName);
-            sessionMap.put("server_url_name", Html.encodeToURL(serverName));
-            sessionMap.put("server_uuid", serverUUID);
-            sessionMap.put("name", nameFunction.apply(sessionMap));
-            sessionMap.put("start", session.getValue(SessionKeys.START).map(formatters.yearLong()).orElse("-") +
-                    (session.supports(SessionKeys.END) ? "" : " (Online)"));
-            sessionMap.put("end", session.getValue(SessionKeys.END).map(formatters.yearLong()).orElse("Online"));
-            sessionMap.put("most_used_world", worldAliasSettings.getLongestWorldPlayed(session));
-            sessionMap.put("length", session.getValue(SessionKeys.LENGTH).map(formatters.timeAmount()).orElse("-"));
-            sessionMap.put("afk_time", session.getValue(SessionKeys.AFK_TIME).map(formatters.timeAmount()).orElse("-"));
-            sessionMap.put("mob_kills", session.getValue(SessionKeys.MOB_KILL_COUNT).orElse(0));
-            sessionMap.put("deaths", session.getValue(SessionKeys.DEATH_COUNT).orElse(0));
-            sessionMap.put("player_kills", session.getPlayerKills().stream().map(
-                    kill -> {
-                        Map<String, Object> killMap = new HashMap<>();
-                        killMap.put("date", formatters.secondLong().apply(kill.getDate()));
-                        killMap.put("victim", kill.getVictimName());
-                        killMap.put("killer", sessionMap.get("player_name"));
-                        killMap.put("weapon", kill.getWeapon());
-                        return killMap;
-                    }
-            ).collect(Collectors.toList()));
-            sessionMap.put("first_session", session.getValue(SessionKeys.FIRST_SESSION).orElse(false));
-            WorldPie worldPie = graphs.pie().worldPie(session.getValue(SessionKeys.WORLD_TIMES).orElse(new WorldTimes()));
-            sessionMap.put("world_series", worldPie.getSlices());
-            sessionMap.put("gm_series", worldPie.toHighChartsDrillDownMaps());
-
-            session.getValue(SessionKeys.AVERAGE_PING).ifPresent(averagePing ->
-                    sessionMap.put("avg_ping", formatters.decimals().apply(averagePing) + " ms")
-            );
+            Map<String, Object> sessionMap = toSummaryJSONMap(session, worldAliasSettings, formatters, nameFunction);
+            putDetails(sessionMap, session, graphs, formatters);
             return sessionMap;
         });
     }
+
+    private Map<String, Object> toSummaryJSONMap(
+            Session session,
+            WorldAliasSettings worldAliasSettings,
+            Formatters formatters,
+            Function<Map<String, Object>, Object> nameFunction
+    ) {
+        Map<String, Object> sessionMap = new HashMap<>();
+        String playerUUID = session.getUnsafe(SessionKeys.UUID).toString();
+        String serverUUID = session.getUnsafe(SessionKeys.SERVER_UUID).toString();
+        String playerName = session.getValue(SessionKeys.NAME).orElse(playerUUID);
+        String serverName = session.getValue(SessionKeys.SERVER_NAME).orElse(serverUUID);
+        session.getValue(SessionKeys.DB_ID).ifPresent(id -> sessionMap.put("id", id));
+        sessionMap.put("player_name", playerName);
+        sessionMap.put("player_url_name", Html.encodeToURL(playerName));
+        sessionMap.put("player_uuid", playerUUID);
+        sessionMap.put("server_name", serverName);
+        sessionMap.put("server_url_name", Html.encodeToURL(serverName));
+        sessionMap.put("server_uuid", serverUUID);
+        sessionMap.put("name", nameFunction.apply(sessionMap));
+        sessionMap.put("start", session.getValue(SessionKeys.START).map(formatters.yearLong()).orElse("-") +
+                (session.supports(SessionKeys.END) ? "" : " (Online)"));
+        sessionMap.put("end", session.getValue(SessionKeys.END).map(formatters.yearLong()).orElse("Online"));
+        sessionMap.put("most_used_world", worldAliasSettings.getLongestWorldPlayed(session));
+        sessionMap.put("length", session.getValue(SessionKeys.LENGTH).map(formatters.timeAmount()).orElse("-"));
+        sessionMap.put("afk_time", session.getValue(SessionKeys.AFK_TIME).map(formatters.timeAmount()).orElse("-"));
+        sessionMap.put("mob_kills", session.getValue(SessionKeys.MOB_KILL_COUNT).orElse(0));
+        sessionMap.put("deaths", session.getValue(SessionKeys.DEATH_COUNT).orElse(0));
+        sessionMap.put("player_kill_count", session.getValue(SessionKeys.PLAYER_KILL_COUNT).orElse(0));
+        sessionMap.put("first_session", session.getValue(SessionKeys.FIRST_SESSION).orElse(false));
+
+        session.getValue(SessionKeys.AVERAGE_PING).ifPresent(averagePing ->
+                sessionMap.put("avg_ping", formatters.decimals().apply(averagePing) + " ms")
+        );
+        return sessionMap;
+    }
+
+    private void putDetails(Map<String, Object> sessionMap, Session session, Graphs graphs, Formatters formatters) {
+        String playerName = session.getValue(SessionKeys.NAME).orElse(session.getUnsafe(SessionKeys.UUID).toString());
+        sessionMap.put("player_kills", session.getPlayerKills().stream().map(
+                kill -> {
+                    Map<String, Object> killMap = new HashMap<>();
+                    killMap.put("date", formatters.secondLong().apply(kill.getDate()));
+                    killMap.put("victim", kill.getVictimName());
+                    killMap.put("killer", playerName);
+                    killMap.put("weapon", kill.getWeapon());
+                    return killMap;
+                }
+        ).collect(Collectors.toList()));
+        WorldPie worldPie = graphs.pie().worldPie(session.getValue(SessionKeys.WORLD_TIMES).orElse(new WorldTimes()));
+        sessionMap.put("world_series", worldPie.getSlices());
+        sessionMap.put("gm_series", worldPie.toHighChartsDrillDownMaps());
+    }
 }
\ No newline at end of file
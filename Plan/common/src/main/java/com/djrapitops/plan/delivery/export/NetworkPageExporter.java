@@ -123,6 +123,8 @@ public class NetworkPageExporter extends FileExporter {
                 "network/pingTable",
                 "sessions"
         );
+        // Exported pages have no webserver to stream live events from
+        exportPaths.put("./v1/live", "");
     }
 
     private void exportJSON(ExportPaths exportPaths, Path toDirectory, String... resources) throws IOException {
@@ -149,7 +149,8 @@ public class PlayersPageExporter extends FileExporter {
                 "vendor/fontawesome-free/webfonts/fa-solid-900.woff2",
                 "js/sb-admin-2.js",
                 "js/xmlhttprequests.js",
-                "js/color-selector.js"
+                "js/color-selector.js",
+                "js/players-table.js"
         );
     }
 
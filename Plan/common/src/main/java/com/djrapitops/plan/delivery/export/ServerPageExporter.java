@@ -138,6 +138,8 @@ public class ServerPageExporter extends FileExporter {
                 "pingTable?server=" + serverUUID,
                 "sessions?server=" + serverUUID
         );
+        // Exported pages have no webserver to stream live events from
+        exportPaths.put("../v1/live?server=" + serverUUID, "");
     }
 
     private void exportJSON(Path toDirectory, String... resources) throws IOException {
@@ -211,6 +213,7 @@ public class ServerPageExporter extends FileExporter {
                 "../js/color-selector.js",
                 "../js/sessionAccordion.js",
                 "../js/pingTable.js",
+                "../js/players-table.js",
                 "../js/graphs.js",
                 "../js/server-values.js"
         );
@@ -0,0 +1,161 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.formatting;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Replaces many different Strings in a single pass over the text.
+ * <p>
+ * The Strings to replace are stored in a character trie, so each position of the text is only
+ * matched against the Strings that share its prefix. The longest match at the leftmost position wins,
+ * and replaced text is never matched again.
+ * <p>
+ * Immutable once built, build once and reuse it.
+ *
+ * @author Rsl1122
+ */
+public final class MultiReplacer implements Formatter<String> {
+
+    private final Node root;
+
+    private MultiReplacer(Node root) {
+        this.root = root;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public String apply(String text) {
+        if (text == null || root.keys.length == 0) return text;
+
+        int length = text.length();
+        StringBuilder replaced = null;
+        int copiedUntil = 0;
+        int i = 0;
+        while (i < length) {
+            Node node = root;
+            String replacement = null;
+            int matchEnd = i;
+            for (int j = i; j < length; j++) {
+                node = node.child(text.charAt(j));
+                if (node == null) break;
+                if (node.replacement != null) {
+                    replacement = node.replacement;
+                    matchEnd = j + 1;
+                }
+            }
+
+            if (replacement == null) {
+                i++;
+                continue;
+            }
+            if (replaced == null) replaced = new StringBuilder(length + 64);
+            replaced.append(text, copiedUntil, i).append(replacement);
+            copiedUntil = matchEnd;
+            i = matchEnd;
+        }
+
+        if (replaced == null) return text;
+        return replaced.append(text, copiedUntil, length).toString();
+    }
+
+    public static class Builder {
+        private final Map<String, String> replacements = new TreeMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Add a String to replace.
+         * <p>
+         * If the same String is added more than once, the first replacement is used.
+         *
+         * @param replace String to look for, empty Strings are ignored.
+         * @param with    String to replace it with.
+         * @return this builder.
+         */
+        public Builder replace(String replace, String with) {
+            if (replace != null && !replace.isEmpty() && with != null) {
+                replacements.putIfAbsent(replace, with);
+            }
+            return this;
+        }
+
+        public MultiReplacer build() {
+            BuildNode root = new BuildNode();
+            for (Map.Entry<String, String> entry : replacements.entrySet()) {
+                BuildNode node = root;
+                for (char c : entry.getKey().toCharArray()) {
+                    node = node.children.computeIfAbsent(c, key -> new BuildNode());
+                }
+                node.replacement = entry.getValue();
+            }
+            return new MultiReplacer(root.freeze());
+        }
+    }
+
+    private static class BuildNode {
+        private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        private String replacement;
+
+        Node freeze() {
+            char[] keys = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, BuildNode> child : children.entrySet()) {
+                keys[i] = child.getKey();
+                frozen[i] = child.getValue().freeze();
+                i++;
+            }
+            return new Node(keys, frozen, replacement);
+        }
+    }
+
+    private static class Node {
+        // Sorted, so that children can be looked up with binary search
+        private final char[] keys;
+        private final Node[] children;
+        private final String replacement;
+
+        Node(char[] keys, Node[] children, String replacement) {
+            this.keys = keys;
+            this.children = children;
+            this.replacement = replacement;
+        }
+
+        Node child(char c) {
+            int low = 0;
+            int high = keys.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char key = keys[mid];
+                if (key < c) {
+                    low = mid + 1;
+                } else if (key > c) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+    }
+}
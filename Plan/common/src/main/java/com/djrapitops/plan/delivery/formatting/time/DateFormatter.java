@@ -18,13 +18,19 @@ package com.djrapitops.plan.delivery.formatting.time;
 
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.TimeZoneUtility;
 import com.djrapitops.plan.settings.config.paths.FormatSettings;
 import com.djrapitops.plan.settings.config.paths.PluginSettings;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.GenericLang;
+import org.apache.commons.lang3.time.FastDateFormat;
 
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -37,40 +43,51 @@ public abstract class DateFormatter implements Formatter<Long> {
     protected final PlanConfig config;
     protected final Locale locale;
 
+    private volatile FormatSettingsSnapshot settings;
+
     public DateFormatter(PlanConfig config, Locale locale) {
         this.config = config;
         this.locale = locale;
+
+        config.onReload(() -> settings = null);
     }
 
     @Override
     public abstract String apply(Long value);
 
     protected String format(long epochMs, String format) {
-        String localeSetting = config.get(PluginSettings.LOCALE);
-        java.util.Locale usedLocale = "default".equalsIgnoreCase(localeSetting)
-                ? java.util.Locale.ENGLISH
-                : java.util.Locale.forLanguageTag(localeSetting);
-        SimpleDateFormat dateFormat = new SimpleDateFormat(format, usedLocale);
-        TimeZone timeZone = config.getTimeZone();
-        dateFormat.setTimeZone(timeZone);
-        return dateFormat.format(epochMs);
+        return getSettings().getFormat(format).format(epochMs);
+    }
+
+    protected TimeZone getTimeZone() {
+        return getSettings().timeZone;
+    }
+
+    private FormatSettingsSnapshot getSettings() {
+        FormatSettingsSnapshot current = settings;
+        if (current == null) {
+            // Cleared when the config is reloaded.
+            current = new FormatSettingsSnapshot(
+                    config.get(PluginSettings.LOCALE),
+                    config.get(FormatSettings.TIMEZONE),
+                    config.get(FormatSettings.DATE_RECENT_DAYS_PATTERN)
+            );
+            settings = current;
+        }
+        return current;
     }
 
     protected String replaceRecentDays(long epochMs, String format) {
-        return replaceRecentDays(epochMs, format, config.get(FormatSettings.DATE_RECENT_DAYS_PATTERN));
+        return replaceRecentDays(epochMs, format, getSettings().recentDaysPattern);
     }
 
     protected String replaceRecentDays(long epochMs, String format, String pattern) {
         long now = System.currentTimeMillis();
+        RecentDays recentDays = getSettings().getRecentDays(now);
 
-        TimeZone timeZone = config.getTimeZone();
-        int offset = timeZone.getOffset(epochMs);
-
-        // Time since Start of day: UTC + Timezone % 24 hours
-        long fromStartOfDay = (now + offset) % TimeUnit.DAYS.toMillis(1L);
-        if (epochMs > now - fromStartOfDay) {
+        if (epochMs >= recentDays.startOfToday) {
             format = format.replace(pattern, locale.getString(GenericLang.TODAY));
-        } else if (epochMs > now - TimeUnit.DAYS.toMillis(1L) - fromStartOfDay) {
+        } else if (epochMs >= recentDays.startOfYesterday) {
             format = format.replace(pattern, locale.getString(GenericLang.YESTERDAY));
         } else if (epochMs > now - TimeUnit.DAYS.toMillis(5L)) {
             format = format.replace(pattern, "EEEE");
@@ -78,4 +95,54 @@ public abstract class DateFormatter implements Formatter<Long> {
         return format;
     }
 
-}
\ No newline at end of file
+    /**
+     * Locale and time zone settings parsed from the config, and formats created with them.
+     */
+    private static class FormatSettingsSnapshot {
+        private final java.util.Locale locale;
+        private final TimeZone timeZone;
+        private final String recentDaysPattern;
+        private final Map<String, FastDateFormat> formats;
+
+        private volatile RecentDays recentDays;
+
+        FormatSettingsSnapshot(String localeSetting, String timeZoneSetting, String recentDaysPattern) {
+            this.locale = "default".equalsIgnoreCase(localeSetting)
+                    ? java.util.Locale.ENGLISH
+                    : java.util.Locale.forLanguageTag(localeSetting);
+            this.timeZone = TimeZoneUtility.parseTimeZone(timeZoneSetting)
+                    .orElse(TimeZone.getTimeZone(ZoneId.of("UTC")));
+            this.recentDaysPattern = recentDaysPattern;
+            formats = new ConcurrentHashMap<>();
+        }
+
+        FastDateFormat getFormat(String format) {
+            // FastDateFormat instances are immutable and thread-safe.
+            return formats.computeIfAbsent(format, pattern -> FastDateFormat.getInstance(pattern, timeZone, locale));
+        }
+
+        RecentDays getRecentDays(long now) {
+            RecentDays current = recentDays;
+            if (current == null || now >= current.startOfTomorrow) {
+                current = new RecentDays(Instant.ofEpochMilli(now).atZone(timeZone.toZoneId()).toLocalDate(), timeZone.toZoneId());
+                recentDays = current;
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Start of today and yesterday, recalculated when the day changes.
+     */
+    private static class RecentDays {
+        private final long startOfYesterday;
+        private final long startOfToday;
+        private final long startOfTomorrow;
+
+        RecentDays(LocalDate today, ZoneId zone) {
+            startOfYesterday = today.minusDays(1L).atStartOfDay(zone).toInstant().toEpochMilli();
+            startOfToday = today.atStartOfDay(zone).toInstant().toEpochMilli();
+            startOfTomorrow = today.plusDays(1L).atStartOfDay(zone).toInstant().toEpochMilli();
+        }
+    }
+}
@@ -18,7 +18,7 @@ package com.djrapitops.plan.delivery.formatting.time;
 
 import com.djrapitops.plan.delivery.formatting.Formatter;
 
-import java.text.SimpleDateFormat;
+import org.apache.commons.lang3.time.FastDateFormat;
 
 /**
  * Formatter for a timestamp in ISO-8601 format without the clock, without applying timezone offset.
@@ -27,14 +27,14 @@ import java.text.SimpleDateFormat;
  */
 public class ISO8601NoClockTZIndependentFormatter implements Formatter<Long> {
 
+    private static final FastDateFormat FORMAT = FastDateFormat.getInstance("yyyy-MM-dd");
+
     @Override
     public String apply(Long date) {
         return date > 0 ? format(date) : "-";
     }
 
     private String format(Long date) {
-        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-
-        return dateFormat.format(date);
+        return FORMAT.format(date);
     }
 }
\ No newline at end of file
@@ -17,6 +17,12 @@
 package com.djrapitops.plan.delivery.rendering.json;
 
 import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.delivery.domain.SessionPage;
+import com.djrapitops.plan.delivery.domain.SessionPageRequest;
+import com.djrapitops.plan.delivery.domain.TablePlayer;
+import com.djrapitops.plan.delivery.domain.TablePlayerPage;
+import com.djrapitops.plan.delivery.domain.TablePlayerPageRequest;
+import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
 import com.djrapitops.plan.delivery.domain.mutators.PlayerKillMutator;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
 import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
@@ -46,6 +52,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * Factory with different JSON creation methods placed to a single class.
@@ -79,7 +86,7 @@ public class JSONFactory {
         this.formatters = formatters;
     }
 
-    public String serverPlayersTableJSON(UUID serverUUID) {
+    public StreamedJSON serverPlayersTableJSON(UUID serverUUID) {
         Integer xMostRecentPlayers = config.get(DisplaySettings.PLAYERS_PER_SERVER_PAGE);
         Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
         boolean openPlayerLinksInNewTab = config.isTrue(DisplaySettings.OPEN_PLAYER_LINKS_IN_NEW_TAB);
@@ -91,10 +98,10 @@ public class JSONFactory {
                 database.query(new ExtensionServerPlayerDataTableQuery(serverUUID, xMostRecentPlayers)),
                 openPlayerLinksInNewTab,
                 formatters, locale
-        ).toJSONString();
+        );
     }
 
-    public String networkPlayersTableJSON() {
+    public StreamedJSON networkPlayersTableJSON() {
         Integer xMostRecentPlayers = config.get(DisplaySettings.PLAYERS_PER_PLAYERS_PAGE);
         Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
         boolean openPlayerLinksInNewTab = config.isTrue(DisplaySettings.OPEN_PLAYER_LINKS_IN_NEW_TAB);
@@ -106,7 +113,40 @@ public class JSONFactory {
                 Collections.emptyMap(),
                 openPlayerLinksInNewTab,
                 formatters, locale
-        ).toJSONString();
+        );
+    }
+
+    public StreamedJSON serverPlayersTablePageJSON(UUID serverUUID, TablePlayerPageRequest request) {
+        Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
+        boolean openPlayerLinksInNewTab = config.isTrue(DisplaySettings.OPEN_PLAYER_LINKS_IN_NEW_TAB);
+
+        Database database = dbSystem.getDatabase();
+
+        TablePlayerPage page = database.query(TablePlayersPageQuery.ofServer(serverUUID, System.currentTimeMillis(), playtimeThreshold, request));
+        List<UUID> playerUUIDs = page.getPlayers().stream().map(TablePlayer::getPlayerUUID).collect(Collectors.toList());
+        return new PlayersTableJSONCreator(
+                page.getPlayers(),
+                database.query(new ExtensionServerPlayerDataTableQuery(serverUUID, playerUUIDs)),
+                database.query(ExtensionServerPlayerDataTableQuery.fetchTableDescriptives(serverUUID)),
+                openPlayerLinksInNewTab,
+                formatters, locale
+        ).toPageJSON(page);
+    }
+
+    public StreamedJSON networkPlayersTablePageJSON(TablePlayerPageRequest request) {
+        Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
+        boolean openPlayerLinksInNewTab = config.isTrue(DisplaySettings.OPEN_PLAYER_LINKS_IN_NEW_TAB);
+
+        Database database = dbSystem.getDatabase();
+
+        TablePlayerPage page = database.query(TablePlayersPageQuery.ofNetwork(System.currentTimeMillis(), playtimeThreshold, request));
+        return new PlayersTableJSONCreator(
+                page.getPlayers(),
+                Collections.emptyMap(),
+                Collections.emptyList(),
+                openPlayerLinksInNewTab,
+                formatters, locale
+        ).toPageJSON(page);
     }
 
     public List<Map<String, Object>> serverSessionsAsJSONMap(UUID serverUUID) {
@@ -150,6 +190,69 @@ public class JSONFactory {
         return sessionMaps;
     }
 
+    /**
+     * Create JSON for a page of the most recent sessions.
+     * <p>
+     * World times breakdown and player kills of the sessions are not included,
+     * see {@link #sessionDetailsAsJSONMap(int)}.
+     *
+     * @param request Filters, size and position of the page.
+     * @return Map with "sessions" and "next" (cursor to the next page, only if there is one)
+     */
+    public Map<String, Object> sessionsPageAsJSONMap(SessionPageRequest request) {
+        SessionPage page = dbSystem.getDatabase().query(SessionQueries.fetchSessionPage(request));
+        List<Session> sessions = new ArrayList<>(page.getSessions());
+        SessionPage.Cursor next = page.getNextCursor().orElse(null);
+
+        // Add online sessions to the first page
+        boolean onlineSessionsBelongToRequest = request.getServerUUID()
+                .map(serverInfo.getServerUUID()::equals)
+                .orElseGet(() -> serverInfo.getServer().isProxy());
+        if (onlineSessionsBelongToRequest && !request.getAfter().isPresent()) {
+            SessionCache.getActiveSessions().values().stream()
+                    .filter(session -> request.getPlayerUUID().map(session.getUnsafe(SessionKeys.UUID)::equals).orElse(true))
+                    .filter(session -> request.getWorld().map(session.getUnsafe(SessionKeys.WORLD_TIMES)::contains).orElse(true))
+                    .forEach(sessions::add);
+            sessions.sort(new SessionStartComparator());
+            if (sessions.size() > request.getSize()) {
+                sessions = sessions.subList(0, request.getSize());
+                Session last = sessions.get(sessions.size() - 1);
+                // Online sessions are not in the database, the next page starts from sessions that started before
+                next = new SessionPage.Cursor(last.getDate(), last.getValue(SessionKeys.DB_ID).orElse(Integer.MAX_VALUE));
+            }
+        }
+
+        List<Map<String, Object>> sessionMaps = new SessionsMutator(sessions).toPlayerNameSummaryJSONMaps(config.getWorldAliasSettings(), formatters);
+        for (int i = 0; i < sessions.size(); i++) {
+            Session session = sessions.get(i);
+            Map<String, Object> sessionMap = sessionMaps.get(i);
+            // Details of online sessions can not be loaded from the database later
+            if (!session.getValue(SessionKeys.DB_ID).isPresent()) {
+                sessionMap.putAll(new SessionsMutator(Collections.singletonList(session)).toDetailsJSONMaps(graphs, formatters).get(0));
+            }
+            // Add network_server property so that sessions have a server page link
+            if (!request.getServerUUID().isPresent()) {
+                sessionMap.put("network_server", sessionMap.get("server_name"));
+            }
+        }
+
+        Map<String, Object> json = new HashMap<>();
+        json.put("sessions", sessionMaps);
+        if (next != null) json.put("next", next.encode());
+        return json;
+    }
+
+    /**
+     * Create JSON for world times breakdown and player kills of a session.
+     *
+     * @param sessionId ID of the session in the database.
+     * @return Map with "player_kills", "world_series" and "gm_series", or empty if the session does not exist.
+     */
+    public Optional<Map<String, Object>> sessionDetailsAsJSONMap(int sessionId) {
+        return dbSystem.getDatabase().query(SessionQueries.fetchSession(sessionId))
+                .map(session -> new SessionsMutator(Collections.singletonList(session)).toDetailsJSONMaps(graphs, formatters).get(0));
+    }
+
     public List<Map<String, Object>> serverPlayerKillsAsJSONMap(UUID serverUUID) {
         Database db = dbSystem.getDatabase();
         List<PlayerKill> kills = db.query(KillQueries.fetchPlayerKillsOnServer(serverUUID, 100));
@@ -0,0 +1,112 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.rendering.json;
+
+import com.djrapitops.plan.delivery.web.resolver.MimeType;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Utility for serializing JSON straight into UTF-8 response content.
+ * <p>
+ * Objects are written through a {@link JsonWriter}, so no intermediate String of the whole payload is created.
+ * {@link StreamedJSON} values inside serialized objects (eg. Maps) are written in place.
+ *
+ * @author Rsl1122
+ */
+public class JSONSerializer {
+
+    public static final String MIME_TYPE = MimeType.JSON + "; charset=utf-8";
+
+    private static final Gson GSON = new GsonBuilder()
+            .registerTypeHierarchyAdapter(StreamedJSON.class, new StreamedJSONAdapter())
+            .create();
+
+    private JSONSerializer() {
+        /* Static method class */
+    }
+
+    /**
+     * Serialize an object into UTF-8 JSON.
+     *
+     * @param toSerialize {@link StreamedJSON}, a String that is assumed to be valid JSON, or an object to serialize with Gson.
+     * @return UTF-8 bytes of the JSON.
+     */
+    public static byte[] toBytes(Object toSerialize) {
+        if (toSerialize instanceof String) {
+            return ((String) toSerialize).getBytes(StandardCharsets.UTF_8);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+        try (JsonWriter writer = new JsonWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+            if (toSerialize instanceof StreamedJSON) {
+                writer.setLenient(true); // Allows NaN and Infinity in graph values, as the old String builders did
+                ((StreamedJSON) toSerialize).writeTo(writer);
+            } else {
+                write(writer, toSerialize);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize JSON", e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Write an object with Gson as a part of {@link StreamedJSON}.
+     *
+     * @param writer      Writer to write the value to.
+     * @param toSerialize Object to serialize.
+     */
+    public static void write(JsonWriter writer, Object toSerialize) {
+        GSON.toJson(toSerialize, toSerialize != null ? toSerialize.getClass() : Object.class, writer);
+    }
+
+    /**
+     * Serialize into a String, for places where the JSON is embedded into other content.
+     *
+     * @param json JSON to write.
+     * @return JSON String.
+     */
+    public static String toString(StreamedJSON json) {
+        return new String(toBytes(json), StandardCharsets.UTF_8);
+    }
+
+    private static class StreamedJSONAdapter extends TypeAdapter<StreamedJSON> {
+        @Override
+        public void write(JsonWriter writer, StreamedJSON json) throws IOException {
+            if (json == null) {
+                writer.nullValue();
+            } else {
+                json.writeTo(writer);
+            }
+        }
+
+        @Override
+        public StreamedJSON read(JsonReader reader) {
+            throw new UnsupportedOperationException("StreamedJSON can only be written");
+        }
+    }
+}
@@ -16,6 +16,8 @@
  */
 package com.djrapitops.plan.delivery.rendering.json;
 
+import com.djrapitops.plan.delivery.domain.TimeWindow;
+import com.djrapitops.plan.delivery.domain.TimeWindowTotals;
 import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
 import com.djrapitops.plan.delivery.domain.mutators.PlayersOnlineResolver;
 import com.djrapitops.plan.delivery.domain.mutators.RetentionData;
@@ -31,6 +33,7 @@ import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.TimeWindowQueries;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
 import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
 import com.djrapitops.plan.storage.database.queries.objects.UserInfoQueries;
@@ -89,46 +92,52 @@ public class OnlineActivityOverviewJSONCreator implements ServerTabJSONCreator<M
         int timeZoneOffset = config.getTimeZone().getOffset(now);
         Long playThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
+        TimeWindow month = new TimeWindow(monthAgo, now);
+        TimeWindow week = new TimeWindow(weekAgo, now);
+        TimeWindow day = new TimeWindow(dayAgo, now);
+        TimeWindow firstHalf = new TimeWindow(monthAgo, halfMonthAgo);
+        TimeWindow secondHalf = new TimeWindow(halfMonthAgo, now);
+        Map<TimeWindow, TimeWindowTotals> totals = db.query(TimeWindowQueries.fetchTotalsWithDailyAverages(
+                timeZoneOffset, serverUUID, month, week, day, firstHalf, secondHalf
+        ));
+        TimeWindowTotals totalsMonth = totals.get(month);
+        TimeWindowTotals totalsWeek = totals.get(week);
+        TimeWindowTotals totalsDay = totals.get(day);
+        TimeWindowTotals totalsBefore = totals.get(firstHalf);
+        TimeWindowTotals totalsAfter = totals.get(secondHalf);
+
         Map<String, Object> numbers = new HashMap<>();
 
-        numbers.put("unique_players_30d", db.query(PlayerCountQueries.uniquePlayerCount(monthAgo, now, serverUUID)));
-        numbers.put("unique_players_30d_trend", new Trend(
-                db.query(PlayerCountQueries.uniquePlayerCount(monthAgo, halfMonthAgo, serverUUID)),
-                db.query(PlayerCountQueries.uniquePlayerCount(halfMonthAgo, now, serverUUID)),
-                false
-        ));
-        numbers.put("unique_players_7d", db.query(PlayerCountQueries.uniquePlayerCount(weekAgo, now, serverUUID)));
-        numbers.put("unique_players_24h", db.query(PlayerCountQueries.uniquePlayerCount(dayAgo, now, serverUUID)));
+        numbers.put("unique_players_30d", totalsMonth.getUniquePlayers());
+        numbers.put("unique_players_30d_trend", new Trend(totalsBefore.getUniquePlayers(), totalsAfter.getUniquePlayers(), false));
+        numbers.put("unique_players_7d", totalsWeek.getUniquePlayers());
+        numbers.put("unique_players_24h", totalsDay.getUniquePlayers());
 
-        numbers.put("unique_players_30d_avg", db.query(PlayerCountQueries.averageUniquePlayerCount(monthAgo, now, timeZoneOffset, serverUUID)));
+        numbers.put("unique_players_30d_avg", totalsMonth.getAverageUniquePlayersPerDay());
         numbers.put("unique_players_30d_avg_trend", new Trend(
-                db.query(PlayerCountQueries.averageUniquePlayerCount(monthAgo, halfMonthAgo, timeZoneOffset, serverUUID)),
-                db.query(PlayerCountQueries.averageUniquePlayerCount(halfMonthAgo, now, timeZoneOffset, serverUUID)),
+                totalsBefore.getAverageUniquePlayersPerDay(),
+                totalsAfter.getAverageUniquePlayersPerDay(),
                 false
         ));
-        numbers.put("unique_players_7d_avg", db.query(PlayerCountQueries.averageUniquePlayerCount(weekAgo, now, timeZoneOffset, serverUUID)));
-        numbers.put("unique_players_24h_avg", db.query(PlayerCountQueries.averageUniquePlayerCount(dayAgo, now, timeZoneOffset, serverUUID)));
+        numbers.put("unique_players_7d_avg", totalsWeek.getAverageUniquePlayersPerDay());
+        numbers.put("unique_players_24h_avg", totalsDay.getAverageUniquePlayersPerDay());
 
-        Integer new30d = db.query(PlayerCountQueries.newPlayerCount(monthAgo, now, serverUUID));
-        Integer new7d = db.query(PlayerCountQueries.newPlayerCount(weekAgo, now, serverUUID));
-        Integer new1d = db.query(PlayerCountQueries.newPlayerCount(dayAgo, now, serverUUID));
+        int new30d = totalsMonth.getNewPlayers();
+        int new7d = totalsWeek.getNewPlayers();
+        int new1d = totalsDay.getNewPlayers();
         numbers.put("new_players_30d", new30d);
-        numbers.put("new_players_30d_trend", new Trend(
-                db.query(PlayerCountQueries.newPlayerCount(monthAgo, halfMonthAgo, serverUUID)),
-                db.query(PlayerCountQueries.newPlayerCount(halfMonthAgo, now, serverUUID)),
-                false
-        ));
+        numbers.put("new_players_30d_trend", new Trend(totalsBefore.getNewPlayers(), totalsAfter.getNewPlayers(), false));
         numbers.put("new_players_7d", new7d);
         numbers.put("new_players_24h", new1d);
 
-        numbers.put("new_players_30d_avg", db.query(PlayerCountQueries.averageNewPlayerCount(monthAgo, now, timeZoneOffset, serverUUID)));
+        numbers.put("new_players_30d_avg", totalsMonth.getAverageNewPlayersPerDay());
         numbers.put("new_players_30d_avg_trend", new Trend(
-                db.query(PlayerCountQueries.averageNewPlayerCount(monthAgo, halfMonthAgo, timeZoneOffset, serverUUID)),
-                db.query(PlayerCountQueries.averageNewPlayerCount(halfMonthAgo, now, timeZoneOffset, serverUUID)),
+                totalsBefore.getAverageNewPlayersPerDay(),
+                totalsAfter.getAverageNewPlayersPerDay(),
                 false
         ));
-        numbers.put("new_players_7d_avg", db.query(PlayerCountQueries.averageNewPlayerCount(weekAgo, now, timeZoneOffset, serverUUID)));
-        numbers.put("new_players_24h_avg", db.query(PlayerCountQueries.averageNewPlayerCount(dayAgo, now, timeZoneOffset, serverUUID)));
+        numbers.put("new_players_7d_avg", totalsWeek.getAverageNewPlayersPerDay());
+        numbers.put("new_players_24h_avg", totalsDay.getAverageNewPlayersPerDay());
 
         int retained30d = db.query(PlayerCountQueries.retainedPlayerCount(monthAgo, now, serverUUID));
         int retained7d = db.query(PlayerCountQueries.retainedPlayerCount(weekAgo, now, serverUUID));
@@ -148,48 +157,35 @@ public class OnlineActivityOverviewJSONCreator implements ServerTabJSONCreator<M
         numbers.put("new_players_retention_24h", prediction1d);
         numbers.put("new_players_retention_24h_perc", percentageFormatter.apply(retentionPerc1d));
 
-        Long playtimeMonth = db.query(SessionQueries.playtime(monthAgo, now, serverUUID));
-        Long playtimeWeek = db.query(SessionQueries.playtime(weekAgo, now, serverUUID));
-        Long playtimeDay = db.query(SessionQueries.playtime(dayAgo, now, serverUUID));
-        Long playtimeBefore = db.query(SessionQueries.playtime(monthAgo, halfMonthAgo, serverUUID));
-        Long playtimeAfter = db.query(SessionQueries.playtime(halfMonthAgo, now, serverUUID));
-        numbers.put("playtime_30d", timeAmountFormatter.apply(playtimeMonth));
-        numbers.put("playtime_30d_trend", new Trend(playtimeBefore, playtimeAfter, false, timeAmountFormatter));
-        numbers.put("playtime_7d", timeAmountFormatter.apply(playtimeWeek));
-        numbers.put("playtime_24h", timeAmountFormatter.apply(playtimeDay));
-
-        numbers.put("playtime_30d_avg", timeAmountFormatter.apply(db.query(SessionQueries.averagePlaytimePerDay(monthAgo, now, timeZoneOffset, serverUUID))));
+        numbers.put("playtime_30d", timeAmountFormatter.apply(totalsMonth.getPlaytime()));
+        numbers.put("playtime_30d_trend", new Trend(totalsBefore.getPlaytime(), totalsAfter.getPlaytime(), false, timeAmountFormatter));
+        numbers.put("playtime_7d", timeAmountFormatter.apply(totalsWeek.getPlaytime()));
+        numbers.put("playtime_24h", timeAmountFormatter.apply(totalsDay.getPlaytime()));
+
+        numbers.put("playtime_30d_avg", timeAmountFormatter.apply(totalsMonth.getAveragePlaytimePerDay()));
         numbers.put("playtime_30d_avg_trend", new Trend(
-                db.query(SessionQueries.averagePlaytimePerDay(monthAgo, halfMonthAgo, timeZoneOffset, serverUUID)),
-                db.query(SessionQueries.averagePlaytimePerDay(halfMonthAgo, now, timeZoneOffset, serverUUID)),
+                totalsBefore.getAveragePlaytimePerDay(),
+                totalsAfter.getAveragePlaytimePerDay(),
                 false,
                 timeAmountFormatter
         ));
-        numbers.put("playtime_7d_avg", timeAmountFormatter.apply(db.query(SessionQueries.averagePlaytimePerDay(weekAgo, now, timeZoneOffset, serverUUID))));
-        numbers.put("playtime_24h_avg", timeAmountFormatter.apply(db.query(SessionQueries.playtime(dayAgo, now, serverUUID))));
-
-        Long sessionsMonth = db.query(SessionQueries.sessionCount(monthAgo, now, serverUUID));
-        Long sessionsWeek = db.query(SessionQueries.sessionCount(weekAgo, now, serverUUID));
-        Long sessionsDay = db.query(SessionQueries.sessionCount(dayAgo, now, serverUUID));
-        Long sessionsBefore = db.query(SessionQueries.sessionCount(monthAgo, halfMonthAgo, serverUUID));
-        Long sessionsAfter = db.query(SessionQueries.sessionCount(halfMonthAgo, now, serverUUID));
-        numbers.put("sessions_30d", sessionsMonth);
-        numbers.put("sessions_30d_trend", new Trend(sessionsBefore, sessionsAfter, false));
-        numbers.put("sessions_7d", sessionsWeek);
-        numbers.put("sessions_24h", sessionsDay);
-
-        Long sessionLengthAvgMonth = sessionsMonth != 0 ? playtimeMonth / sessionsMonth : 0;
-        Long sessionLengthAvgWeek = sessionsWeek != 0 ? playtimeWeek / sessionsWeek : 0;
-        Long sessionLengthAvgDay = sessionsDay != 0 ? playtimeDay / sessionsDay : 0;
-        numbers.put("session_length_30d_avg", timeAmountFormatter.apply(sessionLengthAvgMonth));
+        numbers.put("playtime_7d_avg", timeAmountFormatter.apply(totalsWeek.getAveragePlaytimePerDay()));
+        numbers.put("playtime_24h_avg", timeAmountFormatter.apply(totalsDay.getPlaytime()));
+
+        numbers.put("sessions_30d", totalsMonth.getSessionCount());
+        numbers.put("sessions_30d_trend", new Trend(totalsBefore.getSessionCount(), totalsAfter.getSessionCount(), false));
+        numbers.put("sessions_7d", totalsWeek.getSessionCount());
+        numbers.put("sessions_24h", totalsDay.getSessionCount());
+
+        numbers.put("session_length_30d_avg", timeAmountFormatter.apply(totalsMonth.getAverageSessionLength()));
         numbers.put("session_length_30d_trend", new Trend(
-                sessionsBefore != 0 ? playtimeBefore / sessionsBefore : 0,
-                sessionsAfter != 0 ? playtimeAfter / sessionsAfter : 0,
+                totalsBefore.getAverageSessionLength(),
+                totalsAfter.getAverageSessionLength(),
                 false,
                 timeAmountFormatter
         ));
-        numbers.put("session_length_7d_avg", timeAmountFormatter.apply(sessionLengthAvgWeek));
-        numbers.put("session_length_24h_avg", timeAmountFormatter.apply(sessionLengthAvgDay));
+        numbers.put("session_length_7d_avg", timeAmountFormatter.apply(totalsWeek.getAverageSessionLength()));
+        numbers.put("session_length_24h_avg", timeAmountFormatter.apply(totalsDay.getAverageSessionLength()));
 
         TPSMutator tpsMutator = new TPSMutator(db.query(TPSQueries.fetchTPSDataOfServer(monthAgo, now, serverUUID)));
         numbers.put("average_tps", decimalFormatter.apply(tpsMutator.averageTPS()));
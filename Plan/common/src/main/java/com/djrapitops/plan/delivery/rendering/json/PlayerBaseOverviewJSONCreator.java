@@ -16,6 +16,8 @@
  */
 package com.djrapitops.plan.delivery.rendering.json;
 
+import com.djrapitops.plan.delivery.domain.TimeWindow;
+import com.djrapitops.plan.delivery.domain.TimeWindowTotals;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
 import com.djrapitops.plan.settings.config.PlanConfig;
@@ -23,8 +25,7 @@ import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
-import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
-import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.TimeWindowQueries;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -74,10 +75,16 @@ public class PlayerBaseOverviewJSONCreator implements ServerTabJSONCreator<Map<S
         long twoMonthsAgo = now - TimeUnit.DAYS.toMillis(60L);
         Long playThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
+        TimeWindow allBefore = new TimeWindow(0L, monthAgo);
+        TimeWindow allAfter = new TimeWindow(0L, now);
+        TimeWindow previousMonth = new TimeWindow(twoMonthsAgo, monthAgo);
+        TimeWindow month = new TimeWindow(monthAgo, now);
+        Map<TimeWindow, TimeWindowTotals> totals = db.query(TimeWindowQueries.fetchTotals(serverUUID, allBefore, allAfter, previousMonth, month));
+
         Map<String, Object> trends = new HashMap<>();
 
-        Integer playersBefore = db.query(PlayerCountQueries.newPlayerCount(0L, monthAgo, serverUUID));
-        Integer playersAfter = db.query(PlayerCountQueries.newPlayerCount(0L, now, serverUUID));
+        int playersBefore = totals.get(allBefore).getNewPlayers();
+        int playersAfter = totals.get(allAfter).getNewPlayers();
         trends.put("total_players_then", playersBefore);
         trends.put("total_players_now", playersAfter);
         trends.put("total_players_trend", new Trend(playersBefore, playersAfter, false));
@@ -88,14 +95,14 @@ public class PlayerBaseOverviewJSONCreator implements ServerTabJSONCreator<Map<S
         trends.put("regular_players_now", regularAfter);
         trends.put("regular_players_trend", new Trend(regularBefore, regularAfter, false));
 
-        Long avgPlaytimeBefore = db.query(SessionQueries.averagePlaytimePerPlayer(twoMonthsAgo, monthAgo, serverUUID));
-        Long avgPlaytimeAfter = db.query(SessionQueries.averagePlaytimePerPlayer(monthAgo, now, serverUUID));
+        long avgPlaytimeBefore = totals.get(previousMonth).getAveragePlaytimePerPlayer();
+        long avgPlaytimeAfter = totals.get(month).getAveragePlaytimePerPlayer();
         trends.put("playtime_avg_then", timeAmount.apply(avgPlaytimeBefore));
         trends.put("playtime_avg_now", timeAmount.apply(avgPlaytimeAfter));
         trends.put("playtime_avg_trend", new Trend(avgPlaytimeBefore, avgPlaytimeAfter, false, timeAmount));
 
-        Long avgAfkBefore = db.query(SessionQueries.averageAfkPerPlayer(twoMonthsAgo, monthAgo, serverUUID));
-        Long avgAfkAfter = db.query(SessionQueries.averageAfkPerPlayer(monthAgo, now, serverUUID));
+        long avgAfkBefore = totals.get(previousMonth).getAverageAfkTimePerPlayer();
+        long avgAfkAfter = totals.get(month).getAverageAfkTimePerPlayer();
         double afkPercBefore = avgPlaytimeBefore != 0 ? (double) avgAfkBefore / avgPlaytimeBefore : 0;
         double afkPercAfter = avgPlaytimeAfter != 0 ? (double) avgAfkAfter / avgPlaytimeAfter : 0;
         trends.put("afk_then", percentage.apply(afkPercBefore));
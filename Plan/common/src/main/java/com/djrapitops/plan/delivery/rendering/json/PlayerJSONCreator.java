@@ -114,11 +114,11 @@ public class PlayerJSONCreator {
         data.put("sessions", sessionsMutator.sort(new DateHolderRecentComparator()).toServerNameJSONMaps(graphs, config.getWorldAliasSettings(), formatters));
         data.put("sessions_per_page", config.get(DisplaySettings.SESSIONS_PER_PAGE));
         data.put("servers", serverAccordion);
-        data.put("punchcard_series", graphs.special().punchCard(sessionsMutator).getDots());
+        data.put("punchcard_series", (StreamedJSON) graphs.special().punchCard(sessionsMutator)::writeDots);
         WorldPie worldPie = graphs.pie().worldPie(player.getValue(PlayerKeys.WORLD_TIMES).orElse(new WorldTimes()));
         data.put("world_pie_series", worldPie.getSlices());
         data.put("gm_series", worldPie.toHighChartsDrillDownMaps());
-        data.put("calendar_series", graphs.calendar().playerCalendar(player).getEntries());
+        data.put("calendar_series", (StreamedJSON) graphs.calendar().playerCalendar(player)::writeCalendarSeries);
         data.put("server_pie_series", graphs.pie().serverPreferencePie(serverNames, worldTimesPerServer).getSlices());
         data.put("server_pie_colors", pieColors);
         data.put("first_day", 1); // Monday
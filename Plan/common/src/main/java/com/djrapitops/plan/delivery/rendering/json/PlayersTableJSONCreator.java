@@ -17,6 +17,7 @@
 package com.djrapitops.plan.delivery.rendering.json;
 
 import com.djrapitops.plan.delivery.domain.TablePlayer;
+import com.djrapitops.plan.delivery.domain.TablePlayerPage;
 import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
@@ -28,19 +29,22 @@ import com.djrapitops.plan.extension.icon.Color;
 import com.djrapitops.plan.extension.implementation.results.*;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.HtmlLang;
-import org.apache.commons.lang3.StringUtils;
+import com.google.gson.stream.JsonWriter;
 import org.apache.commons.text.StringEscapeUtils;
 
+import java.io.IOException;
 import java.util.*;
 
 /**
  * Utility for creating jQuery Datatables JSON for a Players Table.
  * <p>
  * See https://www.datatables.net/manual/data/orthogonal-data#HTML-5 for sort kinds
+ * <p>
+ * The table is written directly to a {@link JsonWriter}.
  *
  * @author Rsl1122
  */
-public class PlayersTableJSONCreator {
+public class PlayersTableJSONCreator implements StreamedJSON {
 
     private final List<TablePlayer> players;
     private final List<ExtensionDescriptive> extensionDescriptives;
@@ -60,15 +64,38 @@ public class PlayersTableJSONCreator {
             boolean openPlayerPageInNewTab,
             Formatters formatters,
             Locale locale
+    ) {
+        this(players, extensionData, findExtensionDescriptives(extensionData), openPlayerPageInNewTab, formatters, locale);
+    }
+
+    /**
+     * Create a players table with a fixed set of extension columns.
+     * <p>
+     * Used for pages of the players table, so that every page has the same columns.
+     *
+     * @param players                Players on the page.
+     * @param extensionData          Extension data of the players on the page.
+     * @param extensionDescriptives  Extension providers shown in the table.
+     * @param openPlayerPageInNewTab Setting.
+     * @param formatters             Formatters.
+     * @param locale                 Locale.
+     */
+    public PlayersTableJSONCreator(
+            List<TablePlayer> players,
+            Map<UUID, ExtensionTabData> extensionData,
+            Collection<ExtensionDescriptive> extensionDescriptives,
+            // Settings
+            boolean openPlayerPageInNewTab,
+            Formatters formatters,
+            Locale locale
     ) {
         // Data
         this.players = players;
         this.extensionData = extensionData;
         this.locale = locale;
 
-        extensionDescriptives = new ArrayList<>();
-        addExtensionDescriptives(extensionData);
-        extensionDescriptives.sort((one, two) -> String.CASE_INSENSITIVE_ORDER.compare(one.getName(), two.getName()));
+        this.extensionDescriptives = new ArrayList<>(extensionDescriptives);
+        this.extensionDescriptives.sort((one, two) -> String.CASE_INSENSITIVE_ORDER.compare(one.getName(), two.getName()));
 
         // Settings
         this.openPlayerPageInNewTab = openPlayerPageInNewTab;
@@ -82,7 +109,8 @@ public class PlayersTableJSONCreator {
         this.decimalFormatter = formatters.decimals();
     }
 
-    private void addExtensionDescriptives(Map<UUID, ExtensionTabData> extensionData) {
+    private static List<ExtensionDescriptive> findExtensionDescriptives(Map<UUID, ExtensionTabData> extensionData) {
+        List<ExtensionDescriptive> extensionDescriptives = new ArrayList<>();
         Set<String> foundDescriptives = new HashSet<>();
         for (ExtensionTabData tabData : extensionData.values()) {
             for (ExtensionDescriptive descriptive : tabData.getDescriptives()) {
@@ -92,40 +120,57 @@ public class PlayersTableJSONCreator {
                 }
             }
         }
+        return extensionDescriptives;
     }
 
-    public String toJSONString() {
-        String data = createData();
-        String columnHeaders = createColumnHeaders();
-        return "{\"columns\":" + columnHeaders + ",\"data\":" + data + '}';
+    @Override
+    public void writeTo(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writeColumnHeaders(writer.name("columns"));
+        writeData(writer.name("data"));
+        writer.endObject();
     }
 
-    private String createData() {
-        StringBuilder dataJSON = new StringBuilder("[");
+    /**
+     * Create JSON for a page of the players table.
+     *
+     * @param page Page the players of this table are from.
+     * @return JSON with the columns, players of the page, player counts and cursor for the next page.
+     */
+    public StreamedJSON toPageJSON(TablePlayerPage page) {
+        return writer -> {
+            writer.beginObject();
+            writeColumnHeaders(writer.name("columns"));
+            writeData(writer.name("data"));
+            writer.name("recordsTotal").value(page.getTotalCount())
+                    .name("recordsFiltered").value(page.getFilteredCount());
+            Optional<TablePlayerPage.Cursor> next = page.getNextCursor();
+            if (next.isPresent()) {
+                writer.name("next").value(next.get().encode());
+            } else {
+                writer.name("next").nullValue();
+            }
+            writer.endObject();
+        };
+    }
 
-        int currentPlayerNumber = 0;
+    private void writeData(JsonWriter writer) throws IOException {
+        writer.beginArray();
         for (TablePlayer player : players) {
             UUID playerUUID = player.getPlayerUUID();
             if (playerUUID == null) {
                 continue;
             }
 
-            if (currentPlayerNumber > 0) {
-                dataJSON.append(',');       // Previous item
-            }
-            dataJSON.append('{');           // Start new item
-
-            appendPlayerData(dataJSON, player);
-            appendExtensionData(dataJSON, extensionData.getOrDefault(playerUUID, new ExtensionTabData.Builder(null).build()));
-
-            dataJSON.append('}');           // Close new item
-
-            currentPlayerNumber++;
+            writer.beginObject();
+            writePlayerData(writer, player);
+            writeExtensionData(writer, extensionData.getOrDefault(playerUUID, new ExtensionTabData.Builder(null).build()));
+            writer.endObject();
         }
-        return dataJSON.append(']').toString();
+        writer.endArray();
     }
 
-    private void appendPlayerData(StringBuilder dataJSON, TablePlayer player) {
+    private void writePlayerData(JsonWriter writer, TablePlayer player) throws IOException {
         String name = player.getName().orElse(player.getPlayerUUID().toString());
         String url = "../player/" + Html.encodeToURL(name);
 
@@ -143,33 +188,35 @@ public class PlayersTableJSONCreator {
 
         Html link = openPlayerPageInNewTab ? Html.LINK_EXTERNAL : Html.LINK;
 
-        dataJSON.append(makeDataEntry(link.create(url, StringUtils.replace(StringEscapeUtils.escapeHtml4(name), "\\", "\\\\")), "name")).append(',') // Backslashes escaped to prevent json errors
-                .append(makeDataEntry(activityIndex.getValue(), activityString, "index")).append(',')
-                .append(makeDataEntry(playtime, numberFormatters.get(FormatType.TIME_MILLISECONDS).apply(playtime), "playtime")).append(',')
-                .append(makeDataEntry(loginTimes, "sessions")).append(',')
-                .append(makeDataEntry(registered, numberFormatters.get(FormatType.DATE_YEAR).apply(registered), "registered")).append(',')
-                .append(makeDataEntry(lastSeen, numberFormatters.get(FormatType.DATE_YEAR).apply(lastSeen), "seen")).append(',')
-                .append(makeDataEntry(geolocation, "geolocation"));
+        writeDataEntry(writer, link.create(url, StringEscapeUtils.escapeHtml4(name)), "name");
+        writeDataEntry(writer, activityIndex.getValue(), activityString, "index");
+        writeDataEntry(writer, playtime, numberFormatters.get(FormatType.TIME_MILLISECONDS).apply(playtime), "playtime");
+        writeDataEntry(writer, loginTimes, "sessions");
+        writeDataEntry(writer, registered, numberFormatters.get(FormatType.DATE_YEAR).apply(registered), "registered");
+        writeDataEntry(writer, lastSeen, numberFormatters.get(FormatType.DATE_YEAR).apply(lastSeen), "seen");
+        writeDataEntry(writer, geolocation, "geolocation");
     }
 
-    private String makeDataEntry(Object data, String dataName) {
-        return "\"" + dataName + "\":\"" + StringEscapeUtils.escapeJson(data.toString()) + "\"";
+    private void writeDataEntry(JsonWriter writer, Object data, String dataName) throws IOException {
+        writer.name(dataName).value(data.toString());
     }
 
-    private String makeDataEntry(Object data, String formatted, String dataName) {
-        return "\"" + dataName + "\":{\"v\":\"" + StringEscapeUtils.escapeJson(data.toString()) + "\", \"d\":\"" + StringEscapeUtils.escapeJson(formatted) + "\"}";
+    private void writeDataEntry(JsonWriter writer, Object data, String formatted, String dataName) throws IOException {
+        writer.name(dataName).beginObject()
+                .name("v").value(data.toString())
+                .name("d").value(formatted)
+                .endObject();
     }
 
-    private void appendExtensionData(StringBuilder dataJSON, ExtensionTabData tabData) {
+    private void writeExtensionData(JsonWriter writer, ExtensionTabData tabData) throws IOException {
         for (ExtensionDescriptive descriptive : extensionDescriptives) {
-            dataJSON.append(',');
             String key = descriptive.getName();
 
-            // If it's a double, append a double
+            // If it's a double, write a double
             Optional<ExtensionDoubleData> doubleValue = tabData.getDouble(key);
 
             if (doubleValue.isPresent()) {
-                dataJSON.append(makeDataEntry(doubleValue.get().getRawValue(), doubleValue.get().getFormattedValue(decimalFormatter), key));
+                writeDataEntry(writer, doubleValue.get().getRawValue(), doubleValue.get().getFormattedValue(decimalFormatter), key);
                 continue;
             }
 
@@ -177,48 +224,55 @@ public class PlayersTableJSONCreator {
             if (numberValue.isPresent()) {
                 ExtensionNumberData numberData = numberValue.get();
                 FormatType formatType = numberData.getFormatType();
-                dataJSON.append(makeDataEntry(numberData.getRawValue(), numberData.getFormattedValue(numberFormatters.get(formatType)), key));
+                writeDataEntry(writer, numberData.getRawValue(), numberData.getFormattedValue(numberFormatters.get(formatType)), key);
                 continue;
             }
 
-            // If it's a String append a String, otherwise the player has no value for this extension provider.
+            // If it's a String write a String, otherwise the player has no value for this extension provider.
             String stringValue = tabData.getString(key).map(ExtensionStringData::getFormattedValue).orElse("-");
-            dataJSON.append(makeDataEntry(stringValue, stringValue, key));
+            writeDataEntry(writer, stringValue, stringValue, key);
         }
     }
 
-    private String createColumnHeaders() {
-        StringBuilder columnHeaders = new StringBuilder("[");
+    private void writeColumnHeaders(JsonWriter writer) throws IOException {
+        writer.beginArray();
 
         // Is the data for the column formatted
 
-        columnHeaders
-                .append(makeColumnHeader(Icon.called("user") + " " + locale.get(HtmlLang.LABEL_NAME), "name")).append(',')
-                .append(makeFColumnHeader(Icon.called("check") + " " + locale.get(HtmlLang.LABEL_ACTIVITY_INDEX), "index")).append(',')
-                .append(makeFColumnHeader(Icon.called("clock").of(Family.REGULAR) + " " + locale.get(HtmlLang.LABEL_PLAYTIME), "playtime")).append(',')
-                .append(makeColumnHeader(Icon.called("calendar-plus").of(Family.REGULAR) + " " + locale.get(HtmlLang.SIDE_SESSIONS), "sessions")).append(',')
-                .append(makeFColumnHeader(Icon.called("user-plus") + " " + locale.get(HtmlLang.LABEL_REGISTERED), "registered")).append(',')
-                .append(makeFColumnHeader(Icon.called("calendar-check").of(Family.REGULAR) + " " + locale.get(HtmlLang.LABEL_LAST_SEEN), "seen")).append(',')
-                .append(makeColumnHeader(Icon.called("globe") + " " + locale.get(HtmlLang.TITLE_COUNTRY), "geolocation"));
+        writeColumnHeader(writer, Icon.called("user") + " " + locale.get(HtmlLang.LABEL_NAME), "name");
+        writeFColumnHeader(writer, Icon.called("check") + " " + locale.get(HtmlLang.LABEL_ACTIVITY_INDEX), "index");
+        writeFColumnHeader(writer, Icon.called("clock").of(Family.REGULAR) + " " + locale.get(HtmlLang.LABEL_PLAYTIME), "playtime");
+        writeColumnHeader(writer, Icon.called("calendar-plus").of(Family.REGULAR) + " " + locale.get(HtmlLang.SIDE_SESSIONS), "sessions");
+        writeFColumnHeader(writer, Icon.called("user-plus") + " " + locale.get(HtmlLang.LABEL_REGISTERED), "registered");
+        writeFColumnHeader(writer, Icon.called("calendar-check").of(Family.REGULAR) + " " + locale.get(HtmlLang.LABEL_LAST_SEEN), "seen");
+        writeColumnHeader(writer, Icon.called("globe") + " " + locale.get(HtmlLang.TITLE_COUNTRY), "geolocation");
 
-        appendExtensionHeaders(columnHeaders);
+        writeExtensionHeaders(writer);
 
-        return columnHeaders.append(']').toString();
+        writer.endArray();
     }
 
-    private String makeColumnHeader(String title, String dataProperty) {
-        return "{\"title\": \"" + StringEscapeUtils.escapeJson(title) + "\",\"data\":\"" + dataProperty + "\"}";
+    private void writeColumnHeader(JsonWriter writer, String title, String dataProperty) throws IOException {
+        writer.beginObject()
+                .name("title").value(title)
+                .name("data").value(dataProperty)
+                .endObject();
     }
 
-    private String makeFColumnHeader(String title, String dataProperty) {
-        return "{\"title\": \"" + StringEscapeUtils.escapeJson(title) + "\",\"data\":{\"_\":\"" + dataProperty + ".v\",\"display\":\"" + dataProperty + ".d\"}}";
+    private void writeFColumnHeader(JsonWriter writer, String title, String dataProperty) throws IOException {
+        writer.beginObject()
+                .name("title").value(title)
+                .name("data").beginObject()
+                .name("_").value(dataProperty + ".v")
+                .name("display").value(dataProperty + ".d")
+                .endObject()
+                .endObject();
     }
 
-    private void appendExtensionHeaders(StringBuilder columnHeaders) {
+    private void writeExtensionHeaders(JsonWriter writer) throws IOException {
         for (ExtensionDescriptive provider : extensionDescriptives) {
-            columnHeaders.append(',');
             String headerText = Icon.fromExtensionIcon(provider.getIcon().setColor(Color.NONE)).toHtml().replace('"', '\'') + ' ' + provider.getText();
-            columnHeaders.append(makeFColumnHeader(headerText, provider.getName()));
+            writeFColumnHeader(writer, headerText, provider.getName());
         }
     }
-}
\ No newline at end of file
+}
@@ -18,6 +18,8 @@ package com.djrapitops.plan.delivery.rendering.json;
 
 import com.djrapitops.plan.delivery.domain.DateHolder;
 import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.delivery.domain.TimeWindow;
+import com.djrapitops.plan.delivery.domain.TimeWindowTotals;
 import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
@@ -34,8 +36,8 @@ import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.ServerAggregateQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.TimeWindowQueries;
 import com.djrapitops.plan.storage.database.queries.objects.KillQueries;
-import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
 import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
 
 import javax.inject.Inject;
@@ -101,12 +103,17 @@ public class ServerOverviewJSONCreator implements ServerTabJSONCreator<Map<Strin
         long now = System.currentTimeMillis();
         long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
 
+        TimeWindow week = new TimeWindow(weekAgo, now);
+        TimeWindowTotals totals = db.query(TimeWindowQueries.fetchTotalsWithDailyAverages(
+                config.getTimeZone().getOffset(now), serverUUID, week
+        )).get(week);
+
         Map<String, Object> sevenDays = new HashMap<>();
 
-        sevenDays.put("unique_players", db.query(PlayerCountQueries.uniquePlayerCount(weekAgo, now, serverUUID)));
-        sevenDays.put("unique_players_day", db.query(PlayerCountQueries.averageUniquePlayerCount(weekAgo, now, config.getTimeZone().getOffset(now), serverUUID)));
+        sevenDays.put("unique_players", totals.getUniquePlayers());
+        sevenDays.put("unique_players_day", totals.getAverageUniquePlayersPerDay());
 
-        int new7d = db.query(PlayerCountQueries.newPlayerCount(weekAgo, now, serverUUID));
+        int new7d = totals.getNewPlayers();
         int retained7d = db.query(PlayerCountQueries.retainedPlayerCount(weekAgo, now, serverUUID));
         double retentionPerc7d = new7d != 0 ? (double) retained7d / new7d : -1;
 
@@ -140,10 +147,12 @@ public class ServerOverviewJSONCreator implements ServerTabJSONCreator<Map<Strin
         numbers.put("last_peak_players", lastPeak.map(dateObj -> dateObj.getValue().toString()).orElse("-"));
         numbers.put("best_peak_date", allTimePeak.map(year).orElse("-"));
         numbers.put("best_peak_players", allTimePeak.map(dateObj -> dateObj.getValue().toString()).orElse("-"));
-        Long totalPlaytime = db.query(SessionQueries.playtime(0L, now, serverUUID));
+        TimeWindow allTime = new TimeWindow(0L, now);
+        TimeWindowTotals totals = db.query(TimeWindowQueries.fetchSessionTotals(serverUUID, allTime)).get(allTime);
+        long totalPlaytime = totals.getPlaytime();
         numbers.put("playtime", timeAmount.apply(totalPlaytime));
         numbers.put("player_playtime", userCount != 0 ? timeAmount.apply(totalPlaytime / userCount) : "-");
-        numbers.put("sessions", db.query(SessionQueries.sessionCount(0L, now, serverUUID)));
+        numbers.put("sessions", totals.getSessionCount());
         numbers.put("player_kills", db.query(KillQueries.playerKillCount(0L, now, serverUUID)));
         numbers.put("mob_kills", db.query(KillQueries.mobKillCount(0L, now, serverUUID)));
         numbers.put("deaths", db.query(KillQueries.deathCount(0L, now, serverUUID)));
@@ -172,15 +181,21 @@ public class ServerOverviewJSONCreator implements ServerTabJSONCreator<Map<Strin
         weeks.put("midpoint", day.apply(oneWeekAgo));
         weeks.put("end", day.apply(now));
 
-        Integer uniqueBefore = db.query(PlayerCountQueries.uniquePlayerCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Integer uniqueAfter = db.query(PlayerCountQueries.uniquePlayerCount(oneWeekAgo, now, serverUUID));
+        TimeWindow previousWeek = new TimeWindow(twoWeeksAgo, oneWeekAgo);
+        TimeWindow week = new TimeWindow(oneWeekAgo, now);
+        Map<TimeWindow, TimeWindowTotals> totals = db.query(TimeWindowQueries.fetchTotals(serverUUID, previousWeek, week));
+        TimeWindowTotals totalsBefore = totals.get(previousWeek);
+        TimeWindowTotals totalsAfter = totals.get(week);
+
+        int uniqueBefore = totalsBefore.getUniquePlayers();
+        int uniqueAfter = totalsAfter.getUniquePlayers();
         Trend uniqueTrend = new Trend(uniqueBefore, uniqueAfter, false);
         weeks.put("unique_before", uniqueBefore);
         weeks.put("unique_after", uniqueAfter);
         weeks.put("unique_trend", uniqueTrend);
 
-        Integer newBefore = db.query(PlayerCountQueries.newPlayerCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Integer newAfter = db.query(PlayerCountQueries.newPlayerCount(oneWeekAgo, now, serverUUID));
+        int newBefore = totalsBefore.getNewPlayers();
+        int newAfter = totalsAfter.getNewPlayers();
         Trend newTrend = new Trend(newBefore, newAfter, false);
         weeks.put("new_before", newBefore);
         weeks.put("new_after", newAfter);
@@ -192,17 +207,15 @@ public class ServerOverviewJSONCreator implements ServerTabJSONCreator<Map<Strin
         weeks.put("regular_after", regularAfter);
         weeks.put("regular_trend", new Trend(regularBefore, regularAfter, false));
 
-        Long playtimeBefore = db.query(SessionQueries.playtime(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Long playtimeAfter = db.query(SessionQueries.playtime(oneWeekAgo, now, serverUUID));
-        long avgPlaytimeBefore = uniqueBefore != 0 ? playtimeBefore / uniqueBefore : 0L;
-        long avgPlaytimeAfter = uniqueAfter != 0 ? playtimeAfter / uniqueAfter : 0L;
+        long avgPlaytimeBefore = totalsBefore.getAveragePlaytimePerPlayer();
+        long avgPlaytimeAfter = totalsAfter.getAveragePlaytimePerPlayer();
         Trend avgPlaytimeTrend = new Trend(avgPlaytimeBefore, avgPlaytimeAfter, false, timeAmount);
         weeks.put("average_playtime_before", timeAmount.apply(avgPlaytimeBefore));
         weeks.put("average_playtime_after", timeAmount.apply(avgPlaytimeAfter));
         weeks.put("average_playtime_trend", avgPlaytimeTrend);
 
-        Long sessionsBefore = db.query(SessionQueries.sessionCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Long sessionsAfter = db.query(SessionQueries.sessionCount(oneWeekAgo, now, serverUUID));
+        long sessionsBefore = totalsBefore.getSessionCount();
+        long sessionsAfter = totalsAfter.getSessionCount();
         Trend sessionsTrend = new Trend(sessionsBefore, sessionsAfter, false);
         weeks.put("sessions_before", sessionsBefore);
         weeks.put("sessions_after", sessionsAfter);
@@ -16,6 +16,8 @@
  */
 package com.djrapitops.plan.delivery.rendering.json;
 
+import com.djrapitops.plan.delivery.domain.TimeWindow;
+import com.djrapitops.plan.delivery.domain.TimeWindowTotals;
 import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
@@ -23,7 +25,7 @@ import com.djrapitops.plan.gathering.domain.GMTimes;
 import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
-import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.TimeWindowQueries;
 import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
 import com.djrapitops.plan.storage.database.queries.objects.WorldTimesQueries;
 import org.apache.commons.text.WordUtils;
@@ -76,8 +78,10 @@ public class SessionsOverviewJSONCreator implements ServerTabJSONCreator<Map<Str
         insights.put("server_occupied", timeAmount.apply(occupied));
         insights.put("server_occupied_perc", uptime != 0 ? percentage.apply(1.0 * occupied / uptime) : "-");
 
-        Long playtime = db.query(SessionQueries.playtime(monthAgo, now, serverUUID));
-        Long afkTime = db.query(SessionQueries.afkTime(monthAgo, now, serverUUID));
+        TimeWindow month = new TimeWindow(monthAgo, now);
+        TimeWindowTotals totals = db.query(TimeWindowQueries.fetchSessionTotals(serverUUID, month)).get(month);
+        long playtime = totals.getPlaytime();
+        long afkTime = totals.getAfkTime();
         insights.put("total_playtime", timeAmount.apply(playtime));
         insights.put("afk_time", timeAmount.apply(afkTime));
         insights.put("afk_time_perc", playtime != 0 ? percentage.apply(1.0 * afkTime / playtime) : "-");
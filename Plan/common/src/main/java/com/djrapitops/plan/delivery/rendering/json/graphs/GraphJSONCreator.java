@@ -20,16 +20,22 @@ import com.djrapitops.plan.delivery.domain.DateMap;
 import com.djrapitops.plan.delivery.domain.mutators.MutatorFunctions;
 import com.djrapitops.plan.delivery.domain.mutators.PingMutator;
 import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
+import com.djrapitops.plan.delivery.rendering.json.JSONSerializer;
+import com.djrapitops.plan.delivery.rendering.json.StreamedJSON;
 import com.djrapitops.plan.delivery.rendering.json.graphs.bar.BarGraph;
+import com.djrapitops.plan.delivery.rendering.json.graphs.calendar.ServerCalendar;
+import com.djrapitops.plan.delivery.rendering.json.graphs.line.LineGraph;
 import com.djrapitops.plan.delivery.rendering.json.graphs.line.LineGraphFactory;
 import com.djrapitops.plan.delivery.rendering.json.graphs.line.PingGraph;
 import com.djrapitops.plan.delivery.rendering.json.graphs.line.Point;
 import com.djrapitops.plan.delivery.rendering.json.graphs.pie.Pie;
 import com.djrapitops.plan.delivery.rendering.json.graphs.pie.WorldPie;
+import com.djrapitops.plan.delivery.rendering.json.graphs.special.PunchCard;
 import com.djrapitops.plan.delivery.rendering.json.graphs.special.WorldMap;
 import com.djrapitops.plan.delivery.rendering.json.graphs.stack.StackGraph;
 import com.djrapitops.plan.gathering.domain.Ping;
 import com.djrapitops.plan.gathering.domain.Session;
+import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.gathering.domain.WorldTimes;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DisplaySettings;
@@ -77,39 +83,48 @@ public class GraphJSONCreator {
         this.graphs = graphs;
     }
 
-    public String performanceGraphJSON(UUID serverUUID) {
+    public StreamedJSON performanceGraphJSON(UUID serverUUID) {
         Database db = dbSystem.getDatabase();
         LineGraphFactory lineGraphs = graphs.line();
         long now = System.currentTimeMillis();
         long halfYearAgo = now - TimeUnit.DAYS.toMillis(180L);
-        TPSMutator tpsMutator = new TPSMutator(db.query(TPSQueries.fetchTPSDataOfServer(serverUUID)))
-                .filterDataBetween(halfYearAgo, now);
-        return '{' +
-                "\"playersOnline\":" + lineGraphs.playersOnlineGraph(tpsMutator).toHighChartsSeries() +
-                ",\"tps\":" + lineGraphs.tpsGraph(tpsMutator).toHighChartsSeries() +
-                ",\"cpu\":" + lineGraphs.cpuGraph(tpsMutator).toHighChartsSeries() +
-                ",\"ram\":" + lineGraphs.ramGraph(tpsMutator).toHighChartsSeries() +
-                ",\"entities\":" + lineGraphs.entityGraph(tpsMutator).toHighChartsSeries() +
-                ",\"chunks\":" + lineGraphs.chunkGraph(tpsMutator).toHighChartsSeries() +
-                ",\"disk\":" + lineGraphs.diskGraph(tpsMutator).toHighChartsSeries() +
-                ",\"colors\":{" +
-                "\"playersOnline\":\"" + theme.getValue(ThemeVal.GRAPH_PLAYERS_ONLINE) + "\"," +
-                "\"cpu\":\"" + theme.getValue(ThemeVal.GRAPH_CPU) + "\"," +
-                "\"ram\":\"" + theme.getValue(ThemeVal.GRAPH_RAM) + "\"," +
-                "\"entities\":\"" + theme.getValue(ThemeVal.GRAPH_ENTITIES) + "\"," +
-                "\"chunks\":\"" + theme.getValue(ThemeVal.GRAPH_CHUNKS) + "\"," +
-                "\"low\":\"" + theme.getValue(ThemeVal.GRAPH_TPS_LOW) + "\"," +
-                "\"med\":\"" + theme.getValue(ThemeVal.GRAPH_TPS_MED) + "\"," +
-                "\"high\":\"" + theme.getValue(ThemeVal.GRAPH_TPS_HIGH) + "\"}" +
-                ",\"zones\":{" +
-                "\"tpsThresholdMed\":" + config.get(DisplaySettings.GRAPH_TPS_THRESHOLD_MED) + ',' +
-                "\"tpsThresholdHigh\":" + config.get(DisplaySettings.GRAPH_TPS_THRESHOLD_HIGH) + ',' +
-                "\"diskThresholdMed\":" + config.get(DisplaySettings.GRAPH_DISK_THRESHOLD_MED) + ',' +
-                "\"diskThresholdHigh\":" + config.get(DisplaySettings.GRAPH_DISK_THRESHOLD_HIGH) +
-                "}}";
+        long hourMs = TimeUnit.HOURS.toMillis(1L);
+        long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
+        weekAgo -= weekAgo % hourMs;
+        // Hourly data is enough for older history, last week is shown with all samples.
+        List<TPS> tpsData = db.query(TPSQueries.fetchTPSDataOfServer(halfYearAgo, weekAgo - 1L, hourMs, serverUUID));
+        tpsData.addAll(db.query(TPSQueries.fetchTPSDataOfServer(weekAgo, now, 0L, serverUUID)));
+        TPSMutator tpsMutator = new TPSMutator(tpsData);
+        return writer -> {
+            writer.beginObject();
+            lineGraphs.playersOnlineGraph(tpsMutator).writeHighChartsSeries(writer.name("playersOnline"));
+            lineGraphs.tpsGraph(tpsMutator).writeHighChartsSeries(writer.name("tps"));
+            lineGraphs.cpuGraph(tpsMutator).writeHighChartsSeries(writer.name("cpu"));
+            lineGraphs.ramGraph(tpsMutator).writeHighChartsSeries(writer.name("ram"));
+            lineGraphs.entityGraph(tpsMutator).writeHighChartsSeries(writer.name("entities"));
+            lineGraphs.chunkGraph(tpsMutator).writeHighChartsSeries(writer.name("chunks"));
+            lineGraphs.diskGraph(tpsMutator).writeHighChartsSeries(writer.name("disk"));
+            writer.name("colors").beginObject()
+                    .name("playersOnline").value(theme.getValue(ThemeVal.GRAPH_PLAYERS_ONLINE))
+                    .name("cpu").value(theme.getValue(ThemeVal.GRAPH_CPU))
+                    .name("ram").value(theme.getValue(ThemeVal.GRAPH_RAM))
+                    .name("entities").value(theme.getValue(ThemeVal.GRAPH_ENTITIES))
+                    .name("chunks").value(theme.getValue(ThemeVal.GRAPH_CHUNKS))
+                    .name("low").value(theme.getValue(ThemeVal.GRAPH_TPS_LOW))
+                    .name("med").value(theme.getValue(ThemeVal.GRAPH_TPS_MED))
+                    .name("high").value(theme.getValue(ThemeVal.GRAPH_TPS_HIGH))
+                    .endObject();
+            writer.name("zones").beginObject()
+                    .name("tpsThresholdMed").value(config.get(DisplaySettings.GRAPH_TPS_THRESHOLD_MED))
+                    .name("tpsThresholdHigh").value(config.get(DisplaySettings.GRAPH_TPS_THRESHOLD_HIGH))
+                    .name("diskThresholdMed").value(config.get(DisplaySettings.GRAPH_DISK_THRESHOLD_MED))
+                    .name("diskThresholdHigh").value(config.get(DisplaySettings.GRAPH_DISK_THRESHOLD_HIGH))
+                    .endObject();
+            writer.endObject();
+        };
     }
 
-    public String playersOnlineGraph(UUID serverUUID) {
+    public StreamedJSON playersOnlineGraph(UUID serverUUID) {
         Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long halfYearAgo = now - TimeUnit.DAYS.toMillis(180L);
@@ -117,11 +132,16 @@ public class GraphJSONCreator {
         List<Point> points = Lists.map(db.query(TPSQueries.fetchPlayersOnlineOfServer(halfYearAgo, now, serverUUID)),
                 point -> new Point(point.getDate(), point.getValue())
         );
-        return "{\"playersOnline\":" + graphs.line().lineGraph(points).toHighChartsSeries() +
-                ",\"color\":\"" + theme.getValue(ThemeVal.GRAPH_PLAYERS_ONLINE) + "\"}";
+        LineGraph playersOnline = graphs.line().lineGraph(points);
+        return writer -> {
+            writer.beginObject();
+            playersOnline.writeHighChartsSeries(writer.name("playersOnline"));
+            writer.name("color").value(theme.getValue(ThemeVal.GRAPH_PLAYERS_ONLINE));
+            writer.endObject();
+        };
     }
 
-    public String uniqueAndNewGraphJSON(UUID serverUUID) {
+    public StreamedJSON uniqueAndNewGraphJSON(UUID serverUUID) {
         Database db = dbSystem.getDatabase();
         LineGraphFactory lineGraphs = graphs.line();
         long now = System.currentTimeMillis();
@@ -137,7 +157,7 @@ public class GraphJSONCreator {
         return createUniqueAndNewJSON(lineGraphs, uniquePerDay, newPerDay, TimeUnit.DAYS.toMillis(1L));
     }
 
-    public String hourlyUniqueAndNewGraphJSON(UUID serverUUID) {
+    public StreamedJSON hourlyUniqueAndNewGraphJSON(UUID serverUUID) {
         Database db = dbSystem.getDatabase();
         LineGraphFactory lineGraphs = graphs.line();
         long now = System.currentTimeMillis();
@@ -153,22 +173,26 @@ public class GraphJSONCreator {
         return createUniqueAndNewJSON(lineGraphs, uniquePerDay, newPerDay, TimeUnit.HOURS.toMillis(1L));
     }
 
-    public String createUniqueAndNewJSON(LineGraphFactory lineGraphs, NavigableMap<Long, Integer> uniquePerDay, NavigableMap<Long, Integer> newPerDay, long gapFillPeriod) {
-        return "{\"uniquePlayers\":" +
-                lineGraphs.lineGraph(MutatorFunctions.toPoints(
-                        MutatorFunctions.addMissing(uniquePerDay, gapFillPeriod, 0)
-                )).toHighChartsSeries() +
-                ",\"newPlayers\":" +
-                lineGraphs.lineGraph(MutatorFunctions.toPoints(
-                        MutatorFunctions.addMissing(newPerDay, gapFillPeriod, 0)
-                )).toHighChartsSeries() +
-                ",\"colors\":{" +
-                "\"playersOnline\":\"" + theme.getValue(ThemeVal.GRAPH_PLAYERS_ONLINE) + "\"," +
-                "\"newPlayers\":\"" + theme.getValue(ThemeVal.LIGHT_GREEN) + "\"" +
-                "}}";
+    public StreamedJSON createUniqueAndNewJSON(LineGraphFactory lineGraphs, NavigableMap<Long, Integer> uniquePerDay, NavigableMap<Long, Integer> newPerDay, long gapFillPeriod) {
+        LineGraph uniquePlayers = lineGraphs.lineGraph(MutatorFunctions.toPoints(
+                MutatorFunctions.addMissing(uniquePerDay, gapFillPeriod, 0)
+        ));
+        LineGraph newPlayers = lineGraphs.lineGraph(MutatorFunctions.toPoints(
+                MutatorFunctions.addMissing(newPerDay, gapFillPeriod, 0)
+        ));
+        return writer -> {
+            writer.beginObject();
+            uniquePlayers.writeHighChartsSeries(writer.name("uniquePlayers"));
+            newPlayers.writeHighChartsSeries(writer.name("newPlayers"));
+            writer.name("colors").beginObject()
+                    .name("playersOnline").value(theme.getValue(ThemeVal.GRAPH_PLAYERS_ONLINE))
+                    .name("newPlayers").value(theme.getValue(ThemeVal.LIGHT_GREEN))
+                    .endObject();
+            writer.endObject();
+        };
     }
 
-    public String uniqueAndNewGraphJSON() {
+    public StreamedJSON uniqueAndNewGraphJSON() {
         Database db = dbSystem.getDatabase();
         LineGraphFactory lineGraphs = graphs.line();
         long now = System.currentTimeMillis();
@@ -184,7 +208,7 @@ public class GraphJSONCreator {
         return createUniqueAndNewJSON(lineGraphs, uniquePerDay, newPerDay, TimeUnit.DAYS.toMillis(1L));
     }
 
-    public String hourlyUniqueAndNewGraphJSON() {
+    public StreamedJSON hourlyUniqueAndNewGraphJSON() {
         Database db = dbSystem.getDatabase();
         LineGraphFactory lineGraphs = graphs.line();
         long now = System.currentTimeMillis();
@@ -200,7 +224,7 @@ public class GraphJSONCreator {
         return createUniqueAndNewJSON(lineGraphs, uniquePerDay, newPerDay, TimeUnit.HOURS.toMillis(1L));
     }
 
-    public String serverCalendarJSON(UUID serverUUID) {
+    public StreamedJSON serverCalendarJSON(UUID serverUUID) {
         Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long twoYearsAgo = now - TimeUnit.DAYS.toMillis(730L);
@@ -217,14 +241,18 @@ public class GraphJSONCreator {
         NavigableMap<Long, Integer> sessionsPerDay = db.query(
                 SessionQueries.sessionCountPerDay(twoYearsAgo, now, timeZoneOffset, serverUUID)
         );
-        return "{\"data\":" +
-                graphs.calendar().serverCalendar(
-                        uniquePerDay,
-                        newPerDay,
-                        playtimePerDay,
-                        sessionsPerDay
-                ).toCalendarSeries() +
-                ",\"firstDay\":" + 1 + '}';
+        ServerCalendar calendar = graphs.calendar().serverCalendar(
+                uniquePerDay,
+                newPerDay,
+                playtimePerDay,
+                sessionsPerDay
+        );
+        return writer -> {
+            writer.beginObject();
+            calendar.writeCalendarSeries(writer.name("data"));
+            writer.name("firstDay").value(1);
+            writer.endObject();
+        };
     }
 
     public Map<String, Object> serverWorldPieJSONAsMap(UUID serverUUID) {
@@ -238,7 +266,7 @@ public class GraphJSONCreator {
                 .build();
     }
 
-    public Map<String, Object> activityGraphsJSONAsMap(UUID serverUUID) {
+    public StreamedJSON activityGraphsJSON(UUID serverUUID) {
         Database db = dbSystem.getDatabase();
         long date = System.currentTimeMillis();
         Long threshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
@@ -251,19 +279,21 @@ public class GraphJSONCreator {
         return createActivityGraphJSON(activityData);
     }
 
-    public Map<String, Object> createActivityGraphJSON(DateMap<Map<String, Integer>> activityData) {
+    public StreamedJSON createActivityGraphJSON(DateMap<Map<String, Integer>> activityData) {
         Map.Entry<Long, Map<String, Integer>> lastActivityEntry = activityData.lastEntry();
         Pie activityPie = graphs.pie().activityPie(lastActivityEntry != null ? lastActivityEntry.getValue() : Collections.emptyMap());
         StackGraph activityStackGraph = graphs.stack().activityStackGraph(activityData);
 
-        return Maps.builder(String.class, Object.class)
-                .put("activity_series", activityStackGraph.getDataSets())
-                .put("activity_labels", activityStackGraph.getLabels())
-                .put("activity_pie_series", activityPie.getSlices())
-                .build();
+        return writer -> {
+            writer.beginObject();
+            activityStackGraph.writeDataSets(writer.name("activity_series"));
+            activityStackGraph.writeLabels(writer.name("activity_labels"));
+            JSONSerializer.write(writer.name("activity_pie_series"), activityPie.getSlices());
+            writer.endObject();
+        };
     }
 
-    public Map<String, Object> activityGraphsJSONAsMap() {
+    public StreamedJSON activityGraphsJSON() {
         Database db = dbSystem.getDatabase();
         long date = System.currentTimeMillis();
         Long threshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
@@ -305,33 +335,40 @@ public class GraphJSONCreator {
         return createGeolocationJSON(geolocationCounts);
     }
 
-    public String pingGraphsJSON(UUID serverUUID) {
+    public StreamedJSON pingGraphsJSON(UUID serverUUID) {
         Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         List<Ping> pings = db.query(PingQueries.fetchPingDataOfServer(now - TimeUnit.DAYS.toMillis(180L), now, serverUUID));
 
         PingGraph pingGraph = graphs.line().pingGraph(new PingMutator(pings).mutateToByMinutePings().all());// TODO Optimize in query
 
-        return "{\"min_ping_series\":" + pingGraph.getMinGraph().toHighChartsSeries() +
-                ",\"avg_ping_series\":" + pingGraph.getAvgGraph().toHighChartsSeries() +
-                ",\"max_ping_series\":" + pingGraph.getMaxGraph().toHighChartsSeries() +
-                ",\"colors\":{" +
-                "\"min\":\"" + theme.getValue(ThemeVal.GRAPH_MIN_PING) + "\"," +
-                "\"avg\":\"" + theme.getValue(ThemeVal.GRAPH_AVG_PING) + "\"," +
-                "\"max\":\"" + theme.getValue(ThemeVal.GRAPH_MAX_PING) + "\"" +
-                "}}";
+        return writer -> {
+            writer.beginObject();
+            pingGraph.getMinGraph().writeHighChartsSeries(writer.name("min_ping_series"));
+            pingGraph.getAvgGraph().writeHighChartsSeries(writer.name("avg_ping_series"));
+            pingGraph.getMaxGraph().writeHighChartsSeries(writer.name("max_ping_series"));
+            writer.name("colors").beginObject()
+                    .name("min").value(theme.getValue(ThemeVal.GRAPH_MIN_PING))
+                    .name("avg").value(theme.getValue(ThemeVal.GRAPH_AVG_PING))
+                    .name("max").value(theme.getValue(ThemeVal.GRAPH_MAX_PING))
+                    .endObject();
+            writer.endObject();
+        };
     }
 
-    public Map<String, Object> punchCardJSONAsMap(UUID serverUUID) {
+    public StreamedJSON punchCardJSON(UUID serverUUID) {
         long now = System.currentTimeMillis();
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
         List<Session> sessions = dbSystem.getDatabase().query(
                 SessionQueries.fetchServerSessionsWithoutKillOrWorldData(monthAgo, now, serverUUID)
         );
-        return Maps.builder(String.class, Object.class)
-                .put("punchCard", graphs.special().punchCard(sessions).getDots())
-                .put("color", theme.getValue(ThemeVal.GRAPH_PUNCHCARD))
-                .build();
+        PunchCard punchCard = graphs.special().punchCard(sessions);
+        return writer -> {
+            writer.beginObject();
+            punchCard.writeDots(writer.name("punchCard"));
+            writer.name("color").value(theme.getValue(ThemeVal.GRAPH_PUNCHCARD));
+            writer.endObject();
+        };
     }
 
     public Map<String, Object> serverPreferencePieJSONAsMap() {
@@ -16,6 +16,11 @@
  */
 package com.djrapitops.plan.delivery.rendering.json.graphs;
 
+import com.djrapitops.plan.delivery.rendering.json.JSONSerializer;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
 /**
  * Interface for Graphs with HighCharts data support.
  *
@@ -23,6 +28,16 @@ package com.djrapitops.plan.delivery.rendering.json.graphs;
  */
 public interface HighChart {
 
-    String toHighChartsSeries();
+    /**
+     * Write the series data array directly.
+     *
+     * @param writer Writer to write the array to.
+     * @throws IOException If the writer fails.
+     */
+    void writeHighChartsSeries(JsonWriter writer) throws IOException;
+
+    default String toHighChartsSeries() {
+        return JSONSerializer.toString(this::writeHighChartsSeries);
+    }
 
 }
@@ -27,7 +27,9 @@ import com.djrapitops.plan.settings.locale.lang.HtmlLang;
 import com.djrapitops.plan.settings.theme.Theme;
 import com.djrapitops.plan.settings.theme.ThemeVal;
 import com.djrapitops.plan.utilities.java.Lists;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 
@@ -68,31 +70,49 @@ public class PlayerCalendar {
         this.timeZone = timeZone;
     }
 
-    public List<CalendarEntry> getEntries() {
-        List<CalendarEntry> entries = new ArrayList<>();
+    public void writeCalendarSeries(JsonWriter writer) throws IOException {
+        writer.beginArray();
 
-        entries.add(CalendarEntry
-                .of(locale.getString(HtmlLang.LABEL_REGISTERED) + ": " + year.apply(registered),
-                        registered
-                ).withColor(theme.getValue(ThemeVal.LIGHT_GREEN))
-        );
+        writer.beginObject()
+                .name("title").value(locale.getString(HtmlLang.LABEL_REGISTERED) + ": " + year.apply(registered))
+                .name("start").value(registered)
+                .name("color").value(theme.getValue(ThemeVal.LIGHT_GREEN))
+                .endObject();
 
-        Map<String, List<Session>> sessionsByDay = getSessionsByDay();
+        writeDays(writer);
+        writeSessions(writer);
 
-        for (Map.Entry<String, List<Session>> entry : sessionsByDay.entrySet()) {
+        writer.endArray();
+    }
+
+    private void writeDays(JsonWriter writer) throws IOException {
+        String playtimeTitle = locale.getString(HtmlLang.LABEL_PLAYTIME) + ": ";
+        String sessionsTitle = locale.getString(HtmlLang.SIDE_SESSIONS) + ": ";
+        String playtimeColor = theme.getValue(ThemeVal.GREEN);
+
+        for (Map.Entry<String, List<Session>> entry : getSessionsByDay().entrySet()) {
             String day = entry.getKey();
 
             List<Session> sessions = entry.getValue();
             int sessionCount = sessions.size();
             long playtime = sessions.stream().mapToLong(Session::getLength).sum();
 
-            entries.add(CalendarEntry
-                    .of(locale.getString(HtmlLang.LABEL_PLAYTIME) + ": " + timeAmount.apply(playtime), day)
-                    .withColor(theme.getValue(ThemeVal.GREEN))
-            );
-            entries.add(CalendarEntry.of(locale.getString(HtmlLang.SIDE_SESSIONS) + ": " + sessionCount, day));
+            writer.beginObject()
+                    .name("title").value(playtimeTitle + timeAmount.apply(playtime))
+                    .name("start").value(day)
+                    .name("color").value(playtimeColor)
+                    .endObject();
+            writer.beginObject()
+                    .name("title").value(sessionsTitle + sessionCount)
+                    .name("start").value(day)
+                    .endObject();
         }
+    }
 
+    private void writeSessions(JsonWriter writer) throws IOException {
+        String sessionTitle = locale.getString(HtmlLang.SESSION) + ": ";
+        String killedTitle = locale.getString(HtmlLang.KILLED) + ": ";
+        String killColor = theme.getValue(ThemeVal.RED);
         long fiveMinutes = TimeUnit.MINUTES.toMillis(5L);
 
         for (Session session : allSessions) {
@@ -100,24 +120,23 @@ public class PlayerCalendar {
             Long start = session.getUnsafe(SessionKeys.START);
             Long end = session.getValue(SessionKeys.END).orElse(System.currentTimeMillis());
 
-            entries.add(CalendarEntry
-                    .of(locale.getString(HtmlLang.SESSION) + ": " + length,
-                            start + timeZone.getOffset(start))
-                    .withEnd(end + timeZone.getOffset(end))
-            );
+            writer.beginObject()
+                    .name("title").value(sessionTitle + length)
+                    .name("start").value(start + timeZone.getOffset(start))
+                    .name("end").value(end + timeZone.getOffset(end))
+                    .endObject();
 
             for (PlayerKill kill : session.getPlayerKills()) {
                 long time = kill.getDate();
                 String victim = kill.getVictimName().orElse(kill.getVictim().toString());
-                entries.add(CalendarEntry
-                        .of(locale.getString(HtmlLang.KILLED) + ": " + victim, time)
-                        .withEnd(time + fiveMinutes)
-                        .withColor(theme.getValue(ThemeVal.RED))
-                );
+                writer.beginObject()
+                        .name("title").value(killedTitle + victim)
+                        .name("start").value(time)
+                        .name("end").value(time + fiveMinutes)
+                        .name("color").value(killColor)
+                        .endObject();
             }
         }
-
-        return entries;
     }
 
     private Map<String, List<Session>> getSessionsByDay() {
@@ -21,7 +21,9 @@ import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.HtmlLang;
 import com.djrapitops.plan.settings.theme.Theme;
 import com.djrapitops.plan.settings.theme.ThemeVal;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.SortedMap;
@@ -63,85 +65,80 @@ public class ServerCalendar {
         this.locale = locale;
     }
 
-    public String toCalendarSeries() {
-        StringBuilder series = new StringBuilder("[");
+    public void writeCalendarSeries(JsonWriter writer) throws IOException {
+        writer.beginArray();
 
-        series.append("{\"title\": \"badcode\",\"start\":0}");
-        appendTimeZoneOffsetData(series);
+        writer.beginObject().name("title").value("badcode").name("start").value(0).endObject();
+        writeTimeZoneOffsetData(writer);
 
-        return series.append("]").toString();
+        writer.endArray();
     }
 
-    private void appendTimeZoneOffsetData(StringBuilder series) {
-        appendUniquePlayers(series);
-        appendNewPlayers(series);
-        appendSessionCounts(series);
-        appendPlaytime(series);
+    private void writeTimeZoneOffsetData(JsonWriter writer) throws IOException {
+        writeUniquePlayers(writer);
+        writeNewPlayers(writer);
+        writeSessionCounts(writer);
+        writePlaytime(writer);
     }
 
-    private void appendNewPlayers(StringBuilder series) {
+    private void writeNewPlayers(JsonWriter writer) throws IOException {
+        String title = locale.get(HtmlLang.NEW_CALENDAR).toString() + ' ';
+        String color = theme.getValue(ThemeVal.LIGHT_GREEN);
         for (Map.Entry<Long, Integer> entry : newPerDay.entrySet()) {
             int newPlayers = entry.getValue();
             if (newPlayers <= 0) {
                 continue;
             }
 
-            Long key = entry.getKey();
-            String day = iso8601TZIndependent.apply(key);
-
-            series.append(",{\"title\": \"").append(locale.get(HtmlLang.NEW_CALENDAR)).append(" ").append(newPlayers)
-                    .append("\",\"start\":\"").append(day)
-                    .append("\",\"color\": \"").append(theme.getValue(ThemeVal.LIGHT_GREEN)).append('"')
-                    .append("}");
+            writeEntry(writer, title + newPlayers, entry.getKey(), color);
         }
     }
 
-    private void appendUniquePlayers(StringBuilder series) {
+    private void writeUniquePlayers(JsonWriter writer) throws IOException {
+        String title = locale.get(HtmlLang.UNIQUE_CALENDAR).toString() + ' ';
         for (Map.Entry<Long, Integer> entry : uniquePerDay.entrySet()) {
             long uniquePlayers = entry.getValue();
             if (uniquePlayers <= 0) {
                 continue;
             }
 
-            Long key = entry.getKey();
-            String day = iso8601TZIndependent.apply(key);
-
-            series.append(",{\"title\": \"").append(locale.get(HtmlLang.UNIQUE_CALENDAR)).append(" ").append(uniquePlayers)
-                    .append("\",\"start\":\"").append(day)
-                    .append("\"}");
-
+            writeEntry(writer, title + uniquePlayers, entry.getKey(), null);
         }
     }
 
-    private void appendPlaytime(StringBuilder series) {
+    private void writePlaytime(JsonWriter writer) throws IOException {
+        String title = locale.get(HtmlLang.LABEL_PLAYTIME).toString() + ": ";
+        String color = theme.getValue(ThemeVal.GREEN);
         for (Map.Entry<Long, Long> entry : playtimePerDay.entrySet()) {
             long playtime = entry.getValue();
             if (playtime <= 0) {
                 continue;
             }
-            Long key = entry.getKey();
-            String day = iso8601TZIndependent.apply(key);
 
-            series.append(",{\"title\": \"").append(locale.get(HtmlLang.LABEL_PLAYTIME)).append(": ").append(timeAmount.apply(playtime))
-                    .append("\",\"start\":\"").append(day)
-                    .append("\",\"color\": \"").append(theme.getValue(ThemeVal.GREEN)).append('"')
-                    .append("}");
+            writeEntry(writer, title + timeAmount.apply(playtime), entry.getKey(), color);
         }
     }
 
-    private void appendSessionCounts(StringBuilder series) {
+    private void writeSessionCounts(JsonWriter writer) throws IOException {
+        String title = locale.get(HtmlLang.SIDE_SESSIONS).toString() + ": ";
+        String color = theme.getValue(ThemeVal.TEAL);
         for (Map.Entry<Long, Integer> entry : sessionsPerDay.entrySet()) {
             int sessionCount = entry.getValue();
             if (sessionCount <= 0) {
                 continue;
             }
-            Long key = entry.getKey();
-            String day = iso8601TZIndependent.apply(key);
 
-            series.append(",{\"title\": \"").append(locale.get(HtmlLang.SIDE_SESSIONS)).append(": ").append(sessionCount)
-                    .append("\",\"start\":\"").append(day)
-                    .append("\",\"color\": \"").append(theme.getValue(ThemeVal.TEAL)).append('"')
-                    .append("}");
+            writeEntry(writer, title + sessionCount, entry.getKey(), color);
+        }
+    }
+
+    private void writeEntry(JsonWriter writer, String title, long day, String color) throws IOException {
+        writer.beginObject()
+                .name("title").value(title)
+                .name("start").value(iso8601TZIndependent.apply(day));
+        if (color != null) {
+            writer.name("color").value(color);
         }
+        writer.endObject();
     }
 }
@@ -18,7 +18,9 @@ package com.djrapitops.plan.delivery.rendering.json.graphs.line;
 
 import com.djrapitops.plan.delivery.domain.mutators.MutatorFunctions;
 import com.djrapitops.plan.delivery.rendering.json.graphs.HighChart;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -38,29 +40,32 @@ public class LineGraph implements HighChart {
     }
 
     @Override
-    public String toHighChartsSeries() {
-        StringBuilder arrayBuilder = new StringBuilder("[");
+    public void writeHighChartsSeries(JsonWriter writer) throws IOException {
+        writer.beginArray();
 
-        int size = points.size();
-        Long lastX = null;
-        for (int i = 0; i < size; i++) {
-            Point point = points.get(i);
-            Double y = point.getY();
+        long gapThreshold = TimeUnit.MINUTES.toMillis(3L);
+        boolean first = true;
+        long lastX = 0L;
+        for (Point point : points) {
             long date = (long) point.getX();
 
-            if (displayGaps && lastX != null && date - lastX > TimeUnit.MINUTES.toMillis(3L)) {
-                addMissingPoints(arrayBuilder, lastX, date);
+            if (displayGaps && !first && date - lastX > gapThreshold) {
+                writeMissingPoints(writer, lastX, date);
             }
+            first = false;
             lastX = date;
 
-            arrayBuilder.append("[").append(date).append(",").append(y).append("]");
-            if (i < size - 1) {
-                arrayBuilder.append(",");
+            writer.beginArray().value(date);
+            Double y = point.getY();
+            if (y != null) {
+                writer.value(y.doubleValue());
+            } else {
+                writer.nullValue();
             }
+            writer.endArray();
         }
 
-        arrayBuilder.append("]");
-        return arrayBuilder.toString();
+        writer.endArray();
     }
 
     public List<Point> getPoints() {
@@ -70,11 +75,11 @@ public class LineGraph implements HighChart {
         return points;
     }
 
-    private void addMissingPoints(StringBuilder arrayBuilder, Long lastX, long date) {
+    private void writeMissingPoints(JsonWriter writer, long lastX, long date) throws IOException {
         long iterate = lastX + TimeUnit.MINUTES.toMillis(1L);
         while (iterate < date) {
-            arrayBuilder.append("[").append(iterate).append(",null],");
+            writer.beginArray().value(iterate).nullValue().endArray();
             iterate += TimeUnit.MINUTES.toMillis(30L);
         }
     }
-}
+}
\ No newline at end of file
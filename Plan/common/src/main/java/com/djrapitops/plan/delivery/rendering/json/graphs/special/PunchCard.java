@@ -17,7 +17,9 @@
 package com.djrapitops.plan.delivery.rendering.json.graphs.special;
 
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.util.*;
 
 /**
@@ -72,14 +74,18 @@ public class PunchCard {
         return matrix;
     }
 
-    public List<Dot> getDots() {
-        List<Dot> dots = new ArrayList<>();
-
+    private int[][] getScaledMatrix() {
         List<Long> sessionStarts = sessions.toSessionStarts();
 
         int[][] dayHourMatrix = turnIntoMatrix(sessionStarts);
         int big = findBiggestValue(dayHourMatrix);
-        int[][] scaled = scale(dayHourMatrix, big);
+        return scale(dayHourMatrix, big);
+    }
+
+    public List<Dot> getDots() {
+        List<Dot> dots = new ArrayList<>();
+
+        int[][] scaled = getScaledMatrix();
 
         for (int day = 0; day < 7; day++) {
             for (int hour = 0; hour < 24; hour++) {
@@ -94,6 +100,33 @@ public class PunchCard {
         return dots;
     }
 
+    /**
+     * Write the dots directly, in the same format as {@link #getDots()} is serialized.
+     *
+     * @param writer Writer to write the array to.
+     * @throws IOException If the writer fails.
+     */
+    public void writeDots(JsonWriter writer) throws IOException {
+        writer.beginArray();
+
+        int[][] scaled = getScaledMatrix();
+
+        for (int day = 0; day < 7; day++) {
+            for (int hour = 0; hour < 24; hour++) {
+                int value = scaled[day][hour];
+
+                writer.beginObject()
+                        .name("x").value(hour * 3600000L)
+                        .name("y").value(day)
+                        .name("z").value(value)
+                        .name("marker").beginObject().name("radius").value(value).endObject()
+                        .endObject();
+            }
+        }
+
+        writer.endArray();
+    }
+
     private int[][] createZeroMatrix() {
         int[][] dataArray = new int[7][24];
         for (int i = 0; i < 7; i++) {
@@ -16,6 +16,9 @@
  */
 package com.djrapitops.plan.delivery.rendering.json.graphs.stack;
 
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -55,6 +58,23 @@ public class StackDataSet {
         data.add(value);
     }
 
+    /**
+     * Write the data set as a series object.
+     *
+     * @param writer Writer to write the object to.
+     * @throws IOException If the writer fails.
+     */
+    public void writeTo(JsonWriter writer) throws IOException {
+        writer.beginObject().name("data").beginArray();
+        for (Double value : data) {
+            writer.value(value.doubleValue());
+        }
+        writer.endArray()
+                .name("name").value(name)
+                .name("color").value(color)
+                .endObject();
+    }
+
     public String toSeriesObjectString() {
         StringBuilder dataSetBuilder = new StringBuilder("{name: '");
 
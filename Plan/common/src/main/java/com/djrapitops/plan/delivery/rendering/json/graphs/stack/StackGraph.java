@@ -16,6 +16,10 @@
  */
 package com.djrapitops.plan.delivery.rendering.json.graphs.stack;
 
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
 /**
  * Utility for creating HighCharts Stack graphs.
  *
@@ -39,4 +43,20 @@ public class StackGraph {
         return dataSets;
     }
 
+    public void writeLabels(JsonWriter writer) throws IOException {
+        writer.beginArray();
+        for (String label : labels) {
+            writer.value(label);
+        }
+        writer.endArray();
+    }
+
+    public void writeDataSets(JsonWriter writer) throws IOException {
+        writer.beginArray();
+        for (StackDataSet dataSet : dataSets) {
+            dataSet.writeTo(writer);
+        }
+        writer.endArray();
+    }
+
 }
@@ -25,6 +25,10 @@ import com.djrapitops.plan.delivery.rendering.html.Html;
 import com.djrapitops.plan.delivery.rendering.html.icon.Icon;
 import com.djrapitops.plan.delivery.rendering.html.structure.TabsElement;
 import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
+import com.djrapitops.plan.extension.implementation.ExtensionCallStatistics;
+import com.djrapitops.plan.extension.implementation.ExtensionGatheringExecutor;
+import com.djrapitops.plan.extension.implementation.ExtensionUpdateScheduler;
+import com.djrapitops.plan.extension.implementation.ExtensionUpdateStatistics;
 import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.gathering.domain.Session;
 import com.djrapitops.plan.identification.ServerInfo;
@@ -57,6 +61,8 @@ public class DebugPage implements Page {
     private final CombineDebugLogger debugLogger;
     private final Timings timings;
     private final ErrorLogger errorLogger;
+    private final ExtensionGatheringExecutor extensionGatheringExecutor;
+    private final ExtensionUpdateScheduler extensionUpdateScheduler;
 
     private final Formatter<Long> yearFormatter;
 
@@ -69,7 +75,9 @@ public class DebugPage implements Page {
             VersionChecker versionChecker,
             DebugLogger debugLogger,
             Timings timings,
-            ErrorLogger errorLogger
+            ErrorLogger errorLogger,
+            ExtensionGatheringExecutor extensionGatheringExecutor,
+            ExtensionUpdateScheduler extensionUpdateScheduler
     ) {
         this.template = htmlTemplate;
 
@@ -79,6 +87,8 @@ public class DebugPage implements Page {
         this.debugLogger = (CombineDebugLogger) debugLogger;
         this.timings = timings;
         this.errorLogger = errorLogger;
+        this.extensionGatheringExecutor = extensionGatheringExecutor;
+        this.extensionUpdateScheduler = extensionUpdateScheduler;
 
         this.yearFormatter = formatters.yearLong();
     }
@@ -194,6 +204,8 @@ public class DebugPage implements Page {
 
         appendServerInformation(content);
         appendBenchmarks(content);
+        appendExtensionStatistics(content);
+        appendExtensionUpdateStatistics(content);
 
         return content.toString();
     }
@@ -213,6 +225,7 @@ public class DebugPage implements Page {
         content.append(")<br>");
 
         content.append("**Database:** ").append(database.getType().getName());
+        database.getConnectionPoolStatistics().ifPresent(statistics -> content.append(" (").append(statistics).append(")"));
         content.append("<br><br>");
 
         Properties properties = System.getProperties();
@@ -250,6 +263,46 @@ public class DebugPage implements Page {
         content.append("&#96;&#96;&#96;</pre>");
     }
 
+    private void appendExtensionStatistics(StringBuilder content) {
+        content.append("<pre>### Extension Gathering<br><br>");
+        content.append("Extension | Calls | Failed | Timed out | Skipped | Average | Max <br>")
+                .append("-- | -- | -- | -- | -- | -- | -- <br>");
+        Map<String, ExtensionCallStatistics> statistics = extensionGatheringExecutor.getStatistics();
+        if (statistics.isEmpty()) {
+            content.append("Empty");
+        }
+        for (Map.Entry<String, ExtensionCallStatistics> entry : statistics.entrySet()) {
+            ExtensionCallStatistics stats = entry.getValue();
+            content.append(entry.getKey()).append(" | ")
+                    .append(stats.getCalls()).append(" | ")
+                    .append(stats.getFailures()).append(" | ")
+                    .append(stats.getTimeouts()).append(" | ")
+                    .append(stats.getSkipped()).append(" | ")
+                    .append(stats.getAverageTime()).append(" ms | ")
+                    .append(stats.getMaxTime()).append(" ms<br>");
+        }
+        content.append("</pre>");
+    }
+
+    private void appendExtensionUpdateStatistics(StringBuilder content) {
+        content.append("<pre>### Extension Update Requests<br><br>");
+        content.append("Extension | Requests | Updates | Merged | Requests / minute <br>")
+                .append("-- | -- | -- | -- | -- <br>");
+        Map<String, ExtensionUpdateStatistics> statistics = extensionUpdateScheduler.getStatistics();
+        if (statistics.isEmpty()) {
+            content.append("Empty");
+        }
+        for (Map.Entry<String, ExtensionUpdateStatistics> entry : statistics.entrySet()) {
+            ExtensionUpdateStatistics stats = entry.getValue();
+            content.append(entry.getKey()).append(" | ")
+                    .append(stats.getRequests()).append(" | ")
+                    .append(stats.getUpdates()).append(" | ")
+                    .append(stats.getMerged()).append(" | ")
+                    .append(String.format("%.1f", stats.getRequestsPerMinute())).append("<br>");
+        }
+        content.append("</pre>");
+    }
+
     private void appendLoggedErrors(StringBuilder content) {
         content.append("<pre>### Logged Errors<br>");
         content.append("Using incompatible ErrorHandler");
@@ -19,9 +19,6 @@ package com.djrapitops.plan.delivery.rendering.pages;
 import com.djrapitops.plan.delivery.formatting.PlaceholderReplacer;
 import com.djrapitops.plan.delivery.rendering.html.Contributors;
 import com.djrapitops.plan.delivery.rendering.html.icon.Icon;
-import com.djrapitops.plan.settings.locale.Locale;
-import com.djrapitops.plan.settings.theme.Theme;
-import com.djrapitops.plan.utilities.java.UnaryChain;
 import com.djrapitops.plan.version.VersionChecker;
 
 /**
@@ -31,49 +28,40 @@ import com.djrapitops.plan.version.VersionChecker;
  */
 public class ErrorMessagePage implements Page {
 
-    private final String template;
+    private final PageTemplate template;
     private final Icon icon;
     private final String errorTitle;
     private final String errorMsg;
 
-    private final Locale locale;
-    private final Theme theme;
     private final VersionChecker versionChecker;
 
-    public ErrorMessagePage(
-            String template, Icon icon, String errorTitle, String errorMsg,
-            Locale locale, Theme theme, VersionChecker versionChecker
+    ErrorMessagePage(
+            PageTemplate template, Icon icon, String errorTitle, String errorMsg,
+            VersionChecker versionChecker
     ) {
         this.template = template;
         this.icon = icon;
         this.errorTitle = errorTitle;
         this.errorMsg = errorMsg;
-        this.locale = locale;
-        this.theme = theme;
         this.versionChecker = versionChecker;
     }
 
-    public ErrorMessagePage(
-            String template, String errorTitle, String errorMsg,
-            VersionChecker versionChecker,
-            Locale locale,
-            Theme theme) {
-        this(template, Icon.called("exclamation-circle").build(), errorTitle, errorMsg, locale, theme, versionChecker);
+    ErrorMessagePage(
+            PageTemplate template, String errorTitle, String errorMsg,
+            VersionChecker versionChecker
+    ) {
+        this(template, Icon.called("exclamation-circle").build(), errorTitle, errorMsg, versionChecker);
     }
 
     @Override
     public String toHtml() {
-        PlaceholderReplacer placeholders = new PlaceholderReplacer();
-        placeholders.put("title", icon.toHtml() + " " + errorTitle);
-        placeholders.put("titleText", errorTitle);
-        placeholders.put("paragraph", errorMsg);
-        placeholders.put("version", versionChecker.getUpdateButton().orElse(versionChecker.getCurrentVersionButton()));
-        placeholders.put("updateModal", versionChecker.getUpdateModal());
-        placeholders.put("contributors", Contributors.generateContributorHtml());
-        return UnaryChain.of(template)
-                .chain(theme::replaceThemeColors)
-                .chain(placeholders::apply)
-                .chain(locale::replaceLanguageInHtml)
-                .apply();
+        PlaceholderReplacer htmlPlaceholders = new PlaceholderReplacer();
+        htmlPlaceholders.put("title", icon.toHtml() + " " + errorTitle);
+        htmlPlaceholders.put("titleText", errorTitle);
+        htmlPlaceholders.put("paragraph", errorMsg);
+        htmlPlaceholders.put("version", versionChecker.getUpdateButton().orElse(versionChecker.getCurrentVersionButton()));
+        htmlPlaceholders.put("updateModal", versionChecker.getUpdateModal());
+        htmlPlaceholders.put("contributors", Contributors.generateContributorHtml());
+        return template.render(new PlaceholderReplacer(), htmlPlaceholders);
     }
 }
\ No newline at end of file
@@ -27,11 +27,9 @@ import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionSer
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.ProxySettings;
-import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.theme.Theme;
 import com.djrapitops.plan.settings.theme.ThemeVal;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.utilities.java.UnaryChain;
 import com.djrapitops.plan.version.VersionChecker;
 import org.apache.commons.lang3.StringUtils;
 
@@ -45,33 +43,30 @@ import java.util.UUID;
  */
 public class NetworkPage implements Page {
 
-    private final String templateHtml;
+    private final PageTemplate template;
     private final DBSystem dbSystem;
 
     private final VersionChecker versionChecker;
     private final PlanConfig config;
     private final Theme theme;
-    private final Locale locale;
     private final ServerInfo serverInfo;
     private final Formatters formatters;
 
     NetworkPage(
-            String templateHtml,
+            PageTemplate template,
 
             DBSystem dbSystem,
             VersionChecker versionChecker,
             PlanConfig config,
             Theme theme,
-            Locale locale,
             ServerInfo serverInfo,
             Formatters formatters
     ) {
-        this.templateHtml = templateHtml;
+        this.template = template;
         this.dbSystem = dbSystem;
         this.versionChecker = versionChecker;
         this.config = config;
         this.theme = theme;
-        this.locale = locale;
         this.serverInfo = serverInfo;
         this.formatters = formatters;
     }
@@ -94,9 +89,10 @@ public class NetworkPage implements Page {
         placeholders.put("avgPingColor", theme.getValue(ThemeVal.GRAPH_AVG_PING));
         placeholders.put("timeZone", config.getTimeZoneOffsetHours());
 
-        placeholders.put("version", versionChecker.getUpdateButton().orElse(versionChecker.getCurrentVersionButton()));
-        placeholders.put("updateModal", versionChecker.getUpdateModal());
-        placeholders.put("contributors", Contributors.generateContributorHtml());
+        PlaceholderReplacer htmlPlaceholders = new PlaceholderReplacer();
+        htmlPlaceholders.put("version", versionChecker.getUpdateButton().orElse(versionChecker.getCurrentVersionButton()));
+        htmlPlaceholders.put("updateModal", versionChecker.getUpdateModal());
+        htmlPlaceholders.put("contributors", Contributors.generateContributorHtml());
 
         CachingSupplier<ServerPluginTabs> pluginTabs = new CachingSupplier<>(() -> {
             List<ExtensionData> extensionData = dbSystem.getDatabase().query(new ExtensionServerDataQuery(serverUUID));
@@ -110,14 +106,10 @@ public class NetworkPage implements Page {
         pluginPlaceholders.put("networkDisplayName", config.get(ProxySettings.NETWORK_NAME));
         pluginPlaceholders.put("serverName", config.get(ProxySettings.NETWORK_NAME));
         pluginPlaceholders.put("serverUUID", serverUUID.toString());
-        pluginPlaceholders.put("navPluginsTabs", nav);
-        pluginPlaceholders.put("tabsPlugins", StringUtils.remove(tabs, "${backButton}"));
-
-        return UnaryChain.of(templateHtml)
-                .chain(theme::replaceThemeColors)
-                .chain(placeholders::apply)
-                .chain(pluginPlaceholders::apply)
-                .chain(locale::replaceLanguageInHtml)
-                .apply();
+
+        htmlPlaceholders.put("navPluginsTabs", pluginPlaceholders.apply(nav));
+        htmlPlaceholders.put("tabsPlugins", pluginPlaceholders.apply(StringUtils.remove(tabs, "${backButton}")));
+
+        return template.render(placeholders, htmlPlaceholders);
     }
 }
\ No newline at end of file
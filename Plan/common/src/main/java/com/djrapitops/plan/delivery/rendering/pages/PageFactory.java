@@ -21,6 +21,8 @@ import com.djrapitops.plan.delivery.formatting.Formatters;
 import com.djrapitops.plan.delivery.rendering.html.icon.Icon;
 import com.djrapitops.plan.delivery.web.ResourceService;
 import com.djrapitops.plan.delivery.web.resolver.exception.NotFoundException;
+import com.djrapitops.plan.extension.implementation.ExtensionGatheringExecutor;
+import com.djrapitops.plan.extension.implementation.ExtensionUpdateScheduler;
 import com.djrapitops.plan.extension.implementation.results.ExtensionData;
 import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionPlayerDataQuery;
 import com.djrapitops.plan.identification.Server;
@@ -44,6 +46,7 @@ import javax.inject.Singleton;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Factory for creating different {@link Page} objects.
@@ -64,6 +67,10 @@ public class PageFactory {
     private final Lazy<DebugLogger> debugLogger;
     private final Lazy<Timings> timings;
     private final Lazy<ErrorLogger> errorLogger;
+    private final Lazy<ExtensionGatheringExecutor> extensionGatheringExecutor;
+    private final Lazy<ExtensionUpdateScheduler> extensionUpdateScheduler;
+
+    private final Map<String, PageTemplate> templates;
 
     @Inject
     public PageFactory(
@@ -77,7 +84,9 @@ public class PageFactory {
             Lazy<Formatters> formatters,
             Lazy<DebugLogger> debugLogger,
             Lazy<Timings> timings,
-            Lazy<ErrorLogger> errorLogger
+            Lazy<ErrorLogger> errorLogger,
+            Lazy<ExtensionGatheringExecutor> extensionGatheringExecutor,
+            Lazy<ExtensionUpdateScheduler> extensionUpdateScheduler
     ) {
         this.versionChecker = versionChecker;
         this.files = files;
@@ -90,19 +99,24 @@ public class PageFactory {
         this.debugLogger = debugLogger;
         this.timings = timings;
         this.errorLogger = errorLogger;
+        this.extensionGatheringExecutor = extensionGatheringExecutor;
+        this.extensionUpdateScheduler = extensionUpdateScheduler;
+
+        templates = new ConcurrentHashMap<>();
     }
 
     public DebugPage debugPage() throws IOException {
         return new DebugPage(
                 getResource("error.html"),
                 dbSystem.get().getDatabase(), serverInfo.get(), formatters.get(), versionChecker.get(),
-                debugLogger.get(), timings.get(), errorLogger.get()
+                debugLogger.get(), timings.get(), errorLogger.get(),
+                extensionGatheringExecutor.get(), extensionUpdateScheduler.get()
         );
     }
 
     public PlayersPage playersPage() throws IOException {
-        return new PlayersPage(getResource("players.html"), versionChecker.get(),
-                config.get(), locale.get(), theme.get(), serverInfo.get());
+        return new PlayersPage(getTemplate("players.html"), versionChecker.get(),
+                config.get(), serverInfo.get());
     }
 
     /**
@@ -117,11 +131,10 @@ public class PageFactory {
         Server server = dbSystem.get().getDatabase().query(ServerQueries.fetchServerMatchingIdentifier(serverUUID))
                 .orElseThrow(() -> new NotFoundException("Server not found in the database"));
         return new ServerPage(
-                getResource("server.html"),
+                getTemplate("server.html"),
                 server,
                 config.get(),
                 theme.get(),
-                locale.get(),
                 versionChecker.get(),
                 dbSystem.get(),
                 serverInfo.get(),
@@ -133,9 +146,9 @@ public class PageFactory {
         Database db = dbSystem.get().getDatabase();
         PlayerContainer player = db.query(ContainerFetchQueries.fetchPlayerContainer(playerUUID));
         return new PlayerPage(
-                getResource("player.html"), player,
+                getTemplate("player.html"), player,
                 versionChecker.get(),
-                config.get(), this, theme.get(), locale.get(),
+                config.get(), this, theme.get(),
                 formatters.get(), serverInfo.get()
         );
     }
@@ -174,10 +187,10 @@ public class PageFactory {
     }
 
     public NetworkPage networkPage() throws IOException {
-        return new NetworkPage(getResource("network.html"),
+        return new NetworkPage(getTemplate("network.html"),
                 dbSystem.get(),
                 versionChecker.get(),
-                config.get(), theme.get(), locale.get(),
+                config.get(), theme.get(),
                 serverInfo.get(), formatters.get());
     }
 
@@ -195,14 +208,14 @@ public class PageFactory {
 
     public Page errorPage(String title, String error) throws IOException {
         return new ErrorMessagePage(
-                getResource("error.html"), title, error,
-                versionChecker.get(), locale.get(), theme.get());
+                getTemplate("error.html"), title, error,
+                versionChecker.get());
     }
 
     public Page errorPage(Icon icon, String title, String error) throws IOException {
         return new ErrorMessagePage(
-                getResource("error.html"), icon, title, error,
-                locale.get(), theme.get(), versionChecker.get());
+                getTemplate("error.html"), icon, title, error,
+                versionChecker.get());
     }
 
     public String getResource(String name) throws IOException {
@@ -215,6 +228,26 @@ public class PageFactory {
         }
     }
 
+    /**
+     * Get a page template with theme and locale applied.
+     * <p>
+     * Templates are compiled once and compiled again only if the resource changes,
+     * theme and locale are loaded again only on plugin reload, which creates a new PageFactory.
+     *
+     * @param name Name of the html resource.
+     * @return Compiled template.
+     * @throws IOException If the resource can not be read.
+     */
+    PageTemplate getTemplate(String name) throws IOException {
+        String html = getResource(name);
+        PageTemplate found = templates.get(name);
+        if (found == null || !found.isCompiledFrom(html)) {
+            found = PageTemplate.compile(html, theme.get(), locale.get());
+            templates.put(name, found);
+        }
+        return found;
+    }
+
     public Page loginPage() throws IOException {
         return new LoginPage(getResource("login.html"), serverInfo.get());
     }
@@ -0,0 +1,108 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.rendering.pages;
+
+import com.djrapitops.plan.settings.locale.Locale;
+import com.djrapitops.plan.settings.theme.Theme;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Html template that has theme colors and locale already applied, split into segments at each ${placeholder}.
+ * <p>
+ * Rendering only appends the segments and placeholder values together.
+ *
+ * @author Rsl1122
+ * @see PageFactory for the cache of compiled templates.
+ */
+class PageTemplate {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{(\\w+)}");
+
+    private final String source;
+    private final Locale locale;
+    private final String[] segments;
+    private final String[] placeholders;
+    private final int length;
+
+    private PageTemplate(String source, Locale locale, String[] segments, String[] placeholders) {
+        this.source = source;
+        this.locale = locale;
+        this.segments = segments;
+        this.placeholders = placeholders;
+        int segmentLength = 0;
+        for (String segment : segments) {
+            segmentLength += segment.length();
+        }
+        this.length = segmentLength;
+    }
+
+    static PageTemplate compile(String source, Theme theme, Locale locale) {
+        // Placeholders are not translated, see TranslatedString
+        String translated = locale.replaceLanguageInHtml(theme.replaceThemeColors(source));
+
+        List<String> segments = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER.matcher(translated);
+        int start = 0;
+        while (matcher.find()) {
+            segments.add(translated.substring(start, matcher.start()));
+            placeholders.add(matcher.group(1));
+            start = matcher.end();
+        }
+        segments.add(translated.substring(start));
+
+        return new PageTemplate(source, locale, segments.toArray(new String[0]), placeholders.toArray(new String[0]));
+    }
+
+    boolean isCompiledFrom(String html) {
+        return source.equals(html);
+    }
+
+    /**
+     * Render the page.
+     *
+     * @param values     Values that are placed as is, like names and colors.
+     * @param htmlValues Html values that are translated with the locale before they are placed.
+     * @return Rendered html. Placeholders without a value are left in place.
+     */
+    String render(Map<String, Serializable> values, Map<String, Serializable> htmlValues) {
+        Map<String, String> translated = new HashMap<>();
+        StringBuilder html = new StringBuilder(length + 8192);
+        for (int i = 0; i < placeholders.length; i++) {
+            html.append(segments[i]);
+
+            String placeholder = placeholders[i];
+            Serializable value = values.get(placeholder);
+            if (value != null) {
+                html.append(value);
+            } else if (htmlValues.containsKey(placeholder)) {
+                html.append(translated.computeIfAbsent(placeholder,
+                        key -> locale.replaceLanguageInHtml(String.valueOf(htmlValues.get(key)))));
+            } else {
+                html.append("${").append(placeholder).append('}');
+            }
+        }
+        return html.append(segments[segments.length - 1]).toString();
+    }
+}
@@ -25,10 +25,8 @@ import com.djrapitops.plan.delivery.rendering.html.Contributors;
 import com.djrapitops.plan.delivery.rendering.html.Html;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
-import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.theme.Theme;
 import com.djrapitops.plan.settings.theme.ThemeVal;
-import com.djrapitops.plan.utilities.java.UnaryChain;
 import com.djrapitops.plan.version.VersionChecker;
 
 import java.util.UUID;
@@ -40,7 +38,7 @@ import java.util.UUID;
  */
 public class PlayerPage implements Page {
 
-    private final String templateHtml;
+    private final PageTemplate template;
     private final PlayerContainer player;
 
     private final VersionChecker versionChecker;
@@ -48,30 +46,27 @@ public class PlayerPage implements Page {
     private final PlanConfig config;
     private final PageFactory pageFactory;
     private final Theme theme;
-    private final Locale locale;
     private final ServerInfo serverInfo;
 
     private final Formatter<Long> clockLongFormatter;
     private final Formatter<Long> secondLongFormatter;
 
     PlayerPage(
-            String templateHtml,
+            PageTemplate template,
             PlayerContainer player,
             VersionChecker versionChecker,
             PlanConfig config,
             PageFactory pageFactory,
             Theme theme,
-            Locale locale,
             Formatters formatters,
             ServerInfo serverInfo
     ) {
-        this.templateHtml = templateHtml;
+        this.template = template;
         this.player = player;
         this.versionChecker = versionChecker;
         this.config = config;
         this.pageFactory = pageFactory;
         this.theme = theme;
-        this.locale = locale;
         this.serverInfo = serverInfo;
 
         clockLongFormatter = formatters.clockLong();
@@ -94,8 +89,10 @@ public class PlayerPage implements Page {
 
         placeholders.put("refresh", clockLongFormatter.apply(now));
         placeholders.put("refreshFull", secondLongFormatter.apply(now));
-        placeholders.put("version", versionChecker.getUpdateButton().orElse(versionChecker.getCurrentVersionButton()));
-        placeholders.put("updateModal", versionChecker.getUpdateModal());
+
+        PlaceholderReplacer htmlPlaceholders = new PlaceholderReplacer();
+        htmlPlaceholders.put("version", versionChecker.getUpdateButton().orElse(versionChecker.getCurrentVersionButton()));
+        htmlPlaceholders.put("updateModal", versionChecker.getUpdateModal());
 
         String playerName = player.getValue(PlayerKeys.NAME).orElse(playerUUID.toString());
         placeholders.put("playerName", playerName);
@@ -103,21 +100,19 @@ public class PlayerPage implements Page {
         placeholders.put("timeZone", config.getTimeZoneOffsetHours());
         placeholders.put("gmPieColors", theme.getValue(ThemeVal.GRAPH_GM_PIE));
 
-        placeholders.put("contributors", Contributors.generateContributorHtml());
+        htmlPlaceholders.put("contributors", Contributors.generateContributorHtml());
 
         PlaceholderReplacer pluginPlaceholders = new PlaceholderReplacer();
         PlayerPluginTab pluginTabs = pageFactory.inspectPluginTabs(playerUUID);
 
+        String backButton = (serverInfo.getServer().isProxy() ? Html.BACK_BUTTON_NETWORK : Html.BACK_BUTTON_SERVER).create();
         pluginPlaceholders.put("playerName", playerName);
-        pluginPlaceholders.put("backButton", (serverInfo.getServer().isProxy() ? Html.BACK_BUTTON_NETWORK : Html.BACK_BUTTON_SERVER).create());
-        pluginPlaceholders.put("navPluginsTabs", pluginTabs.getNav());
-        pluginPlaceholders.put("pluginsTabs", pluginTabs.getTab());
-
-        return UnaryChain.of(templateHtml)
-                .chain(theme::replaceThemeColors)
-                .chain(placeholders::apply)
-                .chain(pluginPlaceholders::apply)
-                .chain(locale::replaceLanguageInHtml)
-                .apply();
+        pluginPlaceholders.put("backButton", backButton);
+
+        htmlPlaceholders.put("backButton", backButton);
+        htmlPlaceholders.put("navPluginsTabs", pluginPlaceholders.apply(pluginTabs.getNav()));
+        htmlPlaceholders.put("pluginsTabs", pluginPlaceholders.apply(pluginTabs.getTab()));
+
+        return template.render(placeholders, htmlPlaceholders);
     }
 }
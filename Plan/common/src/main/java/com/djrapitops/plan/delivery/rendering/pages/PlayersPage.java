@@ -22,8 +22,6 @@ import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.PluginSettings;
 import com.djrapitops.plan.settings.config.paths.ProxySettings;
-import com.djrapitops.plan.settings.locale.Locale;
-import com.djrapitops.plan.settings.theme.Theme;
 import com.djrapitops.plan.version.VersionChecker;
 
 /**
@@ -33,26 +31,20 @@ import com.djrapitops.plan.version.VersionChecker;
  */
 public class PlayersPage implements Page {
 
-    private final String templateHtml;
+    private final PageTemplate template;
     private final VersionChecker versionChecker;
     private final PlanConfig config;
-    private final Locale locale;
-    private final Theme theme;
     private final ServerInfo serverInfo;
 
     PlayersPage(
-            String templateHtml,
+            PageTemplate template,
             VersionChecker versionChecker,
             PlanConfig config,
-            Locale locale,
-            Theme theme,
             ServerInfo serverInfo
     ) {
-        this.templateHtml = templateHtml;
+        this.template = template;
         this.versionChecker = versionChecker;
         this.config = config;
-        this.locale = locale;
-        this.theme = theme;
         this.serverInfo = serverInfo;
     }
 
@@ -60,15 +52,16 @@ public class PlayersPage implements Page {
     public String toHtml() {
         PlaceholderReplacer placeholders = new PlaceholderReplacer();
 
-        placeholders.put("version", versionChecker.getUpdateButton().orElse(versionChecker.getCurrentVersionButton()));
-        placeholders.put("updateModal", versionChecker.getUpdateModal());
-        placeholders.put("contributors", Contributors.generateContributorHtml());
+        PlaceholderReplacer htmlPlaceholders = new PlaceholderReplacer();
+        htmlPlaceholders.put("version", versionChecker.getUpdateButton().orElse(versionChecker.getCurrentVersionButton()));
+        htmlPlaceholders.put("updateModal", versionChecker.getUpdateModal());
+        htmlPlaceholders.put("contributors", Contributors.generateContributorHtml());
         if (serverInfo.getServer().isProxy()) {
             placeholders.put("networkName", config.get(ProxySettings.NETWORK_NAME));
         } else {
             placeholders.put("networkName", config.get(PluginSettings.SERVER_NAME));
         }
 
-        return locale.replaceLanguageInHtml(placeholders.apply(theme.replaceThemeColors(templateHtml)));
+        return template.render(placeholders, htmlPlaceholders);
     }
 }
\ No newline at end of file
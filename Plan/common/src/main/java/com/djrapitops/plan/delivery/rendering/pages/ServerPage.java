@@ -28,11 +28,9 @@ import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionSer
 import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
-import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.theme.Theme;
 import com.djrapitops.plan.settings.theme.ThemeVal;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.utilities.java.UnaryChain;
 import com.djrapitops.plan.version.VersionChecker;
 
 import java.util.List;
@@ -45,31 +43,28 @@ import java.util.UUID;
  */
 public class ServerPage implements Page {
 
-    private final String templateHtml;
+    private final PageTemplate template;
     private final Server server;
     private final PlanConfig config;
     private final Theme theme;
-    private final Locale locale;
     private final VersionChecker versionChecker;
     private final DBSystem dbSystem;
     private final ServerInfo serverInfo;
     private final Formatters formatters;
 
     ServerPage(
-            String templateHtml, Server server,
+            PageTemplate template, Server server,
             PlanConfig config,
             Theme theme,
-            Locale locale,
             VersionChecker versionChecker,
             DBSystem dbSystem,
             ServerInfo serverInfo,
             Formatters formatters
     ) {
-        this.templateHtml = templateHtml;
+        this.template = template;
         this.server = server;
         this.config = config;
         this.theme = theme;
-        this.locale = locale;
         this.versionChecker = versionChecker;
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
@@ -88,9 +83,10 @@ public class ServerPage implements Page {
         placeholders.put("timeZone", config.getTimeZoneOffsetHours());
         placeholders.put("gmPieColors", theme.getValue(ThemeVal.GRAPH_GM_PIE));
 
-        placeholders.put("contributors", Contributors.generateContributorHtml());
-        placeholders.put("version", versionChecker.getUpdateButton().orElse(versionChecker.getCurrentVersionButton()));
-        placeholders.put("updateModal", versionChecker.getUpdateModal());
+        PlaceholderReplacer htmlPlaceholders = new PlaceholderReplacer();
+        htmlPlaceholders.put("contributors", Contributors.generateContributorHtml());
+        htmlPlaceholders.put("version", versionChecker.getUpdateButton().orElse(versionChecker.getCurrentVersionButton()));
+        htmlPlaceholders.put("updateModal", versionChecker.getUpdateModal());
 
         CachingSupplier<ServerPluginTabs> pluginTabs = new CachingSupplier<>(() -> {
             List<ExtensionData> extensionData = dbSystem.getDatabase().query(new ExtensionServerDataQuery(serverUUID));
@@ -100,19 +96,17 @@ public class ServerPage implements Page {
         String nav = JSONCache.getOrCacheString(DataID.EXTENSION_NAV, serverUUID, () -> pluginTabs.get().getNav());
         String tabs = JSONCache.getOrCacheString(DataID.EXTENSION_TABS, serverUUID, () -> pluginTabs.get().getTabs());
 
+        String backButton = serverInfo.getServer().isProxy() ? Html.BACK_BUTTON_NETWORK.create() : "";
         PlaceholderReplacer pluginPlaceholders = new PlaceholderReplacer();
         pluginPlaceholders.put("serverUUID", serverUUID.toString());
         pluginPlaceholders.put("serverName", server.getIdentifiableName());
         pluginPlaceholders.put("serverDisplayName", server.getName());
-        pluginPlaceholders.put("backButton", serverInfo.getServer().isProxy() ? Html.BACK_BUTTON_NETWORK.create() : "");
-        pluginPlaceholders.put("navPluginsTabs", nav);
-        pluginPlaceholders.put("tabsPlugins", tabs);
+        pluginPlaceholders.put("backButton", backButton);
 
-        return UnaryChain.of(templateHtml)
-                .chain(theme::replaceThemeColors)
-                .chain(placeholders::apply)
-                .chain(pluginPlaceholders::apply)
-                .chain(locale::replaceLanguageInHtml)
-                .apply();
+        htmlPlaceholders.put("backButton", backButton);
+        htmlPlaceholders.put("navPluginsTabs", pluginPlaceholders.apply(nav));
+        htmlPlaceholders.put("tabsPlugins", pluginPlaceholders.apply(tabs));
+
+        return template.render(placeholders, htmlPlaceholders);
     }
 }
\ No newline at end of file
@@ -26,6 +26,7 @@ import com.djrapitops.plan.delivery.webserver.auth.Authentication;
 import com.djrapitops.plan.delivery.webserver.auth.BasicAuthentication;
 import com.djrapitops.plan.delivery.webserver.auth.CookieAuthentication;
 import com.djrapitops.plan.delivery.webserver.auth.FailReason;
+import com.djrapitops.plan.delivery.webserver.stream.LiveEventStream;
 import com.djrapitops.plan.exceptions.WebUserAuthException;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.PluginSettings;
@@ -93,11 +94,18 @@ public class RequestHandler implements HttpHandler {
 
     @Override
     public void handle(HttpExchange exchange) {
+        boolean keepOpen = false;
         try {
             Response response = getResponse(exchange);
             response.getHeaders().putIfAbsent("Access-Control-Allow-Origin", config.get(WebserverSettings.CORS_ALLOW_ORIGIN));
             response.getHeaders().putIfAbsent("Access-Control-Allow-Methods", "GET, OPTIONS");
             response.getHeaders().putIfAbsent("Access-Control-Allow-Credentials", "true");
+            if (LiveEventStream.isEventStream(response) && "GET".equals(exchange.getRequestMethod())) {
+                // The exchange is closed by the stream when the client disconnects, this thread is free to go.
+                LiveEventStream.subscribe(exchange, response);
+                keepOpen = true;
+                return;
+            }
             ResponseSender sender = new ResponseSender(addresses, exchange, response);
             sender.send();
         } catch (Exception e) {
@@ -109,7 +117,7 @@ public class RequestHandler implements HttpHandler {
                         .build());
             }
         } finally {
-            exchange.close();
+            if (!keepOpen) exchange.close();
         }
     }
 
@@ -123,13 +131,14 @@ public class RequestHandler implements HttpHandler {
         Request request = null;
         Response response;
         try {
-            request = buildRequest(exchange);
+            // Checked before building the request so that blocked accessors do not cause password verification.
             if (bruteForceGuard.shouldPreventRequest(accessor)) {
                 response = responseFactory.failedLoginAttempts403();
             } else if (!ipWhitelist.isEmpty() && !ipWhitelist.contains(accessor)) {
                 response = responseFactory.ipWhitelist403(accessor);
                 logger.info(locale.getString(PluginLang.WEB_SERVER_NOTIFY_IP_WHITELIST_BLOCK, accessor, exchange.getRequestURI().toString()));
             } else {
+                request = buildRequest(exchange);
                 response = responseResolver.getResponse(request);
             }
         } catch (WebUserAuthException thrownByAuthentication) {
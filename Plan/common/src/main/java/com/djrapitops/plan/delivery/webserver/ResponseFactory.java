@@ -27,6 +27,8 @@ import com.djrapitops.plan.delivery.web.resolver.Response;
 import com.djrapitops.plan.delivery.web.resolver.exception.NotFoundException;
 import com.djrapitops.plan.delivery.web.resource.WebResource;
 import com.djrapitops.plan.delivery.webserver.auth.FailReason;
+import com.djrapitops.plan.delivery.webserver.cache.PrecompressedCache;
+import com.djrapitops.plan.delivery.webserver.cache.PrecompressedContent;
 import com.djrapitops.plan.exceptions.WebUserAuthException;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.ErrorPageLang;
@@ -42,10 +44,12 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Factory for creating different {@link Response} objects.
@@ -171,21 +175,26 @@ public class ResponseFactory {
                 .build();
     }
 
+    private Response forCachedResource(String mimeType, String resourceName, Supplier<byte[]> contentSupplier) {
+        PrecompressedContent content = PrecompressedCache.getOrStore(resourceName, contentSupplier);
+        return PrecompressedCache.withValidators(Response.builder()
+                .setMimeType(mimeType)
+                .setContent(content.getBytes())
+                .setStatus(200)
+                .build(), content);
+    }
+
     public Response javaScriptResponse(String fileName) {
         try {
-            String content = UnaryChain.of(getResource(fileName).asString())
+            return forCachedResource(MimeType.JS + "; charset=utf-8", fileName, () -> UnaryChain.of(getResource(fileName).asString())
                     .chain(theme::replaceThemeColors)
                     .chain(resource -> {
                         if (fileName.startsWith("vendor/") || fileName.startsWith("/vendor/"))
                             return resource;
                         return locale.replaceLanguageInJavascript(resource);
                     })
-                    .apply();
-            return Response.builder()
-                    .setMimeType(MimeType.JS)
-                    .setContent(content)
-                    .setStatus(200)
-                    .build();
+                    .apply()
+                    .getBytes(StandardCharsets.UTF_8));
         } catch (UncheckedIOException e) {
             return notFound404("JS File not found from jar: " + fileName + ", " + e.toString());
         }
@@ -193,12 +202,8 @@ public class ResponseFactory {
 
     public Response cssResponse(String fileName) {
         try {
-            String content = theme.replaceThemeColors(getResource(fileName).asString());
-            return Response.builder()
-                    .setMimeType(MimeType.CSS)
-                    .setContent(content)
-                    .setStatus(200)
-                    .build();
+            return forCachedResource(MimeType.CSS + "; charset=utf-8", fileName,
+                    () -> theme.replaceThemeColors(getResource(fileName).asString()).getBytes(StandardCharsets.UTF_8));
         } catch (UncheckedIOException e) {
             return notFound404("CSS File not found from jar: " + fileName + ", " + e.toString());
         }
@@ -206,11 +211,7 @@ public class ResponseFactory {
 
     public Response imageResponse(String fileName) {
         try {
-            return Response.builder()
-                    .setMimeType(MimeType.IMAGE)
-                    .setContent(getResource(fileName))
-                    .setStatus(200)
-                    .build();
+            return forCachedResource(MimeType.IMAGE, fileName, () -> getResource(fileName).asBytes());
         } catch (UncheckedIOException e) {
             return notFound404("Image File not found from jar: " + fileName + ", " + e.toString());
         }
@@ -230,10 +231,7 @@ public class ResponseFactory {
             type = MimeType.FONT_BYTESTREAM;
         }
         try {
-            return Response.builder()
-                    .setMimeType(type)
-                    .setContent(getResource(fileName))
-                    .build();
+            return forCachedResource(type, fileName, () -> getResource(fileName).asBytes());
         } catch (UncheckedIOException e) {
             return notFound404("Font File not found from jar: " + fileName + ", " + e.toString());
         }
@@ -245,10 +243,7 @@ public class ResponseFactory {
 
     public Response faviconResponse() {
         try {
-            return Response.builder()
-                    .setMimeType(MimeType.FAVICON)
-                    .setContent(getResource("favicon.ico"))
-                    .build();
+            return forCachedResource(MimeType.FAVICON, "favicon.ico", () -> getResource("favicon.ico").asBytes());
         } catch (UncheckedIOException e) {
             return forInternalError(e, "Could not read favicon");
         }
@@ -17,13 +17,17 @@
 package com.djrapitops.plan.delivery.webserver;
 
 import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.webserver.cache.PrecompressedCache;
+import com.djrapitops.plan.delivery.webserver.cache.PrecompressedContent;
 import com.sun.net.httpserver.Headers;
 import com.sun.net.httpserver.HttpExchange;
+import org.apache.commons.lang3.StringUtils;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.zip.GZIPOutputStream;
 
 /**
@@ -45,8 +49,13 @@ public class ResponseSender {
 
     public void send() throws IOException {
         setResponseHeaders();
+        Optional<PrecompressedContent> precompressed = getPrecompressedContent();
         if ("HEAD".equals(exchange.getRequestMethod())) {
             sendHeadResponse();
+        } else if (isNotModified()) {
+            sendNotModified();
+        } else if (precompressed.isPresent() && acceptsGzip() && isSmallerCompressed(precompressed.get())) {
+            sendPrecompressed(precompressed.get());
         } else if ("bytes".equalsIgnoreCase(response.getHeaders().get("Accept-Ranges"))) {
             sendRawBytes();
         } else {
@@ -54,6 +63,59 @@ public class ResponseSender {
         }
     }
 
+    private Optional<PrecompressedContent> getPrecompressedContent() {
+        String eTag = response.getHeaders().get("ETag");
+        if (eTag == null) return Optional.empty();
+        return PrecompressedCache.findByETag(eTag);
+    }
+
+    private boolean isNotModified() {
+        String eTag = response.getHeaders().get("ETag");
+        if (eTag == null || response.getCode() != 200) return false;
+        List<String> ifNoneMatch = exchange.getRequestHeaders().get("If-None-Match");
+        if (ifNoneMatch == null) return false;
+        for (String headerValue : ifNoneMatch) {
+            for (String tag : StringUtils.split(headerValue, ',')) {
+                String trimmed = StringUtils.removeStart(tag.trim(), "W/");
+                if (eTag.equals(trimmed) || "*".equals(trimmed)) return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean acceptsGzip() {
+        List<String> acceptEncoding = exchange.getRequestHeaders().get("Accept-Encoding");
+        if (acceptEncoding == null) return false;
+        for (String headerValue : acceptEncoding) {
+            if (StringUtils.containsIgnoreCase(headerValue, "gzip")) return true;
+        }
+        return false;
+    }
+
+    private boolean isSmallerCompressed(PrecompressedContent content) {
+        // Images and fonts are already compressed
+        return content.getCompressed().length < content.getBytes().length;
+    }
+
+    private void sendNotModified() throws IOException {
+        try {
+            Headers headers = exchange.getResponseHeaders();
+            headers.remove("Content-Length");
+            headers.remove("Content-Type");
+            exchange.sendResponseHeaders(304, -1);
+        } finally {
+            exchange.getRequestBody().close();
+        }
+    }
+
+    private void sendPrecompressed(PrecompressedContent content) throws IOException {
+        Headers headers = exchange.getResponseHeaders();
+        headers.set("Content-Encoding", "gzip");
+        headers.set("Vary", "Accept-Encoding");
+        headers.remove("Accept-Ranges");
+        sendBytes(content.getCompressed());
+    }
+
     public void sendHeadResponse() throws IOException {
         try {
             exchange.getResponseHeaders().remove("Content-Length");
@@ -95,21 +157,21 @@ public class ResponseSender {
     }
 
     private void sendRawBytes() throws IOException {
-        beginSend();
+        if (response.getHeaders().containsKey("ETag")) {
+            exchange.getResponseHeaders().set("Vary", "Accept-Encoding");
+        }
+        sendBytes(response.getBytes());
+    }
+
+    private void sendBytes(byte[] bytes) throws IOException {
+        exchange.getResponseHeaders().remove("Content-Length"); // Set by sendResponseHeaders
+        exchange.sendResponseHeaders(response.getCode(), bytes.length > 0 ? bytes.length : -1);
         try (OutputStream out = exchange.getResponseBody()) {
-            send(out);
+            out.write(bytes);
         }
     }
 
     private void send(OutputStream out) throws IOException {
-        try (
-                ByteArrayInputStream bis = new ByteArrayInputStream(response.getBytes())
-        ) {
-            byte[] buffer = new byte[2048];
-            int count;
-            while ((count = bis.read(buffer)) != -1) {
-                out.write(buffer, 0, count);
-            }
-        }
+        out.write(response.getBytes());
     }
 }
\ No newline at end of file
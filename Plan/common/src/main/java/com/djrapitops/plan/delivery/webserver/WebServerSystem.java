@@ -18,7 +18,10 @@ package com.djrapitops.plan.delivery.webserver;
 
 import com.djrapitops.plan.SubSystem;
 import com.djrapitops.plan.delivery.web.ResourceService;
+import com.djrapitops.plan.delivery.webserver.auth.VerifiedCredentialCache;
 import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
+import com.djrapitops.plan.delivery.webserver.cache.PrecompressedCache;
+import com.djrapitops.plan.delivery.webserver.stream.LiveEventStream;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -57,9 +60,13 @@ public class WebServerSystem implements SubSystem {
 
     @Override
     public void disable() {
+        LiveEventStream.closeAll(); // Open streams would keep the server from stopping
         webServer.disable();
         JSONCache.invalidateAll();
         JSONCache.cleanUp();
+        PrecompressedCache.invalidateAll();
+        PrecompressedCache.cleanUp();
+        VerifiedCredentialCache.removeAll();
     }
 
     public WebServer getWebServer() {
@@ -62,6 +62,10 @@ public class BasicAuthentication implements Authentication {
             throw new WebUserAuthException(FailReason.DATABASE_NOT_OPEN, "State was: " + dbState.name());
         }
 
+        return VerifiedCredentialCache.getOrVerify(authenticationString, () -> verify(username, passwordRaw));
+    }
+
+    private User verify(String username, String passwordRaw) {
         try {
             User user = database.query(WebUserQueries.fetchUser(username))
                     .orElseThrow(() -> new WebUserAuthException(FailReason.USER_DOES_NOT_EXIST, username));
@@ -0,0 +1,92 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.auth;
+
+import com.djrapitops.plan.delivery.domain.auth.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache for successfully verified Basic Authentication credentials.
+ * <p>
+ * Verifying a password runs PBKDF2, which is too expensive to do for every request of a page.
+ * Credentials are stored as a HMAC with a key generated on startup, so the cache does not contain the passwords.
+ *
+ * @author Rsl1122
+ */
+public class VerifiedCredentialCache {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final SecretKeySpec KEY = generateKey();
+
+    private static final Cache<String, User> USERS_BY_CREDENTIALS = Caffeine.newBuilder()
+            .expireAfterWrite(1, TimeUnit.MINUTES)
+            .maximumSize(500)
+            .build();
+
+    private VerifiedCredentialCache() {
+        // Static class
+    }
+
+    private static SecretKeySpec generateKey() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return new SecretKeySpec(key, ALGORITHM);
+    }
+
+    private static String hash(String authenticationString) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(KEY);
+            byte[] hash = mac.doFinal(authenticationString.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not supported by the JVM", e);
+        }
+    }
+
+    /**
+     * Get the user of previously verified credentials, or verify them.
+     * <p>
+     * Concurrent requests with the same credentials wait for the same verification.
+     * Failed verifications are not cached.
+     *
+     * @param authenticationString Base64 encoded credentials of the Authorization header.
+     * @param verification         Verification that throws {@link com.djrapitops.plan.exceptions.WebUserAuthException} on failure.
+     * @return The verified user.
+     */
+    public static User getOrVerify(String authenticationString, Supplier<User> verification) {
+        return USERS_BY_CREDENTIALS.get(hash(authenticationString), key -> verification.get());
+    }
+
+    public static void removeVerifications(String username) {
+        USERS_BY_CREDENTIALS.asMap().values().removeIf(user -> user.getUsername().equals(username));
+    }
+
+    public static void removeAll() {
+        USERS_BY_CREDENTIALS.invalidateAll();
+    }
+}
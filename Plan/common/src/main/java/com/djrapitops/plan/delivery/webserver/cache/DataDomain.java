@@ -0,0 +1,47 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.cache;
+
+/**
+ * Enum for the kinds of data that {@link DataID} entries are created from.
+ * <p>
+ * When data of a domain changes, every {@link JSONCache} entry that depends on it is invalidated.
+ *
+ * @author Rsl1122
+ * @see JSONCache#invalidate(DataDomain, java.util.UUID)
+ */
+public enum DataDomain {
+    /**
+     * Sessions, kills and world times.
+     */
+    SESSIONS,
+    /**
+     * Registered players, their names and registrations to servers.
+     */
+    REGISTRATIONS,
+    TPS,
+    PING,
+    GEOLOCATIONS,
+    /**
+     * Data provided by DataExtensions.
+     */
+    EXTENSIONS,
+    /**
+     * Players that are currently online, not stored in the database.
+     */
+    ONLINE_PLAYERS
+}
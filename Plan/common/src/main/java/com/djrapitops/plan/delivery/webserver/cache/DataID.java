@@ -16,7 +16,7 @@
  */
 package com.djrapitops.plan.delivery.webserver.cache;
 
-import java.util.UUID;
+import java.util.*;
 
 /**
  * Enum for different JSON data entries that can be stored in {@link JSONCache}.
@@ -24,34 +24,63 @@ import java.util.UUID;
  * @author Rsl1122
  */
 public enum DataID {
-    PLAYERS,
-    SESSIONS,
-    SERVERS,
-    KILLS,
-    PING_TABLE,
-    GRAPH_PERFORMANCE,
-    GRAPH_ONLINE,
-    GRAPH_UNIQUE_NEW,
-    GRAPH_HOURLY_UNIQUE_NEW,
-    GRAPH_CALENDAR,
-    GRAPH_WORLD_PIE,
-    GRAPH_WORLD_MAP,
-    GRAPH_ACTIVITY,
-    GRAPH_PING,
-    GRAPH_SERVER_PIE,
-    GRAPH_PUNCHCARD,
-    SERVER_OVERVIEW,
-    ONLINE_OVERVIEW,
-    SESSIONS_OVERVIEW,
-    PVP_PVE,
-    PLAYERBASE_OVERVIEW,
-    PERFORMANCE_OVERVIEW,
-    EXTENSION_NAV,
-    EXTENSION_TABS
-    ;
+    PLAYERS(DataDomain.SESSIONS, DataDomain.REGISTRATIONS, DataDomain.GEOLOCATIONS, DataDomain.PING, DataDomain.EXTENSIONS),
+    SESSIONS(DataDomain.SESSIONS, DataDomain.ONLINE_PLAYERS),
+    SERVERS(DataDomain.SESSIONS, DataDomain.REGISTRATIONS, DataDomain.TPS, DataDomain.ONLINE_PLAYERS),
+    KILLS(DataDomain.SESSIONS),
+    PING_TABLE(DataDomain.PING, DataDomain.GEOLOCATIONS),
+    GRAPH_PERFORMANCE(DataDomain.TPS),
+    GRAPH_ONLINE(DataDomain.TPS),
+    GRAPH_UNIQUE_NEW(DataDomain.SESSIONS, DataDomain.REGISTRATIONS),
+    GRAPH_HOURLY_UNIQUE_NEW(DataDomain.SESSIONS, DataDomain.REGISTRATIONS),
+    GRAPH_CALENDAR(DataDomain.SESSIONS, DataDomain.REGISTRATIONS),
+    GRAPH_WORLD_PIE(DataDomain.SESSIONS),
+    GRAPH_WORLD_MAP(DataDomain.GEOLOCATIONS, DataDomain.REGISTRATIONS),
+    GRAPH_ACTIVITY(DataDomain.SESSIONS, DataDomain.REGISTRATIONS),
+    GRAPH_PING(DataDomain.PING),
+    GRAPH_SERVER_PIE(DataDomain.SESSIONS),
+    GRAPH_PUNCHCARD(DataDomain.SESSIONS),
+    SERVER_OVERVIEW(DataDomain.SESSIONS, DataDomain.REGISTRATIONS, DataDomain.TPS, DataDomain.ONLINE_PLAYERS),
+    ONLINE_OVERVIEW(DataDomain.SESSIONS, DataDomain.REGISTRATIONS, DataDomain.TPS),
+    SESSIONS_OVERVIEW(DataDomain.SESSIONS, DataDomain.TPS),
+    PVP_PVE(DataDomain.SESSIONS),
+    PLAYERBASE_OVERVIEW(DataDomain.SESSIONS, DataDomain.REGISTRATIONS),
+    PERFORMANCE_OVERVIEW(DataDomain.TPS),
+    EXTENSION_NAV(DataDomain.EXTENSIONS),
+    EXTENSION_TABS(DataDomain.EXTENSIONS);
+
+    private final Set<DataDomain> domains;
+
+    DataID(DataDomain first, DataDomain... rest) {
+        this.domains = EnumSet.of(first, rest);
+    }
 
     public String of(UUID serverUUID) {
         return name() + '-' + serverUUID;
     }
 
+    /**
+     * Get the kinds of data this entry is created from.
+     *
+     * @return Set of data domains.
+     */
+    public Set<DataDomain> getDomains() {
+        return Collections.unmodifiableSet(domains);
+    }
+
+    /**
+     * Get the DataID of a cache identifier.
+     *
+     * @param identifier Identifier created with {@link #name()} or {@link #of(UUID)}.
+     * @return DataID or empty if the identifier is not related to a DataID.
+     */
+    public static Optional<DataID> fromIdentifier(String identifier) {
+        int separator = identifier.indexOf('-');
+        String name = separator != -1 ? identifier.substring(0, separator) : identifier;
+        for (DataID dataID : values()) {
+            if (dataID.name().equals(name)) return Optional.of(dataID);
+        }
+        return Optional.empty();
+    }
+
 }
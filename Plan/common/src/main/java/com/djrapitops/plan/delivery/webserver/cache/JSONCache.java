@@ -16,78 +16,126 @@
  */
 package com.djrapitops.plan.delivery.webserver.cache;
 
-import com.djrapitops.plan.delivery.web.resolver.MimeType;
+import com.djrapitops.plan.delivery.rendering.json.JSONSerializer;
 import com.djrapitops.plan.delivery.web.resolver.Response;
 import com.djrapitops.plan.delivery.webserver.resolver.json.RootJSONResolver;
 import com.djrapitops.plan.storage.file.ResourceCache;
 import com.djrapitops.plugin.task.AbsRunnable;
-import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import org.apache.commons.lang3.StringUtils;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 /**
  * Cache for any JSON data sent via {@link RootJSONResolver}.
+ * <p>
+ * Each entry is computed only once at a time, concurrent requests for the same missing entry wait for the result.
+ * The entry is computed by the thread that requested it first, without holding a lock of the cache,
+ * so invalidating it does not wait for the computation. A result invalidated during its computation is not cached.
+ * Entries are stored compressed in {@link PrecompressedCache} so that they can be sent with an ETag.
+ * Entries are invalidated when data of a {@link DataDomain} they depend on changes.
  *
  * @author Rsl1122
  */
 public class JSONCache {
 
-    private static final Cache<String, byte[]> cache = Caffeine.newBuilder()
+    // Entries are futures, so that an entry is computed without holding a lock of the cache and invalidation never waits for it.
+    private static final AsyncCache<String, PrecompressedContent> cache = Caffeine.newBuilder()
             .expireAfterAccess(2, TimeUnit.MINUTES)
-            .build();
+            .buildAsync();
+
+    private static final Map<DataDomain, List<DataID>> dependents = mapDependents();
 
     private JSONCache() {
         // Static class
     }
 
+    private static Map<DataDomain, List<DataID>> mapDependents() {
+        Map<DataDomain, List<DataID>> dependents = new EnumMap<>(DataDomain.class);
+        for (DataDomain domain : DataDomain.values()) {
+            dependents.put(domain, new ArrayList<>());
+        }
+        for (DataID dataID : DataID.values()) {
+            for (DataDomain domain : dataID.getDomains()) {
+                dependents.get(domain).add(dataID);
+            }
+        }
+        return dependents;
+    }
+
     public static Response getOrCache(String identifier, Supplier<Response> jsonResponseSupplier) {
-        byte[] found = cache.getIfPresent(identifier);
+        CompletableFuture<PrecompressedContent> computing = new CompletableFuture<>();
+        CompletableFuture<PrecompressedContent> found = cache.asMap().putIfAbsent(identifier, computing);
         if (found == null) {
-            Response response = jsonResponseSupplier.get();
-            cache.put(identifier, response.getBytes());
-            return response;
+            Response computed = compute(identifier, computing, jsonResponseSupplier, Response::getBytes);
+            return PrecompressedCache.withValidators(computed, computing.join());
         }
-        return Response.builder()
-                .setMimeType(MimeType.JSON)
-                .setContent(found)
-                .build();
+        // Concurrent misses of the same identifier wait for the thread that computes the entry.
+        PrecompressedContent content = await(found);
+        return PrecompressedCache.withValidators(Response.builder()
+                .setMimeType(JSONSerializer.MIME_TYPE)
+                .setContent(PrecompressedCache.keepAvailable(content).getBytes())
+                .build(), content);
     }
 
     public static String getOrCacheString(DataID dataID, UUID serverUUID, Supplier<String> stringSupplier) {
         String identifier = dataID.of(serverUUID);
-        byte[] found = cache.getIfPresent(identifier);
+        CompletableFuture<PrecompressedContent> computing = new CompletableFuture<>();
+        CompletableFuture<PrecompressedContent> found = cache.asMap().putIfAbsent(identifier, computing);
         if (found == null) {
-            String result = stringSupplier.get();
-            cache.put(identifier, result.getBytes(StandardCharsets.UTF_8));
-            return result;
+            return compute(identifier, computing, stringSupplier, string -> string.getBytes(StandardCharsets.UTF_8));
+        }
+        return new String(await(found).getBytes(), StandardCharsets.UTF_8);
+    }
+
+    private static <T> T compute(String identifier, CompletableFuture<PrecompressedContent> entry, Supplier<T> supplier, Function<T, byte[]> toBytes) {
+        try {
+            T computed = supplier.get();
+            entry.complete(PrecompressedCache.store(toBytes.apply(computed)));
+            return computed;
+        } catch (RuntimeException | Error e) {
+            // The next request attempts again.
+            cache.asMap().remove(identifier, entry);
+            entry.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static PrecompressedContent await(CompletableFuture<PrecompressedContent> entry) {
+        try {
+            return entry.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw e;
         }
-        return new String(found, StandardCharsets.UTF_8);
     }
 
     public static <T> Response getOrCache(DataID dataID, Supplier<T> objectSupplier) {
         return getOrCache(dataID.name(), () -> Response.builder()
-                .setMimeType(MimeType.JSON)
-                .setJSONContent(objectSupplier.get())
+                .setMimeType(JSONSerializer.MIME_TYPE)
+                .setContent(JSONSerializer.toBytes(objectSupplier.get()))
                 .build());
     }
 
     public static <T> Response getOrCache(DataID dataID, UUID serverUUID, Supplier<T> objectSupplier) {
         return getOrCache(dataID.of(serverUUID), () -> Response.builder()
-                .setMimeType(MimeType.JSON)
-                .setJSONContent(objectSupplier.get())
+                .setMimeType(JSONSerializer.MIME_TYPE)
+                .setContent(JSONSerializer.toBytes(objectSupplier.get()))
                 .build());
     }
 
     public static void invalidate(String identifier) {
-        cache.invalidate(identifier);
+        cache.synchronous().invalidate(identifier);
     }
 
     public static void invalidate(DataID dataID) {
@@ -104,34 +152,49 @@ public class JSONCache {
         invalidate(dataID.of(serverUUID));
     }
 
+    /**
+     * Invalidate entries that depend on data of a server, and the network entries that include it.
+     *
+     * @param domain     Kind of data that changed.
+     * @param serverUUID UUID of the server the data belongs to.
+     */
+    public static void invalidate(DataDomain domain, UUID serverUUID) {
+        for (DataID dataID : dependents.get(domain)) {
+            invalidate(dataID.of(serverUUID));
+            invalidate(dataID.name());
+        }
+    }
+
+    /**
+     * Invalidate entries of all servers that depend on the given data.
+     *
+     * @param domain Kind of data that changed.
+     */
+    public static void invalidate(DataDomain domain) {
+        invalidateMatching(dependents.get(domain).toArray(new DataID[0]));
+    }
+
     public static void invalidateMatching(DataID... dataIDs) {
-        Set<String> toInvalidate = Arrays.stream(dataIDs)
-                .map(DataID::name)
-                .collect(Collectors.toSet());
+        Set<DataID> toInvalidate = EnumSet.noneOf(DataID.class);
+        toInvalidate.addAll(Arrays.asList(dataIDs));
+        if (toInvalidate.isEmpty()) return;
         for (String identifier : cache.asMap().keySet()) {
-            for (String identifierToInvalidate : toInvalidate) {
-                if (StringUtils.startsWith(identifier, identifierToInvalidate)) {
-                    invalidate(identifier);
-                }
-            }
+            DataID.fromIdentifier(identifier)
+                    .filter(toInvalidate::contains)
+                    .ifPresent(matching -> invalidate(identifier));
         }
     }
 
     public static void invalidateMatching(DataID dataID) {
-        String toInvalidate = dataID.name();
-        for (String identifier : cache.asMap().keySet()) {
-            if (StringUtils.startsWith(identifier, toInvalidate)) {
-                invalidate(identifier);
-            }
-        }
+        invalidateMatching(new DataID[]{dataID});
     }
 
     public static void invalidateAll() {
-        cache.invalidateAll();
+        cache.synchronous().invalidateAll();
     }
 
     public static void cleanUp() {
-        cache.cleanUp();
+        cache.synchronous().cleanUp();
     }
 
     public static List<String> getCachedIDs() {
@@ -151,6 +214,7 @@ public class JSONCache {
         @Override
         public void run() {
             cleanUp();
+            PrecompressedCache.cleanUp();
             ResourceCache.cleanUp();
         }
     }
@@ -0,0 +1,101 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.cache;
+
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache for compressed response bodies, looked up by their ETag when the response is sent.
+ * <p>
+ * Content is compressed once when it is cached, identical content is stored only once.
+ * Static web resources are additionally cached by their name.
+ *
+ * @author Rsl1122
+ * @see com.djrapitops.plan.delivery.webserver.ResponseSender
+ */
+public class PrecompressedCache {
+
+    private static final Cache<String, PrecompressedContent> byETag = Caffeine.newBuilder()
+            .expireAfterAccess(2, TimeUnit.MINUTES)
+            .build();
+    private static final Cache<String, PrecompressedContent> byName = Caffeine.newBuilder()
+            .expireAfterAccess(1, TimeUnit.MINUTES)
+            .build();
+
+    private PrecompressedCache() {
+        // Static class
+    }
+
+    /**
+     * Compress the content, or find the already compressed content with the same hash.
+     *
+     * @param bytes Uncompressed content.
+     * @return Content with its compressed form and ETag.
+     */
+    public static PrecompressedContent store(byte[] bytes) {
+        String eTag = PrecompressedContent.eTagOf(bytes);
+        return byETag.get(eTag, key -> new PrecompressedContent(bytes, PrecompressedContent.compress(bytes), key));
+    }
+
+    public static PrecompressedContent getOrStore(String resourceName, Supplier<byte[]> bytesSupplier) {
+        return keepAvailable(byName.get(resourceName, key -> store(bytesSupplier.get())));
+    }
+
+    /**
+     * Keep content of another cache available for ResponseSender as long as it is being used.
+     *
+     * @param content Content found from another cache.
+     * @return the same content.
+     */
+    static PrecompressedContent keepAvailable(PrecompressedContent content) {
+        byETag.asMap().putIfAbsent(content.getETag(), content);
+        return content;
+    }
+
+    public static Optional<PrecompressedContent> findByETag(String eTag) {
+        return Optional.ofNullable(byETag.getIfPresent(eTag));
+    }
+
+    /**
+     * Add validator headers of cached content to a response.
+     *
+     * @param response Response with the content as its body.
+     * @param content  Cached content.
+     * @return the same response.
+     */
+    public static Response withValidators(Response response, PrecompressedContent content) {
+        response.getHeaders().put("ETag", content.getETag());
+        response.getHeaders().put("Cache-Control", "no-cache");
+        return response;
+    }
+
+    public static void invalidateAll() {
+        byName.invalidateAll();
+        byETag.invalidateAll();
+    }
+
+    public static void cleanUp() {
+        byName.cleanUp();
+        byETag.cleanUp();
+    }
+}
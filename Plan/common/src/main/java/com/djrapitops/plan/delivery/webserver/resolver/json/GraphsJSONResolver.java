@@ -128,13 +128,13 @@ public class GraphsJSONResolver implements Resolver {
             case GRAPH_WORLD_PIE:
                 return graphJSON.serverWorldPieJSONAsMap(serverUUID);
             case GRAPH_ACTIVITY:
-                return graphJSON.activityGraphsJSONAsMap(serverUUID);
+                return graphJSON.activityGraphsJSON(serverUUID);
             case GRAPH_WORLD_MAP:
                 return graphJSON.geolocationGraphsJSONAsMap(serverUUID);
             case GRAPH_PING:
                 return graphJSON.pingGraphsJSON(serverUUID);
             case GRAPH_PUNCHCARD:
-                return graphJSON.punchCardJSONAsMap(serverUUID);
+                return graphJSON.punchCardJSON(serverUUID);
             default:
                 return Collections.singletonMap("error", "Undefined ID: " + id.name());
         }
@@ -143,7 +143,7 @@ public class GraphsJSONResolver implements Resolver {
     private Object generateGraphDataJSONOfType(DataID id) {
         switch (id) {
             case GRAPH_ACTIVITY:
-                return graphJSON.activityGraphsJSONAsMap();
+                return graphJSON.activityGraphsJSON();
             case GRAPH_UNIQUE_NEW:
                 return graphJSON.uniqueAndNewGraphJSON();
             case GRAPH_HOURLY_UNIQUE_NEW:
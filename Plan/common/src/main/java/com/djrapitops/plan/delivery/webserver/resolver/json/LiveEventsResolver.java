@@ -0,0 +1,89 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.resolver.json;
+
+import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
+import com.djrapitops.plan.delivery.web.resolver.MimeType;
+import com.djrapitops.plan.delivery.web.resolver.Resolver;
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.web.resolver.ResponseBuilder;
+import com.djrapitops.plan.delivery.web.resolver.request.Request;
+import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
+import com.djrapitops.plan.delivery.webserver.stream.LiveEvent;
+import com.djrapitops.plan.delivery.webserver.stream.LiveEventStream;
+import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.identification.Identifiers;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Resolves /v1/live requests, which open a Server-Sent Events stream of {@link LiveEvent}s.
+ * <p>
+ * Events of a single server are sent if 'server' parameter is given, otherwise events of all servers.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class LiveEventsResolver implements Resolver {
+
+    private final Identifiers identifiers;
+
+    @Inject
+    public LiveEventsResolver(
+            Identifiers identifiers
+    ) {
+        this.identifiers = identifiers;
+    }
+
+    @Override
+    public boolean canAccess(Request request) {
+        return request.getUser().orElse(new WebUser("")).hasPermission("page.server");
+    }
+
+    @Override
+    public Optional<Response> resolve(Request request) {
+        return Optional.of(getResponse(request));
+    }
+
+    private Response getResponse(Request request) {
+        if (LiveEventStream.isFull()) {
+            return Response.builder()
+                    .setMimeType(MimeType.HTML)
+                    .setContent("Too many live connections open at once, try again later.")
+                    .setStatus(503)
+                    .build();
+        }
+
+        UUID serverUUID = request.getQuery().get("server").isPresent() ? identifiers.getServerUUID(request) : null; // Can throw BadRequestException
+        int online = (int) SessionCache.getActiveSessions().values().stream()
+                .filter(session -> serverUUID == null || session.getValue(SessionKeys.SERVER_UUID).map(serverUUID::equals).orElse(false))
+                .count();
+        String initialState = new String(LiveEvent.online(serverUUID, online).encode(), StandardCharsets.UTF_8);
+
+        ResponseBuilder response = Response.builder()
+                .setMimeType(LiveEventStream.MIME_TYPE + ";charset=utf-8")
+                .setContent("retry: 10000\n\n" + initialState);
+        if (serverUUID != null) {
+            response.setHeader(LiveEventStream.SERVER_FILTER_HEADER, serverUUID);
+        }
+        return response.build();
+    }
+}
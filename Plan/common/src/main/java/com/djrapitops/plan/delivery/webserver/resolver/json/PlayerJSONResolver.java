@@ -16,8 +16,8 @@
  */
 package com.djrapitops.plan.delivery.webserver.resolver.json;
 
+import com.djrapitops.plan.delivery.rendering.json.JSONSerializer;
 import com.djrapitops.plan.delivery.rendering.json.PlayerJSONCreator;
-import com.djrapitops.plan.delivery.web.resolver.MimeType;
 import com.djrapitops.plan.delivery.web.resolver.Resolver;
 import com.djrapitops.plan.delivery.web.resolver.Response;
 import com.djrapitops.plan.delivery.web.resolver.request.Request;
@@ -58,8 +58,8 @@ public class PlayerJSONResolver implements Resolver {
     private Response getResponse(Request request) {
         UUID playerUUID = identifiers.getPlayerUUID(request); // Can throw BadRequestException
         return Response.builder()
-                .setMimeType(MimeType.JSON)
-                .setJSONContent(jsonCreator.createJSONAsMap(playerUUID))
+                .setMimeType(JSONSerializer.MIME_TYPE)
+                .setContent(JSONSerializer.toBytes(jsonCreator.createJSONAsMap(playerUUID)))
                 .build();
     }
 }
@@ -16,36 +16,54 @@
  */
 package com.djrapitops.plan.delivery.webserver.resolver.json;
 
+import com.djrapitops.plan.delivery.domain.TablePlayerOrder;
+import com.djrapitops.plan.delivery.domain.TablePlayerPage;
+import com.djrapitops.plan.delivery.domain.TablePlayerPageRequest;
 import com.djrapitops.plan.delivery.rendering.json.JSONFactory;
+import com.djrapitops.plan.delivery.rendering.json.JSONSerializer;
 import com.djrapitops.plan.delivery.web.resolver.Resolver;
 import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.web.resolver.exception.BadRequestException;
 import com.djrapitops.plan.delivery.web.resolver.request.Request;
+import com.djrapitops.plan.delivery.web.resolver.request.URIQuery;
 import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
 import com.djrapitops.plan.delivery.webserver.cache.DataID;
 import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
 import com.djrapitops.plan.identification.Identifiers;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.DisplaySettings;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Resolves /v1/players JSON requests.
+ * <p>
+ * The whole table (limited by config) is returned unless one of the page parameters is given:
+ * size, order, direction, search, after or offset. Pages are ordered and filtered by the database,
+ * pages of a server can also be ordered by an extension column.
  *
  * @author Rsl1122
  */
 @Singleton
 public class PlayersTableJSONResolver implements Resolver {
 
+    private static final int DEFAULT_PAGE_SIZE = 25;
+
+    private final PlanConfig config;
     private final Identifiers identifiers;
     private final JSONFactory jsonFactory;
 
     @Inject
     public PlayersTableJSONResolver(
+            PlanConfig config,
             Identifiers identifiers,
             JSONFactory jsonFactory
     ) {
+        this.config = config;
         this.identifiers = identifiers;
         this.jsonFactory = jsonFactory;
     }
@@ -66,6 +84,9 @@ public class PlayersTableJSONResolver implements Resolver {
     }
 
     private Response getResponse(Request request) {
+        if (isPageRequest(request.getQuery())) {
+            return getPageResponse(request);
+        }
         if (request.getQuery().get("server").isPresent()) {
             UUID serverUUID = identifiers.getServerUUID(request); // Can throw BadRequestException
             return JSONCache.getOrCache(DataID.PLAYERS, serverUUID, () -> jsonFactory.serverPlayersTableJSON(serverUUID));
@@ -73,4 +94,60 @@ public class PlayersTableJSONResolver implements Resolver {
         // Assume players page
         return JSONCache.getOrCache(DataID.PLAYERS, jsonFactory::networkPlayersTableJSON);
     }
+
+    private boolean isPageRequest(URIQuery query) {
+        for (String parameter : new String[]{"size", "order", "direction", "search", "after", "offset"}) {
+            if (query.get(parameter).isPresent()) return true;
+        }
+        return false;
+    }
+
+    private Response getPageResponse(Request request) {
+        if (request.getQuery().get("server").isPresent()) {
+            UUID serverUUID = identifiers.getServerUUID(request); // Can throw BadRequestException
+            TablePlayerPageRequest pageRequest = getPageRequest(request.getQuery(), config.get(DisplaySettings.PLAYERS_PER_SERVER_PAGE), true);
+            return Response.builder()
+                    .setMimeType(JSONSerializer.MIME_TYPE)
+                    .setContent(JSONSerializer.toBytes(jsonFactory.serverPlayersTablePageJSON(serverUUID, pageRequest)))
+                    .build();
+        }
+        // Assume players page
+        TablePlayerPageRequest pageRequest = getPageRequest(request.getQuery(), config.get(DisplaySettings.PLAYERS_PER_PLAYERS_PAGE), false);
+        return Response.builder()
+                .setMimeType(JSONSerializer.MIME_TYPE)
+                .setContent(JSONSerializer.toBytes(jsonFactory.networkPlayersTablePageJSON(pageRequest)))
+                .build();
+    }
+
+    private TablePlayerPageRequest getPageRequest(URIQuery query, int maxPageSize, boolean hasExtensionColumns) {
+        String dataProperty = query.get("order").orElse(TablePlayerOrder.LAST_SEEN.getDataProperty());
+        // Columns other than the player columns are extension providers of the server
+        TablePlayerOrder order = TablePlayerOrder.fromDataProperty(dataProperty).orElse(TablePlayerOrder.EXTENSION);
+        if (order == TablePlayerOrder.EXTENSION && !hasExtensionColumns) {
+            throw new BadRequestException("'order' can not be '" + dataProperty + "'");
+        }
+        String extensionProvider = order == TablePlayerOrder.EXTENSION ? dataProperty : null;
+        boolean descending = !"asc".equalsIgnoreCase(query.get("direction").orElse("desc"));
+        String search = query.get("search").orElse(null);
+        int size = Math.max(1, Math.min(getInt(query, "size", DEFAULT_PAGE_SIZE), maxPageSize));
+        int offset = Math.max(0, getInt(query, "offset", 0));
+
+        TablePlayerPage.Cursor after = query.get("after")
+                .map(cursor -> TablePlayerPage.Cursor.decode(cursor)
+                        .filter(decoded -> decoded.getOrder() == order)
+                        .filter(decoded -> Objects.equals(decoded.getExtensionProvider().orElse(null), extensionProvider))
+                        .orElseThrow(() -> new BadRequestException("'after' is not a cursor for this order")))
+                .orElse(null);
+        return extensionProvider != null
+                ? TablePlayerPageRequest.orderedByExtension(extensionProvider, descending, search, size, after, offset)
+                : new TablePlayerPageRequest(order, descending, search, size, after, offset);
+    }
+
+    private int getInt(URIQuery query, String parameter, int defaultValue) {
+        try {
+            return query.get(parameter).map(Integer::parseInt).orElse(defaultValue);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("'" + parameter + "' is not a number");
+        }
+    }
 }
\ No newline at end of file
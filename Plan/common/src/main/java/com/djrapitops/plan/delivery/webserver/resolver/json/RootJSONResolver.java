@@ -42,6 +42,8 @@ public class RootJSONResolver {
 
             GraphsJSONResolver graphsJSONResolver,
             SessionsJSONResolver sessionsJSONResolver,
+            SessionDetailsJSONResolver sessionDetailsJSONResolver,
+            LiveEventsResolver liveEventsResolver,
             PlayersTableJSONResolver playersTableJSONResolver,
             ServerOverviewJSONCreator serverOverviewJSONCreator,
             OnlineActivityOverviewJSONCreator onlineActivityOverviewJSONCreator,
@@ -59,6 +61,8 @@ public class RootJSONResolver {
         resolver = CompositeResolver.builder()
                 .add("players", playersTableJSONResolver)
                 .add("sessions", sessionsJSONResolver)
+                .add("sessionDetails", sessionDetailsJSONResolver)
+                .add("live", liveEventsResolver)
                 .add("kills", playerKillsJSONResolver)
                 .add("graph", graphsJSONResolver)
                 .add("pingTable", forJSON(DataID.PING_TABLE, jsonFactory::pingPerGeolocation))
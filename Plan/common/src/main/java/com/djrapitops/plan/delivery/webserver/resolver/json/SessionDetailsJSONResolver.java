@@ -0,0 +1,78 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.resolver.json;
+
+import com.djrapitops.plan.delivery.rendering.json.JSONFactory;
+import com.djrapitops.plan.delivery.web.resolver.Resolver;
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.web.resolver.exception.BadRequestException;
+import com.djrapitops.plan.delivery.web.resolver.exception.NotFoundException;
+import com.djrapitops.plan.delivery.web.resolver.request.Request;
+import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Optional;
+
+/**
+ * Resolves /v1/sessionDetails JSON requests.
+ * <p>
+ * Returns world times breakdown and player kills of a single session, which are loaded when a session is opened.
+ *
+ * @author Rsl1122
+ * @see SessionsJSONResolver
+ */
+@Singleton
+public class SessionDetailsJSONResolver implements Resolver {
+
+    private final JSONFactory jsonFactory;
+
+    @Inject
+    public SessionDetailsJSONResolver(
+            JSONFactory jsonFactory
+    ) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    @Override
+    public boolean canAccess(Request request) {
+        return request.getUser().orElse(new WebUser("")).hasPermission("page.server");
+    }
+
+    @Override
+    public Optional<Response> resolve(Request request) {
+        return Optional.of(getResponse(request));
+    }
+
+    private Response getResponse(Request request) {
+        int sessionId = getSessionId(request);
+        return Response.builder()
+                .setJSONContent(jsonFactory.sessionDetailsAsJSONMap(sessionId)
+                        .orElseThrow(() -> new NotFoundException("Session " + sessionId + " was not found")))
+                .build();
+    }
+
+    private int getSessionId(Request request) {
+        String session = request.getQuery().get("session")
+                .orElseThrow(() -> new BadRequestException("'session' parameter was not defined."));
+        try {
+            return Integer.parseInt(session);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("'session' is not a number");
+        }
+    }
+}
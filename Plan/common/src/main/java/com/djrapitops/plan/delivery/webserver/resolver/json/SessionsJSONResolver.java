@@ -16,14 +16,21 @@
  */
 package com.djrapitops.plan.delivery.webserver.resolver.json;
 
+import com.djrapitops.plan.delivery.domain.SessionPage;
+import com.djrapitops.plan.delivery.domain.SessionPageRequest;
 import com.djrapitops.plan.delivery.rendering.json.JSONFactory;
+import com.djrapitops.plan.delivery.rendering.json.JSONSerializer;
 import com.djrapitops.plan.delivery.web.resolver.Resolver;
 import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.web.resolver.exception.BadRequestException;
 import com.djrapitops.plan.delivery.web.resolver.request.Request;
+import com.djrapitops.plan.delivery.web.resolver.request.URIQuery;
 import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
 import com.djrapitops.plan.delivery.webserver.cache.DataID;
 import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
 import com.djrapitops.plan.identification.Identifiers;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.DisplaySettings;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -33,20 +40,27 @@ import java.util.UUID;
 
 /**
  * Resolves /v1/sessions JSON requests.
+ * <p>
+ * The most recent sessions (limited by config) are returned unless one of the page parameters is given:
+ * size, after, player or world. Sessions of a page do not contain world times breakdown or player kills,
+ * those are resolved by {@link SessionDetailsJSONResolver}.
  *
  * @author Rsl1122
  */
 @Singleton
 public class SessionsJSONResolver implements Resolver {
 
+    private final PlanConfig config;
     private final Identifiers identifiers;
     private final JSONFactory jsonFactory;
 
     @Inject
     public SessionsJSONResolver(
+            PlanConfig config,
             Identifiers identifiers,
             JSONFactory jsonFactory
     ) {
+        this.config = config;
         this.identifiers = identifiers;
         this.jsonFactory = jsonFactory;
     }
@@ -62,6 +76,12 @@ public class SessionsJSONResolver implements Resolver {
     }
 
     private Response getResponse(Request request) {
+        if (isPageRequest(request.getQuery())) {
+            return Response.builder()
+                    .setMimeType(JSONSerializer.MIME_TYPE)
+                    .setContent(JSONSerializer.toBytes(jsonFactory.sessionsPageAsJSONMap(getPageRequest(request))))
+                    .build();
+        }
         if (request.getQuery().get("server").isPresent()) {
             UUID serverUUID = identifiers.getServerUUID(request);
             return JSONCache.getOrCache(DataID.SESSIONS, serverUUID, () -> Collections.singletonMap("sessions", jsonFactory.serverSessionsAsJSONMap(serverUUID)));
@@ -69,4 +89,33 @@ public class SessionsJSONResolver implements Resolver {
         // Assume network
         return JSONCache.getOrCache(DataID.SESSIONS, () -> Collections.singletonMap("sessions", jsonFactory.networkSessionsAsJSONMap()));
     }
+
+    private boolean isPageRequest(URIQuery query) {
+        for (String parameter : new String[]{"size", "after", "player", "world"}) {
+            if (query.get(parameter).isPresent()) return true;
+        }
+        return false;
+    }
+
+    private SessionPageRequest getPageRequest(Request request) {
+        URIQuery query = request.getQuery();
+        UUID serverUUID = query.get("server").isPresent() ? identifiers.getServerUUID(request) : null; // Can throw BadRequestException
+        UUID playerUUID = query.get("player").isPresent() ? identifiers.getPlayerUUID(request) : null; // Can throw BadRequestException
+        String world = query.get("world").orElse(null);
+
+        int maxPageSize = config.get(DisplaySettings.SESSIONS_PER_PAGE);
+        int size;
+        try {
+            size = query.get("size").map(Integer::parseInt).orElse(maxPageSize);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("'size' is not a number");
+        }
+        size = Math.max(1, Math.min(size, maxPageSize));
+
+        SessionPage.Cursor after = query.get("after")
+                .map(cursor -> SessionPage.Cursor.decode(cursor)
+                        .orElseThrow(() -> new BadRequestException("'after' is not a valid cursor")))
+                .orElse(null);
+        return new SessionPageRequest(serverUUID, playerUUID, world, size, after);
+    }
 }
\ No newline at end of file
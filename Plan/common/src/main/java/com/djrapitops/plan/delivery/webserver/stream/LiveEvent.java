@@ -0,0 +1,124 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.stream;
+
+import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
+import com.djrapitops.plan.gathering.domain.Session;
+import com.djrapitops.plan.gathering.domain.TPS;
+import com.google.gson.Gson;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Small change in live data that is pushed to web pages that are open, see {@link LiveEventStream}.
+ *
+ * @author Rsl1122
+ */
+public class LiveEvent {
+
+    private final String type;
+    private final UUID serverUUID;
+    private final Map<String, Object> data;
+
+    private volatile byte[] encoded;
+
+    private LiveEvent(String type, UUID serverUUID) {
+        this.type = type;
+        this.serverUUID = serverUUID;
+        data = new HashMap<>();
+        if (serverUUID != null) data.put("server", serverUUID.toString());
+    }
+
+    /**
+     * Create an event with the current number of players online.
+     *
+     * @param serverUUID UUID of the server, null if the number is for the whole network.
+     * @param online     Number of players online.
+     * @return The event.
+     */
+    public static LiveEvent online(UUID serverUUID, int online) {
+        LiveEvent event = new LiveEvent("online", serverUUID);
+        event.data.put("online", online);
+        return event;
+    }
+
+    public static LiveEvent playerJoined(UUID serverUUID, UUID playerUUID, int online) {
+        LiveEvent event = new LiveEvent("join", serverUUID);
+        event.data.put("player", playerUUID.toString());
+        event.data.put("online", online);
+        return event;
+    }
+
+    public static LiveEvent playerLeft(UUID serverUUID, UUID playerUUID, int online) {
+        LiveEvent event = new LiveEvent("leave", serverUUID);
+        event.data.put("player", playerUUID.toString());
+        event.data.put("online", online);
+        return event;
+    }
+
+    public static LiveEvent tpsSample(UUID serverUUID, TPS tps) {
+        LiveEvent event = new LiveEvent("tps", serverUUID);
+        event.data.put("date", tps.getDate());
+        event.data.put("tps", tps.getTicksPerSecond());
+        event.data.put("players", tps.getPlayers());
+        event.data.put("cpu", tps.getCPUUsage());
+        event.data.put("ram", tps.getUsedMemory());
+        event.data.put("entities", tps.getEntityCount());
+        event.data.put("chunks", tps.getChunksLoaded());
+        event.data.put("disk", tps.getFreeDiskSpace());
+        return event;
+    }
+
+    public static LiveEvent sessionEnded(Session session) {
+        LiveEvent event = new LiveEvent("sessionEnd", session.getValue(SessionKeys.SERVER_UUID).orElse(null));
+        event.data.put("player", session.getUnsafe(SessionKeys.UUID).toString());
+        event.data.put("start", session.getUnsafe(SessionKeys.START));
+        session.getValue(SessionKeys.END).ifPresent(end -> event.data.put("end", end));
+        return event;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Get the server the event happened on.
+     *
+     * @return UUID of the server, or empty if the event is about the whole network.
+     */
+    public Optional<UUID> getServerUUID() {
+        return Optional.ofNullable(serverUUID);
+    }
+
+    /**
+     * Encode the event in text/event-stream format.
+     * <p>
+     * The event is encoded only once regardless of how many clients it is sent to.
+     *
+     * @return UTF-8 bytes of the event.
+     */
+    public byte[] encode() {
+        if (encoded == null) {
+            encoded = ("event: " + type + "\ndata: " + new Gson().toJson(data) + "\n\n").getBytes(StandardCharsets.UTF_8);
+        }
+        return encoded;
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.stream;
+
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes {@link LiveEvent}s to open web pages as Server-Sent Events.
+ * <p>
+ * Subscribed connections are not bound to a WebServer thread, all writes and closes are done by a single writer thread.
+ * Each subscriber has a bounded buffer of events, subscribers that can not keep up are disconnected,
+ * browsers reconnect automatically.
+ * <p>
+ * A write that blocks for longer than {@link #WRITE_TIMEOUT_MS} is interrupted by a watchdog thread,
+ * which closes the connection of that subscriber so that a stalled client does not stall the other streams.
+ *
+ * @author Rsl1122
+ */
+public class LiveEventStream {
+
+    public static final String MIME_TYPE = "text/event-stream";
+    /**
+     * Response header that tells which server's events are sent to the subscriber, not sent to the client.
+     */
+    public static final String SERVER_FILTER_HEADER = "X-Plan-Live-Server";
+
+    static final int MAX_SUBSCRIBERS = 50;
+    static final int BUFFER_SIZE = 64;
+    static final long WRITE_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(5L);
+    private static final long HEARTBEAT_SECONDS = 20L;
+    private static final byte[] HEARTBEAT = ":\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private static final Set<Subscriber> SUBSCRIBERS = ConcurrentHashMap.newKeySet();
+    private static final Semaphore SLOTS = new Semaphore(MAX_SUBSCRIBERS); // Reserved before a subscriber is added
+    private static ExecutorService writer;
+    private static ScheduledExecutorService watchdog;
+
+    private static final Object WRITE_LOCK = new Object();
+    private static Thread writingThread; // Guarded by WRITE_LOCK, null when the writer is not writing
+    private static long writeStart; // Guarded by WRITE_LOCK
+
+    private LiveEventStream() {
+        /* Static method class */
+    }
+
+    public static boolean isEventStream(Response response) {
+        return StringUtils.startsWith(response.getHeaders().get("Content-Type"), MIME_TYPE);
+    }
+
+    public static boolean isFull() {
+        return SLOTS.availablePermits() <= 0;
+    }
+
+    static int getSubscriberCount() {
+        return SUBSCRIBERS.size();
+    }
+
+    /**
+     * Keep the exchange open and send events to it until the client disconnects.
+     * <p>
+     * The content of the response is sent first by the writer thread, so it can contain the current state.
+     *
+     * @param exchange Exchange to keep open, closed when the client disconnects.
+     * @param response Response with {@link #MIME_TYPE} content type.
+     * @throws IOException If sending the response fails, the exchange is not closed.
+     */
+    public static void subscribe(HttpExchange exchange, Response response) throws IOException {
+        Map<String, String> responseHeaders = response.getHeaders();
+        String serverFilter = responseHeaders.remove(SERVER_FILTER_HEADER);
+        Subscriber subscriber = new Subscriber(exchange, serverFilter != null ? UUID.fromString(serverFilter) : null);
+        if (!SLOTS.tryAcquire()) {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+            return;
+        }
+
+        try {
+            sendHeaders(exchange, responseHeaders);
+        } catch (IOException | RuntimeException e) {
+            SLOTS.release();
+            throw e;
+        }
+
+        // Current state is queued before the subscriber is added, so that events are sent after it.
+        subscriber.pending.offer(response.getBytes());
+        SUBSCRIBERS.add(subscriber);
+        scheduleFlush(getWriter(), subscriber);
+    }
+
+    private static void sendHeaders(HttpExchange exchange, Map<String, String> responseHeaders) throws IOException {
+        Headers headers = exchange.getResponseHeaders();
+        for (Map.Entry<String, String> header : responseHeaders.entrySet()) {
+            headers.set(header.getKey(), header.getValue());
+        }
+        headers.remove("Content-Length");
+        headers.remove("Accept-Ranges");
+        headers.set("Cache-Control", "no-cache");
+        headers.set("X-Accel-Buffering", "no"); // Reverse proxies should not buffer the events
+        exchange.sendResponseHeaders(200, 0);
+    }
+
+    /**
+     * Send an event to the subscribers that are interested in it.
+     *
+     * @param event Event to send.
+     */
+    public static void publish(LiveEvent event) {
+        if (SUBSCRIBERS.isEmpty()) return;
+
+        Executor eventWriter = getWriter();
+        for (Subscriber subscriber : SUBSCRIBERS) {
+            if (subscriber.accepts(event)) {
+                queue(eventWriter, subscriber, event.encode());
+            }
+        }
+    }
+
+    private static void queue(Executor eventWriter, Subscriber subscriber, byte[] event) {
+        if (!subscriber.pending.offer(event)) {
+            // Client can not keep up, it reconnects and gets the current state.
+            unsubscribe(subscriber);
+            return;
+        }
+        scheduleFlush(eventWriter, subscriber);
+    }
+
+    private static void scheduleFlush(Executor eventWriter, Subscriber subscriber) {
+        if (subscriber.flushScheduled.compareAndSet(false, true)) {
+            try {
+                eventWriter.execute(() -> flush(subscriber));
+            } catch (RejectedExecutionException closed) {
+                unsubscribe(subscriber);
+            }
+        }
+    }
+
+    private static void flush(Subscriber subscriber) {
+        synchronized (WRITE_LOCK) {
+            writingThread = Thread.currentThread();
+            writeStart = System.currentTimeMillis();
+        }
+        try {
+            subscriber.flush();
+        } catch (IOException disconnected) { // Includes a blocked write interrupted by the watchdog
+            unsubscribe(subscriber);
+        } finally {
+            synchronized (WRITE_LOCK) {
+                writingThread = null;
+                // Write may have finished right before the watchdog interrupted it.
+                Thread.interrupted();
+            }
+        }
+    }
+
+    private static void interruptBlockedWrite() {
+        synchronized (WRITE_LOCK) {
+            if (writingThread != null && System.currentTimeMillis() - writeStart > WRITE_TIMEOUT_MS) {
+                // Interrupting a blocked write closes the channel of the connection and the write fails.
+                writingThread.interrupt();
+            }
+        }
+    }
+
+    private static void sendHeartbeat(Executor eventWriter) {
+        // Detects disconnected clients and keeps proxies from closing idle connections.
+        for (Subscriber subscriber : SUBSCRIBERS) {
+            queue(eventWriter, subscriber, HEARTBEAT);
+        }
+    }
+
+    private static void unsubscribe(Subscriber subscriber) {
+        if (!SUBSCRIBERS.remove(subscriber)) return;
+        SLOTS.release();
+        // Closing writes the end of the response, so it is not done on the thread that published the event.
+        try {
+            getWriter().execute(subscriber::close);
+        } catch (RejectedExecutionException stopped) {
+            // Stopping WebServer closes the remaining connections.
+        }
+    }
+
+    private static synchronized ExecutorService getWriter() {
+        if (writer == null) {
+            writer = Executors.newSingleThreadExecutor(new BasicThreadFactory.Builder()
+                    .namingPattern("Plan LiveEventStream Writer")
+                    .daemon(true)
+                    .build());
+            watchdog = Executors.newSingleThreadScheduledExecutor(new BasicThreadFactory.Builder()
+                    .namingPattern("Plan LiveEventStream Watchdog")
+                    .daemon(true)
+                    .build());
+            Executor eventWriter = writer;
+            watchdog.scheduleAtFixedRate(() -> sendHeartbeat(eventWriter), HEARTBEAT_SECONDS, HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+            watchdog.scheduleAtFixedRate(LiveEventStream::interruptBlockedWrite, 1L, 1L, TimeUnit.SECONDS);
+        }
+        return writer;
+    }
+
+    /**
+     * Disconnect all subscribers and stop the writer thread.
+     * <p>
+     * Connections are closed by the writer thread before it stops.
+     */
+    public static synchronized void closeAll() {
+        for (Subscriber subscriber : SUBSCRIBERS) {
+            unsubscribe(subscriber);
+        }
+        if (writer != null) {
+            writer.shutdown();
+            watchdog.shutdownNow();
+            writer = null;
+            watchdog = null;
+        }
+    }
+
+    private static class Subscriber {
+        private final HttpExchange exchange;
+        private final OutputStream out;
+        private final UUID serverUUID;
+        private final BlockingQueue<byte[]> pending;
+        private final AtomicBoolean flushScheduled;
+
+        Subscriber(HttpExchange exchange, UUID serverUUID) {
+            this.exchange = exchange;
+            this.out = exchange.getResponseBody();
+            this.serverUUID = serverUUID;
+            pending = new ArrayBlockingQueue<>(BUFFER_SIZE);
+            flushScheduled = new AtomicBoolean(false);
+        }
+
+        boolean accepts(LiveEvent event) {
+            return serverUUID == null || event.getServerUUID().map(serverUUID::equals).orElse(true);
+        }
+
+        void close() {
+            exchange.close();
+        }
+
+        void flush() throws IOException {
+            flushScheduled.set(false);
+            byte[] event;
+            while ((event = pending.poll()) != null) {
+                out.write(event);
+            }
+            out.flush();
+        }
+    }
+}
@@ -17,11 +17,11 @@
 package com.djrapitops.plan.extension;
 
 import com.djrapitops.plan.DebugChannels;
-import com.djrapitops.plan.delivery.webserver.cache.DataID;
-import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
 import com.djrapitops.plan.exceptions.DataExtensionMethodCallException;
 import com.djrapitops.plan.extension.implementation.CallerImplementation;
+import com.djrapitops.plan.extension.implementation.ExtensionGatheringExecutor;
 import com.djrapitops.plan.extension.implementation.ExtensionRegister;
+import com.djrapitops.plan.extension.implementation.ExtensionUpdateScheduler;
 import com.djrapitops.plan.extension.implementation.ExtensionWrapper;
 import com.djrapitops.plan.extension.implementation.providers.MethodWrapper;
 import com.djrapitops.plan.extension.implementation.providers.gathering.ProviderValueGatherer;
@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 
 /**
  * Implementation for {@link ExtensionService}.
@@ -51,11 +52,15 @@ import java.util.UUID;
 @Singleton
 public class ExtensionSvc implements ExtensionService {
 
+    public static final String SERVER_TARGET = "server";
+
     private final PlanConfig config;
     private final DBSystem dbSystem;
     private final ServerInfo serverInfo;
     private final Processing processing;
     private final ExtensionRegister extensionRegister;
+    private final ExtensionGatheringExecutor gatheringExecutor;
+    private final ExtensionUpdateScheduler updateScheduler;
     private final PluginLogger logger;
     private final ErrorLogger errorLogger;
 
@@ -68,6 +73,8 @@ public class ExtensionSvc implements ExtensionService {
             ServerInfo serverInfo,
             Processing processing,
             ExtensionRegister extensionRegister,
+            ExtensionGatheringExecutor gatheringExecutor,
+            ExtensionUpdateScheduler updateScheduler,
             PluginLogger logger,
             ErrorLogger errorLogger
     ) {
@@ -76,6 +83,8 @@ public class ExtensionSvc implements ExtensionService {
         this.serverInfo = serverInfo;
         this.processing = processing;
         this.extensionRegister = extensionRegister;
+        this.gatheringExecutor = gatheringExecutor;
+        this.updateScheduler = updateScheduler;
         this.logger = logger;
         this.errorLogger = errorLogger;
 
@@ -119,7 +128,7 @@ public class ExtensionSvc implements ExtensionService {
         processing.submitNonCritical(() -> updateServerValues(gatherer, CallEvents.SERVER_EXTENSION_REGISTER));
 
         logger.info("Registered extension: " + pluginName);
-        return Optional.of(new CallerImplementation(gatherer, this, processing));
+        return Optional.of(new CallerImplementation(gatherer, this, updateScheduler));
     }
 
     @Override
@@ -154,21 +163,34 @@ public class ExtensionSvc implements ExtensionService {
     }
 
     public void updatePlayerValues(UUID playerUUID, String playerName, CallEvents event) {
+        if (playerUUID == null && playerName == null) return;
+
+        Map<String, Callable<Boolean>> gatherings = new HashMap<>();
         for (ProviderValueGatherer gatherer : extensionGatherers.values()) {
-            updatePlayerValues(gatherer, playerUUID, playerName, event);
+            if (gatherer.shouldSkipEvent(event)) continue;
+            gatherings.put(gatherer.getPluginName(), () -> gatherPlayerValues(gatherer, playerUUID, playerName, event));
         }
+        gatheringExecutor.executeAll(gatherings);
     }
 
     public void updatePlayerValues(ProviderValueGatherer gatherer, UUID playerUUID, String playerName, CallEvents event) {
         if (gatherer.shouldSkipEvent(event)) return;
         if (playerUUID == null && playerName == null) return;
 
+        gatheringExecutor.execute(gatherer.getPluginName(), () -> gatherPlayerValues(gatherer, playerUUID, playerName, event));
+    }
+
+    private boolean gatherPlayerValues(ProviderValueGatherer gatherer, UUID playerUUID, String playerName, CallEvents event) {
+        // Requests made before this point are fulfilled by this gathering.
+        if (playerUUID != null) updateScheduler.gatheringStarted(gatherer.getPluginName(), playerUUID.toString());
+        if (playerName != null) updateScheduler.gatheringStarted(gatherer.getPluginName(), playerName);
         try {
             logger.getDebugLogger().logOn(DebugChannels.DATA_EXTENSIONS, "Gathering values for: " + playerName);
 
             gatherer.updateValues(playerUUID, playerName);
 
             logger.getDebugLogger().logOn(DebugChannels.DATA_EXTENSIONS, "Gathering completed:  " + playerName);
+            return true;
         } catch (DataExtensionMethodCallException methodCallFailed) {
             logFailure(playerName, methodCallFailed);
             methodCallFailed.getMethod().ifPresent(gatherer::disableMethodFromUse);
@@ -180,6 +202,7 @@ public class ExtensionSvc implements ExtensionService {
                     .related("Player: " + playerName + " " + playerUUID);
             errorLogger.log(L.WARN, unexpectedError, context.build());
         }
+        return false;
     }
 
     private void logFailure(String playerName, DataExtensionMethodCallException methodCallFailed) {
@@ -193,23 +216,30 @@ public class ExtensionSvc implements ExtensionService {
     }
 
     public void updateServerValues(CallEvents event) {
+        Map<String, Callable<Boolean>> gatherings = new HashMap<>();
         for (ProviderValueGatherer gatherer : extensionGatherers.values()) {
-            updateServerValues(gatherer, event);
+            if (gatherer.shouldSkipEvent(event)) continue;
+            gatherings.put(gatherer.getPluginName(), () -> gatherServerValues(gatherer, event));
         }
-        UUID serverUUID = serverInfo.getServerUUID();
-        JSONCache.invalidate(DataID.EXTENSION_NAV, serverUUID);
-        JSONCache.invalidate(DataID.EXTENSION_TABS, serverUUID);
+        gatheringExecutor.executeAll(gatherings);
     }
 
     public void updateServerValues(ProviderValueGatherer gatherer, CallEvents event) {
         if (gatherer.shouldSkipEvent(event)) return;
 
+        gatheringExecutor.execute(gatherer.getPluginName(), () -> gatherServerValues(gatherer, event));
+    }
+
+    private boolean gatherServerValues(ProviderValueGatherer gatherer, CallEvents event) {
+        // Requests made before this point are fulfilled by this gathering.
+        updateScheduler.gatheringStarted(gatherer.getPluginName(), SERVER_TARGET);
         try {
             logger.getDebugLogger().logOn(DebugChannels.DATA_EXTENSIONS, "Gathering values for server");
 
             gatherer.updateValues();
 
             logger.getDebugLogger().logOn(DebugChannels.DATA_EXTENSIONS, "Gathering completed for server");
+            return true;
         } catch (DataExtensionMethodCallException methodCallFailed) {
             logFailure("server", methodCallFailed);
             methodCallFailed.getMethod().ifPresent(gatherer::disableMethodFromUse);
@@ -221,5 +251,6 @@ public class ExtensionSvc implements ExtensionService {
                     .related("Gathering for server");
             errorLogger.log(L.WARN, unexpectedError, context.build());
         }
+        return false;
     }
-}
\ No newline at end of file
+}
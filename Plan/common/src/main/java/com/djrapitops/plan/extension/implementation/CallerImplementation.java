@@ -20,12 +20,13 @@ import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.Caller;
 import com.djrapitops.plan.extension.ExtensionSvc;
 import com.djrapitops.plan.extension.implementation.providers.gathering.ProviderValueGatherer;
-import com.djrapitops.plan.processing.Processing;
 
 import java.util.UUID;
 
 /**
  * Implementation for {@link Caller} interface.
+ * <p>
+ * Repeated calls are merged by {@link ExtensionUpdateScheduler}.
  *
  * @author Rsl1122
  */
@@ -33,25 +34,28 @@ public class CallerImplementation implements Caller {
 
     private final ProviderValueGatherer gatherer;
     private final ExtensionSvc extensionService;
-    private final Processing processing;
+    private final ExtensionUpdateScheduler updateScheduler;
 
     public CallerImplementation(
             ProviderValueGatherer gatherer,
             ExtensionSvc extensionService,
-            Processing processing
+            ExtensionUpdateScheduler updateScheduler
     ) {
         this.gatherer = gatherer;
         this.extensionService = extensionService;
-        this.processing = processing;
+        this.updateScheduler = updateScheduler;
     }
 
     @Override
     public void updatePlayerData(UUID playerUUID, String playerName) {
-        processing.submitNonCritical(() -> extensionService.updatePlayerValues(gatherer, playerUUID, playerName, CallEvents.MANUAL));
+        String target = playerUUID != null ? playerUUID.toString() : playerName;
+        updateScheduler.requestUpdate(gatherer.getPluginName(), target,
+                () -> extensionService.updatePlayerValues(gatherer, playerUUID, playerName, CallEvents.MANUAL));
     }
 
     @Override
     public void updateServerData() {
-        processing.submitNonCritical(() -> extensionService.updateServerValues(gatherer, CallEvents.MANUAL));
+        updateScheduler.requestUpdate(gatherer.getPluginName(), ExtensionSvc.SERVER_TARGET,
+                () -> extensionService.updateServerValues(gatherer, CallEvents.MANUAL));
     }
 }
\ No newline at end of file
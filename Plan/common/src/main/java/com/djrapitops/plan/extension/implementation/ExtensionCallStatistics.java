@@ -0,0 +1,74 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation;
+
+/**
+ * Statistics about gathering calls of a single extension, shown on the debug page.
+ *
+ * @author Rsl1122
+ */
+public class ExtensionCallStatistics {
+
+    private int calls;
+    private int failures;
+    private int timeouts;
+    private int skipped;
+    private long totalTime;
+    private long maxTime;
+
+    synchronized void recordCall(long took, boolean succeeded) {
+        calls++;
+        if (!succeeded) failures++;
+        totalTime += took;
+        maxTime = Math.max(maxTime, took);
+    }
+
+    synchronized void recordTimeout(long took) {
+        calls++;
+        timeouts++;
+        totalTime += took;
+        maxTime = Math.max(maxTime, took);
+    }
+
+    synchronized void recordSkip() {
+        skipped++;
+    }
+
+    public synchronized int getCalls() {
+        return calls;
+    }
+
+    public synchronized int getFailures() {
+        return failures;
+    }
+
+    public synchronized int getTimeouts() {
+        return timeouts;
+    }
+
+    public synchronized int getSkipped() {
+        return skipped;
+    }
+
+    public synchronized long getAverageTime() {
+        return calls != 0 ? totalTime / calls : 0;
+    }
+
+    public synchronized long getMaxTime() {
+        return maxTime;
+    }
+}
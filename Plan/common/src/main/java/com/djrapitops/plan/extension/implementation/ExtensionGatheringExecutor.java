@@ -0,0 +1,268 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation;
+
+import com.djrapitops.plan.SubSystem;
+import com.djrapitops.plan.utilities.logging.ErrorContext;
+import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import com.djrapitops.plugin.logging.L;
+import com.djrapitops.plugin.logging.console.PluginLogger;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs data gathering of extensions in parallel, isolating extensions from each other.
+ * <p>
+ * - Each extension can only have a limited amount of calls running at once, further calls are skipped.
+ * - Calls that take too long are cancelled, and the method that was running is reported.
+ * - Extensions that keep failing or timing out are skipped for a while.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class ExtensionGatheringExecutor implements SubSystem {
+
+    static final long CALL_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(10);
+    static final int CONCURRENT_CALLS_PER_EXTENSION = 2;
+    static final int FAILURES_BEFORE_SKIPPING = 5;
+    static final long SKIP_TIME_MS = TimeUnit.MINUTES.toMillis(5);
+
+    private final PluginLogger logger;
+    private final ErrorLogger errorLogger;
+
+    private final Map<String, ExtensionState> states;
+    private ExecutorService executor;
+
+    @Inject
+    public ExtensionGatheringExecutor(
+            PluginLogger logger,
+            ErrorLogger errorLogger
+    ) {
+        this.logger = logger;
+        this.errorLogger = errorLogger;
+
+        states = new ConcurrentHashMap<>();
+        executor = createExecutor();
+    }
+
+    private ExecutorService createExecutor() {
+        // Threads are limited by the concurrent calls allowed per extension.
+        return Executors.newCachedThreadPool(new BasicThreadFactory.Builder()
+                .namingPattern("Plan Extension-pool-%d")
+                .uncaughtExceptionHandler((thread, throwable) ->
+                        errorLogger.log(L.WARN, throwable, ErrorContext.builder().build())
+                ).build());
+    }
+
+    @Override
+    public void enable() {
+        if (executor.isShutdown()) {
+            executor = createExecutor();
+        }
+    }
+
+    @Override
+    public void disable() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Run gathering of a single extension and wait until it is done, skipped or cancelled.
+     *
+     * @param pluginName Name of the extension.
+     * @param gathering  Gathering task, returns false if the gathering failed.
+     */
+    public void execute(String pluginName, Callable<Boolean> gathering) {
+        executeAll(Collections.singletonMap(pluginName, gathering));
+    }
+
+    /**
+     * Run gathering of multiple extensions in parallel and wait until all of them are done, skipped or cancelled.
+     *
+     * @param gatheringByPluginName Gathering tasks by extension name, tasks return false if the gathering failed.
+     */
+    public void executeAll(Map<String, Callable<Boolean>> gatheringByPluginName) {
+        List<Call> calls = new ArrayList<>();
+        for (Map.Entry<String, Callable<Boolean>> entry : gatheringByPluginName.entrySet()) {
+            ExtensionState state = states.computeIfAbsent(entry.getKey(), ExtensionState::new);
+            if (!state.tryStart()) continue;
+
+            Call call = new Call(state, entry.getValue());
+            try {
+                call.future = executor.submit(call);
+                calls.add(call);
+            } catch (RejectedExecutionException shuttingDown) {
+                state.permits.release();
+            }
+        }
+
+        long deadline = System.currentTimeMillis() + CALL_TIMEOUT_MS;
+        for (Call call : calls) {
+            try {
+                call.future.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException tookTooLong) {
+                call.abandon();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                // Errors that the call does not catch itself, eg. other linkage errors.
+                errorLogger.log(L.WARN, e.getCause(), ErrorContext.builder().related(call.state.pluginName).build());
+            } catch (CancellationException cancelled) {
+                // Abandoned calls have already been reported.
+            }
+        }
+    }
+
+    /**
+     * Get statistics of gathering calls.
+     *
+     * @return Statistics by extension name, in alphabetical order.
+     */
+    public Map<String, ExtensionCallStatistics> getStatistics() {
+        Map<String, ExtensionCallStatistics> statistics = new TreeMap<>();
+        for (ExtensionState state : states.values()) {
+            statistics.put(state.pluginName, state.statistics);
+        }
+        return statistics;
+    }
+
+    private void reportTimeout(String pluginName, Thread runner) {
+        String runningMethod = runner != null ? findExtensionMethod(runner.getStackTrace()) : "-";
+        logger.warn(pluginName + " extension took over " + TimeUnit.MILLISECONDS.toSeconds(CALL_TIMEOUT_MS) +
+                " seconds to gather data and was cancelled (at " + runningMethod + ").");
+    }
+
+    private String findExtensionMethod(StackTraceElement[] stackTrace) {
+        // Last extension frame before Plan's frames is the provider method that was called.
+        String found = "-";
+        for (StackTraceElement element : stackTrace) {
+            String className = element.getClassName();
+            if (className.startsWith("com.djrapitops.plan.")) break;
+            if (className.startsWith("java.") || className.startsWith("javax.") ||
+                    className.startsWith("sun.") || className.startsWith("jdk.")) continue;
+            found = className + "#" + element.getMethodName();
+        }
+        return found;
+    }
+
+    private class ExtensionState {
+        private final String pluginName;
+        private final Semaphore permits;
+        private final ExtensionCallStatistics statistics;
+
+        private int consecutiveFailures;
+        private long skipUntil;
+
+        private ExtensionState(String pluginName) {
+            this.pluginName = pluginName;
+            permits = new Semaphore(CONCURRENT_CALLS_PER_EXTENSION);
+            statistics = new ExtensionCallStatistics();
+        }
+
+        private boolean tryStart() {
+            synchronized (this) {
+                if (System.currentTimeMillis() < skipUntil) {
+                    statistics.recordSkip();
+                    return false;
+                }
+            }
+            if (!permits.tryAcquire()) {
+                statistics.recordSkip();
+                return false;
+            }
+            return true;
+        }
+
+        private synchronized void recordResult(boolean succeeded) {
+            if (succeeded) {
+                consecutiveFailures = 0;
+                return;
+            }
+            consecutiveFailures++;
+            if (consecutiveFailures >= FAILURES_BEFORE_SKIPPING) {
+                // Next failure after the skip time skips the extension again.
+                consecutiveFailures = FAILURES_BEFORE_SKIPPING - 1;
+                skipUntil = System.currentTimeMillis() + SKIP_TIME_MS;
+                logger.warn(pluginName + " extension failed or timed out " + FAILURES_BEFORE_SKIPPING +
+                        " times in a row, skipping it for " + TimeUnit.MILLISECONDS.toMinutes(SKIP_TIME_MS) + " minutes.");
+            }
+        }
+    }
+
+    private class Call implements Callable<Boolean> {
+        private static final int PENDING = 0;
+        private static final int RUNNING = 1;
+        private static final int FINISHED = 2;
+        private static final int ABANDONED = 3;
+
+        private final ExtensionState state;
+        private final Callable<Boolean> gathering;
+        private final AtomicInteger status;
+        private final long start;
+        private volatile Thread runner;
+        private Future<Boolean> future;
+
+        private Call(ExtensionState state, Callable<Boolean> gathering) {
+            this.state = state;
+            this.gathering = gathering;
+            status = new AtomicInteger(PENDING);
+            start = System.currentTimeMillis();
+        }
+
+        @Override
+        public Boolean call() {
+            if (!status.compareAndSet(PENDING, RUNNING)) return false;
+            runner = Thread.currentThread();
+            boolean succeeded = false;
+            try {
+                succeeded = gathering.call();
+            } catch (Exception | NoClassDefFoundError | NoSuchFieldError | NoSuchMethodError e) {
+                if (status.get() == RUNNING) {
+                    errorLogger.log(L.WARN, e, ErrorContext.builder().related(state.pluginName).build());
+                }
+            } finally {
+                runner = null;
+                if (status.compareAndSet(RUNNING, FINISHED)) {
+                    state.statistics.recordCall(System.currentTimeMillis() - start, succeeded);
+                    state.recordResult(succeeded);
+                }
+                // Permit is held until the call actually ends, even if it was abandoned.
+                state.permits.release();
+            }
+            return succeeded;
+        }
+
+        private void abandon() {
+            if (status.compareAndSet(PENDING, ABANDONED)) {
+                future.cancel(false);
+                state.permits.release();
+            } else if (status.compareAndSet(RUNNING, ABANDONED)) {
+                Thread running = runner;
+                reportTimeout(state.pluginName, running);
+                state.statistics.recordTimeout(System.currentTimeMillis() - start);
+                state.recordResult(false);
+                future.cancel(true);
+            }
+        }
+    }
+}
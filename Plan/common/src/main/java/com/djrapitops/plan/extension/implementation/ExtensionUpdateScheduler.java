@@ -0,0 +1,208 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation;
+
+import com.djrapitops.plan.SubSystem;
+import com.djrapitops.plan.processing.Processing;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.TimeSettings;
+import com.djrapitops.plan.utilities.logging.ErrorContext;
+import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import com.djrapitops.plugin.logging.L;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.*;
+
+/**
+ * Merges repeated extension data update requests for the same player or server into a single update.
+ * <p>
+ * An update is made once there have been no new requests for it within
+ * {@link TimeSettings#EXTENSION_UPDATE_WINDOW}, but no later than {@link TimeSettings#EXTENSION_UPDATE_MAX_DELAY}
+ * after the first request. Requests waiting for an update are dropped if the same data is gathered for another
+ * reason in the meantime, for example when the player joins or leaves.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class ExtensionUpdateScheduler implements SubSystem {
+
+    private final PlanConfig config;
+    private final Processing processing;
+    private final ErrorLogger errorLogger;
+
+    private final Map<String, PendingUpdate> pendingUpdates;
+    private final Map<String, ExtensionUpdateStatistics> statistics;
+    private ScheduledExecutorService scheduler;
+
+    @Inject
+    public ExtensionUpdateScheduler(
+            PlanConfig config,
+            Processing processing,
+            ErrorLogger errorLogger
+    ) {
+        this.config = config;
+        this.processing = processing;
+        this.errorLogger = errorLogger;
+
+        pendingUpdates = new ConcurrentHashMap<>();
+        statistics = new ConcurrentHashMap<>();
+        scheduler = createScheduler();
+    }
+
+    private ScheduledExecutorService createScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(new BasicThreadFactory.Builder()
+                .namingPattern("Plan Extension-update-scheduler-%d")
+                .uncaughtExceptionHandler((thread, throwable) ->
+                        errorLogger.log(L.WARN, throwable, ErrorContext.builder().build())
+                ).build());
+    }
+
+    @Override
+    public void enable() {
+        if (scheduler.isShutdown()) {
+            scheduler = createScheduler();
+        }
+    }
+
+    @Override
+    public void disable() {
+        // Waiting updates are dropped, the data is gathered again on the next periodic update.
+        scheduler.shutdownNow();
+        pendingUpdates.clear();
+    }
+
+    /**
+     * Request an update, which is merged with other requests for the same target.
+     *
+     * @param pluginName Name of the extension.
+     * @param target     What is updated, for example player UUID.
+     * @param update     Update to run, latest requested update is used if requests are merged.
+     */
+    public void requestUpdate(String pluginName, String target, Runnable update) {
+        long now = System.currentTimeMillis();
+        ExtensionUpdateStatistics extensionStatistics = getStatistics(pluginName);
+        extensionStatistics.recordRequest(now);
+
+        long window = config.get(TimeSettings.EXTENSION_UPDATE_WINDOW);
+        if (window <= 0 || scheduler.isShutdown()) {
+            extensionStatistics.recordUpdate();
+            processing.submitNonCritical(update);
+            return;
+        }
+
+        String key = pluginName + ':' + target;
+        PendingUpdate created = new PendingUpdate(key, extensionStatistics, now, update);
+        PendingUpdate pending = pendingUpdates.merge(key, created, (existing, newRequest) -> existing.requestedAgain(now, update));
+        if (pending == created) {
+            scheduleCheck(pending, window);
+        }
+    }
+
+    /**
+     * Drop a waiting update request, because the data is about to be gathered anyway.
+     *
+     * @param pluginName Name of the extension.
+     * @param target     What is being updated, same as given to {@link #requestUpdate(String, String, Runnable)}.
+     */
+    public void gatheringStarted(String pluginName, String target) {
+        PendingUpdate dropped = pendingUpdates.remove(pluginName + ':' + target);
+        if (dropped != null) {
+            dropped.statistics.recordUpdate();
+        }
+    }
+
+    private void scheduleCheck(PendingUpdate pending, long delay) {
+        try {
+            scheduler.schedule(() -> checkPending(pending), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException shuttingDown) {
+            pendingUpdates.remove(pending.key, pending);
+        }
+    }
+
+    private void checkPending(PendingUpdate pending) {
+        long now = System.currentTimeMillis();
+        long window = config.get(TimeSettings.EXTENSION_UPDATE_WINDOW);
+        long maxDelay = config.get(TimeSettings.EXTENSION_UPDATE_MAX_DELAY);
+
+        long[] nextCheck = {-1};
+        boolean[] due = {false};
+        pendingUpdates.computeIfPresent(pending.key, (key, current) -> {
+            if (current != pending) return current;
+            long runAt = pending.getRunTime(window, maxDelay);
+            if (now >= runAt) {
+                due[0] = true;
+                return null;
+            }
+            nextCheck[0] = runAt - now;
+            return current;
+        });
+
+        if (due[0]) {
+            pending.statistics.recordUpdate();
+            processing.submitNonCritical(pending.getUpdate());
+        } else if (nextCheck[0] >= 0) {
+            scheduleCheck(pending, nextCheck[0]);
+        }
+    }
+
+    private ExtensionUpdateStatistics getStatistics(String pluginName) {
+        return statistics.computeIfAbsent(pluginName, name -> new ExtensionUpdateStatistics());
+    }
+
+    /**
+     * Get statistics of update requests.
+     *
+     * @return Statistics by extension name, in alphabetical order.
+     */
+    public Map<String, ExtensionUpdateStatistics> getStatistics() {
+        return new TreeMap<>(statistics);
+    }
+
+    private static class PendingUpdate {
+        private final String key;
+        private final ExtensionUpdateStatistics statistics;
+        private final long firstRequest;
+        private long lastRequest;
+        private Runnable update;
+
+        private PendingUpdate(String key, ExtensionUpdateStatistics statistics, long firstRequest, Runnable update) {
+            this.key = key;
+            this.statistics = statistics;
+            this.firstRequest = firstRequest;
+            this.lastRequest = firstRequest;
+            this.update = update;
+        }
+
+        private synchronized PendingUpdate requestedAgain(long time, Runnable update) {
+            lastRequest = time;
+            this.update = update;
+            return this;
+        }
+
+        private synchronized long getRunTime(long window, long maxDelay) {
+            return Math.min(lastRequest + window, firstRequest + Math.max(window, maxDelay));
+        }
+
+        private synchronized Runnable getUpdate() {
+            return update;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statistics about update requests made through {@link com.djrapitops.plan.extension.Caller} of a single extension.
+ *
+ * @author Rsl1122
+ */
+public class ExtensionUpdateStatistics {
+
+    private long firstRequest;
+    private int requests;
+    private int updates;
+
+    synchronized void recordRequest(long time) {
+        if (requests == 0) firstRequest = time;
+        requests++;
+    }
+
+    synchronized void recordUpdate() {
+        updates++;
+    }
+
+    public synchronized int getRequests() {
+        return requests;
+    }
+
+    public synchronized int getUpdates() {
+        return updates;
+    }
+
+    /**
+     * Get how many update requests were merged into another update.
+     *
+     * @return Requests that did not cause an update of their own, including ones waiting for an update.
+     */
+    public synchronized int getMerged() {
+        return requests - updates;
+    }
+
+    public synchronized double getRequestsPerMinute() {
+        if (requests == 0) return 0;
+        long minutes = Math.max(1L, TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis() - firstRequest));
+        return requests * 1.0 / minutes;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers;
+
+import com.djrapitops.plan.extension.DataExtension;
+import com.djrapitops.plan.extension.Group;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Calls a provider method of a {@link DataExtension}.
+ * <p>
+ * Methods are bound to a {@link Function} or {@link BiFunction} with {@link LambdaMetafactory} so that calls avoid
+ * reflective access checks and argument arrays. Methods that can not be bound that way, for example because the
+ * extension class is not visible to Plan's class loader, are called with reflection instead.
+ *
+ * @author Rsl1122
+ */
+interface MethodCaller {
+
+    static MethodCaller bind(Method method) {
+        try {
+            return bindToLambda(method);
+        } catch (Throwable cannotBind) {
+            return reflective(method);
+        }
+    }
+
+    static MethodCaller reflective(Method method) {
+        return (extension, with) -> {
+            try {
+                return with.usingOn(extension, method);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    static MethodCaller bindToLambda(Method method) throws Throwable {
+        Class<?> declaringClass = method.getDeclaringClass();
+        // The generated lambda class is defined in Plan's class loader, which has to be able to find the extension.
+        if (Class.forName(declaringClass.getName(), false, MethodCaller.class.getClassLoader()) != declaringClass) {
+            throw new IllegalAccessException(declaringClass + " is not visible to Plan");
+        }
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle handle = lookup.unreflect(method);
+        Class<?> returnType = MethodType.methodType(method.getReturnType()).wrap().returnType();
+
+        if (method.getParameterCount() == 0) {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle,
+                    MethodType.methodType(returnType, declaringClass)
+            );
+            Function<DataExtension, Object> function = (Function<DataExtension, Object>) site.getTarget().invoke();
+            return (extension, with) -> function.apply(extension);
+        }
+
+        Class<?> parameterType = method.getParameterTypes()[0];
+        CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                MethodType.methodType(BiFunction.class),
+                MethodType.methodType(Object.class, Object.class, Object.class),
+                handle,
+                MethodType.methodType(returnType, declaringClass, parameterType)
+        );
+        BiFunction<DataExtension, Object, Object> function = (BiFunction<DataExtension, Object, Object>) site.getTarget().invoke();
+        if (UUID.class.equals(parameterType)) {
+            return (extension, with) -> function.apply(extension, with.getPlayerUUID());
+        } else if (String.class.equals(parameterType)) {
+            return (extension, with) -> function.apply(extension, with.getPlayerName());
+        } else if (Group.class.equals(parameterType)) {
+            return (extension, with) -> {
+                String groupName = with.getGroupName();
+                Group group = () -> groupName;
+                return function.apply(extension, group);
+            };
+        }
+        throw new IllegalArgumentException(declaringClass + " method " + method.getName() + " had invalid parameters.");
+    }
+
+    /**
+     * Call the method.
+     *
+     * @param extension Extension the method belongs to.
+     * @param with      Parameters to call the method with.
+     * @return Value returned by the method.
+     * @throws Throwable Anything thrown by the method, as is.
+     */
+    Object call(DataExtension extension, Parameters with) throws Throwable;
+}
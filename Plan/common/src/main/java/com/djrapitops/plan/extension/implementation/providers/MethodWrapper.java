@@ -20,12 +20,13 @@ import com.djrapitops.plan.extension.DataExtension;
 import com.djrapitops.plan.extension.NotReadyException;
 import com.djrapitops.plan.extension.implementation.MethodType;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Objects;
 
 /**
  * Wrap a Method so that it is easier to call.
+ * <p>
+ * The method is bound to a {@link MethodCaller} when the wrapper is created, see {@link MethodCaller#bind(Method)}.
  *
  * @author Rsl1122
  */
@@ -34,25 +35,23 @@ public class MethodWrapper<T> {
     private final Method method;
     private final Class<T> returnType;
     private final MethodType methodType;
+    private final MethodCaller caller;
     private boolean disabled = false;
 
     public MethodWrapper(Method method, Class<T> returnType) {
         this.method = method;
         this.returnType = returnType;
         methodType = MethodType.forMethod(this.method);
+        caller = MethodCaller.bind(method);
     }
 
     public T callMethod(DataExtension extension, Parameters with) {
         if (disabled) return null;
         try {
-            return returnType.cast(with.usingOn(extension, method));
-        } catch (InvocationTargetException notReadyToBeCalled) {
-            if (notReadyToBeCalled.getCause() instanceof NotReadyException) {
-                return null; // Data or API not available to make the call.
-            } else {
-                throw new IllegalArgumentException(method.getDeclaringClass() + " method " + method.getName() + " could not be called: " + notReadyToBeCalled.getMessage(), notReadyToBeCalled);
-            }
-        } catch (IllegalAccessException e) {
+            return returnType.cast(caller.call(extension, with));
+        } catch (NotReadyException notReadyToBeCalled) {
+            return null; // Data or API not available to make the call.
+        } catch (Throwable e) {
             throw new IllegalArgumentException(method.getDeclaringClass() + " method " + method.getName() + " could not be called: " + e.getMessage(), e);
         }
     }
@@ -47,6 +47,14 @@ public interface Parameters {
         return null;
     }
 
+    default String getPlayerName() {
+        return null;
+    }
+
+    default String getGroupName() {
+        return null;
+    }
+
     class ServerParameters implements Parameters {
         private final UUID serverUUID;
 
@@ -88,6 +96,10 @@ public interface Parameters {
             return playerUUID;
         }
 
+        public String getPlayerName() {
+            return playerName;
+        }
+
         @Override
         public Object usingOn(DataExtension extension, Method method) throws InvocationTargetException, IllegalAccessException {
             Class<?> parameterType = method.getParameterTypes()[0];
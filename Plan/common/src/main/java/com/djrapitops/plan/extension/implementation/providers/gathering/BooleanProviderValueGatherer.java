@@ -24,16 +24,10 @@ import com.djrapitops.plan.extension.implementation.providers.DataProvider;
 import com.djrapitops.plan.extension.implementation.providers.DataProviders;
 import com.djrapitops.plan.extension.implementation.providers.MethodWrapper;
 import com.djrapitops.plan.extension.implementation.providers.Parameters;
-import com.djrapitops.plan.extension.implementation.storage.transactions.StoreIconTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreProviderTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.results.StorePlayerBooleanResultTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.results.StoreServerBooleanResultTransaction;
-import com.djrapitops.plan.storage.database.Database;
-import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.results.StoreExtensionResultsTransaction;
 
 import java.util.*;
 import java.util.concurrent.Callable;
-import java.util.function.BiFunction;
 import java.util.function.Function;
 
 /**
@@ -47,35 +41,31 @@ class BooleanProviderValueGatherer {
     private final DataExtension extension;
     private final UUID serverUUID;
 
-    private final Database database;
     private final DataProviders dataProviders;
 
     BooleanProviderValueGatherer(
             String pluginName,
-            UUID serverUUID, Database database,
+            UUID serverUUID,
             ExtensionWrapper extensionWrapper
     ) {
         this.pluginName = pluginName;
         this.extension = extensionWrapper.getExtension();
         this.serverUUID = serverUUID;
-        this.database = database;
         this.dataProviders = extensionWrapper.getProviders();
     }
 
-    Conditions gatherBooleanDataOfPlayer(UUID playerUUID, String playerName) {
+    Conditions gatherBooleanDataOfPlayer(UUID playerUUID, String playerName, StoreExtensionResultsTransaction results) {
         Conditions conditions = new Conditions();
 
         List<DataProvider<Boolean>> unsatisfiedProviders = new ArrayList<>(dataProviders.getPlayerMethodsByType(Boolean.class));
         Set<DataProvider<Boolean>> satisfied;
 
         // Method parameters abstracted away so that same method can be used for all parameter types
-        // Same with Method result store transaction creation
         Function<MethodWrapper<Boolean>, Callable<Boolean>> methodCaller = method -> () -> method.callMethod(extension, Parameters.player(serverUUID, playerUUID, playerName));
-        BiFunction<MethodWrapper<Boolean>, Boolean, Transaction> storeTrancationCreator = (method, result) -> new StorePlayerBooleanResultTransaction(pluginName, serverUUID, method.getMethodName(), playerUUID, result);
 
         do {
             // Loop through all unsatisfied providers to see if more conditions are satisfied
-            satisfied = attemptToSatisfyMoreConditionsAndStoreResults(methodCaller, storeTrancationCreator, conditions, unsatisfiedProviders);
+            satisfied = attemptToSatisfyMoreConditionsAndStoreResults(methodCaller, results, conditions, unsatisfiedProviders);
             // Remove now satisfied Providers so that they are not called again
             unsatisfiedProviders.removeAll(satisfied);
             // If no new conditions could be satisfied, stop looping.
@@ -84,20 +74,18 @@ class BooleanProviderValueGatherer {
         return conditions;
     }
 
-    Conditions gatherBooleanDataOfServer() {
+    Conditions gatherBooleanDataOfServer(StoreExtensionResultsTransaction results) {
         Conditions conditions = new Conditions();
 
         List<DataProvider<Boolean>> unsatisfiedProviders = new ArrayList<>(dataProviders.getServerMethodsByType(Boolean.class));
         Set<DataProvider<Boolean>> satisfied;
 
         // Method parameters abstracted away so that same method can be used for all parameter types
-        // Same with Method result store transaction creation
         Function<MethodWrapper<Boolean>, Callable<Boolean>> methodCaller = method -> () -> method.callMethod(extension, Parameters.server(serverUUID));
-        BiFunction<MethodWrapper<Boolean>, Boolean, Transaction> storeTransactionCreator = (method, result) -> new StoreServerBooleanResultTransaction(pluginName, serverUUID, method.getMethodName(), result);
 
         do {
             // Loop through all unsatisfied providers to see if more conditions are satisfied
-            satisfied = attemptToSatisfyMoreConditionsAndStoreResults(methodCaller, storeTransactionCreator, conditions, unsatisfiedProviders);
+            satisfied = attemptToSatisfyMoreConditionsAndStoreResults(methodCaller, results, conditions, unsatisfiedProviders);
             // Remove now satisfied Providers so that they are not called again
             unsatisfiedProviders.removeAll(satisfied);
             // If no new conditions could be satisfied, stop looping.
@@ -108,7 +96,7 @@ class BooleanProviderValueGatherer {
 
     private Set<DataProvider<Boolean>> attemptToSatisfyMoreConditionsAndStoreResults(
             Function<MethodWrapper<Boolean>, Callable<Boolean>> methodCaller,
-            BiFunction<MethodWrapper<Boolean>, Boolean, Transaction> storeTransactionCreator,
+            StoreExtensionResultsTransaction results,
             Conditions conditions, List<DataProvider<Boolean>> unsatisfiedProviders
     ) {
         Set<DataProvider<Boolean>> satisfied = new HashSet<>();
@@ -142,9 +130,7 @@ class BooleanProviderValueGatherer {
             }
 
             satisfied.add(booleanProvider); // Prevents further attempts to call this provider for this player.
-            database.executeTransaction(new StoreIconTransaction(information.getIcon()));
-            database.executeTransaction(new StoreProviderTransaction(booleanProvider, serverUUID));
-            database.executeTransaction(storeTransactionCreator.apply(method, result));
+            results.addBoolean(booleanProvider, result);
         }
         return satisfied;
     }
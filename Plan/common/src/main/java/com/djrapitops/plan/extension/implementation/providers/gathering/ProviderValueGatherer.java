@@ -19,7 +19,6 @@ package com.djrapitops.plan.extension.implementation.providers.gathering;
 import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.icon.Icon;
 import com.djrapitops.plan.extension.implementation.ExtensionWrapper;
-import com.djrapitops.plan.extension.implementation.ProviderInformation;
 import com.djrapitops.plan.extension.implementation.TabInformation;
 import com.djrapitops.plan.extension.implementation.providers.DataProvider;
 import com.djrapitops.plan.extension.implementation.providers.DataProviders;
@@ -28,12 +27,13 @@ import com.djrapitops.plan.extension.implementation.providers.Parameters;
 import com.djrapitops.plan.extension.implementation.storage.transactions.StoreIconTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.StorePluginTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.StoreTabInformationTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreProviderTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.results.*;
+import com.djrapitops.plan.extension.implementation.storage.transactions.providers.ProviderIDRegistry;
+import com.djrapitops.plan.extension.implementation.storage.transactions.results.RemoveInvalidResultsTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.results.ResultFingerprints;
+import com.djrapitops.plan.extension.implementation.storage.transactions.results.StoreExtensionResultsTransaction;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
-import com.djrapitops.plan.storage.database.transactions.Transaction;
 
 import java.util.UUID;
 
@@ -49,6 +49,8 @@ public class ProviderValueGatherer {
     private final DBSystem dbSystem;
     private final ServerInfo serverInfo;
 
+    private final ProviderIDRegistry providerIDs;
+    private final ResultFingerprints resultFingerprints;
     private final DataProviders dataProviders;
     private final BooleanProviderValueGatherer booleanGatherer;
     private final TableProviderValueGatherer tableGatherer;
@@ -72,35 +74,36 @@ public class ProviderValueGatherer {
 
         String pluginName = extension.getPluginName();
         UUID serverUUID = serverInfo.getServerUUID();
-        Database database = dbSystem.getDatabase();
+        providerIDs = new ProviderIDRegistry();
+        resultFingerprints = new ResultFingerprints();
         dataProviders = extension.getProviders();
         booleanGatherer = new BooleanProviderValueGatherer(
-                pluginName, serverUUID, database, extension
+                pluginName, serverUUID, extension
         );
         tableGatherer = new TableProviderValueGatherer(
-                pluginName, serverUUID, database, extension
+                pluginName, serverUUID, extension
         );
 
         serverNumberGatherer = new Gatherer<>(
-                Long.class, StoreServerNumberResultTransaction::new
+                Long.class, StoreExtensionResultsTransaction::addNumber
         );
         serverDoubleGatherer = new Gatherer<>(
-                Double.class, StoreServerDoubleResultTransaction::new
+                Double.class, StoreExtensionResultsTransaction::addDouble
         );
         serverStringGatherer = new Gatherer<>(
-                String.class, StoreServerStringResultTransaction::new
+                String.class, StoreExtensionResultsTransaction::addString
         );
         playerNumberGatherer = new Gatherer<>(
-                Long.class, StorePlayerNumberResultTransaction::new
+                Long.class, StoreExtensionResultsTransaction::addNumber
         );
         playerDoubleGatherer = new Gatherer<>(
-                Double.class, StorePlayerDoubleResultTransaction::new
+                Double.class, StoreExtensionResultsTransaction::addDouble
         );
         playerStringGatherer = new Gatherer<>(
-                String.class, StorePlayerStringResultTransaction::new
+                String.class, StoreExtensionResultsTransaction::addString
         );
         playerGroupGatherer = new Gatherer<>(
-                String[].class, StorePlayerGroupsResultTransaction::new
+                String[].class, StoreExtensionResultsTransaction::addGroups
         );
     }
 
@@ -132,6 +135,10 @@ public class ProviderValueGatherer {
         long time = System.currentTimeMillis();
         UUID serverUUID = serverInfo.getServerUUID();
 
+        // Providers and results are stored again with the next results, in case they were removed from the database.
+        providerIDs.clear();
+        resultFingerprints.clear();
+
         Database database = dbSystem.getDatabase();
         database.executeTransaction(new StoreIconTransaction(pluginIcon));
         database.executeTransaction(new StorePluginTransaction(pluginName, time, serverUUID, pluginIcon));
@@ -144,50 +151,67 @@ public class ProviderValueGatherer {
     }
 
     public void updateValues(UUID playerUUID, String playerName) {
-        Conditions conditions = booleanGatherer.gatherBooleanDataOfPlayer(playerUUID, playerName);
-        Parameters params = Parameters.player(serverInfo.getServerUUID(), playerUUID, playerName);
-        playerNumberGatherer.gather(conditions, params);
-        playerDoubleGatherer.gather(conditions, params);
-        playerStringGatherer.gather(conditions, params);
-        tableGatherer.gatherTableDataOfPlayer(playerUUID, playerName, conditions);
-        playerGroupGatherer.gather(conditions, params);
+        UUID serverUUID = serverInfo.getServerUUID();
+        StoreExtensionResultsTransaction results = StoreExtensionResultsTransaction.forPlayer(
+                extensionWrapper.getPluginName(), serverUUID, playerUUID, providerIDs, resultFingerprints
+        );
+        try {
+            Conditions conditions = booleanGatherer.gatherBooleanDataOfPlayer(playerUUID, playerName, results);
+            Parameters params = Parameters.player(serverUUID, playerUUID, playerName);
+            playerNumberGatherer.gather(conditions, params, results);
+            playerDoubleGatherer.gather(conditions, params, results);
+            playerStringGatherer.gather(conditions, params, results);
+            tableGatherer.gatherTableDataOfPlayer(playerUUID, playerName, conditions, results);
+            playerGroupGatherer.gather(conditions, params, results);
+        } finally {
+            // Results gathered before a possible method call failure are stored.
+            dbSystem.getDatabase().executeTransaction(results);
+        }
     }
 
     public void updateValues() {
-        Conditions conditions = booleanGatherer.gatherBooleanDataOfServer();
-        Parameters params = Parameters.server(serverInfo.getServerUUID());
-
-        serverNumberGatherer.gather(conditions, params);
-        serverDoubleGatherer.gather(conditions, params);
-        serverStringGatherer.gather(conditions, params);
-        tableGatherer.gatherTableDataOfServer(conditions);
+        UUID serverUUID = serverInfo.getServerUUID();
+        StoreExtensionResultsTransaction results = StoreExtensionResultsTransaction.forServer(
+                extensionWrapper.getPluginName(), serverUUID, providerIDs, resultFingerprints
+        );
+        try {
+            Conditions conditions = booleanGatherer.gatherBooleanDataOfServer(results);
+            Parameters params = Parameters.server(serverUUID);
+
+            serverNumberGatherer.gather(conditions, params, results);
+            serverDoubleGatherer.gather(conditions, params, results);
+            serverStringGatherer.gather(conditions, params, results);
+            tableGatherer.gatherTableDataOfServer(conditions, results);
+        } finally {
+            // Results gathered before a possible method call failure are stored.
+            dbSystem.getDatabase().executeTransaction(results);
+        }
     }
 
-    interface ResultTransactionConstructor<T> {
-        Transaction create(DataProvider<T> provider, Parameters parameters, T result);
+    interface ResultCollector<T> {
+        void add(StoreExtensionResultsTransaction results, DataProvider<T> provider, T result);
     }
 
     class Gatherer<T> {
         private final Class<T> type;
-        private final ResultTransactionConstructor<T> resultTransactionConstructor;
+        private final ResultCollector<T> resultCollector;
 
         public Gatherer(
                 Class<T> type,
-                ResultTransactionConstructor<T> resultTransactionConstructor
+                ResultCollector<T> resultCollector
         ) {
             this.type = type;
-            this.resultTransactionConstructor = resultTransactionConstructor;
+            this.resultCollector = resultCollector;
         }
 
-        public void gather(Conditions conditions, Parameters parameters) {
+        public void gather(Conditions conditions, Parameters parameters, StoreExtensionResultsTransaction results) {
             for (DataProvider<T> provider : dataProviders.getProvidersByTypes(parameters.getMethodType(), type)) {
-                gather(conditions, provider, parameters);
+                gather(conditions, provider, parameters, results);
             }
         }
 
-        private void gather(Conditions conditions, DataProvider<T> provider, Parameters parameters) {
-            ProviderInformation information = provider.getProviderInformation();
-            if (information.getCondition().map(conditions::isNotFulfilled).orElse(false)) {
+        private void gather(Conditions conditions, DataProvider<T> provider, Parameters parameters, StoreExtensionResultsTransaction results) {
+            if (provider.getProviderInformation().getCondition().map(conditions::isNotFulfilled).orElse(false)) {
                 return; // Condition not fulfilled
             }
 
@@ -196,10 +220,7 @@ public class ProviderValueGatherer {
                 return; // Error during method call
             }
 
-            Database db = dbSystem.getDatabase();
-            db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-            db.executeTransaction(new StoreProviderTransaction(provider, parameters.getServerUUID()));
-            db.executeTransaction(resultTransactionConstructor.create(provider, parameters, result));
+            resultCollector.add(results, provider, result);
         }
     }
 }
\ No newline at end of file
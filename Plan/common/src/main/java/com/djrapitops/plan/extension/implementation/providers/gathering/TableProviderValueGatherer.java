@@ -18,25 +18,18 @@ package com.djrapitops.plan.extension.implementation.providers.gathering;
 
 import com.djrapitops.plan.exceptions.DataExtensionMethodCallException;
 import com.djrapitops.plan.extension.DataExtension;
-import com.djrapitops.plan.extension.icon.Icon;
 import com.djrapitops.plan.extension.implementation.ExtensionWrapper;
 import com.djrapitops.plan.extension.implementation.ProviderInformation;
 import com.djrapitops.plan.extension.implementation.providers.DataProvider;
 import com.djrapitops.plan.extension.implementation.providers.DataProviders;
 import com.djrapitops.plan.extension.implementation.providers.MethodWrapper;
 import com.djrapitops.plan.extension.implementation.providers.Parameters;
-import com.djrapitops.plan.extension.implementation.storage.transactions.StoreIconTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreTableProviderTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.results.StorePlayerTableResultTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.results.StoreServerTableResultTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.results.StoreExtensionResultsTransaction;
 import com.djrapitops.plan.extension.table.Table;
-import com.djrapitops.plan.storage.database.Database;
-import com.djrapitops.plan.storage.database.transactions.Transaction;
 
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.Callable;
-import java.util.function.BiFunction;
 import java.util.function.Function;
 
 /**
@@ -50,46 +43,40 @@ class TableProviderValueGatherer {
     private final DataExtension extension;
     private final UUID serverUUID;
 
-    private final Database database;
     private final DataProviders dataProviders;
 
     TableProviderValueGatherer(
             String pluginName,
-            UUID serverUUID, Database database,
+            UUID serverUUID,
             ExtensionWrapper extensionWrapper
     ) {
         this.pluginName = pluginName;
         this.extension = extensionWrapper.getExtension();
         this.serverUUID = serverUUID;
-        this.database = database;
         this.dataProviders = extensionWrapper.getProviders();
     }
 
-    void gatherTableDataOfPlayer(UUID playerUUID, String playerName, Conditions conditions) {
+    void gatherTableDataOfPlayer(UUID playerUUID, String playerName, Conditions conditions, StoreExtensionResultsTransaction results) {
         // Method parameters abstracted away so that same method can be used for all parameter types
-        // Same with Method result store transaction creation
         Function<MethodWrapper<Table>, Callable<Table>> methodCaller = method -> () -> method.callMethod(extension, Parameters.player(serverUUID, playerUUID, playerName));
-        BiFunction<MethodWrapper<Table>, Table, Transaction> storeTransactionCreator = (method, result) -> new StorePlayerTableResultTransaction(pluginName, serverUUID, method.getMethodName(), playerUUID, result);
 
         for (DataProvider<Table> tableProvider : dataProviders.getPlayerMethodsByType(Table.class)) {
-            gatherTableDataOfProvider(methodCaller, storeTransactionCreator, conditions, tableProvider);
+            gatherTableDataOfProvider(methodCaller, results, conditions, tableProvider);
         }
     }
 
-    void gatherTableDataOfServer(Conditions conditions) {
+    void gatherTableDataOfServer(Conditions conditions, StoreExtensionResultsTransaction results) {
         // Method parameters abstracted away so that same method can be used for all parameter types
-        // Same with Method result store transaction creation
         Function<MethodWrapper<Table>, Callable<Table>> methodCaller = method -> () -> method.callMethod(extension, Parameters.server(serverUUID));
-        BiFunction<MethodWrapper<Table>, Table, Transaction> storeTransactionCreator = (method, result) -> new StoreServerTableResultTransaction(pluginName, serverUUID, method.getMethodName(), result);
 
         for (DataProvider<Table> tableProvider : dataProviders.getServerMethodsByType(Table.class)) {
-            gatherTableDataOfProvider(methodCaller, storeTransactionCreator, conditions, tableProvider);
+            gatherTableDataOfProvider(methodCaller, results, conditions, tableProvider);
         }
     }
 
     private void gatherTableDataOfProvider(
             Function<MethodWrapper<Table>, Callable<Table>> methodCaller,
-            BiFunction<MethodWrapper<Table>, Table, Transaction> storeTransactionCreator,
+            StoreExtensionResultsTransaction results,
             Conditions conditions,
             DataProvider<Table> tableProvider
     ) {
@@ -105,13 +92,7 @@ class TableProviderValueGatherer {
             return; // Error during call
         }
 
-        for (Icon icon : result.getIcons()) {
-            if (icon != null) {
-                database.executeTransaction(new StoreIconTransaction(icon));
-            }
-        }
-        database.executeTransaction(new StoreTableProviderTransaction(serverUUID, providerInformation, result));
-        database.executeTransaction(storeTransactionCreator.apply(method, result));
+        results.addTable(tableProvider, result);
     }
 
     private <T> T getMethodResult(Callable<T> callable, MethodWrapper<T> method) {
@@ -29,17 +29,17 @@ import com.djrapitops.plan.storage.database.sql.tables.*;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 
 /**
- * Query Extension data of x most recent players on a server.
+ * Query Extension data of x most recent players, or of given players on a server.
  * <p>
  * Returns Map: Player UUID - {@link ExtensionTabData} (container for provider based data)
+ * <p>
+ * Also has SQL used for ordering and filtering pages of the players table by extension values.
  *
  * @author Rsl1122
  */
@@ -47,17 +47,68 @@ public class ExtensionServerPlayerDataTableQuery implements Query<Map<UUID, Exte
 
     private final UUID serverUUID;
     private final int xMostRecentPlayers;
+    private final List<UUID> playerUUIDs; // null if x most recent players are queried
 
     public ExtensionServerPlayerDataTableQuery(UUID serverUUID, int xMostRecentPlayers) {
         this.serverUUID = serverUUID;
         this.xMostRecentPlayers = xMostRecentPlayers;
+        this.playerUUIDs = null;
+    }
+
+    /**
+     * Query Extension data of a page of the players table.
+     *
+     * @param serverUUID  UUID of the Plan server.
+     * @param playerUUIDs UUIDs of the players on the page.
+     */
+    public ExtensionServerPlayerDataTableQuery(UUID serverUUID, Collection<UUID> playerUUIDs) {
+        this.serverUUID = serverUUID;
+        this.xMostRecentPlayers = playerUUIDs.size();
+        this.playerUUIDs = new ArrayList<>(playerUUIDs);
     }
 
     @Override
     public Map<UUID, ExtensionTabData> executeQuery(SQLDB db) {
+        if (playerUUIDs != null && playerUUIDs.isEmpty()) return new HashMap<>();
         return combine(db.query(fetchPlayerData()), db.query(fetchPlayerGroups()));
     }
 
+    private String selectPlayers(String uuidColumn) {
+        if (playerUUIDs != null) {
+            return WHERE + uuidColumn + " IN (" + nParameters(playerUUIDs.size()) + ')' + AND;
+        }
+        String selectLimitedNumberOfPlayerUUIDsByLastSeenDate = SELECT +
+                UsersTable.TABLE_NAME + '.' + UsersTable.USER_UUID +
+                ",MAX(" + SessionsTable.SESSION_END + ") as last_seen" +
+                FROM + SessionsTable.TABLE_NAME +
+                INNER_JOIN + UsersTable.TABLE_NAME + " on " + UsersTable.TABLE_NAME + '.' + UsersTable.ID + '=' + SessionsTable.TABLE_NAME + '.' + SessionsTable.USER_ID +
+                GROUP_BY + UsersTable.TABLE_NAME + '.' + UsersTable.USER_UUID +
+                ORDER_BY + "last_seen DESC LIMIT ?";
+        return INNER_JOIN + '(' + selectLimitedNumberOfPlayerUUIDsByLastSeenDate + ") as last_seen_q on last_seen_q.uuid=" + uuidColumn +
+                WHERE;
+    }
+
+    private static String nParameters(int n) {
+        StringBuilder parameters = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            if (i > 0) parameters.append(',');
+            parameters.append('?');
+        }
+        return parameters.toString();
+    }
+
+    private int setPlayersParameters(PreparedStatement statement) throws SQLException {
+        if (playerUUIDs == null) {
+            statement.setInt(1, xMostRecentPlayers); // Limit to x most recently seen players
+            return 2;
+        }
+        int index = 1;
+        for (UUID playerUUID : playerUUIDs) {
+            statement.setString(index++, playerUUID.toString());
+        }
+        return index;
+    }
+
     private Map<UUID, ExtensionTabData> combine(Map<UUID, ExtensionTabData> one, Map<UUID, ExtensionTabData> two) {
         for (Map.Entry<UUID, ExtensionTabData> entry : two.entrySet()) {
             UUID playerUUID = entry.getKey();
@@ -74,13 +125,6 @@ public class ExtensionServerPlayerDataTableQuery implements Query<Map<UUID, Exte
     }
 
     private Query<Map<UUID, ExtensionTabData>> fetchPlayerData() {
-        String selectLimitedNumberOfPlayerUUIDsByLastSeenDate = SELECT +
-                SessionsTable.TABLE_NAME + '.' + SessionsTable.USER_UUID +
-                ",MAX(" + SessionsTable.SESSION_END + ") as last_seen" +
-                FROM + SessionsTable.TABLE_NAME +
-                GROUP_BY + SessionsTable.TABLE_NAME + '.' + SessionsTable.USER_UUID +
-                ORDER_BY + "last_seen DESC LIMIT ?";
-
         String sql = SELECT +
                 "v1." + ExtensionPlayerValueTable.USER_UUID + " as uuid," +
                 "v1." + ExtensionPlayerValueTable.BOOLEAN_VALUE + " as boolean_value," +
@@ -96,21 +140,21 @@ public class ExtensionServerPlayerDataTableQuery implements Query<Map<UUID, Exte
                 "i1." + ExtensionIconTable.ICON_NAME + " as provider_icon_name," +
                 "i1." + ExtensionIconTable.FAMILY + " as provider_icon_family" +
                 FROM + ExtensionPlayerValueTable.TABLE_NAME + " v1" +
-                INNER_JOIN + '(' + selectLimitedNumberOfPlayerUUIDsByLastSeenDate + ") as last_seen_q on last_seen_q.uuid=v1." + ExtensionPlayerValueTable.USER_UUID +
                 INNER_JOIN + ExtensionProviderTable.TABLE_NAME + " p1 on p1." + ExtensionProviderTable.ID + "=v1." + ExtensionPlayerValueTable.PROVIDER_ID +
                 INNER_JOIN + ExtensionPluginTable.TABLE_NAME + " e1 on e1." + ExtensionPluginTable.ID + "=p1." + ExtensionProviderTable.PLUGIN_ID +
                 LEFT_JOIN + ExtensionIconTable.TABLE_NAME + " i1 on i1." + ExtensionIconTable.ID + "=p1." + ExtensionProviderTable.ICON_ID +
-                WHERE + "e1." + ExtensionPluginTable.SERVER_UUID + "=?" +
+                selectPlayers("v1." + ExtensionPlayerValueTable.USER_UUID) +
+                "e1." + ExtensionPluginTable.SERVER_UUID + "=?" +
                 AND + "p1." + ExtensionProviderTable.SHOW_IN_PLAYERS_TABLE + "=?" +
                 AND + "p1." + ExtensionProviderTable.IS_PLAYER_NAME + "=?";
 
         return new QueryStatement<Map<UUID, ExtensionTabData>>(sql, 1000) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setInt(1, xMostRecentPlayers);       // Limit to x most recently seen players
-                statement.setString(2, serverUUID.toString());
-                statement.setBoolean(3, true);                  // Select only values that should be shown
-                statement.setBoolean(4, false);                 // Don't select player_name String values
+                int index = setPlayersParameters(statement);
+                statement.setString(index, serverUUID.toString());
+                statement.setBoolean(index + 1, true);          // Select only values that should be shown
+                statement.setBoolean(index + 2, false);         // Don't select player_name String values
             }
 
             @Override
@@ -121,13 +165,6 @@ public class ExtensionServerPlayerDataTableQuery implements Query<Map<UUID, Exte
     }
 
     private Query<Map<UUID, ExtensionTabData>> fetchPlayerGroups() {
-        String selectLimitedNumberOfPlayerUUIDsByLastSeenDate = SELECT +
-                SessionsTable.TABLE_NAME + '.' + SessionsTable.USER_UUID +
-                ",MAX(" + SessionsTable.SESSION_END + ") as last_seen" +
-                FROM + SessionsTable.TABLE_NAME +
-                GROUP_BY + SessionsTable.TABLE_NAME + '.' + SessionsTable.USER_UUID +
-                ORDER_BY + "last_seen DESC LIMIT ?";
-
         String sql = SELECT +
                 "v1." + ExtensionGroupsTable.USER_UUID + " as uuid," +
                 "v1." + ExtensionGroupsTable.GROUP_NAME + " as group_value," +
@@ -136,17 +173,17 @@ public class ExtensionServerPlayerDataTableQuery implements Query<Map<UUID, Exte
                 "i1." + ExtensionIconTable.ICON_NAME + " as provider_icon_name," +
                 "i1." + ExtensionIconTable.FAMILY + " as provider_icon_family" +
                 FROM + ExtensionGroupsTable.TABLE_NAME + " v1" +
-                INNER_JOIN + '(' + selectLimitedNumberOfPlayerUUIDsByLastSeenDate + ") as last_seen_q on last_seen_q.uuid=v1." + ExtensionGroupsTable.USER_UUID +
                 INNER_JOIN + ExtensionProviderTable.TABLE_NAME + " p1 on p1." + ExtensionProviderTable.ID + "=v1." + ExtensionGroupsTable.PROVIDER_ID +
                 INNER_JOIN + ExtensionPluginTable.TABLE_NAME + " e1 on e1." + ExtensionPluginTable.ID + "=p1." + ExtensionProviderTable.PLUGIN_ID +
                 LEFT_JOIN + ExtensionIconTable.TABLE_NAME + " i1 on i1." + ExtensionIconTable.ID + "=p1." + ExtensionProviderTable.ICON_ID +
-                WHERE + "e1." + ExtensionPluginTable.SERVER_UUID + "=?";
+                selectPlayers("v1." + ExtensionGroupsTable.USER_UUID) +
+                "e1." + ExtensionPluginTable.SERVER_UUID + "=?";
 
         return new QueryStatement<Map<UUID, ExtensionTabData>>(sql, 1000) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setInt(1, xMostRecentPlayers);       // Limit to x most recently seen players
-                statement.setString(2, serverUUID.toString());
+                int index = setPlayersParameters(statement);
+                statement.setString(index, serverUUID.toString());
             }
 
             @Override
@@ -210,7 +247,139 @@ public class ExtensionServerPlayerDataTableQuery implements Query<Map<UUID, Exte
         }
     }
 
-    private ExtensionDescriptive extractDescriptive(ResultSet set) throws SQLException {
+    /**
+     * Query the providers shown in the players table of a server.
+     * <p>
+     * Used for the columns of a players table that is loaded one page at a time,
+     * since the players of a single page might not have values for all providers.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @return Query for descriptives of the providers.
+     */
+    public static Query<List<ExtensionDescriptive>> fetchTableDescriptives(UUID serverUUID) {
+        String sql = SELECT + DISTINCT +
+                "p1." + ExtensionProviderTable.PROVIDER_NAME + " as provider_name," +
+                "p1." + ExtensionProviderTable.TEXT + " as text," +
+                "i1." + ExtensionIconTable.ICON_NAME + " as provider_icon_name," +
+                "i1." + ExtensionIconTable.FAMILY + " as provider_icon_family" +
+                FROM + ExtensionProviderTable.TABLE_NAME + " p1" +
+                INNER_JOIN + ExtensionPluginTable.TABLE_NAME + " e1 on e1." + ExtensionPluginTable.ID + "=p1." + ExtensionProviderTable.PLUGIN_ID +
+                LEFT_JOIN + ExtensionIconTable.TABLE_NAME + " i1 on i1." + ExtensionIconTable.ID + "=p1." + ExtensionProviderTable.ICON_ID +
+                WHERE + "e1." + ExtensionPluginTable.SERVER_UUID + "=?" +
+                AND + "p1." + ExtensionProviderTable.SHOW_IN_PLAYERS_TABLE + "=?" +
+                AND + "p1." + ExtensionProviderTable.IS_PLAYER_NAME + "=?";
+
+        return new QueryStatement<List<ExtensionDescriptive>>(sql, 100) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setBoolean(2, true);                  // Select only values that should be shown
+                statement.setBoolean(3, false);                 // Don't select player_name String values
+            }
+
+            @Override
+            public List<ExtensionDescriptive> processResults(ResultSet set) throws SQLException {
+                List<ExtensionDescriptive> descriptives = new ArrayList<>();
+                while (set.next()) {
+                    descriptives.add(extractDescriptive(set));
+                }
+                return descriptives;
+            }
+        };
+    }
+
+    /**
+     * Create SQL that selects the value of a provider for each player, for ordering the players table by it.
+     * <p>
+     * Rows have the player uuid, decimal_value (double, percentage or number) and string_value.
+     *
+     * @return SQL with parameters set by {@link #setProviderValuesSQLParameters(PreparedStatement, int, UUID, String)}
+     */
+    public static String selectProviderValuesSQL() {
+        return SELECT +
+                "v1." + ExtensionPlayerValueTable.USER_UUID + " as uuid," +
+                "MAX(COALESCE(v1." + ExtensionPlayerValueTable.DOUBLE_VALUE +
+                ",v1." + ExtensionPlayerValueTable.PERCENTAGE_VALUE +
+                ",v1." + ExtensionPlayerValueTable.LONG_VALUE + ")) as decimal_value," +
+                "MAX(v1." + ExtensionPlayerValueTable.STRING_VALUE + ") as string_value" +
+                FROM + ExtensionPlayerValueTable.TABLE_NAME + " v1" +
+                INNER_JOIN + ExtensionProviderTable.TABLE_NAME + " p1 on p1." + ExtensionProviderTable.ID + "=v1." + ExtensionPlayerValueTable.PROVIDER_ID +
+                INNER_JOIN + ExtensionPluginTable.TABLE_NAME + " e1 on e1." + ExtensionPluginTable.ID + "=p1." + ExtensionProviderTable.PLUGIN_ID +
+                WHERE + "e1." + ExtensionPluginTable.SERVER_UUID + "=?" +
+                AND + "p1." + ExtensionProviderTable.PROVIDER_NAME + "=?" +
+                AND + "p1." + ExtensionProviderTable.SHOW_IN_PLAYERS_TABLE + "=?" +
+                AND + "p1." + ExtensionProviderTable.IS_PLAYER_NAME + "=?" +
+                GROUP_BY + "v1." + ExtensionPlayerValueTable.USER_UUID;
+    }
+
+    /**
+     * Set parameters of {@link #selectProviderValuesSQL()}.
+     *
+     * @return Index of the next parameter.
+     */
+    public static int setProviderValuesSQLParameters(PreparedStatement statement, int index, UUID serverUUID, String providerName) throws SQLException {
+        statement.setString(index, serverUUID.toString());
+        statement.setString(index + 1, providerName);
+        statement.setBoolean(index + 2, true);          // Select only values that should be shown
+        statement.setBoolean(index + 3, false);         // Don't select player_name String values
+        return index + 4;
+    }
+
+    /**
+     * Query if the values of a provider in the players table are text.
+     *
+     * @param serverUUID   UUID of the Plan server.
+     * @param providerName Name of the provider.
+     * @return Query that returns true if any player has a String value for the provider.
+     */
+    public static Query<Boolean> hasTextValues(UUID serverUUID, String providerName) {
+        String sql = SELECT + "COUNT(1) as c" +
+                FROM + '(' + selectProviderValuesSQL() + ") q1" +
+                WHERE + "q1.string_value IS NOT NULL";
+
+        return new QueryStatement<Boolean>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                setProviderValuesSQLParameters(statement, 1, serverUUID, providerName);
+            }
+
+            @Override
+            public Boolean processResults(ResultSet set) throws SQLException {
+                return set.next() && set.getInt("c") > 0;
+            }
+        };
+    }
+
+    /**
+     * Create SQL that selects uuids of players that have a String value shown in the players table matching a LIKE pattern.
+     *
+     * @return SQL with parameters set by {@link #setPlayersWithMatchingTextSQLParameters(PreparedStatement, int, UUID, String)}
+     */
+    public static String selectPlayersWithMatchingTextSQL() {
+        return SELECT + "v1." + ExtensionPlayerValueTable.USER_UUID +
+                FROM + ExtensionPlayerValueTable.TABLE_NAME + " v1" +
+                INNER_JOIN + ExtensionProviderTable.TABLE_NAME + " p1 on p1." + ExtensionProviderTable.ID + "=v1." + ExtensionPlayerValueTable.PROVIDER_ID +
+                INNER_JOIN + ExtensionPluginTable.TABLE_NAME + " e1 on e1." + ExtensionPluginTable.ID + "=p1." + ExtensionProviderTable.PLUGIN_ID +
+                WHERE + "e1." + ExtensionPluginTable.SERVER_UUID + "=?" +
+                AND + "p1." + ExtensionProviderTable.SHOW_IN_PLAYERS_TABLE + "=?" +
+                AND + "p1." + ExtensionProviderTable.IS_PLAYER_NAME + "=?" +
+                AND + "LOWER(v1." + ExtensionPlayerValueTable.STRING_VALUE + ") LIKE ? ESCAPE '!'";
+    }
+
+    /**
+     * Set parameters of {@link #selectPlayersWithMatchingTextSQL()}.
+     *
+     * @return Index of the next parameter.
+     */
+    public static int setPlayersWithMatchingTextSQLParameters(PreparedStatement statement, int index, UUID serverUUID, String likePattern) throws SQLException {
+        statement.setString(index, serverUUID.toString());
+        statement.setBoolean(index + 1, true);          // Select only values that should be shown
+        statement.setBoolean(index + 2, false);         // Don't select player_name String values
+        statement.setString(index + 3, likePattern);
+        return index + 4;
+    }
+
+    private static ExtensionDescriptive extractDescriptive(ResultSet set) throws SQLException {
         String name = set.getString("provider_name");
         String text = set.getString(ExtensionProviderTable.TEXT);
 
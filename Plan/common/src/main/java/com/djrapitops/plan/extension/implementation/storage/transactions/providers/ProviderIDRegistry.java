@@ -0,0 +1,64 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.storage.transactions.providers;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory registry of database IDs of the providers of a single extension on this server.
+ * <p>
+ * Filled by {@link StoreProviderTransaction} and {@link StoreTableProviderTransaction} after they have been committed,
+ * so that results can be stored without looking the IDs up again.
+ *
+ * @author Rsl1122
+ */
+public class ProviderIDRegistry {
+
+    private final Map<String, Integer> providerIDs;
+    private final Map<String, Integer> tableIDs;
+
+    public ProviderIDRegistry() {
+        providerIDs = new ConcurrentHashMap<>();
+        tableIDs = new ConcurrentHashMap<>();
+    }
+
+    public Optional<Integer> getProviderID(String providerName) {
+        return Optional.ofNullable(providerIDs.get(providerName));
+    }
+
+    public void registerProviderID(String providerName, int providerID) {
+        providerIDs.put(providerName, providerID);
+    }
+
+    public Optional<Integer> getTableID(String providerName) {
+        return Optional.ofNullable(tableIDs.get(providerName));
+    }
+
+    public void registerTableID(String providerName, int tableID) {
+        tableIDs.put(providerName, tableID);
+    }
+
+    /**
+     * Forget all IDs, so that provider information is stored again before next results.
+     */
+    public void clear() {
+        providerIDs.clear();
+        tableIDs.clear();
+    }
+}
@@ -16,9 +16,11 @@
  */
 package com.djrapitops.plan.extension.implementation.storage.transactions.providers;
 
+import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.extension.FormatType;
 import com.djrapitops.plan.extension.implementation.ProviderInformation;
 import com.djrapitops.plan.extension.implementation.providers.DataProvider;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
 import com.djrapitops.plan.storage.database.sql.tables.ExtensionIconTable;
 import com.djrapitops.plan.storage.database.sql.tables.ExtensionPluginTable;
@@ -28,10 +30,13 @@ import com.djrapitops.plan.storage.database.transactions.Executable;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.UUID;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.AND;
+import static com.djrapitops.plan.storage.database.sql.building.Sql.FROM;
+import static com.djrapitops.plan.storage.database.sql.building.Sql.SELECT;
 import static com.djrapitops.plan.storage.database.sql.building.Sql.WHERE;
 import static com.djrapitops.plan.storage.database.sql.tables.ExtensionProviderTable.*;
 
@@ -44,15 +49,45 @@ public class StoreProviderTransaction extends ThrowawayTransaction {
 
     private final DataProvider<?> provider;
     private final UUID serverUUID;
+    private final ProviderIDRegistry registry;
+
+    private int providerID = -1;
 
     public StoreProviderTransaction(DataProvider<?> provider, UUID serverUUID) {
+        this(provider, serverUUID, null);
+    }
+
+    /**
+     * Store the provider and register its ID after commit.
+     *
+     * @param provider   Provider to store.
+     * @param serverUUID UUID of this server.
+     * @param registry   Registry of the extension of the provider, or null if the ID is not needed.
+     */
+    public StoreProviderTransaction(DataProvider<?> provider, UUID serverUUID, ProviderIDRegistry registry) {
         this.provider = provider;
         this.serverUUID = serverUUID;
+        this.registry = registry;
     }
 
     @Override
     protected void performOperations() {
         execute(storeProvider());
+        if (registry != null) {
+            String providerName = provider.getProviderInformation().getName();
+            int id = queryWithinTransaction(providerID());
+            providerID = id;
+            afterCommit(() -> registry.registerProviderID(providerName, id));
+        }
+    }
+
+    /**
+     * Get the ID of the stored provider.
+     *
+     * @return ID, or -1 if the transaction was not given a registry or has not been executed.
+     */
+    public int getProviderID() {
+        return providerID;
     }
 
     private Executable storeProvider() {
@@ -108,6 +143,29 @@ public class StoreProviderTransaction extends ThrowawayTransaction {
         };
     }
 
+    private QueryStatement<Integer> providerID() {
+        ProviderInformation info = provider.getProviderInformation();
+        String sql = SELECT + ID +
+                FROM + TABLE_NAME +
+                WHERE + PROVIDER_NAME + "=?" +
+                AND + PLUGIN_ID + '=' + ExtensionPluginTable.STATEMENT_SELECT_PLUGIN_ID +
+                " LIMIT 1";
+        return new QueryStatement<Integer>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                set3PluginValuesToStatement(statement, 1, info.getName(), info.getPluginName(), serverUUID);
+            }
+
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                if (set.next()) {
+                    return set.getInt(ID);
+                }
+                throw new DBOpException("Provider was not saved. Please report this issue. Extension method: " + info.getPluginName() + "#" + info.getName());
+            }
+        };
+    }
+
     private Executable insertProvider() {
         String sql = "INSERT INTO " + TABLE_NAME + '(' +
                 PROVIDER_NAME + ',' +
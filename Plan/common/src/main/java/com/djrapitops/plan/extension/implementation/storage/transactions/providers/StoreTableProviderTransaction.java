@@ -16,9 +16,11 @@
  */
 package com.djrapitops.plan.extension.implementation.storage.transactions.providers;
 
+import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.extension.icon.Icon;
 import com.djrapitops.plan.extension.implementation.ProviderInformation;
 import com.djrapitops.plan.extension.table.Table;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.sql.tables.ExtensionIconTable;
 import com.djrapitops.plan.storage.database.sql.tables.ExtensionPluginTable;
 import com.djrapitops.plan.storage.database.sql.tables.ExtensionTabTable;
@@ -27,11 +29,14 @@ import com.djrapitops.plan.storage.database.transactions.Executable;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.UUID;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.AND;
+import static com.djrapitops.plan.storage.database.sql.building.Sql.FROM;
+import static com.djrapitops.plan.storage.database.sql.building.Sql.SELECT;
 import static com.djrapitops.plan.storage.database.sql.building.Sql.WHERE;
 import static com.djrapitops.plan.storage.database.sql.tables.ExtensionTableProviderTable.*;
 
@@ -45,16 +50,47 @@ public class StoreTableProviderTransaction extends ThrowawayTransaction {
     private final UUID serverUUID;
     private final ProviderInformation information;
     private final Table table;
+    private final ProviderIDRegistry registry;
+
+    private int tableID = -1;
 
     public StoreTableProviderTransaction(UUID serverUUID, ProviderInformation information, Table table) {
+        this(serverUUID, information, table, null);
+    }
+
+    /**
+     * Store the table provider and register its ID after commit.
+     *
+     * @param serverUUID  UUID of this server.
+     * @param information Information about the provider.
+     * @param table       Result of the provider, column names and icons are stored.
+     * @param registry    Registry of the extension of the provider, or null if the ID is not needed.
+     */
+    public StoreTableProviderTransaction(UUID serverUUID, ProviderInformation information, Table table, ProviderIDRegistry registry) {
         this.information = information;
         this.table = table;
         this.serverUUID = serverUUID;
+        this.registry = registry;
     }
 
     @Override
     protected void performOperations() {
         execute(storeProvider());
+        if (registry != null) {
+            String providerName = information.getName();
+            int id = queryWithinTransaction(tableID());
+            tableID = id;
+            afterCommit(() -> registry.registerTableID(providerName, id));
+        }
+    }
+
+    /**
+     * Get the ID of the stored table provider.
+     *
+     * @return ID, or -1 if the transaction was not given a registry or has not been executed.
+     */
+    public int getTableID() {
+        return tableID;
     }
 
     private Executable storeProvider() {
@@ -109,6 +145,28 @@ public class StoreTableProviderTransaction extends ThrowawayTransaction {
         };
     }
 
+    private QueryStatement<Integer> tableID() {
+        String sql = SELECT + ID +
+                FROM + TABLE_NAME +
+                WHERE + PROVIDER_NAME + "=?" +
+                AND + PLUGIN_ID + '=' + ExtensionPluginTable.STATEMENT_SELECT_PLUGIN_ID +
+                " LIMIT 1";
+        return new QueryStatement<Integer>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                set3PluginValuesToStatement(statement, 1, information.getName(), information.getPluginName(), serverUUID);
+            }
+
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                if (set.next()) {
+                    return set.getInt(ID);
+                }
+                throw new DBOpException("Table Provider was not saved. Please report this issue. Extension method: " + information.getPluginName() + "#" + information.getName());
+            }
+        };
+    }
+
     private Executable insertProvider() {
         String[] columns = table.getColumns();
         Icon[] icons = table.getIcons();
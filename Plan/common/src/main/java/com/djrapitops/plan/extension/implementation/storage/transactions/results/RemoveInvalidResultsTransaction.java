@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.extension.implementation.storage.transactions.results;
 
+import com.djrapitops.plan.delivery.webserver.cache.DataDomain;
 import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Executable;
@@ -56,6 +57,7 @@ public class RemoveInvalidResultsTransaction extends ThrowawayTransaction {
             execute(deleteInvalidServerTableResults(invalidatedMethod));
             execute(deleteInvalidTableProvider(invalidatedMethod));
         }
+        dataChanged(DataDomain.EXTENSIONS, serverUUID);
     }
 
     private Executable deleteInvalidPlayerMethodResults(String invalidMethod) {
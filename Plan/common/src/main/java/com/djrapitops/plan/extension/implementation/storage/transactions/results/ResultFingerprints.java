@@ -0,0 +1,65 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.storage.transactions.results;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory store of the last written results of a single extension, for skipping values that have not changed.
+ * <p>
+ * Snapshots are replaced after a {@link StoreExtensionResultsTransaction} has been committed.
+ * They expire after a while so that rows removed by other transactions (like cleaning) are eventually written again.
+ *
+ * @author Rsl1122
+ */
+public class ResultFingerprints {
+
+    private final Cache<UUID, ResultSnapshot> snapshots;
+
+    public ResultFingerprints() {
+        snapshots = Caffeine.newBuilder()
+                .expireAfterWrite(10, TimeUnit.MINUTES)
+                .maximumSize(500)
+                .build();
+    }
+
+    Optional<ResultSnapshot> get(UUID ownerUUID) {
+        return Optional.ofNullable(snapshots.getIfPresent(ownerUUID));
+    }
+
+    void put(UUID ownerUUID, ResultSnapshot snapshot) {
+        snapshots.put(ownerUUID, snapshot);
+    }
+
+    /**
+     * Forget the results of a player or server, so that the next results are compared against the database.
+     *
+     * @param ownerUUID UUID of the player, or the server for server results.
+     */
+    public void invalidate(UUID ownerUUID) {
+        snapshots.invalidate(ownerUUID);
+    }
+
+    public void clear() {
+        snapshots.invalidateAll();
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.storage.transactions.results;
+
+import com.djrapitops.plan.extension.table.Table;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.tables.*;
+import org.apache.commons.lang3.StringUtils;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Results of an extension for a player or server, in the form they are stored in the database.
+ * <p>
+ * Used for comparing new results against the previously written ones.
+ *
+ * @author Rsl1122
+ */
+class ResultSnapshot {
+
+    // Player table value columns have the same names, but there are only 4 of them.
+    static final String[] TABLE_VALUE_COLUMNS = {
+            ExtensionServerTableValueTable.VALUE_1,
+            ExtensionServerTableValueTable.VALUE_2,
+            ExtensionServerTableValueTable.VALUE_3,
+            ExtensionServerTableValueTable.VALUE_4,
+            ExtensionServerTableValueTable.VALUE_5
+    };
+
+    // Provider name - [column, value]
+    final Map<String, List<Object>> values;
+    // Provider name - Sorted group names
+    final Map<String, List<String>> groups;
+    // Provider name - Row contents - How many rows have these contents
+    final Map<String, Map<List<String>, Integer>> tables;
+
+    ResultSnapshot() {
+        values = new HashMap<>();
+        groups = new HashMap<>();
+        tables = new HashMap<>();
+    }
+
+    static List<Object> valueFingerprint(String column, Object value) {
+        return Arrays.asList(column, value);
+    }
+
+    static List<String> groupsFingerprint(String[] groups) {
+        List<String> fingerprint = new ArrayList<>(groups.length);
+        for (String group : groups) {
+            fingerprint.add(StringUtils.truncate(group, 50));
+        }
+        Collections.sort(fingerprint);
+        return fingerprint;
+    }
+
+    static Map<List<String>, Integer> tableFingerprint(Table table, int columnCount) {
+        int maxColumnSize = Math.min(table.getMaxColumnSize(), columnCount);
+        Map<List<String>, Integer> fingerprint = new HashMap<>();
+        for (Object[] row : table.getRows()) {
+            List<String> contents = new ArrayList<>(columnCount);
+            for (int i = 0; i < maxColumnSize; i++) {
+                Object value = row[i];
+                contents.add(value != null ? StringUtils.truncate(value.toString(), 250) : null);
+            }
+            // Rest are null if the table is not as wide as the database table.
+            for (int i = maxColumnSize; i < columnCount; i++) {
+                contents.add(null);
+            }
+            fingerprint.merge(contents, 1, Integer::sum);
+        }
+        return fingerprint;
+    }
+
+    static QueryStatement<Map<String, List<Object>>> storedValues(String pluginName, UUID serverUUID, UUID playerUUID) {
+        String valueTable = playerUUID != null ? ExtensionPlayerValueTable.TABLE_NAME : ExtensionServerValueTable.TABLE_NAME;
+        String sql = SELECT + "p." + ExtensionProviderTable.PROVIDER_NAME + " as provider_name," +
+                "v." + ExtensionPlayerValueTable.BOOLEAN_VALUE + ',' +
+                "v." + ExtensionPlayerValueTable.DOUBLE_VALUE + ',' +
+                "v." + ExtensionPlayerValueTable.PERCENTAGE_VALUE + ',' +
+                "v." + ExtensionPlayerValueTable.LONG_VALUE + ',' +
+                "v." + ExtensionPlayerValueTable.STRING_VALUE +
+                FROM + valueTable + " v" +
+                INNER_JOIN + ExtensionProviderTable.TABLE_NAME + " p on p." + ExtensionProviderTable.ID + "=v." + ExtensionPlayerValueTable.PROVIDER_ID +
+                WHERE + "p." + ExtensionProviderTable.PLUGIN_ID + '=' + ExtensionPluginTable.STATEMENT_SELECT_PLUGIN_ID +
+                (playerUUID != null ? AND + "v." + ExtensionPlayerValueTable.USER_UUID + "=?" : "");
+
+        return new QueryStatement<Map<String, List<Object>>>(sql, 100) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                ExtensionPluginTable.set2PluginValuesToStatement(statement, 1, pluginName, serverUUID);
+                if (playerUUID != null) statement.setString(3, playerUUID.toString());
+            }
+
+            @Override
+            public Map<String, List<Object>> processResults(ResultSet set) throws SQLException {
+                Map<String, List<Object>> stored = new HashMap<>();
+                while (set.next()) {
+                    String providerName = set.getString("provider_name");
+                    List<Object> fingerprint = extractValueFingerprint(set);
+                    if (fingerprint != null) stored.put(providerName, fingerprint);
+                }
+                return stored;
+            }
+        };
+    }
+
+    private static List<Object> extractValueFingerprint(ResultSet set) throws SQLException {
+        boolean booleanValue = set.getBoolean(ExtensionPlayerValueTable.BOOLEAN_VALUE);
+        if (!set.wasNull()) return valueFingerprint(ExtensionPlayerValueTable.BOOLEAN_VALUE, booleanValue);
+        double doubleValue = set.getDouble(ExtensionPlayerValueTable.DOUBLE_VALUE);
+        if (!set.wasNull()) return valueFingerprint(ExtensionPlayerValueTable.DOUBLE_VALUE, doubleValue);
+        double percentageValue = set.getDouble(ExtensionPlayerValueTable.PERCENTAGE_VALUE);
+        if (!set.wasNull()) return valueFingerprint(ExtensionPlayerValueTable.PERCENTAGE_VALUE, percentageValue);
+        long longValue = set.getLong(ExtensionPlayerValueTable.LONG_VALUE);
+        if (!set.wasNull()) return valueFingerprint(ExtensionPlayerValueTable.LONG_VALUE, longValue);
+        String stringValue = set.getString(ExtensionPlayerValueTable.STRING_VALUE);
+        if (stringValue != null) return valueFingerprint(ExtensionPlayerValueTable.STRING_VALUE, stringValue);
+        return null;
+    }
+
+    static QueryStatement<Map<String, List<String>>> storedGroups(String pluginName, UUID serverUUID, UUID playerUUID) {
+        String sql = SELECT + "p." + ExtensionProviderTable.PROVIDER_NAME + " as provider_name," +
+                "g." + ExtensionGroupsTable.GROUP_NAME +
+                FROM + ExtensionGroupsTable.TABLE_NAME + " g" +
+                INNER_JOIN + ExtensionProviderTable.TABLE_NAME + " p on p." + ExtensionProviderTable.ID + "=g." + ExtensionGroupsTable.PROVIDER_ID +
+                WHERE + "p." + ExtensionProviderTable.PLUGIN_ID + '=' + ExtensionPluginTable.STATEMENT_SELECT_PLUGIN_ID +
+                AND + "g." + ExtensionGroupsTable.USER_UUID + "=?";
+
+        return new QueryStatement<Map<String, List<String>>>(sql, 100) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                ExtensionPluginTable.set2PluginValuesToStatement(statement, 1, pluginName, serverUUID);
+                statement.setString(3, playerUUID.toString());
+            }
+
+            @Override
+            public Map<String, List<String>> processResults(ResultSet set) throws SQLException {
+                Map<String, List<String>> stored = new HashMap<>();
+                while (set.next()) {
+                    stored.computeIfAbsent(set.getString("provider_name"), key -> new ArrayList<>())
+                            .add(set.getString(ExtensionGroupsTable.GROUP_NAME));
+                }
+                stored.values().forEach(Collections::sort);
+                return stored;
+            }
+        };
+    }
+
+    static QueryStatement<Map<String, Map<List<String>, Integer>>> storedTableRows(String pluginName, UUID serverUUID, UUID playerUUID) {
+        // Player tables have 4 value columns, server tables 5.
+        int columnCount = playerUUID != null ? 4 : 5;
+        String valueTable = playerUUID != null ? ExtensionPlayerTableValueTable.TABLE_NAME : ExtensionServerTableValueTable.TABLE_NAME;
+        StringBuilder columns = new StringBuilder();
+        for (int i = 0; i < columnCount; i++) {
+            columns.append(",v.").append(TABLE_VALUE_COLUMNS[i]);
+        }
+        String sql = SELECT + "t." + ExtensionTableProviderTable.PROVIDER_NAME + " as provider_name" +
+                columns +
+                FROM + valueTable + " v" +
+                INNER_JOIN + ExtensionTableProviderTable.TABLE_NAME + " t on t." + ExtensionTableProviderTable.ID + "=v." + ExtensionServerTableValueTable.TABLE_ID +
+                WHERE + "t." + ExtensionTableProviderTable.PLUGIN_ID + '=' + ExtensionPluginTable.STATEMENT_SELECT_PLUGIN_ID +
+                AND + "v." + ExtensionServerTableValueTable.SERVER_UUID + "=?"; // Same column name in player table
+
+        return new QueryStatement<Map<String, Map<List<String>, Integer>>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                ExtensionPluginTable.set2PluginValuesToStatement(statement, 1, pluginName, serverUUID);
+                statement.setString(3, (playerUUID != null ? playerUUID : serverUUID).toString());
+            }
+
+            @Override
+            public Map<String, Map<List<String>, Integer>> processResults(ResultSet set) throws SQLException {
+                Map<String, Map<List<String>, Integer>> stored = new HashMap<>();
+                while (set.next()) {
+                    List<String> contents = new ArrayList<>(columnCount);
+                    for (int i = 0; i < columnCount; i++) {
+                        contents.add(set.getString(TABLE_VALUE_COLUMNS[i]));
+                    }
+                    stored.computeIfAbsent(set.getString("provider_name"), key -> new HashMap<>())
+                            .merge(contents, 1, Integer::sum);
+                }
+                return stored;
+            }
+        };
+    }
+}
@@ -0,0 +1,476 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.storage.transactions.results;
+
+import com.djrapitops.plan.delivery.webserver.cache.DataDomain;
+import com.djrapitops.plan.extension.icon.Icon;
+import com.djrapitops.plan.extension.implementation.ProviderInformation;
+import com.djrapitops.plan.extension.implementation.providers.DataProvider;
+import com.djrapitops.plan.extension.implementation.storage.transactions.StoreIconTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.providers.ProviderIDRegistry;
+import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreProviderTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreTableProviderTransaction;
+import com.djrapitops.plan.extension.table.Table;
+import com.djrapitops.plan.storage.database.sql.tables.*;
+import com.djrapitops.plan.storage.database.transactions.ExecBatchStatement;
+import com.djrapitops.plan.storage.database.transactions.ExecStatement;
+import com.djrapitops.plan.storage.database.transactions.Executable;
+import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+import org.apache.commons.lang3.StringUtils;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.*;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Transaction to store all method results of an extension gathered for a player or for the server at once.
+ * <p>
+ * Provider and table IDs are taken from a {@link ProviderIDRegistry}, providers missing from it are stored first.
+ * Results are compared against the previously written ones from {@link ResultFingerprints}, or the database,
+ * and only values that changed are written. Table rows that changed are removed and inserted, others are left as is.
+ *
+ * @author Rsl1122
+ */
+public class StoreExtensionResultsTransaction extends ThrowawayTransaction {
+
+    private final String pluginName;
+    private final UUID serverUUID;
+    private final UUID playerUUID; // null for server results
+    private final ProviderIDRegistry registry;
+    private final ResultFingerprints fingerprints;
+
+    private final Map<String, DataProvider<?>> valueProviders;
+    private final Map<String, List<Value>> valuesByColumn;
+    private final Map<String, String[]> groups;
+    private final Map<String, DataProvider<?>> tableProviders;
+    private final Map<String, Table> tables;
+
+    private StoreExtensionResultsTransaction(
+            String pluginName, UUID serverUUID, UUID playerUUID,
+            ProviderIDRegistry registry, ResultFingerprints fingerprints
+    ) {
+        this.pluginName = pluginName;
+        this.serverUUID = serverUUID;
+        this.playerUUID = playerUUID;
+        this.registry = registry;
+        this.fingerprints = fingerprints;
+
+        valueProviders = new LinkedHashMap<>();
+        valuesByColumn = new LinkedHashMap<>();
+        groups = new LinkedHashMap<>();
+        tableProviders = new LinkedHashMap<>();
+        tables = new LinkedHashMap<>();
+    }
+
+    public static StoreExtensionResultsTransaction forPlayer(
+            String pluginName, UUID serverUUID, UUID playerUUID,
+            ProviderIDRegistry registry, ResultFingerprints fingerprints
+    ) {
+        return new StoreExtensionResultsTransaction(pluginName, serverUUID, playerUUID, registry, fingerprints);
+    }
+
+    public static StoreExtensionResultsTransaction forServer(
+            String pluginName, UUID serverUUID,
+            ProviderIDRegistry registry, ResultFingerprints fingerprints
+    ) {
+        return new StoreExtensionResultsTransaction(pluginName, serverUUID, null, registry, fingerprints);
+    }
+
+    public void addBoolean(DataProvider<Boolean> provider, boolean value) {
+        addValue(provider, ExtensionPlayerValueTable.BOOLEAN_VALUE, value, (statement, index) -> statement.setBoolean(index, value));
+    }
+
+    public void addNumber(DataProvider<Long> provider, long value) {
+        addValue(provider, ExtensionPlayerValueTable.LONG_VALUE, value, (statement, index) -> statement.setLong(index, value));
+    }
+
+    public void addDouble(DataProvider<Double> provider, double value) {
+        String column = provider.getProviderInformation().isPercentage() ? ExtensionPlayerValueTable.PERCENTAGE_VALUE : ExtensionPlayerValueTable.DOUBLE_VALUE;
+        addValue(provider, column, value, (statement, index) -> statement.setDouble(index, value));
+    }
+
+    public void addString(DataProvider<String> provider, String value) {
+        String truncated = StringUtils.truncate(value, 50);
+        addValue(provider, ExtensionPlayerValueTable.STRING_VALUE, truncated, (statement, index) -> statement.setString(index, truncated));
+    }
+
+    private void addValue(DataProvider<?> provider, String column, Object value, ValueSetter setter) {
+        String providerName = provider.getProviderInformation().getName();
+        valueProviders.put(providerName, provider);
+        valuesByColumn.computeIfAbsent(column, key -> new ArrayList<>())
+                .add(new Value(providerName, ResultSnapshot.valueFingerprint(column, value), setter));
+    }
+
+    public void addGroups(DataProvider<String[]> provider, String[] value) {
+        String providerName = provider.getProviderInformation().getName();
+        valueProviders.put(providerName, provider);
+        groups.put(providerName, value);
+    }
+
+    public void addTable(DataProvider<Table> provider, Table value) {
+        String providerName = provider.getProviderInformation().getName();
+        tableProviders.put(providerName, provider);
+        tables.put(providerName, value);
+    }
+
+    public boolean isEmpty() {
+        return valueProviders.isEmpty() && tableProviders.isEmpty();
+    }
+
+    @Override
+    public UUID getPartitionKey() {
+        return getOwnerUUID();
+    }
+
+    @Override
+    protected boolean shouldBeExecuted() {
+        return !isEmpty() && super.shouldBeExecuted();
+    }
+
+    @Override
+    protected void performOperations() {
+        UUID ownerUUID = getOwnerUUID();
+        try {
+            Map<String, Integer> providerIDs = getProviderIDs();
+            Map<String, Integer> tableIDs = getTableIDs();
+            ResultSnapshot previous = fingerprints.get(ownerUUID).orElseGet(this::loadStoredResults);
+            ResultSnapshot current = new ResultSnapshot();
+
+            boolean changed = storeChangedValues(providerIDs, previous, current);
+            changed |= storeChangedGroups(providerIDs, previous, current);
+            changed |= storeChangedTableRows(tableIDs, previous, current);
+
+            if (changed) dataChanged(DataDomain.EXTENSIONS, serverUUID);
+            afterCommit(() -> fingerprints.put(ownerUUID, current));
+        } catch (RuntimeException failed) {
+            // IDs or stored results may not match the database anymore, for example if it was cleared.
+            registry.clear();
+            fingerprints.invalidate(ownerUUID);
+            throw failed;
+        }
+    }
+
+    private Map<String, Integer> getProviderIDs() {
+        Map<String, Integer> providerIDs = new HashMap<>();
+        for (Map.Entry<String, DataProvider<?>> entry : valueProviders.entrySet()) {
+            String providerName = entry.getKey();
+            Optional<Integer> registered = registry.getProviderID(providerName);
+            if (registered.isPresent()) {
+                providerIDs.put(providerName, registered.get());
+                continue;
+            }
+
+            DataProvider<?> provider = entry.getValue();
+            executeOther(new StoreIconTransaction(provider.getProviderInformation().getIcon()));
+            StoreProviderTransaction storeProvider = new StoreProviderTransaction(provider, serverUUID, registry);
+            executeOther(storeProvider);
+            providerIDs.put(providerName, storeProvider.getProviderID());
+        }
+        return providerIDs;
+    }
+
+    private Map<String, Integer> getTableIDs() {
+        Map<String, Integer> tableIDs = new HashMap<>();
+        for (Map.Entry<String, DataProvider<?>> entry : tableProviders.entrySet()) {
+            String providerName = entry.getKey();
+            Optional<Integer> registered = registry.getTableID(providerName);
+            if (registered.isPresent()) {
+                tableIDs.put(providerName, registered.get());
+                continue;
+            }
+
+            Table table = tables.get(providerName);
+            for (Icon icon : table.getIcons()) {
+                if (icon != null) {
+                    executeOther(new StoreIconTransaction(icon));
+                }
+            }
+            ProviderInformation information = entry.getValue().getProviderInformation();
+            StoreTableProviderTransaction storeProvider = new StoreTableProviderTransaction(serverUUID, information, table, registry);
+            executeOther(storeProvider);
+            tableIDs.put(providerName, storeProvider.getTableID());
+        }
+        return tableIDs;
+    }
+
+    private ResultSnapshot loadStoredResults() {
+        ResultSnapshot stored = new ResultSnapshot();
+        if (!valuesByColumn.isEmpty()) {
+            stored.values.putAll(queryWithinTransaction(ResultSnapshot.storedValues(pluginName, serverUUID, playerUUID)));
+        }
+        if (!groups.isEmpty()) {
+            stored.groups.putAll(queryWithinTransaction(ResultSnapshot.storedGroups(pluginName, serverUUID, playerUUID)));
+        }
+        if (!tables.isEmpty()) {
+            stored.tables.putAll(queryWithinTransaction(ResultSnapshot.storedTableRows(pluginName, serverUUID, playerUUID)));
+        }
+        return stored;
+    }
+
+    private boolean storeChangedValues(Map<String, Integer> providerIDs, ResultSnapshot previous, ResultSnapshot current) {
+        boolean changed = false;
+        for (Map.Entry<String, List<Value>> column : valuesByColumn.entrySet()) {
+            List<Value> changedValues = new ArrayList<>();
+            for (Value value : column.getValue()) {
+                current.values.put(value.providerName, value.fingerprint);
+                if (!value.fingerprint.equals(previous.values.get(value.providerName))) {
+                    changedValues.add(value);
+                }
+            }
+            if (changedValues.isEmpty()) continue;
+
+            execute(deleteOldValues(changedValues, providerIDs));
+            execute(insertValues(column.getKey(), changedValues, providerIDs));
+            changed = true;
+        }
+        return changed;
+    }
+
+    private boolean storeChangedGroups(Map<String, Integer> providerIDs, ResultSnapshot previous, ResultSnapshot current) {
+        Map<String, List<String>> changedGroups = new HashMap<>();
+        for (Map.Entry<String, String[]> entry : groups.entrySet()) {
+            String providerName = entry.getKey();
+            List<String> fingerprint = ResultSnapshot.groupsFingerprint(entry.getValue());
+            current.groups.put(providerName, fingerprint);
+            if (!fingerprint.equals(previous.groups.get(providerName))) {
+                changedGroups.put(providerName, fingerprint);
+            }
+        }
+        if (changedGroups.isEmpty()) return false;
+
+        execute(deleteOldGroups(changedGroups.keySet(), providerIDs));
+        execute(insertGroups(changedGroups, providerIDs));
+        return true;
+    }
+
+    private boolean storeChangedTableRows(Map<String, Integer> tableIDs, ResultSnapshot previous, ResultSnapshot current) {
+        // Player tables have 4 value columns, server tables 5.
+        int columnCount = playerUUID != null ? 4 : 5;
+        List<TableRow> insertedRows = new ArrayList<>();
+        boolean changed = false;
+        for (Map.Entry<String, Table> entry : tables.entrySet()) {
+            String providerName = entry.getKey();
+            Table table = entry.getValue();
+            if (table.getMaxColumnSize() == 0) continue;
+
+            Map<List<String>, Integer> rows = ResultSnapshot.tableFingerprint(table, columnCount);
+            current.tables.put(providerName, rows);
+            Map<List<String>, Integer> previousRows = previous.tables.getOrDefault(providerName, Collections.emptyMap());
+            if (rows.equals(previousRows)) continue;
+
+            int tableID = tableIDs.get(providerName);
+            // Rows with same contents can not be told apart, so if their count changed all of them are replaced.
+            for (Map.Entry<List<String>, Integer> previousRow : previousRows.entrySet()) {
+                if (!previousRow.getValue().equals(rows.get(previousRow.getKey()))) {
+                    execute(deleteTableRows(tableID, previousRow.getKey()));
+                }
+            }
+            for (Map.Entry<List<String>, Integer> row : rows.entrySet()) {
+                if (!row.getValue().equals(previousRows.get(row.getKey()))) {
+                    for (int i = 0; i < row.getValue(); i++) {
+                        insertedRows.add(new TableRow(tableID, row.getKey()));
+                    }
+                }
+            }
+            changed = true;
+        }
+        if (!insertedRows.isEmpty()) {
+            execute(insertTableRows(insertedRows, columnCount));
+        }
+        return changed;
+    }
+
+    private Executable deleteOldValues(List<Value> values, Map<String, Integer> providerIDs) {
+        String sql = playerUUID != null
+                ? DELETE_FROM + ExtensionPlayerValueTable.TABLE_NAME +
+                WHERE + ExtensionPlayerValueTable.PROVIDER_ID + "=?" +
+                AND + ExtensionPlayerValueTable.USER_UUID + "=?"
+                : DELETE_FROM + ExtensionServerValueTable.TABLE_NAME +
+                WHERE + ExtensionServerValueTable.PROVIDER_ID + "=?";
+
+        return new ExecBatchStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (Value value : values) {
+                    statement.setInt(1, providerIDs.get(value.providerName));
+                    if (playerUUID != null) statement.setString(2, playerUUID.toString());
+                    statement.addBatch();
+                }
+            }
+        };
+    }
+
+    private Executable insertValues(String column, List<Value> values, Map<String, Integer> providerIDs) {
+        String sql = playerUUID != null
+                ? "INSERT INTO " + ExtensionPlayerValueTable.TABLE_NAME + '(' +
+                column + ',' +
+                ExtensionPlayerValueTable.PROVIDER_ID + ',' +
+                ExtensionPlayerValueTable.USER_UUID +
+                ") VALUES (?,?,?)"
+                : "INSERT INTO " + ExtensionServerValueTable.TABLE_NAME + '(' +
+                column + ',' +
+                ExtensionServerValueTable.PROVIDER_ID +
+                ") VALUES (?,?)";
+
+        return new ExecBatchStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (Value value : values) {
+                    value.setter.set(statement, 1);
+                    statement.setInt(2, providerIDs.get(value.providerName));
+                    if (playerUUID != null) statement.setString(3, playerUUID.toString());
+                    statement.addBatch();
+                }
+            }
+        };
+    }
+
+    private Executable deleteOldGroups(Set<String> providerNames, Map<String, Integer> providerIDs) {
+        String sql = DELETE_FROM + ExtensionGroupsTable.TABLE_NAME +
+                WHERE + ExtensionGroupsTable.PROVIDER_ID + "=?" +
+                AND + ExtensionGroupsTable.USER_UUID + "=?";
+
+        return new ExecBatchStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (String providerName : providerNames) {
+                    statement.setInt(1, providerIDs.get(providerName));
+                    statement.setString(2, playerUUID.toString());
+                    statement.addBatch();
+                }
+            }
+        };
+    }
+
+    private Executable insertGroups(Map<String, List<String>> groupsByProvider, Map<String, Integer> providerIDs) {
+        String sql = "INSERT INTO " + ExtensionGroupsTable.TABLE_NAME + '(' +
+                ExtensionGroupsTable.GROUP_NAME + ',' +
+                ExtensionGroupsTable.USER_UUID + ',' +
+                ExtensionGroupsTable.PROVIDER_ID +
+                ") VALUES (?,?,?)";
+
+        return new ExecBatchStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (Map.Entry<String, List<String>> entry : groupsByProvider.entrySet()) {
+                    int providerID = providerIDs.get(entry.getKey());
+                    for (String group : entry.getValue()) {
+                        statement.setString(1, group);
+                        statement.setString(2, playerUUID.toString());
+                        statement.setInt(3, providerID);
+                        statement.addBatch();
+                    }
+                }
+            }
+        };
+    }
+
+    private Executable deleteTableRows(int tableID, List<String> contents) {
+        StringBuilder sql = new StringBuilder(playerUUID != null
+                ? DELETE_FROM + ExtensionPlayerTableValueTable.TABLE_NAME +
+                WHERE + ExtensionPlayerTableValueTable.TABLE_ID + "=?" +
+                AND + ExtensionPlayerTableValueTable.USER_UUID + "=?"
+                : DELETE_FROM + ExtensionServerTableValueTable.TABLE_NAME +
+                WHERE + ExtensionServerTableValueTable.TABLE_ID + "=?" +
+                AND + ExtensionServerTableValueTable.SERVER_UUID + "=?");
+        for (int i = 0; i < contents.size(); i++) {
+            sql.append(AND).append(ResultSnapshot.TABLE_VALUE_COLUMNS[i])
+                    .append(contents.get(i) != null ? "=?" : IS_NULL);
+        }
+
+        return new ExecStatement(sql.toString()) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, tableID);
+                statement.setString(2, getOwnerUUID().toString());
+                int index = 3;
+                for (String value : contents) {
+                    if (value != null) statement.setString(index++, value);
+                }
+            }
+        };
+    }
+
+    private Executable insertTableRows(List<TableRow> rows, int columnCount) {
+        String tableName = playerUUID != null ? ExtensionPlayerTableValueTable.TABLE_NAME : ExtensionServerTableValueTable.TABLE_NAME;
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(tableName).append('(')
+                .append(ExtensionServerTableValueTable.TABLE_ID).append(',')
+                .append(ExtensionServerTableValueTable.SERVER_UUID); // Same column names in player table
+        StringBuilder parameters = new StringBuilder("?,?");
+        for (int i = 0; i < columnCount; i++) {
+            sql.append(',').append(ResultSnapshot.TABLE_VALUE_COLUMNS[i]);
+            parameters.append(",?");
+        }
+        sql.append(") VALUES (").append(parameters).append(')');
+
+        return new ExecBatchStatement(sql.toString()) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                String owner = getOwnerUUID().toString();
+                for (TableRow row : rows) {
+                    statement.setInt(1, row.tableID);
+                    statement.setString(2, owner);
+                    for (int i = 0; i < columnCount; i++) {
+                        setStringOrNull(statement, 3 + i, row.contents.get(i));
+                    }
+                    statement.addBatch();
+                }
+            }
+        };
+    }
+
+    private UUID getOwnerUUID() {
+        return playerUUID != null ? playerUUID : serverUUID;
+    }
+
+    private void setStringOrNull(PreparedStatement statement, int index, String value) throws SQLException {
+        if (value != null) {
+            statement.setString(index, value);
+        } else {
+            statement.setNull(index, Types.VARCHAR);
+        }
+    }
+
+    private interface ValueSetter {
+        void set(PreparedStatement statement, int index) throws SQLException;
+    }
+
+    private static class Value {
+        private final String providerName;
+        private final List<Object> fingerprint;
+        private final ValueSetter setter;
+
+        Value(String providerName, List<Object> fingerprint, ValueSetter setter) {
+            this.providerName = providerName;
+            this.fingerprint = fingerprint;
+            this.setter = setter;
+        }
+    }
+
+    private static class TableRow {
+        private final int tableID;
+        private final List<String> contents;
+
+        TableRow(int tableID, List<String> contents) {
+            this.tableID = tableID;
+            this.contents = contents;
+        }
+    }
+}
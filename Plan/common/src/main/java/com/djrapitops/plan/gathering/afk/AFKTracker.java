@@ -20,79 +20,165 @@ import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 
-import java.util.*;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 
 /**
  * Keeps track how long player has been afk during a session
+ * <p>
+ * Safe to call from any thread. Actions of a player are recorded at most once per {@link #ACTION_INTERVAL_MS},
+ * so most move events return after comparing a timestamp.
  *
  * @author Rsl1122
  */
 public class AFKTracker {
 
-    private final Set<UUID> usedAFKCommand;
-    private final Map<UUID, Long> lastMovement;
+    /**
+     * Actions closer together than this are not recorded, since the AFK threshold is minutes.
+     */
+    static final long ACTION_INTERVAL_MS = TimeUnit.SECONDS.toMillis(1L);
+    /**
+     * Permission changes do not fire an event on all platforms, so the permission is checked again after this time.
+     */
+    static final long PERMISSION_REFRESH_MS = TimeUnit.MINUTES.toMillis(1L);
+
+    private final Map<UUID, AFKState> states;
     private final PlanConfig config;
-    private Long afkThresholdMs;
+    private volatile long afkThresholdMs = -1L;
 
     public AFKTracker(PlanConfig config) {
         this.config = config;
-        usedAFKCommand = new HashSet<>();
-        lastMovement = new HashMap<>();
+        states = new ConcurrentHashMap<>();
     }
 
     public long getAfkThreshold() {
-        if (afkThresholdMs == null) {
-            afkThresholdMs = config.get(TimeSettings.AFK_THRESHOLD);
+        long threshold = afkThresholdMs;
+        if (threshold == -1L) {
+            threshold = config.get(TimeSettings.AFK_THRESHOLD);
+            afkThresholdMs = threshold;
         }
-        return afkThresholdMs;
+        return threshold;
+    }
+
+    private AFKState getState(UUID uuid, long time) {
+        AFKState state = states.get(uuid);
+        return state != null ? state : states.computeIfAbsent(uuid, key -> new AFKState(time));
     }
 
     public void hasIgnorePermission(UUID uuid) {
-        lastMovement.put(uuid, -1L);
+        AFKState state = getState(uuid, System.currentTimeMillis());
+        state.ignored = true;
+        state.permissionCheckedAt = Long.MAX_VALUE;
+    }
+
+    /**
+     * Mark the cached ignore permission of a player outdated, for example when the player changes worlds.
+     *
+     * @param uuid UUID of the player.
+     */
+    public void refreshPermission(UUID uuid) {
+        AFKState state = states.get(uuid);
+        if (state != null) {
+            state.permissionCheckedAt = 0L; // Checked on the next action
+        }
     }
 
     public void usedAfkCommand(UUID uuid, long time) {
-        usedAFKCommand.add(uuid);
-        lastMovement.put(uuid, time - getAfkThreshold());
+        AFKState state = getState(uuid, time);
+        state.usedAFKCommand.set(true);
+        state.lastMovement.set(time - getAfkThreshold());
+    }
+
+    /**
+     * Record an action of a player, checking if the player has the permission to be ignored.
+     *
+     * @param uuid                UUID of the player.
+     * @param time                Epoch ms of the action.
+     * @param player              Platform player object.
+     * @param hasIgnorePermission Permission check, called only when the cached result is outdated.
+     * @param <P>                 Type of the platform player object.
+     */
+    public <P> void performedAction(UUID uuid, long time, P player, Predicate<P> hasIgnorePermission) {
+        AFKState state = getState(uuid, time);
+        if (time - state.permissionCheckedAt > PERMISSION_REFRESH_MS) {
+            boolean wasIgnored = state.ignored;
+            state.ignored = hasIgnorePermission.test(player);
+            state.permissionCheckedAt = time;
+            if (wasIgnored && !state.ignored) {
+                // Time with the permission does not count as AFK.
+                state.lastMovement.set(time);
+            }
+        }
+        if (!state.ignored) {
+            performedAction(uuid, state, time);
+        }
     }
 
     public void performedAction(UUID uuid, long time) {
-        Long lastMoved = lastMovement.getOrDefault(uuid, time);
-        // Ignore afk permission
-        if (lastMoved == -1) {
+        AFKState state = getState(uuid, time);
+        if (!state.ignored) {
+            performedAction(uuid, state, time);
+        }
+    }
+
+    private void performedAction(UUID uuid, AFKState state, long time) {
+        long lastMoved = state.lastMovement.get();
+        if (time - lastMoved < ACTION_INTERVAL_MS) {
+            // Recorded recently, nothing can have changed.
+            return;
+        }
+        if (!state.lastMovement.compareAndSet(lastMoved, time)) {
+            // Another thread recorded an action at the same time.
             return;
         }
-        lastMovement.put(uuid, time);
 
-        try {
-            if (time - lastMoved < getAfkThreshold()) {
-                // Threshold not crossed, no action required.
-                return;
-            }
+        boolean usedAFKCommand = state.usedAFKCommand.getAndSet(false);
+        long afkThreshold = getAfkThreshold();
+        if (time - lastMoved < afkThreshold) {
+            // Threshold not crossed, no action required.
+            return;
+        }
 
-            long removeAfkCommandEffect = usedAFKCommand.contains(uuid) ? getAfkThreshold() : 0;
-            long timeAFK = time - lastMoved - removeAfkCommandEffect;
+        long removeAfkCommandEffect = usedAFKCommand ? afkThreshold : 0;
+        long timeAFK = time - lastMoved - removeAfkCommandEffect;
 
-            SessionCache.getCachedSession(uuid)
-                    .ifPresent(session -> session.addAFKTime(timeAFK));
-        } finally {
-            usedAFKCommand.remove(uuid);
-        }
+        SessionCache.getCachedSession(uuid)
+                .ifPresent(session -> session.addAFKTime(timeAFK));
     }
 
     public void loggedOut(UUID uuid, long time) {
         performedAction(uuid, time);
-        lastMovement.remove(uuid);
-        usedAFKCommand.remove(uuid);
+        states.remove(uuid);
     }
 
     public boolean isAfk(UUID uuid) {
         long time = System.currentTimeMillis();
 
-        Long lastMoved = lastMovement.get(uuid);
-        if (lastMoved == null || lastMoved == -1) {
+        AFKState state = states.get(uuid);
+        if (state == null || state.ignored) {
             return false;
         }
-        return time - lastMoved > getAfkThreshold();
+        return time - state.lastMovement.get() > getAfkThreshold();
+    }
+
+    /**
+     * Mutable AFK information of a single player, so that recording an action does not box or re-insert values.
+     */
+    private static class AFKState {
+        private final AtomicLong lastMovement;
+        private final AtomicBoolean usedAFKCommand;
+        private volatile boolean ignored;
+        private volatile long permissionCheckedAt;
+
+        AFKState(long time) {
+            lastMovement = new AtomicLong(time);
+            usedAFKCommand = new AtomicBoolean(false);
+            permissionCheckedAt = 0L;
+        }
     }
-}
\ No newline at end of file
+}
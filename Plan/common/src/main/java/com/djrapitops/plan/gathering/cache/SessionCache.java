@@ -17,6 +17,8 @@
 package com.djrapitops.plan.gathering.cache;
 
 import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
+import com.djrapitops.plan.delivery.webserver.stream.LiveEvent;
+import com.djrapitops.plan.delivery.webserver.stream.LiveEventStream;
 import com.djrapitops.plan.gathering.domain.Session;
 
 import javax.inject.Inject;
@@ -77,6 +79,9 @@ public class SessionCache {
             inProgress = endSession(playerUUID, session.getUnsafe(SessionKeys.START));
         }
         ACTIVE_SESSIONS.put(playerUUID, session);
+        session.getValue(SessionKeys.SERVER_UUID).ifPresent(serverUUID ->
+                LiveEventStream.publish(LiveEvent.playerJoined(serverUUID, playerUUID, countOnline(serverUUID)))
+        );
         return inProgress;
     }
 
@@ -94,6 +99,17 @@ public class SessionCache {
         }
         ACTIVE_SESSIONS.remove(playerUUID);
         session.endSession(time);
+        session.getValue(SessionKeys.SERVER_UUID).ifPresent(serverUUID ->
+                LiveEventStream.publish(LiveEvent.playerLeft(serverUUID, playerUUID, countOnline(serverUUID)))
+        );
         return Optional.of(session);
     }
+
+    private static int countOnline(UUID serverUUID) {
+        int online = 0;
+        for (Session session : ACTIVE_SESSIONS.values()) {
+            if (serverUUID.equals(session.getUnsafe(SessionKeys.SERVER_UUID))) online++;
+        }
+        return online;
+    }
 }
@@ -0,0 +1,186 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.domain;
+
+import java.util.*;
+
+/**
+ * Map of GameMode name - time that stores the four standard GameModes in a primitive array.
+ * <p>
+ * Other GameModes (from modded servers) are placed in a separate map that is created only when needed.
+ *
+ * @author Rsl1122
+ */
+class GMTimeMap extends AbstractMap<String, Long> {
+
+    private static final String[] GAME_MODES = GMTimes.getGMKeyArray();
+
+    private final long[] times = new long[GAME_MODES.length];
+    private int present; // Bit mask of slots that have a value
+    private Map<String, Long> otherTimes;
+
+    private static int slotOf(Object gameMode) {
+        for (int i = 0; i < GAME_MODES.length; i++) {
+            if (GAME_MODES[i].equals(gameMode)) return i;
+        }
+        return -1;
+    }
+
+    private boolean isPresent(int slot) {
+        return (present & (1 << slot)) != 0;
+    }
+
+    @Override
+    public Long get(Object key) {
+        int slot = slotOf(key);
+        if (slot != -1) {
+            return isPresent(slot) ? times[slot] : null;
+        }
+        return otherTimes != null ? otherTimes.get(key) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int slot = slotOf(key);
+        if (slot != -1) {
+            return isPresent(slot);
+        }
+        return otherTimes != null && otherTimes.containsKey(key);
+    }
+
+    @Override
+    public Long put(String key, Long value) {
+        int slot = slotOf(key);
+        if (slot == -1) {
+            if (otherTimes == null) {
+                otherTimes = new HashMap<>();
+            }
+            return otherTimes.put(key != null ? key.intern() : null, value);
+        }
+        if (value == null) {
+            return remove(key);
+        }
+        Long previous = isPresent(slot) ? times[slot] : null;
+        times[slot] = value;
+        present |= 1 << slot;
+        return previous;
+    }
+
+    @Override
+    public Long remove(Object key) {
+        int slot = slotOf(key);
+        if (slot == -1) {
+            return otherTimes != null ? otherTimes.remove(key) : null;
+        }
+        Long previous = isPresent(slot) ? times[slot] : null;
+        times[slot] = 0L;
+        present &= ~(1 << slot);
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return Integer.bitCount(present) + (otherTimes != null ? otherTimes.size() : 0);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(times, 0L);
+        present = 0;
+        otherTimes = null;
+    }
+
+    @Override
+    public Set<Entry<String, Long>> entrySet() {
+        return new AbstractSet<Entry<String, Long>>() {
+            @Override
+            public Iterator<Entry<String, Long>> iterator() {
+                List<Entry<String, Long>> entries = new ArrayList<>(size());
+                for (int i = 0; i < GAME_MODES.length; i++) {
+                    if (isPresent(i)) {
+                        entries.add(new SlotEntry(i));
+                    }
+                }
+                if (otherTimes != null) {
+                    entries.addAll(otherTimes.entrySet());
+                }
+                Iterator<Entry<String, Long>> iterator = entries.iterator();
+                return new Iterator<Entry<String, Long>>() {
+                    private Entry<String, Long> current;
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Long> next() {
+                        current = iterator.next();
+                        return current;
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (current == null) throw new IllegalStateException();
+                        GMTimeMap.this.remove(current.getKey());
+                        current = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return GMTimeMap.this.size();
+            }
+        };
+    }
+
+    private class SlotEntry implements Entry<String, Long> {
+        private final int slot;
+
+        SlotEntry(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public String getKey() {
+            return GAME_MODES[slot];
+        }
+
+        @Override
+        public Long getValue() {
+            return times[slot];
+        }
+
+        @Override
+        public Long setValue(Long value) {
+            return put(GAME_MODES[slot], value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) return false;
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            return getKey().equals(entry.getKey()) && getValue().equals(entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ getValue().hashCode();
+        }
+    }
+}
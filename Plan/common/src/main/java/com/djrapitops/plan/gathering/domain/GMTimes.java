@@ -38,11 +38,11 @@ public class GMTimes extends TimeKeeper {
     }
 
     public GMTimes(String lastState, long lastStateChange) {
-        super(lastState, lastStateChange);
+        super(new GMTimeMap(), lastState, lastStateChange);
     }
 
     public GMTimes(String lastState) {
-        super(lastState);
+        super(new GMTimeMap(), lastState, 0L);
     }
 
     public GMTimes(Map<String, Long> times) {
@@ -50,7 +50,7 @@ public class GMTimes extends TimeKeeper {
     }
 
     public GMTimes() {
-        super();
+        super(new GMTimeMap());
     }
 
     public static String[] getGMKeyArray() {
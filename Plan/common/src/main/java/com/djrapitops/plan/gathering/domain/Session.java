@@ -17,33 +17,93 @@
 package com.djrapitops.plan.gathering.domain;
 
 import com.djrapitops.plan.delivery.domain.DateHolder;
+import com.djrapitops.plan.delivery.domain.container.DataContainer;
 import com.djrapitops.plan.delivery.domain.container.DynamicDataContainer;
+import com.djrapitops.plan.delivery.domain.keys.Key;
 import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
 import com.djrapitops.plan.utilities.comparators.DateHolderRecentComparator;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * DataContainer for information about a player's play session.
+ * <p>
+ * Values are stored in plain fields instead of Key-Supplier maps, since a lot of sessions are kept in memory
+ * when analysing or exporting data. Keys that are not part of the session are stored in a separate container
+ * that is created only when needed.
  *
  * @author Rsl1122
  * @see SessionKeys for Key objects.
  */
-public class Session extends DynamicDataContainer implements DateHolder {
+public class Session implements DataContainer, DateHolder {
+
+    private static final int DB_ID = 0;
+    private static final int PLAYER_UUID = 1;
+    private static final int SERVER_UUID = 2;
+    private static final int NAME = 3;
+    private static final int SERVER_NAME = 4;
+    private static final int START = 5;
+    private static final int END = 6;
+    private static final int LENGTH = 7;
+    private static final int AFK_TIME = 8;
+    private static final int ACTIVE_TIME = 9;
+    private static final int WORLD_TIMES = 10;
+    private static final int PLAYER_KILLS = 11;
+    private static final int PLAYER_KILL_COUNT = 12;
+    private static final int MOB_KILL_COUNT = 13;
+    private static final int DEATH_COUNT = 14;
+    private static final int FIRST_SESSION = 15;
+    private static final int AVERAGE_PING = 16;
+
+    private static final Map<Key<?>, Integer> FIELDS = new HashMap<>();
+    private static final Map<UUID, UUID> SERVER_UUIDS = new ConcurrentHashMap<>();
+
+    static {
+        FIELDS.put(SessionKeys.DB_ID, DB_ID);
+        FIELDS.put(SessionKeys.UUID, PLAYER_UUID);
+        FIELDS.put(SessionKeys.SERVER_UUID, SERVER_UUID);
+        FIELDS.put(SessionKeys.NAME, NAME);
+        FIELDS.put(SessionKeys.SERVER_NAME, SERVER_NAME);
+        FIELDS.put(SessionKeys.START, START);
+        FIELDS.put(SessionKeys.END, END);
+        FIELDS.put(SessionKeys.LENGTH, LENGTH);
+        FIELDS.put(SessionKeys.AFK_TIME, AFK_TIME);
+        FIELDS.put(SessionKeys.ACTIVE_TIME, ACTIVE_TIME);
+        FIELDS.put(SessionKeys.WORLD_TIMES, WORLD_TIMES);
+        FIELDS.put(SessionKeys.PLAYER_KILLS, PLAYER_KILLS);
+        FIELDS.put(SessionKeys.PLAYER_KILL_COUNT, PLAYER_KILL_COUNT);
+        FIELDS.put(SessionKeys.MOB_KILL_COUNT, MOB_KILL_COUNT);
+        FIELDS.put(SessionKeys.DEATH_COUNT, DEATH_COUNT);
+        FIELDS.put(SessionKeys.FIRST_SESSION, FIRST_SESSION);
+        FIELDS.put(SessionKeys.AVERAGE_PING, AVERAGE_PING);
+    }
 
     private final long sessionStart;
+    private final UUID playerUUID;
+    private UUID serverUUID;
     private WorldTimes worldTimes;
     private List<PlayerKill> playerKills;
+    private boolean playerKillsSorted;
+
+    private int id;
+    private boolean fetchedFromDB;
+    private long sessionEnd;
+    private boolean ended;
 
     private int mobKills;
     private int deaths;
     private long afkTime;
     private boolean firstSession;
 
+    private String playerName;
+    private String serverName;
+    private double averagePing = Double.NaN;
+
+    private DynamicDataContainer extraData;
+
     /**
      * Creates a new session based on a join event.
      *
@@ -54,27 +114,12 @@ public class Session extends DynamicDataContainer implements DateHolder {
      * @param gm           Starting GameMode.
      */
     public Session(UUID uuid, UUID serverUUID, long sessionStart, String world, String gm) {
+        this.playerUUID = uuid;
+        this.serverUUID = internServerUUID(serverUUID);
         this.sessionStart = sessionStart;
         worldTimes = new WorldTimes(world, gm, sessionStart);
         playerKills = new ArrayList<>();
-
-        mobKills = 0;
-        deaths = 0;
-        afkTime = 0;
-
-        putRawData(SessionKeys.UUID, uuid);
-        putRawData(SessionKeys.SERVER_UUID, serverUUID);
-        putSupplier(SessionKeys.START, this::getSessionStart);
-        putSupplier(SessionKeys.WORLD_TIMES, this::getWorldTimes);
-        putSupplier(SessionKeys.PLAYER_KILLS, this::getPlayerKills);
-        putSupplier(SessionKeys.MOB_KILL_COUNT, this::getMobKills);
-        putSupplier(SessionKeys.DEATH_COUNT, this::getDeaths);
-        putSupplier(SessionKeys.AFK_TIME, this::getAfkTime);
-
-        putSupplier(SessionKeys.PLAYER_KILL_COUNT, getUnsafe(SessionKeys.PLAYER_KILLS)::size);
-        putSupplier(SessionKeys.LENGTH, () ->
-                getValue(SessionKeys.END).orElse(System.currentTimeMillis()) - getUnsafe(SessionKeys.START));
-        putSupplier(SessionKeys.ACTIVE_TIME, () -> getLength() - this.afkTime);
+        playerKillsSorted = true;
     }
 
     /**
@@ -96,30 +141,25 @@ public class Session extends DynamicDataContainer implements DateHolder {
             long sessionStart, long sessionEnd,
             int mobKills, int deaths, long afkTime
     ) {
+        this.id = id;
+        this.fetchedFromDB = true;
+        this.playerUUID = uuid;
+        this.serverUUID = internServerUUID(serverUUID);
         this.sessionStart = sessionStart;
+        this.sessionEnd = sessionEnd;
+        this.ended = true;
         worldTimes = new WorldTimes();
         playerKills = new ArrayList<>();
+        playerKillsSorted = true;
 
         this.mobKills = mobKills;
         this.deaths = deaths;
         this.afkTime = afkTime;
+    }
 
-        putRawData(SessionKeys.DB_ID, id);
-        putRawData(SessionKeys.UUID, uuid);
-        putRawData(SessionKeys.SERVER_UUID, serverUUID);
-        putSupplier(SessionKeys.START, this::getSessionStart);
-        putRawData(SessionKeys.END, sessionEnd);
-        putSupplier(SessionKeys.WORLD_TIMES, this::getWorldTimes);
-        putSupplier(SessionKeys.PLAYER_KILLS, this::getPlayerKills);
-        putSupplier(SessionKeys.MOB_KILL_COUNT, this::getMobKills);
-        putSupplier(SessionKeys.DEATH_COUNT, this::getDeaths);
-        putSupplier(SessionKeys.AFK_TIME, this::getAfkTime);
-        putSupplier(SessionKeys.FIRST_SESSION, this::isFirstSession);
-
-        putSupplier(SessionKeys.PLAYER_KILL_COUNT, () -> getUnsafe(SessionKeys.PLAYER_KILLS).size());
-        putSupplier(SessionKeys.LENGTH, () ->
-                getValue(SessionKeys.END).orElse(System.currentTimeMillis()) - getUnsafe(SessionKeys.START));
-        putSupplier(SessionKeys.ACTIVE_TIME, () -> getLength() - this.afkTime);
+    private static UUID internServerUUID(UUID serverUUID) {
+        // There are only a few servers, so sessions share the same UUID objects.
+        return serverUUID != null ? SERVER_UUIDS.computeIfAbsent(serverUUID, key -> key) : null;
     }
 
     /**
@@ -130,7 +170,8 @@ public class Session extends DynamicDataContainer implements DateHolder {
      * @param endOfSession Epoch millisecond the session ended.
      */
     public void endSession(long endOfSession) {
-        putRawData(SessionKeys.END, endOfSession);
+        sessionEnd = endOfSession;
+        ended = true;
         worldTimes.updateState(endOfSession);
     }
 
@@ -147,6 +188,7 @@ public class Session extends DynamicDataContainer implements DateHolder {
 
     public void playerKilled(PlayerKill kill) {
         playerKills.add(kill);
+        playerKillsSorted = false;
     }
 
     public void mobKilled() {
@@ -163,33 +205,20 @@ public class Session extends DynamicDataContainer implements DateHolder {
      * @return Long in ms.
      */
     public long getLength() {
-        return getValue(SessionKeys.LENGTH).orElse(0L);
+        return (ended ? sessionEnd : System.currentTimeMillis()) - sessionStart;
     }
 
     @Override
     public long getDate() {
-        return getUnsafe(SessionKeys.START);
+        return sessionStart;
     }
 
     public void setWorldTimes(WorldTimes worldTimes) {
         this.worldTimes = worldTimes;
     }
 
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        Session session = (Session) o;
-        return getUnsafe(SessionKeys.START).equals(session.getUnsafe(SessionKeys.START)) &&
-                getValue(SessionKeys.END).orElse(-1L).equals(session.getValue(SessionKeys.END).orElse(-1L)) &&
-                mobKills == session.mobKills &&
-                deaths == session.deaths &&
-                Objects.equals(getPlayerKills(), session.getPlayerKills()) &&
-                Objects.equals(worldTimes, session.worldTimes);
-    }
-
     public boolean isFetchedFromDB() {
-        return supports(SessionKeys.DB_ID);
+        return fetchedFromDB;
     }
 
     public void addAFKTime(long timeAFK) {
@@ -197,7 +226,8 @@ public class Session extends DynamicDataContainer implements DateHolder {
     }
 
     public void setSessionID(int sessionID) {
-        putRawData(SessionKeys.DB_ID, sessionID);
+        this.id = sessionID;
+        this.fetchedFromDB = true;
     }
 
     public void setAsFirstSessionIfMatches(Long registerDate) {
@@ -211,44 +241,216 @@ public class Session extends DynamicDataContainer implements DateHolder {
     }
 
     public List<PlayerKill> getPlayerKills() {
-        playerKills.sort(new DateHolderRecentComparator());
+        if (!playerKillsSorted) {
+            playerKills.sort(new DateHolderRecentComparator());
+            playerKillsSorted = true;
+        }
         return playerKills;
     }
 
+    public void setPlayerKills(List<PlayerKill> playerKills) {
+        this.playerKills = playerKills;
+        this.playerKillsSorted = false;
+    }
+
+    public void updateState() {
+        worldTimes.updateState(System.currentTimeMillis());
+    }
+
     @Override
-    public int hashCode() {
-        return Objects.hash(super.hashCode(), mobKills, deaths, afkTime);
+    public <T> void putRawData(Key<T> key, T obj) {
+        Integer field = FIELDS.get(key);
+        if (field == null || !setField(field, obj)) {
+            getExtraData().putRawData(key, obj);
+        }
     }
 
-    private long getSessionStart() {
-        return sessionStart;
+    private boolean setField(int field, Object value) {
+        switch (field) {
+            case DB_ID:
+                if (value == null) return false;
+                setSessionID((Integer) value);
+                return true;
+            case SERVER_UUID:
+                serverUUID = internServerUUID((UUID) value);
+                return true;
+            case NAME:
+                playerName = (String) value;
+                return true;
+            case SERVER_NAME:
+                serverName = value != null ? ((String) value).intern() : null;
+                return true;
+            case END:
+                if (value == null) return false;
+                sessionEnd = (Long) value;
+                ended = true;
+                return true;
+            case WORLD_TIMES:
+                if (value == null) return false;
+                worldTimes = (WorldTimes) value;
+                return true;
+            case PLAYER_KILLS:
+                if (value == null) return false;
+                setPlayerKills((List<PlayerKill>) value);
+                return true;
+            case AVERAGE_PING:
+                if (value == null) return false;
+                averagePing = (Double) value;
+                return true;
+            default:
+                return false;
+        }
     }
 
-    private WorldTimes getWorldTimes() {
-        return worldTimes;
+    @Override
+    public <T> void putSupplier(Key<T> key, Supplier<T> supplier) {
+        getExtraData().putSupplier(key, supplier);
     }
 
-    public void setPlayerKills(List<PlayerKill> playerKills) {
-        this.playerKills = playerKills;
+    @Override
+    public <T> void putCachingSupplier(Key<T> key, Supplier<T> supplier) {
+        getExtraData().putCachingSupplier(key, supplier);
     }
 
-    private int getMobKills() {
-        return mobKills;
+    private DynamicDataContainer getExtraData() {
+        if (extraData == null) {
+            extraData = new DynamicDataContainer();
+        }
+        return extraData;
     }
 
-    private int getDeaths() {
-        return deaths;
+    @Override
+    public <T> boolean supports(Key<T> key) {
+        if (extraData != null && extraData.supports(key)) {
+            return true;
+        }
+        Integer field = FIELDS.get(key);
+        return field != null && getField(field) != null;
     }
 
-    private long getAfkTime() {
-        return afkTime;
+    @Override
+    public <T> Optional<T> getValue(Key<T> key) {
+        if (extraData != null && extraData.supports(key)) {
+            return extraData.getValue(key);
+        }
+        Integer field = FIELDS.get(key);
+        return field != null ? Optional.ofNullable(key.typeCast(getField(field))) : Optional.empty();
+    }
+
+    @Override
+    public <T> T getUnsafe(Key<T> key) {
+        if (extraData != null && extraData.supports(key)) {
+            return extraData.getUnsafe(key);
+        }
+        Integer field = FIELDS.get(key);
+        Object value = field != null ? getField(field) : null;
+        if (value == null) {
+            throw new IllegalArgumentException("Unsupported Key: " + key.getKeyName());
+        }
+        return key.typeCast(value);
+    }
+
+    private Object getField(int field) {
+        switch (field) {
+            case DB_ID:
+                return fetchedFromDB ? id : null;
+            case PLAYER_UUID:
+                return playerUUID;
+            case SERVER_UUID:
+                return serverUUID;
+            case NAME:
+                return playerName;
+            case SERVER_NAME:
+                return serverName;
+            case START:
+                return sessionStart;
+            case END:
+                return ended ? sessionEnd : null;
+            case LENGTH:
+                return getLength();
+            case AFK_TIME:
+                return afkTime;
+            case ACTIVE_TIME:
+                return getLength() - afkTime;
+            case WORLD_TIMES:
+                return worldTimes;
+            case PLAYER_KILLS:
+                return getPlayerKills();
+            case PLAYER_KILL_COUNT:
+                return playerKills.size();
+            case MOB_KILL_COUNT:
+                return mobKills;
+            case DEATH_COUNT:
+                return deaths;
+            case FIRST_SESSION:
+                return firstSession;
+            case AVERAGE_PING:
+                return Double.isNaN(averagePing) ? null : averagePing;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void putAll(DataContainer dataContainer) {
+        for (Map.Entry<Key, Object> entry : dataContainer.getMap().entrySet()) {
+            putRawData((Key<Object>) entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Clears optional values of the session.
+     * <p>
+     * Values that make up the session (start, world times, kills and counters) are kept.
+     */
+    @Override
+    public void clear() {
+        fetchedFromDB = false;
+        ended = false;
+        playerName = null;
+        serverName = null;
+        averagePing = Double.NaN;
+        extraData = null;
+    }
+
+    @Override
+    public Map<Key, Object> getMap() {
+        Map<Key, Object> map = new HashMap<>();
+        for (Map.Entry<Key<?>, Integer> entry : FIELDS.entrySet()) {
+            Object value = getField(entry.getValue());
+            if (value != null) {
+                map.put(entry.getKey(), value);
+            }
+        }
+        if (extraData != null) {
+            map.putAll(extraData.getMap());
+        }
+        return map;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Session session = (Session) o;
+        return sessionStart == session.sessionStart &&
+                (ended ? sessionEnd : -1L) == (session.ended ? session.sessionEnd : -1L) &&
+                mobKills == session.mobKills &&
+                deaths == session.deaths &&
+                Objects.equals(getPlayerKills(), session.getPlayerKills()) &&
+                Objects.equals(worldTimes, session.worldTimes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(sessionStart);
     }
 
     @Override
     public String toString() {
         return "Session{" +
-                "sessionStart=" + getUnsafe(SessionKeys.START) +
-                ", sessionEnd=" + getValue(SessionKeys.END).orElse(null) +
+                "sessionStart=" + sessionStart +
+                ", sessionEnd=" + (ended ? sessionEnd : null) +
                 ", worldTimes=" + worldTimes +
                 ", playerKills=" + playerKills +
                 ", mobKills=" + mobKills +
@@ -256,8 +458,4 @@ public class Session extends DynamicDataContainer implements DateHolder {
                 ", afkTime=" + afkTime +
                 '}';
     }
-
-    public void updateState() {
-        worldTimes.updateState(System.currentTimeMillis());
-    }
 }
@@ -40,9 +40,9 @@ public class WorldTimes {
      * @param time          Epoch ms the time calculation should start
      */
     public WorldTimes(String startingWorld, String startingGM, long time) {
-        times = new HashMap<>();
-        currentWorld = startingWorld;
-        currentGamemode = startingGM;
+        times = new HashMap<>(4);
+        currentWorld = intern(startingWorld);
+        currentGamemode = intern(startingGM);
         addWorld(startingWorld, startingGM, time);
     }
 
@@ -56,12 +56,17 @@ public class WorldTimes {
     }
 
     public WorldTimes() {
-        this(new HashMap<>());
+        this(new HashMap<>(4));
+    }
+
+    private static String intern(String name) {
+        // World and GameMode names repeat in every session, so the instances are shared.
+        return name != null ? name.intern() : null;
     }
 
     private void addWorld(String worldName, String gameMode, long changeTime) {
         if (worldName == null || gameMode == null) return;
-        times.put(worldName, new GMTimes(gameMode, changeTime));
+        times.put(intern(worldName), new GMTimes(intern(gameMode), changeTime));
     }
 
     /**
@@ -99,8 +104,8 @@ public class WorldTimes {
             gmTimes.setLastStateChange(changeTime);
         }
 
-        currentWorld = worldName;
-        currentGamemode = gameMode;
+        currentWorld = intern(worldName);
+        currentGamemode = intern(gameMode);
     }
 
     /**
@@ -139,7 +144,7 @@ public class WorldTimes {
     }
 
     public void setGMTimesForWorld(String world, GMTimes gmTimes) {
-        times.put(world, gmTimes);
+        times.put(intern(world), gmTimes);
     }
 
     @Override
@@ -0,0 +1,199 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.timed;
+
+import com.djrapitops.plan.gathering.domain.Ping;
+import com.djrapitops.plan.utilities.Predicates;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Ring buffer of ping samples of a single player.
+ * <p>
+ * Samples are kept in primitive arrays and the aggregate is calculated without allocating,
+ * since every online player is sampled every few seconds.
+ *
+ * @author Rsl1122
+ */
+public class PingHistory {
+
+    public static final int SAMPLES_PER_AGGREGATE = 30;
+
+    private final long[] dates;
+    private final int[] values;
+    private final int[] selectionBuffer;
+    private int start;
+    private int size;
+
+    public PingHistory() {
+        this(SAMPLES_PER_AGGREGATE);
+    }
+
+    public PingHistory(int capacity) {
+        dates = new long[capacity];
+        values = new int[capacity];
+        selectionBuffer = new int[capacity];
+    }
+
+    /**
+     * Add a sample, replacing the oldest one if the buffer is full.
+     *
+     * @param date Epoch ms of the sample.
+     * @param ping Ping value in ms.
+     */
+    public void add(long date, int ping) {
+        int capacity = values.length;
+        int index = (start + size) % capacity;
+        dates[index] = date;
+        values[index] = ping;
+        if (size == capacity) {
+            start = (start + 1) % capacity;
+        } else {
+            size++;
+        }
+    }
+
+    public boolean isFull() {
+        return size == values.length;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        start = 0;
+        size = 0;
+    }
+
+    /**
+     * Calculate the aggregate of the samples in the buffer.
+     * <p>
+     * Min and max ignore values that are out of range, median uses all samples.
+     *
+     * @param serverUUID UUID of the server the samples were taken on.
+     * @return Ping with date of the latest sample.
+     * @throws IllegalStateException If the buffer is empty.
+     */
+    public Ping toAggregate(UUID serverUUID) {
+        if (size == 0) {
+            throw new IllegalStateException("No ping samples to aggregate");
+        }
+        int capacity = values.length;
+        long lastDate = dates[(start + size - 1) % capacity];
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            int value = values[(start + i) % capacity];
+            selectionBuffer[i] = value;
+            if (Predicates.pingInRange(value)) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+        }
+        if (min == Integer.MAX_VALUE) {
+            min = -1;
+            max = -1;
+        }
+
+        int median = (int) median(selectionBuffer, size);
+        return new Ping(lastDate, serverUUID, min, max, median);
+    }
+
+    /**
+     * Aggregate every history that has samples and clear them.
+     * <p>
+     * Ping counters call this on a shared interval boundary, so that all players are stored at once.
+     *
+     * @param histories  Map: Player UUID - Ping history.
+     * @param serverUUID UUID of the server the samples were taken on.
+     * @return Map: Player UUID - Aggregated ping, empty if no history had samples.
+     */
+    public static Map<UUID, Ping> aggregateAll(Map<UUID, PingHistory> histories, UUID serverUUID) {
+        Map<UUID, Ping> aggregates = new HashMap<>();
+        for (Map.Entry<UUID, PingHistory> entry : histories.entrySet()) {
+            PingHistory history = entry.getValue();
+            if (!history.isEmpty()) {
+                aggregates.put(entry.getKey(), history.toAggregate(serverUUID));
+                history.clear();
+            }
+        }
+        return aggregates;
+    }
+
+    /**
+     * Calculate median of the first n values using selection instead of sorting.
+     * <p>
+     * Reorders the array.
+     *
+     * @param values Array of values.
+     * @param n      Number of values to use.
+     * @return Median of the values, average of the two middle values if n is even, -1 if n is 0.
+     */
+    static double median(int[] values, int n) {
+        if (n == 0) {
+            return -1;
+        }
+        int half = n / 2;
+        int upper = select(values, n, half);
+        if (n % 2 != 0) {
+            return upper;
+        }
+        // After selection every value before half is at most the upper middle value, so the lower one is their max.
+        int lower = values[0];
+        for (int i = 1; i < half; i++) {
+            lower = Math.max(lower, values[i]);
+        }
+        return (lower + (double) upper) / 2;
+    }
+
+    private static int select(int[] values, int n, int k) {
+        int left = 0;
+        int right = n - 1;
+        while (left < right) {
+            int pivot = values[(left + right) >>> 1];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (values[i] < pivot) i++;
+                while (values[j] > pivot) j--;
+                if (i <= j) {
+                    int temp = values[i];
+                    values[i] = values[j];
+                    values[j] = temp;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return values[k];
+            }
+        }
+        return values[k];
+    }
+}
@@ -30,7 +30,9 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Configuration utility for storing settings in a .yml file.
@@ -43,6 +45,7 @@ import java.util.Objects;
 public class Config extends ConfigNode {
 
     private final Path configFilePath;
+    private final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
 
     public Config(File configFile) {
         super("", null, null);
@@ -80,6 +83,18 @@ public class Config extends ConfigNode {
         try (ConfigReader reader = new ConfigReader(Files.newInputStream(configFilePath))) {
             copyAll(reader.read());
         }
+        for (Runnable listener : reloadListeners) {
+            listener.run();
+        }
+    }
+
+    /**
+     * Run a task every time the config file is read again, eg. to clear values parsed from the config.
+     *
+     * @param listener Task to run after reading.
+     */
+    public void onReload(Runnable listener) {
+        reloadListeners.add(listener);
     }
 
     @Override
@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.settings.config.paths;
 
+import com.djrapitops.plan.settings.config.paths.key.IntegerSetting;
 import com.djrapitops.plan.settings.config.paths.key.Setting;
 import com.djrapitops.plan.settings.config.paths.key.StringSetting;
 import com.djrapitops.plan.storage.database.DBType;
@@ -32,11 +33,13 @@ public class DatabaseSettings {
     public static final Setting<String> MYSQL_HOST = new StringSetting("Database.MySQL.Host");
     public static final Setting<String> MYSQL_PORT = new StringSetting("Database.MySQL.Port", NumberUtils::isParsable);
     public static final Setting<String> MYSQL_USER = new StringSetting("Database.MySQL.User");
+    public static final Setting<Integer> READ_CONNECTIONS = new IntegerSetting("Database.Read_connections", Setting::timeValidator);
     public static final Setting<String> H2_USER = new StringSetting("Database.H2.User");
     public static final Setting<String> H2_PASS = new StringSetting("Database.H2.Password");
     public static final Setting<String> MYSQL_PASS = new StringSetting("Database.MySQL.Password");
     public static final Setting<String> MYSQL_DATABASE = new StringSetting("Database.MySQL.Database");
     public static final Setting<String> MYSQL_LAUNCH_OPTIONS = new StringSetting("Database.MySQL.Launch_options");
+    public static final Setting<Integer> MYSQL_WRITER_THREADS = new IntegerSetting("Database.MySQL.Writer_threads", Setting::positiveIntegerValidator);
 
     private DatabaseSettings() {
         /* static variable class */
@@ -57,6 +57,10 @@ public abstract class Setting<T> {
         return number.doubleValue() > 0;
     }
 
+    public static boolean positiveIntegerValidator(Integer number) {
+        return number > 0;
+    }
+
     /**
      * Used to get the String path of a the config setting.
      * <p>
@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.settings.locale;
 
+import com.djrapitops.plan.delivery.formatting.MultiReplacer;
 import com.djrapitops.plan.settings.locale.lang.HtmlLang;
 import com.djrapitops.plan.settings.locale.lang.JSLang;
 import com.djrapitops.plan.settings.locale.lang.Lang;
@@ -40,8 +41,14 @@ public class Locale extends HashMap<Lang, Message> {
         return forLangCode(LangCode.fromString(code), files);
     }
 
+    private static final Pattern SCRIPTS = Pattern.compile("(<script id=[\"|'].*[\"|']>[\\s\\S]*?</script>|<script>[\\s\\S]*?</script>|<script src=[\"|'].*[\"|']></script>|<link [\\s\\S]*?>)");
+
     private LangCode langCode;
 
+    // Built when first needed, reset when the locale changes.
+    private transient volatile MultiReplacer htmlReplacer;
+    private transient volatile MultiReplacer javascriptReplacer;
+
     public Locale() {
         this(LangCode.EN);
     }
@@ -107,28 +114,18 @@ public class Locale extends HashMap<Lang, Message> {
             return from;
         }
 
-        Pattern scripts = Pattern.compile("(<script id=[\"|'].*[\"|']>[\\s\\S]*?</script>|<script>[\\s\\S]*?</script>|<script src=[\"|'].*[\"|']></script>|<link [\\s\\S]*?>)");
-
-        Matcher scriptMatcher = scripts.matcher(from);
+        Matcher scriptMatcher = SCRIPTS.matcher(from);
         List<String> foundScripts = new ArrayList<>();
         while (scriptMatcher.find()) {
             foundScripts.add(scriptMatcher.toMatchResult().group(0));
         }
 
         TranslatedString translated = new TranslatedString(from);
-        Arrays.stream(HtmlLang.values())
-                // Longest first so that entries that contain each other don't partially replace.
-                .sorted((one, two) -> Integer.compare(
-                        two.getIdentifier().length(),
-                        one.getIdentifier().length()
-                ))
-                .forEach(lang -> getNonDefault(lang).ifPresent(replacement ->
-                        translated.translate(lang.getDefault(), replacement.toString()))
-                );
+        translated.translate(getHtmlReplacer());
 
         StringBuilder complete = new StringBuilder(translated.length());
 
-        String[] parts = scripts.split(translated.toString());
+        String[] parts = SCRIPTS.split(translated.toString());
         for (int i = 0; i < parts.length; i++) {
             complete.append(parts[i]);
             if (i < parts.length - 1) {
@@ -145,46 +142,92 @@ public class Locale extends HashMap<Lang, Message> {
         }
 
         TranslatedString translated = new TranslatedString(from);
-        Arrays.stream(JSLang.values())
-                // Longest first so that entries that contain each other don't partially replace.
-                .sorted((one, two) -> Integer.compare(
-                        two.getIdentifier().length(),
-                        one.getIdentifier().length()
-                ))
-                .forEach(lang -> getNonDefault(lang).ifPresent(replacement ->
-                        translated.translate(lang.getDefault(), replacement.toString()))
-                );
-
-        for (Lang extra : new Lang[]{
-                HtmlLang.UNIT_NO_DATA,
-                HtmlLang.TITLE_WORLD_PLAYTIME,
-                HtmlLang.LABEL_OPERATOR,
-                HtmlLang.LABEL_BANNED,
-                HtmlLang.SIDE_SESSIONS,
-                HtmlLang.LABEL_PLAYTIME,
-                HtmlLang.LABEL_AFK_TIME,
-                HtmlLang.LABEL_LONGEST_SESSION,
-                HtmlLang.LABEL_SESSION_MEDIAN,
-                HtmlLang.LABEL_PLAYER_KILLS,
-                HtmlLang.LABEL_MOB_KILLS,
-                HtmlLang.LABEL_DEATHS,
-                HtmlLang.LABEL_PLAYERS_ONLINE,
-                HtmlLang.LABEL_REGISTERED,
-                HtmlLang.TITLE_SERVER,
-                HtmlLang.TITLE_LENGTH,
-                HtmlLang.TITLE_AVG_PING,
-                HtmlLang.TITLE_BEST_PING,
-                HtmlLang.TITLE_WORST_PING,
-                HtmlLang.LABEL_FREE_DISK_SPACE,
-                HtmlLang.LABEL_NEW_PLAYERS,
-                HtmlLang.LABEL_UNIQUE_PLAYERS,
-
-        }) {
-            getNonDefault(extra).ifPresent(replacement ->
-                    translated.translate(extra.getDefault(), replacement.toString()));
+        translated.translate(getJavascriptReplacer());
+        return translated.toString();
+    }
+
+    private MultiReplacer getHtmlReplacer() {
+        MultiReplacer replacer = htmlReplacer;
+        if (replacer == null) {
+            MultiReplacer.Builder builder = MultiReplacer.builder();
+            for (HtmlLang lang : HtmlLang.values()) {
+                getNonDefault(lang).ifPresent(replacement -> builder.replace(lang.getDefault(), replacement.toString()));
+            }
+            replacer = builder.build();
+            htmlReplacer = replacer;
         }
+        return replacer;
+    }
 
-        return translated.toString();
+    private MultiReplacer getJavascriptReplacer() {
+        MultiReplacer replacer = javascriptReplacer;
+        if (replacer == null) {
+            MultiReplacer.Builder builder = MultiReplacer.builder();
+            for (JSLang lang : JSLang.values()) {
+                getNonDefault(lang).ifPresent(replacement -> builder.replace(lang.getDefault(), replacement.toString()));
+            }
+            for (Lang extra : new Lang[]{
+                    HtmlLang.UNIT_NO_DATA,
+                    HtmlLang.TITLE_WORLD_PLAYTIME,
+                    HtmlLang.LABEL_OPERATOR,
+                    HtmlLang.LABEL_BANNED,
+                    HtmlLang.SIDE_SESSIONS,
+                    HtmlLang.LABEL_PLAYTIME,
+                    HtmlLang.LABEL_AFK_TIME,
+                    HtmlLang.LABEL_LONGEST_SESSION,
+                    HtmlLang.LABEL_SESSION_MEDIAN,
+                    HtmlLang.LABEL_PLAYER_KILLS,
+                    HtmlLang.LABEL_MOB_KILLS,
+                    HtmlLang.LABEL_DEATHS,
+                    HtmlLang.LABEL_PLAYERS_ONLINE,
+                    HtmlLang.LABEL_REGISTERED,
+                    HtmlLang.TITLE_SERVER,
+                    HtmlLang.TITLE_LENGTH,
+                    HtmlLang.TITLE_AVG_PING,
+                    HtmlLang.TITLE_BEST_PING,
+                    HtmlLang.TITLE_WORST_PING,
+                    HtmlLang.LABEL_FREE_DISK_SPACE,
+                    HtmlLang.LABEL_NEW_PLAYERS,
+                    HtmlLang.LABEL_UNIQUE_PLAYERS,
+
+            }) {
+                getNonDefault(extra).ifPresent(replacement -> builder.replace(extra.getDefault(), replacement.toString()));
+            }
+            replacer = builder.build();
+            javascriptReplacer = replacer;
+        }
+        return replacer;
+    }
+
+    private void resetReplacers() {
+        htmlReplacer = null;
+        javascriptReplacer = null;
+    }
+
+    @Override
+    public Message put(Lang key, Message value) {
+        Message previous = super.put(key, value);
+        resetReplacers();
+        return previous;
+    }
+
+    @Override
+    public void putAll(Map<? extends Lang, ? extends Message> m) {
+        super.putAll(m);
+        resetReplacers();
+    }
+
+    @Override
+    public Message remove(Object key) {
+        Message removed = super.remove(key);
+        resetReplacers();
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        resetReplacers();
     }
 
     @Override
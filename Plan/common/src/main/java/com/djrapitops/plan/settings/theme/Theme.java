@@ -17,6 +17,7 @@
 package com.djrapitops.plan.settings.theme;
 
 import com.djrapitops.plan.SubSystem;
+import com.djrapitops.plan.delivery.formatting.MultiReplacer;
 import com.djrapitops.plan.exceptions.EnableException;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.storage.file.PlanFiles;
@@ -26,9 +27,7 @@ import org.apache.commons.lang3.StringUtils;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 
 import static com.djrapitops.plan.settings.theme.ThemeVal.*;
 
@@ -47,6 +46,8 @@ public class Theme implements SubSystem {
     private final PluginLogger logger;
 
     private ThemeConfig themeConfig;
+    // Built when first needed, reset when theme.yml is loaded again.
+    private volatile MultiReplacer themeColorReplacer;
 
     @Inject
     public Theme(PlanFiles files, PlanConfig config, PluginLogger logger) {
@@ -73,6 +74,7 @@ public class Theme implements SubSystem {
     public void enable() throws EnableException {
         try {
             themeConfig = new ThemeConfig(files, config, logger);
+            themeColorReplacer = null;
             themeConfig.save();
         } catch (IOException e) {
             throw new EnableException("theme.yml could not be saved.", e);
@@ -95,31 +97,32 @@ public class Theme implements SubSystem {
     }
 
     public String replaceThemeColors(String resourceString) {
-        return replaceVariables(resourceString,
-                RED, PINK, PURPLE,
-                DEEP_PURPLE, INDIGO, BLUE, LIGHT_BLUE, CYAN, TEAL, GREEN, LIGHT_GREEN, LIME,
-                YELLOW, AMBER, ORANGE, DEEP_ORANGE, BROWN, GREY, BLUE_GREY, BLACK, WHITE,
-                GRAPH_PUNCHCARD, GRAPH_PLAYERS_ONLINE, GRAPH_TPS_HIGH, GRAPH_TPS_MED, GRAPH_TPS_LOW,
-                GRAPH_CPU, GRAPH_RAM, GRAPH_CHUNKS, GRAPH_ENTITIES, GRAPH_WORLD_PIE, FONT_STYLESHEET, FONT_FAMILY
-        );
+        MultiReplacer replacer = themeColorReplacer;
+        if (replacer == null) {
+            replacer = createReplacer(
+                    RED, PINK, PURPLE,
+                    DEEP_PURPLE, INDIGO, BLUE, LIGHT_BLUE, CYAN, TEAL, GREEN, LIGHT_GREEN, LIME,
+                    YELLOW, AMBER, ORANGE, DEEP_ORANGE, BROWN, GREY, BLUE_GREY, BLACK, WHITE,
+                    GRAPH_PUNCHCARD, GRAPH_PLAYERS_ONLINE, GRAPH_TPS_HIGH, GRAPH_TPS_MED, GRAPH_TPS_LOW,
+                    GRAPH_CPU, GRAPH_RAM, GRAPH_CHUNKS, GRAPH_ENTITIES, GRAPH_WORLD_PIE, FONT_STYLESHEET, FONT_FAMILY
+            );
+            themeColorReplacer = replacer;
+        }
+        return replacer.apply(resourceString);
     }
 
-    private String replaceVariables(String resourceString, ThemeVal... themeVariables) {
-        List<String> replace = new ArrayList<>();
-        List<String> with = new ArrayList<>();
+    private MultiReplacer createReplacer(ThemeVal... themeVariables) {
+        MultiReplacer.Builder replacer = MultiReplacer.builder();
         for (ThemeVal variable : themeVariables) {
             String value = getColor(variable);
             String defaultValue = variable.getDefaultValue();
             if (defaultValue.equals(value)) {
                 continue;
             }
-            replace.add(defaultValue);
-            with.add(value);
+            replacer.replace(defaultValue, value);
         }
-        replace.add("${defaultTheme}");
-        with.add(getValue(ThemeVal.THEME_DEFAULT));
-
-        return StringUtils.replaceEach(resourceString, replace.toArray(new String[0]), with.toArray(new String[0]));
+        replacer.replace("${defaultTheme}", getValue(ThemeVal.THEME_DEFAULT));
+        return replacer.build();
     }
 
     private String getThemeValue(ThemeVal color) {
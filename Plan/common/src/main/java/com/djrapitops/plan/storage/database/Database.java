@@ -21,6 +21,7 @@ import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 
+import java.util.Optional;
 import java.util.concurrent.Future;
 
 /**
@@ -74,6 +75,15 @@ public interface Database {
 
     State getState();
 
+    /**
+     * Get information about the usage of the connection pools of the database.
+     *
+     * @return Statistics in human readable format, or empty if the database does not use a connection pool.
+     */
+    default Optional<String> getConnectionPoolStatistics() {
+        return Optional.empty();
+    }
+
     /**
      * Possible State changes:
      * CLOSED to PATCHING (Database init),
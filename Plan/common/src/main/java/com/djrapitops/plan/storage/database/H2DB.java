@@ -29,6 +29,8 @@ import com.djrapitops.plan.utilities.logging.ErrorLogger;
 import com.djrapitops.plugin.logging.console.PluginLogger;
 import com.djrapitops.plugin.task.PluginTask;
 import com.djrapitops.plugin.task.RunnableFactory;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.pool.HikariPool;
 import dagger.Lazy;
 import org.h2.jdbcx.JdbcDataSource;
 
@@ -38,6 +40,7 @@ import java.io.File;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Implementation of the H2 database
@@ -49,6 +52,7 @@ public class H2DB extends SQLDB {
     private final File databaseFile;
     private final String dbName;
     private Connection connection;
+    private volatile ReadConnectionPool readPool;
     private PluginTask connectionPingTask;
 
     private H2DB(
@@ -74,6 +78,27 @@ public class H2DB extends SQLDB {
         }
 
         startConnectionPingTask();
+        setupReadPool();
+    }
+
+    private void setupReadPool() {
+        closeReadPool();
+
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setDataSource(createDataSource(databaseFile.getAbsolutePath()));
+        try {
+            int poolSize = config.getOrDefault(DatabaseSettings.READ_CONNECTIONS, 4);
+            readPool = new ReadConnectionPool("Plan H2 Read Pool", poolSize, hikariConfig);
+        } catch (HikariPool.PoolInitializationException e) {
+            logger.warn("Failed to open read-only H2 connections, queries use the writer connection: " + e.getMessage());
+        }
+    }
+
+    private void closeReadPool() {
+        if (readPool != null) {
+            readPool.close();
+            readPool = null;
+        }
     }
 
     public Connection getNewConnection(File dbFile) throws SQLException {
@@ -86,6 +111,10 @@ public class H2DB extends SQLDB {
     }
 
     private Connection getConnectionFor(String dbFilePath) throws SQLException {
+        return createDataSource(dbFilePath).getConnection();
+    }
+
+    private JdbcDataSource createDataSource(String dbFilePath) {
         String username = config.get(DatabaseSettings.H2_USER);
         String password = config.get(DatabaseSettings.H2_PASS);
 
@@ -93,8 +122,7 @@ public class H2DB extends SQLDB {
         jdbcDataSource.setURL("jdbc:h2:file:" + dbFilePath + ";mode=MySQL;DATABASE_TO_UPPER=false");
         jdbcDataSource.setUser(username);
         jdbcDataSource.setPassword(password);
-
-        return jdbcDataSource.getConnection();
+        return jdbcDataSource;
     }
 
     private void startConnectionPingTask() {
@@ -129,6 +157,10 @@ public class H2DB extends SQLDB {
 
     @Override
     public Connection getConnection() throws SQLException {
+        ReadConnectionPool queryPool = readPool;
+        if (queryPool != null && !isExecutingTransaction()) {
+            return queryPool.getConnection();
+        }
         if (connection == null) {
             connection = getNewConnection(databaseFile);
         }
@@ -140,6 +172,7 @@ public class H2DB extends SQLDB {
     public void close() {
         super.close();
         stopConnectionPingTask();
+        closeReadPool();
 
         if (connection != null) {
             logger.debug("H2 Connection close prompted by: " + ThrowableUtils.findCallerAfterClass(Thread.currentThread().getStackTrace(), H2DB.class));
@@ -152,7 +185,16 @@ public class H2DB extends SQLDB {
 
     @Override
     public void returnToPool(Connection connection) {
-        // Connection pool not in use, no action required.
+        // The writer connection is kept open.
+        if (connection != null && connection != this.connection) {
+            MiscUtils.close(connection);
+        }
+    }
+
+    @Override
+    public Optional<String> getConnectionPoolStatistics() {
+        ReadConnectionPool queryPool = readPool;
+        return Optional.ofNullable(queryPool).map(pool -> "Read connections: " + pool.getStatistics());
     }
 
     @Override
@@ -38,6 +38,7 @@ import javax.inject.Singleton;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -46,9 +47,13 @@ import java.util.concurrent.TimeUnit;
 @Singleton
 public class MySQLDB extends SQLDB {
 
+    private static final int MAX_POOL_SIZE = 8;
+    // Connections are left for queries so that writes do not block page loads.
+    private static final int MAX_WRITER_THREADS = MAX_POOL_SIZE - 2;
+
     private static int increment = 1;
 
-    protected HikariDataSource dataSource;
+    protected volatile HikariDataSource dataSource;
 
     @Inject
     public MySQLDB(
@@ -112,7 +117,7 @@ public class MySQLDB extends SQLDB {
             increment();
 
             hikariConfig.setAutoCommit(true);
-            hikariConfig.setMaximumPoolSize(8);
+            hikariConfig.setMaximumPoolSize(MAX_POOL_SIZE);
             hikariConfig.setMaxLifetime(TimeUnit.MINUTES.toMillis(25L));
             hikariConfig.setLeakDetectionThreshold(TimeUnit.MINUTES.toMillis(10L));
 
@@ -123,23 +128,44 @@ public class MySQLDB extends SQLDB {
     }
 
     @Override
-    public synchronized Connection getConnection() throws SQLException {
-        Connection connection = dataSource.getConnection();
+    protected int getWriterThreadCount() {
+        int writerThreads = config.getOrDefault(DatabaseSettings.MYSQL_WRITER_THREADS, 1);
+        if (writerThreads > MAX_WRITER_THREADS) {
+            logger.warn(DatabaseSettings.MYSQL_WRITER_THREADS.getPath() + " was set to over " + MAX_WRITER_THREADS + ", using " + MAX_WRITER_THREADS + " instead.");
+            return MAX_WRITER_THREADS;
+        }
+        if (writerThreads < 1) {
+            logger.warn(DatabaseSettings.MYSQL_WRITER_THREADS.getPath() + " was set below 1, using 1 instead.");
+            return 1;
+        }
+        return writerThreads;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        HikariDataSource usedDataSource = dataSource;
+        Connection connection = usedDataSource.getConnection();
         if (!connection.isValid(5)) {
             connection.close();
-            if (dataSource != null) dataSource.close();
-            try {
-                setupDataSource();
-                // get new connection after restarting pool
-                connection = dataSource.getConnection();
-            } catch (DBInitException e) {
-                throw new DBOpException("Failed to restart DataSource after a connection was invalid: " + e.getMessage(), e);
-            }
+            connection = restartDataSource(usedDataSource).getConnection();
         }
         if (connection.getAutoCommit()) connection.setAutoCommit(false);
         return connection;
     }
 
+    private synchronized HikariDataSource restartDataSource(HikariDataSource invalidDataSource) {
+        // Another thread might have already restarted the pool.
+        if (dataSource != invalidDataSource) return dataSource;
+
+        if (dataSource != null) dataSource.close();
+        try {
+            setupDataSource();
+            return dataSource;
+        } catch (DBInitException e) {
+            throw new DBOpException("Failed to restart DataSource after a connection was invalid: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public void close() {
         super.close();
@@ -158,6 +184,12 @@ public class MySQLDB extends SQLDB {
         }
     }
 
+    @Override
+    public Optional<String> getConnectionPoolStatistics() {
+        HikariDataSource usedDataSource = dataSource;
+        return Optional.ofNullable(usedDataSource).map(pool -> "Connections: " + ReadConnectionPool.getStatistics(pool));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,77 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of read-only connections used for queries of file based databases.
+ * <p>
+ * Transactions use a separate writer connection, so that queries do not wait for them.
+ *
+ * @author Rsl1122
+ */
+class ReadConnectionPool {
+
+    private final HikariDataSource dataSource;
+
+    /**
+     * Create a new pool.
+     *
+     * @param poolName     Name of the pool threads.
+     * @param size         Maximum number of connections.
+     * @param hikariConfig Config with the connection details filled in.
+     * @throws com.zaxxer.hikari.pool.HikariPool.PoolInitializationException If a connection could not be opened.
+     */
+    ReadConnectionPool(String poolName, int size, HikariConfig hikariConfig) {
+        hikariConfig.setPoolName(poolName);
+        hikariConfig.setAutoCommit(true);
+        hikariConfig.setReadOnly(true);
+        hikariConfig.setMaximumPoolSize(size);
+        hikariConfig.setMinimumIdle(1);
+        hikariConfig.setConnectionTimeout(TimeUnit.SECONDS.toMillis(30L));
+        hikariConfig.setLeakDetectionThreshold(TimeUnit.MINUTES.toMillis(10L));
+        this.dataSource = new HikariDataSource(hikariConfig);
+    }
+
+    Connection getConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    void close() {
+        dataSource.close();
+    }
+
+    static String getStatistics(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) return "not running";
+        return pool.getActiveConnections() + " active, " +
+                pool.getIdleConnections() + " idle, " +
+                pool.getTotalConnections() + "/" + dataSource.getMaximumPoolSize() + " open, " +
+                pool.getThreadsAwaitingConnection() + " waiting";
+    }
+
+    String getStatistics() {
+        return getStatistics(dataSource);
+    }
+}
@@ -25,6 +25,7 @@ import com.djrapitops.plan.settings.config.paths.PluginSettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.transactions.GroupCommitTransaction;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.storage.database.transactions.init.CreateIndexTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.CreateTablesTransaction;
@@ -54,6 +55,9 @@ import java.util.function.Supplier;
  */
 public abstract class SQLDB extends AbstractDatabase {
 
+    // Limits how long the transactions of a group wait for earlier transactions in the group to finish.
+    private static final int MAX_GROUP_COMMIT_SIZE = 100;
+
     private final Supplier<UUID> serverUUIDSupplier;
 
     protected final Locale locale;
@@ -63,7 +67,16 @@ public abstract class SQLDB extends AbstractDatabase {
     protected final ErrorLogger errorLogger;
 
     private Supplier<ExecutorService> transactionExecutorServiceProvider;
-    private ExecutorService transactionExecutor;
+    // Index 0 is the lane for transactions without a partition key.
+    private ExecutorService[] transactionExecutors;
+
+    private final Object groupCommitLock = new Object();
+    private PendingGroupCommit[] openGroupCommits;
+    // Submission of the last transaction of each lane that had to wait, later transactions of the lane queue behind it.
+    private CompletableFuture<?>[] laneTails;
+
+    // Queries of a transaction need to see its uncommitted changes, so they have to use the same connection.
+    private final ThreadLocal<Boolean> executingTransaction = ThreadLocal.withInitial(() -> false);
 
     private final boolean devMode;
 
@@ -84,32 +97,33 @@ public abstract class SQLDB extends AbstractDatabase {
 
         devMode = config.isTrue(PluginSettings.DEV_MODE);
 
-        this.transactionExecutorServiceProvider = () -> {
-            String nameFormat = "Plan " + getClass().getSimpleName() + "-transaction-thread-%d";
-            return Executors.newSingleThreadExecutor(new BasicThreadFactory.Builder()
-                    .namingPattern(nameFormat)
-                    .uncaughtExceptionHandler((thread, throwable) -> {
-                        if (devMode) {
-                            errorLogger.log(L.WARN, throwable, ErrorContext.builder()
-                                    .whatToDo("THIS ERROR IS ONLY LOGGED IN DEV MODE")
-                                    .build());
-                        }
-                    }).build());
-        };
+        String nameFormat = "Plan " + getClass().getSimpleName() + "-transaction-thread-%d";
+        // Shared by all lanes so that the threads are numbered.
+        ThreadFactory transactionThreadFactory = new BasicThreadFactory.Builder()
+                .namingPattern(nameFormat)
+                .uncaughtExceptionHandler((thread, throwable) -> {
+                    if (devMode) {
+                        errorLogger.log(L.WARN, throwable, ErrorContext.builder()
+                                .whatToDo("THIS ERROR IS ONLY LOGGED IN DEV MODE")
+                                .build());
+                    }
+                }).build();
+        this.transactionExecutorServiceProvider = () -> Executors.newSingleThreadExecutor(transactionThreadFactory);
     }
 
     @Override
     public void init() {
-        List<Runnable> unfinishedTransactions = closeTransactionExecutor(transactionExecutor);
-        this.transactionExecutor = transactionExecutorServiceProvider.get();
+        List<Runnable> unfinishedTransactions = closeTransactionExecutors();
+        createTransactionExecutors();
 
         setState(State.PATCHING);
 
         setupDataSource();
         setupDatabase();
 
+        // Lanes of the unfinished transactions are not known, so they are executed in order on a single lane.
         for (Runnable unfinishedTransaction : unfinishedTransactions) {
-            transactionExecutor.submit(unfinishedTransaction);
+            transactionExecutors[0].submit(unfinishedTransaction);
         }
 
         // If an OperationCriticalTransaction fails open is set to false.
@@ -119,29 +133,62 @@ public abstract class SQLDB extends AbstractDatabase {
         }
     }
 
-    private List<Runnable> closeTransactionExecutor(ExecutorService transactionExecutor) {
-        if (transactionExecutor == null || transactionExecutor.isShutdown() || transactionExecutor.isTerminated()) {
+    private void createTransactionExecutors() {
+        int laneCount = Math.max(1, getWriterThreadCount());
+        ExecutorService[] executors = new ExecutorService[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            executors[i] = transactionExecutorServiceProvider.get();
+        }
+        synchronized (groupCommitLock) {
+            transactionExecutors = executors;
+            openGroupCommits = new PendingGroupCommit[laneCount];
+            laneTails = new CompletableFuture[laneCount];
+        }
+    }
+
+    /**
+     * Get the number of threads that execute transactions in parallel.
+     * <p>
+     * Transactions are split between the threads by {@link Transaction#getPartitionKey()}.
+     * Databases that share a single connection between all transactions should use one thread.
+     *
+     * @return 1 by default.
+     */
+    protected int getWriterThreadCount() {
+        return 1;
+    }
+
+    private List<Runnable> closeTransactionExecutors() {
+        ExecutorService[] executors = transactionExecutors;
+        if (executors == null) {
             return Collections.emptyList();
         }
-        transactionExecutor.shutdown();
+        for (ExecutorService executor : executors) {
+            executor.shutdown();
+        }
+        List<Runnable> unfinished = new ArrayList<>();
         try {
             Long waitMs = config.getOrDefault(TimeSettings.DB_TRANSACTION_FINISH_WAIT_DELAY, TimeUnit.SECONDS.toMillis(20L));
             if (waitMs > TimeUnit.MINUTES.toMillis(5L)) {
                 logger.warn(TimeSettings.DB_TRANSACTION_FINISH_WAIT_DELAY.getPath() + " was set to over 5 minutes, using 5 min instead.");
                 waitMs = TimeUnit.MINUTES.toMillis(5L);
             }
-            if (!transactionExecutor.awaitTermination(waitMs, TimeUnit.MILLISECONDS)) {
-                List<Runnable> unfinished = transactionExecutor.shutdownNow();
-                int unfinishedCount = unfinished.size();
-                if (unfinishedCount > 0) {
-                    logger.warn(unfinishedCount + " unfinished database transactions were not executed.");
+            // All lanes finish in parallel, so they share the wait time.
+            long waitUntil = System.currentTimeMillis() + waitMs;
+            for (ExecutorService executor : executors) {
+                long remainingMs = Math.max(0L, waitUntil - System.currentTimeMillis());
+                if (!executor.awaitTermination(remainingMs, TimeUnit.MILLISECONDS)) {
+                    unfinished.addAll(executor.shutdownNow());
                 }
-                return unfinished;
             }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
-        return Collections.emptyList();
+        int unfinishedCount = unfinished.size();
+        if (unfinishedCount > 0) {
+            logger.warn(unfinishedCount + " unfinished database transactions were not executed.");
+        }
+        return unfinished;
     }
 
     Patch[] patches() {
@@ -156,13 +203,8 @@ public abstract class SQLDB extends AbstractDatabase {
                 new VersionTableRemovalPatch(),
                 new DiskUsagePatch(),
                 new WorldsOptimizationPatch(),
-                new WorldTimesOptimizationPatch(),
-                new KillsOptimizationPatch(),
-                new SessionsOptimizationPatch(),
-                new PingOptimizationPatch(),
+                new UserAndServerIDPatch(),
                 new NicknamesOptimizationPatch(),
-                new UserInfoOptimizationPatch(),
-                new GeoInfoOptimizationPatch(),
                 new TransferTableRemovalPatch(),
                 new BadAFKThresholdValuePatch(),
                 new DeleteIPsPatch(),
@@ -173,7 +215,8 @@ public abstract class SQLDB extends AbstractDatabase {
                 new BadNukkitRegisterValuePatch(),
                 new LinkedToSecurityTablePatch(),
                 new LinkUsersToPlayersSecurityTablePatch(),
-                new LitebansTableHeaderPatch()
+                new LitebansTableHeaderPatch(),
+                new SessionRollupsPatch()
         };
     }
 
@@ -219,7 +262,7 @@ public abstract class SQLDB extends AbstractDatabase {
     @Override
     public void close() {
         if (getState() == State.OPEN) setState(State.CLOSING);
-        closeTransactionExecutor(transactionExecutor);
+        closeTransactionExecutors();
         setState(State.CLOSED);
     }
 
@@ -227,6 +270,29 @@ public abstract class SQLDB extends AbstractDatabase {
 
     public abstract void returnToPool(Connection connection);
 
+    /**
+     * Check if the current thread is executing a transaction.
+     * <p>
+     * Databases that use separate connections for queries should give the transaction connection in this case.
+     *
+     * @return true if {@link #getConnection()} is called by a transaction or a query executed by one.
+     */
+    protected boolean isExecutingTransaction() {
+        return executingTransaction.get();
+    }
+
+    /**
+     * Mark the current thread as executing a transaction.
+     *
+     * @param executing true when a transaction starts, the returned value when it ends.
+     * @return Previous value, so that transactions executed inside other transactions can restore it.
+     */
+    public boolean setExecutingTransaction(boolean executing) {
+        boolean previous = executingTransaction.get();
+        executingTransaction.set(executing);
+        return previous;
+    }
+
     @Override
     public <T> T query(Query<T> query) {
         accessLock.checkAccess();
@@ -241,20 +307,135 @@ public abstract class SQLDB extends AbstractDatabase {
 
         Exception origin = new Exception();
 
+        // Submission happens inside the lock so that the executor queue has the transactions in submission order.
+        synchronized (groupCommitLock) {
+            int lane = getLane(transaction.getPartitionKey());
+            List<CompletableFuture<?>> waitFor = new ArrayList<>(getDependencies(transaction, lane));
+            CompletableFuture<?> laneTail = laneTails[lane];
+            if (laneTail != null && !laneTail.isDone()) {
+                // An earlier transaction of the lane is still waiting to be submitted, keep the submission order.
+                waitFor.add(laneTail);
+            }
+            if (waitFor.isEmpty()) {
+                return submit(lane, transaction, origin);
+            }
+            // No lane waits for another, the transaction is submitted by the lane that finishes the last dependency.
+            CompletableFuture<CompletableFuture<Object>> submission = CompletableFuture.allOf(waitFor.toArray(new CompletableFuture[0]))
+                    .handle((waited, failure) -> {
+                        synchronized (groupCommitLock) {
+                            return submit(lane, transaction, origin);
+                        }
+                    });
+            // The slot on the lane is reserved now, so later transactions of the lane can not overtake this one.
+            laneTails[lane] = submission.handle((submitted, failure) -> null);
+            return submission.thenCompose(submitted -> submitted);
+        }
+    }
+
+    private CompletableFuture<Object> submit(int lane, Transaction transaction, Exception origin) {
+        if (transaction.isGroupCommittable()) {
+            return addToGroupCommit(lane, transaction, origin);
+        }
+        // Grouped transactions submitted before this transaction should not be executed after it.
+        openGroupCommits[lane] = null;
+
         return CompletableFuture.supplyAsync(() -> {
             accessLock.checkAccess(transaction);
             if (devMode) {
                 logger.getDebugLogger().logOn(DebugChannels.SQL, "Executing: " + transaction.getClass().getSimpleName());
             }
             transaction.executeTransaction(this);
-            return CompletableFuture.completedFuture(null);
-        }, getTransactionExecutor()).handle(errorHandler(transaction, origin));
+            return null;
+        }, transactionExecutors[lane]).handle(errorHandler(transaction, origin));
     }
 
-    private BiFunction<CompletableFuture<Object>, Throwable, CompletableFuture<Object>> errorHandler(Transaction transaction, Exception origin) {
+    private int getLane(UUID partitionKey) {
+        if (transactionExecutors == null) {
+            createTransactionExecutors();
+        }
+        if (partitionKey == null) {
+            return 0;
+        }
+        return Math.floorMod(partitionKey.hashCode(), transactionExecutors.length);
+    }
+
+    private List<CompletableFuture<Void>> getDependencies(Transaction transaction, int lane) {
+        Set<Integer> dependencyLanes = new HashSet<>();
+        for (UUID dependencyKey : transaction.getDependencyKeys()) {
+            dependencyLanes.add(getLane(dependencyKey));
+        }
+        // Transactions of the same lane are executed in submission order anyway.
+        dependencyLanes.remove(lane);
+
+        List<CompletableFuture<Void>> dependencies = new ArrayList<>();
+        for (Integer dependencyLane : dependencyLanes) {
+            // Finishes when everything submitted to the lane before it has been executed.
+            dependencies.add(CompletableFuture.runAsync(() -> {}, transactionExecutors[dependencyLane]));
+        }
+        return dependencies;
+    }
+
+    private CompletableFuture<Object> addToGroupCommit(int lane, Transaction transaction, Exception origin) {
+        PendingGroupCommit openGroupCommit = openGroupCommits[lane];
+        if (openGroupCommit != null && openGroupCommit.size() < MAX_GROUP_COMMIT_SIZE) {
+            return openGroupCommit.add(transaction, origin);
+        }
+        PendingGroupCommit group = new PendingGroupCommit();
+        openGroupCommits[lane] = group;
+        // Added before submitting, since the executor might execute the group right away.
+        CompletableFuture<Object> future = group.add(transaction, origin);
+        transactionExecutors[lane].submit(() -> executeGroupCommit(group));
+        return future;
+    }
+
+    private void executeGroupCommit(PendingGroupCommit pending) {
+        synchronized (groupCommitLock) {
+            // Transactions submitted from now on go to a new group.
+            for (int i = 0; i < openGroupCommits.length; i++) {
+                if (openGroupCommits[i] == pending) openGroupCommits[i] = null;
+            }
+        }
+
+        GroupCommitTransaction group = pending.group;
+        try {
+            accessLock.checkAccess(group);
+            if (devMode) {
+                logger.getDebugLogger().logOn(DebugChannels.SQL, "Executing: " + group);
+            }
+            group.executeTransaction(this);
+            group.markCommitted();
+        } catch (Exception groupFailed) {
+            // The whole group was rolled back, so the transactions are attempted one by one.
+            executeSeparately(pending);
+            return;
+        }
+
+        for (Transaction transaction : group.getTransactions()) {
+            Optional<RuntimeException> failure = group.getFailure(transaction);
+            if (failure.isPresent()) {
+                pending.fail(transaction, new CompletionException(failure.get()));
+            } else {
+                pending.complete(transaction);
+            }
+        }
+    }
+
+    private void executeSeparately(PendingGroupCommit pending) {
+        for (Transaction transaction : pending.group.getTransactions()) {
+            try {
+                accessLock.checkAccess(transaction);
+                transaction.executeTransaction(this);
+                pending.complete(transaction);
+            } catch (Exception e) {
+                pending.fail(transaction, new CompletionException(e));
+            }
+        }
+    }
+
+    private BiFunction<Object, Throwable, Object> errorHandler(Transaction transaction, Exception origin) {
         return (obj, throwable) -> {
             if (throwable == null) {
-                return CompletableFuture.completedFuture(null);
+                return null;
             }
             if (throwable.getCause() instanceof FatalDBException) {
                 logger.error("Database failed to open, " + transaction.getClass().getName() + " failed to be executed.");
@@ -270,15 +451,41 @@ public abstract class SQLDB extends AbstractDatabase {
                     .related("Transaction: " + transaction.getClass())
                     .related("DB State: " + getState())
                     .build());
-            return CompletableFuture.completedFuture(null);
+            return null;
         };
     }
 
-    private ExecutorService getTransactionExecutor() {
-        if (transactionExecutor == null) {
-            transactionExecutor = transactionExecutorServiceProvider.get();
+    private class PendingGroupCommit {
+        private final GroupCommitTransaction group;
+        private final Map<Transaction, CompletableFuture<Object>> futures;
+        private final Map<Transaction, Exception> origins;
+
+        PendingGroupCommit() {
+            group = new GroupCommitTransaction();
+            futures = new IdentityHashMap<>();
+            origins = new IdentityHashMap<>();
+        }
+
+        CompletableFuture<Object> add(Transaction transaction, Exception origin) {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            group.add(transaction);
+            futures.put(transaction, future);
+            origins.put(transaction, origin);
+            return future;
+        }
+
+        int size() {
+            return group.size();
+        }
+
+        void complete(Transaction transaction) {
+            futures.get(transaction).complete(null);
+        }
+
+        void fail(Transaction transaction, Throwable throwable) {
+            errorHandler(transaction, origins.get(transaction)).apply(null, throwable);
+            futures.get(transaction).complete(null);
         }
-        return transactionExecutor;
     }
 
     @Override
@@ -19,6 +19,7 @@ package com.djrapitops.plan.storage.database;
 import com.djrapitops.plan.exceptions.database.DBInitException;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.DatabaseSettings;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.PluginLang;
 import com.djrapitops.plan.storage.file.PlanFiles;
@@ -31,6 +32,8 @@ import com.djrapitops.plugin.logging.L;
 import com.djrapitops.plugin.logging.console.PluginLogger;
 import com.djrapitops.plugin.task.PluginTask;
 import com.djrapitops.plugin.task.RunnableFactory;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.pool.HikariPool;
 import dagger.Lazy;
 
 import javax.inject.Inject;
@@ -40,6 +43,7 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * @author Rsl1122
@@ -49,6 +53,8 @@ public class SQLiteDB extends SQLDB {
     private final File databaseFile;
     private final String dbName;
     private Connection connection;
+    private boolean walMode;
+    private volatile ReadConnectionPool readPool;
     private PluginTask connectionPingTask;
 
     private SQLiteDB(
@@ -75,6 +81,34 @@ public class SQLiteDB extends SQLDB {
             throw new DBInitException(e.getMessage(), e);
         }
         startConnectionPingTask();
+        setupReadPool();
+    }
+
+    private void setupReadPool() {
+        closeReadPool();
+        if (!walMode) {
+            // Without WAL readers would block the writer from committing.
+            logger.debug("SQLite " + dbName + ": Not in WAL mode, queries use the writer connection");
+            return;
+        }
+
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setJdbcUrl("jdbc:sqlite:" + databaseFile.getAbsolutePath());
+        // SQLITE_OPEN_READONLY, the driver does not allow changing read-only flag after opening.
+        hikariConfig.addDataSourceProperty("open_mode", "1");
+        try {
+            int poolSize = config.getOrDefault(DatabaseSettings.READ_CONNECTIONS, 4);
+            readPool = new ReadConnectionPool("Plan SQLite Read Pool", poolSize, hikariConfig);
+        } catch (HikariPool.PoolInitializationException e) {
+            logger.warn("Failed to open read-only SQLite connections, queries use the writer connection: " + e.getMessage());
+        }
+    }
+
+    private void closeReadPool() {
+        if (readPool != null) {
+            readPool.close();
+            readPool = null;
+        }
     }
 
     public Connection getNewConnection(File dbFile) throws SQLException {
@@ -95,9 +129,12 @@ public class SQLiteDB extends SQLDB {
 
     private Connection getConnectionFor(String dbFilePath) throws SQLException {
         try {
-            return DriverManager.getConnection("jdbc:sqlite:" + dbFilePath + "?journal_mode=WAL");
+            Connection walConnection = DriverManager.getConnection("jdbc:sqlite:" + dbFilePath + "?journal_mode=WAL");
+            walMode = true;
+            return walConnection;
         } catch (SQLException ignored) {
             logger.info(locale.getString(PluginLang.DB_NOTIFY_SQLITE_WAL));
+            walMode = false;
             return DriverManager.getConnection("jdbc:sqlite:" + dbFilePath);
         }
     }
@@ -132,6 +169,10 @@ public class SQLiteDB extends SQLDB {
 
     @Override
     public Connection getConnection() throws SQLException {
+        ReadConnectionPool queryPool = readPool;
+        if (queryPool != null && !isExecutingTransaction()) {
+            return queryPool.getConnection();
+        }
         if (connection == null) {
             connection = getNewConnection(databaseFile);
         }
@@ -144,6 +185,7 @@ public class SQLiteDB extends SQLDB {
 
         super.close();
         stopConnectionPingTask();
+        closeReadPool();
 
         if (connection != null) {
             logger.debug("SQLite " + dbName + ": Closed Connection");
@@ -153,7 +195,16 @@ public class SQLiteDB extends SQLDB {
 
     @Override
     public void returnToPool(Connection connection) {
-        // Connection pool not in use, no action required.
+        // The writer connection is kept open.
+        if (connection != null && connection != this.connection) {
+            MiscUtils.close(connection);
+        }
+    }
+
+    @Override
+    public Optional<String> getConnectionPoolStatistics() {
+        ReadConnectionPool queryPool = readPool;
+        return Optional.ofNullable(queryPool).map(pool -> "Read connections: " + pool.getStatistics());
     }
 
     @Override
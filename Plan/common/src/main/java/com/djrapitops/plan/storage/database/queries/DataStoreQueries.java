@@ -105,6 +105,53 @@ public class DataStoreQueries {
         };
     }
 
+    /**
+     * Add a finished session to the hourly session rollup of the player.
+     *
+     * @param session Session, of which {@link Session#endSession(long)} has been called.
+     * @return Executable, use inside a {@link com.djrapitops.plan.storage.database.transactions.Transaction}
+     * @throws IllegalArgumentException If {@link Session#endSession(long)} has not yet been called.
+     */
+    public static Executable storeSessionRollup(Session session) {
+        Verify.isTrue(session.supports(SessionKeys.END), () -> new IllegalArgumentException("Attempted to save a session that has not ended."));
+        return connection -> {
+            if (!updateSessionRollup(session).execute(connection)) {
+                return insertSessionRollup(session).execute(connection);
+            }
+            return false;
+        };
+    }
+
+    private static Executable updateSessionRollup(Session session) {
+        return new ExecStatement(SessionRollupsTable.UPDATE_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                long start = session.getUnsafe(SessionKeys.START);
+                statement.setInt(1, 1);
+                statement.setLong(2, session.getUnsafe(SessionKeys.END) - start);
+                statement.setLong(3, session.getValue(SessionKeys.AFK_TIME).orElse(0L));
+                statement.setString(4, session.getUnsafe(SessionKeys.UUID).toString());
+                statement.setString(5, session.getUnsafe(SessionKeys.SERVER_UUID).toString());
+                statement.setLong(6, SessionRollupsTable.hourStart(start));
+            }
+        };
+    }
+
+    private static Executable insertSessionRollup(Session session) {
+        return new ExecStatement(SessionRollupsTable.INSERT_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                long start = session.getUnsafe(SessionKeys.START);
+                statement.setString(1, session.getUnsafe(SessionKeys.UUID).toString());
+                statement.setString(2, session.getUnsafe(SessionKeys.SERVER_UUID).toString());
+                statement.setLong(3, SessionRollupsTable.hourStart(start));
+                statement.setInt(4, 1);
+                statement.setLong(5, session.getUnsafe(SessionKeys.END) - start);
+                statement.setLong(6, session.getValue(SessionKeys.AFK_TIME).orElse(0L));
+            }
+        };
+    }
+
     /**
      * Store player's Geo Information in the database.
      *
@@ -19,6 +19,7 @@ package com.djrapitops.plan.storage.database.queries;
 import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.gathering.domain.builders.TPSBuilder;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
+import com.djrapitops.plan.storage.database.sql.tables.TPSAggregateTable;
 import com.djrapitops.plan.storage.database.sql.tables.TPSTable;
 import com.djrapitops.plan.storage.database.sql.tables.WorldTable;
 import com.djrapitops.plan.utilities.java.Lists;
@@ -89,6 +90,41 @@ public class LargeFetchQueries {
         };
     }
 
+    /**
+     * Query database for hourly and daily TPS aggregates.
+     *
+     * @return Map: Server UUID - List of rows: resolution, date and the columns of {@link TPSAggregateTable#aggregateColumns()}
+     */
+    public static Query<Map<UUID, List<Object[]>>> fetchAllTPSAggregates() {
+        String serverIDColumn = ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_ID;
+        String serverUUIDColumn = ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + " as s_uuid";
+        String sql = SELECT +
+                serverUUIDColumn + ',' +
+                TPSAggregateTable.RESOLUTION + ',' +
+                TPSAggregateTable.DATE + ',' +
+                TPSAggregateTable.aggregateColumns() +
+                FROM + TPSAggregateTable.TABLE_NAME +
+                INNER_JOIN + ServerTable.TABLE_NAME + " on " + serverIDColumn + "=" + TPSAggregateTable.SERVER_ID;
+
+        return new QueryAllStatement<Map<UUID, List<Object[]>>>(sql, 10000) {
+            @Override
+            public Map<UUID, List<Object[]>> processResults(ResultSet set) throws SQLException {
+                Map<UUID, List<Object[]>> serverMap = new HashMap<>();
+                int columnCount = 2 + TPSAggregateTable.AGGREGATE_COLUMN_COUNT;
+                while (set.next()) {
+                    UUID serverUUID = UUID.fromString(set.getString("s_uuid"));
+                    Object[] row = new Object[columnCount];
+                    for (int i = 0; i < columnCount; i++) {
+                        // Values are kept as they are in the source, the columns have different number types.
+                        row[i] = set.getObject(i + 2);
+                    }
+                    serverMap.computeIfAbsent(serverUUID, Lists::create).add(row);
+                }
+                return serverMap;
+            }
+        };
+    }
+
     /**
      * Query database for world names.
      *
@@ -207,6 +207,34 @@ public class LargeStoreQueries {
         };
     }
 
+    /**
+     * Execute a big batch of TPS aggregate insert statements.
+     *
+     * @param ofServers Map: Server UUID - List of rows from {@link LargeFetchQueries#fetchAllTPSAggregates()}
+     * @return Executable, use inside a {@link com.djrapitops.plan.storage.database.transactions.Transaction}
+     */
+    public static Executable storeAllTPSAggregates(Map<UUID, List<Object[]>> ofServers) {
+        if (Verify.isEmpty(ofServers)) {
+            return Executable.empty();
+        }
+
+        return new ExecBatchStatement(TPSAggregateTable.INSERT_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (Map.Entry<UUID, List<Object[]>> entry : ofServers.entrySet()) {
+                    String serverUUID = entry.getKey().toString();
+                    for (Object[] row : entry.getValue()) {
+                        statement.setString(1, serverUUID);
+                        for (int i = 0; i < row.length; i++) {
+                            statement.setObject(i + 2, row[i]);
+                        }
+                        statement.addBatch();
+                    }
+                }
+            }
+        };
+    }
+
     /**
      * Execute a big batch of Per server UserInfo insert statements.
      *
@@ -315,7 +343,11 @@ public class LargeStoreQueries {
         return connection -> {
             storeAllSessionsWithoutKillOrWorldData(sessions).execute(connection);
             storeSessionKillData(sessions).execute(connection);
-            return storeSessionWorldTimeData(sessions).execute(connection);
+            boolean stored = storeSessionWorldTimeData(sessions).execute(connection);
+            for (Session session : sessions) {
+                DataStoreQueries.storeSessionRollup(session).execute(connection);
+            }
+            return stored;
         };
     }
 
@@ -17,7 +17,9 @@
 package com.djrapitops.plan.storage.database.queries;
 
 import com.djrapitops.plan.storage.database.sql.tables.KillsTable;
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -38,6 +40,9 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  */
 public class PerServerAggregateQueries {
 
+    private static final String SERVER_UUID = "server_uuid";
+    private static final String SERVER_UUID_COLUMN = ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + " as " + SERVER_UUID;
+
     private PerServerAggregateQueries() {
         /* Static method class */
     }
@@ -50,10 +55,11 @@ public class PerServerAggregateQueries {
      */
     public static Query<Map<UUID, Long>> lastSeenOnServers(UUID playerUUID) {
         String sql = SELECT + "MAX(" + SessionsTable.SESSION_END + ") as last_seen, " +
-                SessionsTable.SERVER_UUID +
+                SERVER_UUID_COLUMN +
                 FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.USER_UUID + "=?" +
-                GROUP_BY + SessionsTable.SERVER_UUID;
+                INNER_JOIN + ServerTable.TABLE_NAME + " on " + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_ID + '=' + SessionsTable.SERVER_ID +
+                WHERE + SessionsTable.USER_ID + "=" + UsersTable.SELECT_USER_ID_STATEMENT +
+                GROUP_BY + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID;
         return new QueryStatement<Map<UUID, Long>>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
@@ -64,7 +70,7 @@ public class PerServerAggregateQueries {
             public Map<UUID, Long> processResults(ResultSet set) throws SQLException {
                 Map<UUID, Long> lastSeenMap = new HashMap<>();
                 while (set.next()) {
-                    UUID serverUUID = UUID.fromString(set.getString(SessionsTable.SERVER_UUID));
+                    UUID serverUUID = UUID.fromString(set.getString(SERVER_UUID));
                     long lastSeen = set.getLong("last_seen");
                     lastSeenMap.put(serverUUID, lastSeen);
                 }
@@ -80,9 +86,11 @@ public class PerServerAggregateQueries {
      * @return Map: Server UUID - Player kill count
      */
     public static Query<Map<UUID, Integer>> playerKillCountOnServers(UUID playerUUID) {
-        String sql = SELECT + "COUNT(1) as kill_count, " + KillsTable.SERVER_UUID + FROM + KillsTable.TABLE_NAME +
-                WHERE + KillsTable.KILLER_UUID + "=?" +
-                GROUP_BY + KillsTable.SERVER_UUID;
+        String sql = SELECT + "COUNT(1) as kill_count, " + SERVER_UUID_COLUMN +
+                FROM + KillsTable.TABLE_NAME +
+                INNER_JOIN + ServerTable.TABLE_NAME + " on " + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_ID + '=' + KillsTable.SERVER_ID +
+                WHERE + KillsTable.KILLER_ID + "=" + UsersTable.SELECT_USER_ID_STATEMENT +
+                GROUP_BY + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID;
         return getQueryForCountOf(playerUUID, sql, "kill_count");
     }
 
@@ -94,17 +102,19 @@ public class PerServerAggregateQueries {
      */
     public static Query<Map<UUID, Integer>> mobKillCountOnServers(UUID playerUUID) {
         String sql = SELECT + "SUM(" + SessionsTable.MOB_KILLS + ") as kill_count, " +
-                SessionsTable.SERVER_UUID + FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.USER_UUID + "=?" +
-                GROUP_BY + SessionsTable.SERVER_UUID;
+                SERVER_UUID_COLUMN + FROM + SessionsTable.TABLE_NAME +
+                INNER_JOIN + ServerTable.TABLE_NAME + " on " + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_ID + '=' + SessionsTable.SERVER_ID +
+                WHERE + SessionsTable.USER_ID + "=" + UsersTable.SELECT_USER_ID_STATEMENT +
+                GROUP_BY + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID;
         return getQueryForCountOf(playerUUID, sql, "kill_count");
     }
 
     public static Query<Map<UUID, Integer>> totalDeathCountOnServers(UUID playerUUID) {
         String sql = SELECT + "SUM(" + SessionsTable.DEATHS + ") as death_count, " +
-                SessionsTable.SERVER_UUID + FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.USER_UUID + "=?" +
-                GROUP_BY + SessionsTable.SERVER_UUID;
+                SERVER_UUID_COLUMN + FROM + SessionsTable.TABLE_NAME +
+                INNER_JOIN + ServerTable.TABLE_NAME + " on " + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_ID + '=' + SessionsTable.SERVER_ID +
+                WHERE + SessionsTable.USER_ID + "=" + UsersTable.SELECT_USER_ID_STATEMENT +
+                GROUP_BY + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID;
         return getQueryForCountOf(playerUUID, sql, "death_count");
     }
 
@@ -120,7 +130,7 @@ public class PerServerAggregateQueries {
             public Map<UUID, Integer> processResults(ResultSet set) throws SQLException {
                 Map<UUID, Integer> killCountMap = new HashMap<>();
                 while (set.next()) {
-                    UUID serverUUID = UUID.fromString(set.getString(SessionsTable.SERVER_UUID));
+                    UUID serverUUID = UUID.fromString(set.getString(SERVER_UUID));
                     int count = set.getInt(column);
                     killCountMap.put(serverUUID, count);
                 }
@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.storage.database.queries;
 
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 
@@ -62,7 +63,7 @@ public class ServerAggregateQueries {
      */
     public static Query<Integer> serverUserCount(UUID serverUUID) {
         String sql = SELECT + "COUNT(1) as c FROM " + UserInfoTable.TABLE_NAME +
-                WHERE + UserInfoTable.SERVER_UUID + "=?";
+                WHERE + UserInfoTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID;
         return new QueryStatement<Integer>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
@@ -85,14 +86,16 @@ public class ServerAggregateQueries {
      * @return Map: Server UUID - Count of users registered to that server
      */
     public static Query<Map<UUID, Integer>> serverUserCounts() {
-        String sql = SELECT + "COUNT(1) as c, " + UserInfoTable.SERVER_UUID + FROM + UserInfoTable.TABLE_NAME +
-                GROUP_BY + UserInfoTable.SERVER_UUID;
+        String sql = SELECT + "COUNT(1) as c, " + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + " as server_uuid" +
+                FROM + UserInfoTable.TABLE_NAME +
+                INNER_JOIN + ServerTable.TABLE_NAME + " on " + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_ID + '=' + UserInfoTable.SERVER_ID +
+                GROUP_BY + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID;
         return new QueryAllStatement<Map<UUID, Integer>>(sql, 100) {
             @Override
             public Map<UUID, Integer> processResults(ResultSet set) throws SQLException {
                 Map<UUID, Integer> ofServer = new HashMap<>();
                 while (set.next()) {
-                    UUID serverUUID = UUID.fromString(set.getString(UserInfoTable.SERVER_UUID));
+                    UUID serverUUID = UUID.fromString(set.getString("server_uuid"));
                     int count = set.getInt("c");
                     ofServer.put(serverUUID, count);
                 }
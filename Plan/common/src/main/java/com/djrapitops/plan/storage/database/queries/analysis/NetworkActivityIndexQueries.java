@@ -77,23 +77,23 @@ public class NetworkActivityIndexQueries {
 
     public static String selectActivityIndexSQL() {
         String selectActivePlaytimeSQL = SELECT +
-                "ux." + UsersTable.USER_UUID + ",COALESCE(active_playtime,0) AS active_playtime" +
+                "ux." + UsersTable.ID + " as " + SessionsTable.USER_ID + ",COALESCE(active_playtime,0) AS active_playtime" +
                 FROM + UsersTable.TABLE_NAME + " ux" +
-                LEFT_JOIN + '(' + SELECT + SessionsTable.USER_UUID +
+                LEFT_JOIN + '(' + SELECT + SessionsTable.USER_ID +
                 ",SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + '-' + SessionsTable.AFK_TIME + ") as active_playtime" +
                 FROM + SessionsTable.TABLE_NAME +
                 WHERE + SessionsTable.SESSION_END + ">=?" +
                 AND + SessionsTable.SESSION_START + "<=?" +
-                GROUP_BY + SessionsTable.USER_UUID +
-                ") sx on sx.uuid=ux.uuid";
+                GROUP_BY + SessionsTable.USER_ID +
+                ") sx on sx.user_id=ux.id";
 
         String selectThreeWeeks = selectActivePlaytimeSQL + UNION_ALL + selectActivePlaytimeSQL + UNION_ALL + selectActivePlaytimeSQL;
 
         return SELECT +
                 "5.0 - 5.0 * AVG(1.0 / (?/2.0 * (q1.active_playtime*1.0/?) +1.0)) as activity_index," +
-                "q1." + SessionsTable.USER_UUID +
+                "q1." + SessionsTable.USER_ID +
                 FROM + '(' + selectThreeWeeks + ") q1" +
-                GROUP_BY + "q1." + SessionsTable.USER_UUID;
+                GROUP_BY + "q1." + SessionsTable.USER_ID;
     }
 
     public static void setSelectActivityIndexSQLParameters(PreparedStatement statement, int index, long playtimeThreshold, long date) throws SQLException {
@@ -113,7 +113,7 @@ public class NetworkActivityIndexQueries {
 
         String selectIndexes = SELECT + "COALESCE(activity_index, 0) as activity_index" +
                 FROM + UsersTable.TABLE_NAME + " u" +
-                LEFT_JOIN + '(' + selectActivityIndex + ") q2 on q2." + SessionsTable.USER_UUID + "=u." + UsersTable.USER_UUID +
+                LEFT_JOIN + '(' + selectActivityIndex + ") q2 on q2." + SessionsTable.USER_ID + "=u." + UsersTable.ID +
                 WHERE + "u." + UsersTable.REGISTERED + "<=?";
 
         String selectCount = SELECT + "COUNT(1) as count" +
@@ -142,7 +142,7 @@ public class NetworkActivityIndexQueries {
 
         String selectIndexes = SELECT + "activity_index" +
                 FROM + UsersTable.TABLE_NAME + " u" +
-                LEFT_JOIN + '(' + selectActivityIndex + ") s on s." + SessionsTable.USER_UUID + "=u." + UsersTable.USER_UUID +
+                LEFT_JOIN + '(' + selectActivityIndex + ") s on s." + SessionsTable.USER_ID + "=u." + UsersTable.ID +
                 WHERE + "u." + UsersTable.REGISTERED + "<=?";
 
         return new QueryStatement<Map<String, Integer>>(selectIndexes) {
@@ -170,7 +170,7 @@ public class NetworkActivityIndexQueries {
 
         String selectActivePlayerCount = SELECT + "COUNT(1) as count" +
                 FROM + '(' + selectActivityIndex + ") q2" +
-                INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.USER_UUID + "=q2." + SessionsTable.USER_UUID +
+                INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.ID + "=q2." + SessionsTable.USER_ID +
                 WHERE + "u." + UsersTable.REGISTERED + ">=?" +
                 AND + "u." + UsersTable.REGISTERED + "<=?" +
                 AND + "q2.activity_index>=?" +
@@ -206,7 +206,7 @@ public class NetworkActivityIndexQueries {
                 FROM + '(' + selectActivityIndex + ") q2" +
                 // Join two select activity index queries together to query Regular and Inactive players
                 INNER_JOIN + '(' + selectActivityIndex.replace("q1", "q3") + ") q4" +
-                " on q2." + SessionsTable.USER_UUID + "=q4." + SessionsTable.USER_UUID +
+                " on q2." + SessionsTable.USER_ID + "=q4." + SessionsTable.USER_ID +
                 WHERE + "q2.activity_index>=?" +
                 AND + "q2.activity_index<?" +
                 AND + "q4.activity_index>=?" +
@@ -234,15 +234,15 @@ public class NetworkActivityIndexQueries {
         return database -> {
             // INNER JOIN limits the users to only those that are regular
             String selectPlaytimePerPlayer = SELECT +
-                    "p." + SessionsTable.USER_UUID + "," +
+                    "p." + SessionsTable.USER_ID + "," +
                     "SUM(p." + SessionsTable.SESSION_END + "-p." + SessionsTable.SESSION_START + ") as playtime" +
                     FROM + SessionsTable.TABLE_NAME + " p" +
-                    INNER_JOIN + '(' + selectActivityIndexSQL() + ") q2 on q2." + SessionsTable.USER_UUID + "=p." + SessionsTable.USER_UUID +
+                    INNER_JOIN + '(' + selectActivityIndexSQL() + ") q2 on q2." + SessionsTable.USER_ID + "=p." + SessionsTable.USER_ID +
                     WHERE + "p." + SessionsTable.SESSION_END + "<=?" +
                     AND + "p." + SessionsTable.SESSION_START + ">=?" +
                     AND + "q2.activity_index>=?" +
                     AND + "q2.activity_index<?" +
-                    GROUP_BY + "p." + SessionsTable.USER_UUID;
+                    GROUP_BY + "p." + SessionsTable.USER_ID;
             String selectAverage = SELECT + "AVG(playtime) as average" + FROM + '(' + selectPlaytimePerPlayer + ") q1";
 
             return database.query(new QueryStatement<Long>(selectAverage, 100) {
@@ -267,10 +267,10 @@ public class NetworkActivityIndexQueries {
         return database -> {
             // INNER JOIN limits the users to only those that are regular
             String selectSessionLengthPerPlayer = SELECT +
-                    "p." + SessionsTable.USER_UUID + "," +
+                    "p." + SessionsTable.USER_ID + "," +
                     "p." + SessionsTable.SESSION_END + "-p." + SessionsTable.SESSION_START + " as length" +
                     FROM + SessionsTable.TABLE_NAME + " p" +
-                    INNER_JOIN + '(' + selectActivityIndexSQL() + ") q2 on q2." + SessionsTable.USER_UUID + "=p." + SessionsTable.USER_UUID +
+                    INNER_JOIN + '(' + selectActivityIndexSQL() + ") q2 on q2." + SessionsTable.USER_ID + "=p." + SessionsTable.USER_ID +
                     WHERE + "p." + SessionsTable.SESSION_END + "<=?" +
                     AND + "p." + SessionsTable.SESSION_START + ">=?" +
                     AND + "q2.activity_index>=?" +
@@ -299,15 +299,15 @@ public class NetworkActivityIndexQueries {
         return database -> {
             // INNER JOIN limits the users to only those that are regular
             String selectPlaytimePerPlayer = SELECT +
-                    "p." + SessionsTable.USER_UUID + "," +
+                    "p." + SessionsTable.USER_ID + "," +
                     "SUM(p." + SessionsTable.AFK_TIME + ") as afk" +
                     FROM + SessionsTable.TABLE_NAME + " p" +
-                    INNER_JOIN + '(' + selectActivityIndexSQL() + ") q2 on q2." + SessionsTable.USER_UUID + "=p." + SessionsTable.USER_UUID +
+                    INNER_JOIN + '(' + selectActivityIndexSQL() + ") q2 on q2." + SessionsTable.USER_ID + "=p." + SessionsTable.USER_ID +
                     WHERE + "p." + SessionsTable.SESSION_END + "<=?" +
                     AND + "p." + SessionsTable.SESSION_START + ">=?" +
                     AND + "q2.activity_index>=?" +
                     AND + "q2.activity_index<?" +
-                    GROUP_BY + "p." + SessionsTable.USER_UUID;
+                    GROUP_BY + "p." + SessionsTable.USER_ID;
             String selectAverage = SELECT + "AVG(afk) as average" + FROM + '(' + selectPlaytimePerPlayer + ") q1";
 
             return database.query(new QueryStatement<Long>(selectAverage, 100) {
@@ -329,14 +329,14 @@ public class NetworkActivityIndexQueries {
     }
 
     public static Query<Collection<ActivityIndex>> activityIndexForNewPlayers(long after, long before, Long threshold) {
-        String selectNewUUIDs = SELECT + UsersTable.USER_UUID +
+        String selectNewUUIDs = SELECT + UsersTable.ID + " as " + SessionsTable.USER_ID +
                 FROM + UsersTable.TABLE_NAME +
                 WHERE + UsersTable.REGISTERED + "<=?" +
                 AND + UsersTable.REGISTERED + ">=?";
 
         String sql = SELECT + "activity_index" +
                 FROM + '(' + selectNewUUIDs + ") n" +
-                INNER_JOIN + '(' + selectActivityIndexSQL() + ") a on n." + SessionsTable.USER_UUID + "=a." + SessionsTable.USER_UUID;
+                INNER_JOIN + '(' + selectActivityIndexSQL() + ") a on n." + SessionsTable.USER_ID + "=a." + SessionsTable.USER_ID;
 
         return new QueryStatement<Collection<ActivityIndex>>(sql) {
             @Override
@@ -358,20 +358,20 @@ public class NetworkActivityIndexQueries {
     }
 
     public static Query<ActivityIndex> averageActivityIndexForRetainedPlayers(long after, long before, Long threshold) {
-        String selectNewUUIDs = SELECT + UsersTable.USER_UUID +
+        String selectNewUUIDs = SELECT + UsersTable.ID + " as " + SessionsTable.USER_ID +
                 FROM + UsersTable.TABLE_NAME +
                 WHERE + UsersTable.REGISTERED + "<=?" +
                 AND + UsersTable.REGISTERED + ">=?";
 
-        String selectUniqueUUIDs = SELECT + "DISTINCT " + SessionsTable.USER_UUID +
+        String selectUniqueUUIDs = SELECT + "DISTINCT " + SessionsTable.USER_ID +
                 FROM + SessionsTable.TABLE_NAME +
                 WHERE + SessionsTable.SESSION_START + ">=?" +
                 AND + SessionsTable.SESSION_END + "<=?";
 
         String sql = SELECT + "AVG(activity_index) as average" +
                 FROM + '(' + selectNewUUIDs + ") n" +
-                INNER_JOIN + '(' + selectUniqueUUIDs + ") u on n." + SessionsTable.USER_UUID + "=u." + SessionsTable.USER_UUID +
-                INNER_JOIN + '(' + selectActivityIndexSQL() + ") a on n." + SessionsTable.USER_UUID + "=a." + SessionsTable.USER_UUID;
+                INNER_JOIN + '(' + selectUniqueUUIDs + ") u on n." + SessionsTable.USER_ID + "=u." + SessionsTable.USER_ID +
+                INNER_JOIN + '(' + selectActivityIndexSQL() + ") a on n." + SessionsTable.USER_ID + "=a." + SessionsTable.USER_ID;
 
         return new QueryStatement<ActivityIndex>(sql) {
             @Override
@@ -394,21 +394,21 @@ public class NetworkActivityIndexQueries {
     }
 
     public static Query<ActivityIndex> averageActivityIndexForNonRetainedPlayers(long after, long before, Long threshold) {
-        String selectNewUUIDs = SELECT + UsersTable.USER_UUID +
+        String selectNewUUIDs = SELECT + UsersTable.ID + " as " + SessionsTable.USER_ID +
                 FROM + UsersTable.TABLE_NAME +
                 WHERE + UsersTable.REGISTERED + "<=?" +
                 AND + UsersTable.REGISTERED + ">=?";
 
-        String selectUniqueUUIDs = SELECT + "DISTINCT " + SessionsTable.USER_UUID +
+        String selectUniqueUUIDs = SELECT + "DISTINCT " + SessionsTable.USER_ID +
                 FROM + SessionsTable.TABLE_NAME +
                 WHERE + SessionsTable.SESSION_START + ">=?" +
                 AND + SessionsTable.SESSION_END + "<=?";
 
         String sql = SELECT + "AVG(activity_index) as average" +
                 FROM + '(' + selectNewUUIDs + ") n" +
-                LEFT_JOIN + '(' + selectUniqueUUIDs + ") u on n." + SessionsTable.USER_UUID + "=u." + SessionsTable.USER_UUID +
-                INNER_JOIN + '(' + selectActivityIndexSQL() + ") a on n." + SessionsTable.USER_UUID + "=a." + SessionsTable.USER_UUID +
-                WHERE + "n." + SessionsTable.USER_UUID + IS_NULL;
+                LEFT_JOIN + '(' + selectUniqueUUIDs + ") u on n." + SessionsTable.USER_ID + "=u." + SessionsTable.USER_ID +
+                INNER_JOIN + '(' + selectActivityIndexSQL() + ") a on n." + SessionsTable.USER_ID + "=a." + SessionsTable.USER_ID +
+                WHERE + "n." + SessionsTable.USER_ID + IS_NULL;
 
         return new QueryStatement<ActivityIndex>(sql) {
             @Override
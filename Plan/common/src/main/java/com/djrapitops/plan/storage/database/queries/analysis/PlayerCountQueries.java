@@ -19,6 +19,8 @@ package com.djrapitops.plan.storage.database.queries.analysis;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
+import com.djrapitops.plan.storage.database.sql.tables.SessionRollupsTable;
 import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
@@ -37,6 +39,10 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  */
 public class PlayerCountQueries {
 
+    private static final String ROLLUPS_OF_SERVER_WITHIN_WINDOW = SessionRollupsTable.rowsWithinWindows(1,
+            SessionRollupsTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID);
+    private static final String ROLLUPS_WITHIN_WINDOW = SessionRollupsTable.rowsWithinWindows(1, null);
+
     private PlayerCountQueries() {
         // Static method class
     }
@@ -72,14 +78,25 @@ public class PlayerCountQueries {
         };
     }
 
+    private static QueryStatement<Integer> queryUniquePlayerCount(String sql, long after, long before, UUID serverUUID) {
+        return new QueryStatement<Integer>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                SessionRollupsTable.setWindowParameters(statement, 1, serverUUID != null ? serverUUID.toString() : null, 0L, after, before);
+            }
+
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getInt("player_count") : 0;
+            }
+        };
+    }
+
     public static Query<Integer> uniquePlayerCount(long after, long before, UUID serverUUID) {
-        String sql = SELECT + "COUNT(DISTINCT " + SessionsTable.USER_UUID + ") as player_count" +
-                FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.SESSION_END + "<=?" +
-                AND + SessionsTable.SESSION_START + ">=?" +
-                AND + SessionsTable.SERVER_UUID + "=?";
+        String sql = SELECT + "COUNT(DISTINCT " + SessionRollupsTable.USER_ID + ") as player_count" +
+                FROM + ROLLUPS_OF_SERVER_WITHIN_WINDOW;
 
-        return queryPlayerCount(sql, after, before, serverUUID);
+        return queryUniquePlayerCount(sql, after, before, serverUUID);
     }
 
     /**
@@ -90,33 +107,30 @@ public class PlayerCountQueries {
      * @return Unique player count (players who played within time frame)
      */
     public static Query<Integer> uniquePlayerCount(long after, long before) {
-        String sql = SELECT + "COUNT(DISTINCT " + SessionsTable.USER_UUID + ") as player_count" +
-                FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.SESSION_END + "<=?" +
-                AND + SessionsTable.SESSION_START + ">=?";
+        String sql = SELECT + "COUNT(DISTINCT " + SessionRollupsTable.USER_ID + ") as player_count" +
+                FROM + ROLLUPS_WITHIN_WINDOW;
 
-        return queryPlayerCount(sql, after, before);
+        return queryUniquePlayerCount(sql, after, before, null);
     }
 
     public static Query<Map<UUID, Integer>> uniquePlayerCounts(long after, long before) {
-        String sql = SELECT + SessionsTable.SERVER_UUID + ",COUNT(DISTINCT " + SessionsTable.USER_UUID + ") as player_count" +
-                FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.SESSION_END + "<=?" +
-                AND + SessionsTable.SESSION_START + ">=?" +
-                GROUP_BY + UserInfoTable.SERVER_UUID;
+        String sql = SELECT + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + " as server_uuid" +
+                ",COUNT(DISTINCT " + SessionRollupsTable.USER_ID + ") as player_count" +
+                FROM + ROLLUPS_WITHIN_WINDOW +
+                INNER_JOIN + ServerTable.TABLE_NAME + " on " + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_ID + '=' + SessionRollupsTable.SERVER_ID +
+                GROUP_BY + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID;
 
         return new QueryStatement<Map<UUID, Integer>>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setLong(1, before);
-                statement.setLong(2, after);
+                SessionRollupsTable.setWindowParameters(statement, 1, null, 0L, after, before);
             }
 
             @Override
             public Map<UUID, Integer> processResults(ResultSet set) throws SQLException {
                 Map<UUID, Integer> byServer = new HashMap<>();
                 while (set.next()) {
-                    byServer.put(UUID.fromString(set.getString(UserInfoTable.SERVER_UUID)), set.getInt("player_count"));
+                    byServer.put(UUID.fromString(set.getString("server_uuid")), set.getInt("player_count"));
                 }
                 return byServer;
             }
@@ -136,22 +150,17 @@ public class PlayerCountQueries {
         return database -> {
             Sql sql = database.getSql();
             String selectUniquePlayersPerDay = SELECT +
-                    sql.dateToEpochSecond(sql.dateToDayStamp(sql.epochSecondToDate('(' + SessionsTable.SESSION_START + "+?)/1000"))) +
+                    sql.dateToEpochSecond(sql.dateToDayStamp(sql.epochSecondToDate('(' + SessionRollupsTable.HOUR_START + "+?)/1000"))) +
                     "*1000 as date," +
-                    "COUNT(DISTINCT " + SessionsTable.USER_UUID + ") as player_count" +
-                    FROM + SessionsTable.TABLE_NAME +
-                    WHERE + SessionsTable.SESSION_END + "<=?" +
-                    AND + SessionsTable.SESSION_START + ">=?" +
-                    AND + SessionsTable.SERVER_UUID + "=?" +
+                    "COUNT(DISTINCT " + SessionRollupsTable.USER_ID + ") as player_count" +
+                    FROM + ROLLUPS_OF_SERVER_WITHIN_WINDOW +
                     GROUP_BY + "date";
 
             return database.query(new QueryStatement<NavigableMap<Long, Integer>>(selectUniquePlayersPerDay, 100) {
                 @Override
                 public void prepare(PreparedStatement statement) throws SQLException {
                     statement.setLong(1, timeZoneOffset);
-                    statement.setLong(2, before);
-                    statement.setLong(3, after);
-                    statement.setString(4, serverUUID.toString());
+                    SessionRollupsTable.setWindowParameters(statement, 2, serverUUID.toString(), timeZoneOffset, after, before);
                 }
 
                 @Override
@@ -179,22 +188,17 @@ public class PlayerCountQueries {
         return database -> {
             Sql sql = database.getSql();
             String selectUniquePlayersPerDay = SELECT +
-                    sql.dateToEpochSecond(sql.dateToHourStamp(sql.epochSecondToDate('(' + SessionsTable.SESSION_START + "+?)/1000"))) +
+                    sql.dateToEpochSecond(sql.dateToHourStamp(sql.epochSecondToDate('(' + SessionRollupsTable.HOUR_START + "+?)/1000"))) +
                     "*1000 as date," +
-                    "COUNT(DISTINCT " + SessionsTable.USER_UUID + ") as player_count" +
-                    FROM + SessionsTable.TABLE_NAME +
-                    WHERE + SessionsTable.SESSION_END + "<=?" +
-                    AND + SessionsTable.SESSION_START + ">=?" +
-                    AND + SessionsTable.SERVER_UUID + "=?" +
+                    "COUNT(DISTINCT " + SessionRollupsTable.USER_ID + ") as player_count" +
+                    FROM + ROLLUPS_OF_SERVER_WITHIN_WINDOW +
                     GROUP_BY + "date";
 
             return database.query(new QueryStatement<NavigableMap<Long, Integer>>(selectUniquePlayersPerDay, 100) {
                 @Override
                 public void prepare(PreparedStatement statement) throws SQLException {
                     statement.setLong(1, timeZoneOffset);
-                    statement.setLong(2, before);
-                    statement.setLong(3, after);
-                    statement.setString(4, serverUUID.toString());
+                    SessionRollupsTable.setWindowParameters(statement, 2, serverUUID.toString(), timeZoneOffset, after, before);
                 }
 
                 @Override
@@ -221,20 +225,17 @@ public class PlayerCountQueries {
         return database -> {
             Sql sql = database.getSql();
             String selectUniquePlayersPerDay = SELECT +
-                    sql.dateToEpochSecond(sql.dateToDayStamp(sql.epochSecondToDate('(' + SessionsTable.SESSION_START + "+?)/1000"))) +
+                    sql.dateToEpochSecond(sql.dateToDayStamp(sql.epochSecondToDate('(' + SessionRollupsTable.HOUR_START + "+?)/1000"))) +
                     "*1000 as date," +
-                    "COUNT(DISTINCT " + SessionsTable.USER_UUID + ") as player_count" +
-                    FROM + SessionsTable.TABLE_NAME +
-                    WHERE + SessionsTable.SESSION_END + "<=?" +
-                    AND + SessionsTable.SESSION_START + ">=?" +
+                    "COUNT(DISTINCT " + SessionRollupsTable.USER_ID + ") as player_count" +
+                    FROM + ROLLUPS_WITHIN_WINDOW +
                     GROUP_BY + "date";
 
             return database.query(new QueryStatement<NavigableMap<Long, Integer>>(selectUniquePlayersPerDay, 100) {
                 @Override
                 public void prepare(PreparedStatement statement) throws SQLException {
                     statement.setLong(1, timeZoneOffset);
-                    statement.setLong(2, before);
-                    statement.setLong(3, after);
+                    SessionRollupsTable.setWindowParameters(statement, 2, null, timeZoneOffset, after, before);
                 }
 
                 @Override
@@ -261,20 +262,17 @@ public class PlayerCountQueries {
         return database -> {
             Sql sql = database.getSql();
             String selectUniquePlayersPerDay = SELECT +
-                    sql.dateToEpochSecond(sql.dateToHourStamp(sql.epochSecondToDate('(' + SessionsTable.SESSION_START + "+?)/1000"))) +
+                    sql.dateToEpochSecond(sql.dateToHourStamp(sql.epochSecondToDate('(' + SessionRollupsTable.HOUR_START + "+?)/1000"))) +
                     "*1000 as date," +
-                    "COUNT(DISTINCT " + SessionsTable.USER_UUID + ") as player_count" +
-                    FROM + SessionsTable.TABLE_NAME +
-                    WHERE + SessionsTable.SESSION_END + "<=?" +
-                    AND + SessionsTable.SESSION_START + ">=?" +
+                    "COUNT(DISTINCT " + SessionRollupsTable.USER_ID + ") as player_count" +
+                    FROM + ROLLUPS_WITHIN_WINDOW +
                     GROUP_BY + "date";
 
             return database.query(new QueryStatement<NavigableMap<Long, Integer>>(selectUniquePlayersPerDay, 100) {
                 @Override
                 public void prepare(PreparedStatement statement) throws SQLException {
                     statement.setLong(1, timeZoneOffset);
-                    statement.setLong(2, before);
-                    statement.setLong(3, after);
+                    SessionRollupsTable.setWindowParameters(statement, 2, null, timeZoneOffset, after, before);
                 }
 
                 @Override
@@ -293,13 +291,10 @@ public class PlayerCountQueries {
         return database -> {
             Sql sql = database.getSql();
             String selectUniquePlayersPerDay = SELECT +
-                    sql.dateToEpochSecond(sql.dateToDayStamp(sql.epochSecondToDate('(' + SessionsTable.SESSION_START + "+?)/1000"))) +
+                    sql.dateToEpochSecond(sql.dateToDayStamp(sql.epochSecondToDate('(' + SessionRollupsTable.HOUR_START + "+?)/1000"))) +
                     "*1000 as date," +
-                    "COUNT(DISTINCT " + SessionsTable.USER_UUID + ") as player_count" +
-                    FROM + SessionsTable.TABLE_NAME +
-                    WHERE + SessionsTable.SESSION_END + "<=?" +
-                    AND + SessionsTable.SESSION_START + ">=?" +
-                    AND + SessionsTable.SERVER_UUID + "=?" +
+                    "COUNT(DISTINCT " + SessionRollupsTable.USER_ID + ") as player_count" +
+                    FROM + ROLLUPS_OF_SERVER_WITHIN_WINDOW +
                     GROUP_BY + "date";
             String selectAverage = SELECT + "AVG(player_count) as average" + FROM + '(' + selectUniquePlayersPerDay + ") q1";
 
@@ -307,9 +302,7 @@ public class PlayerCountQueries {
                 @Override
                 public void prepare(PreparedStatement statement) throws SQLException {
                     statement.setLong(1, timeZoneOffset);
-                    statement.setLong(2, before);
-                    statement.setLong(3, after);
-                    statement.setString(4, serverUUID.toString());
+                    SessionRollupsTable.setWindowParameters(statement, 2, serverUUID.toString(), timeZoneOffset, after, before);
                 }
 
                 @Override
@@ -325,7 +318,7 @@ public class PlayerCountQueries {
                 FROM + UserInfoTable.TABLE_NAME +
                 WHERE + UserInfoTable.REGISTERED + "<=?" +
                 AND + UserInfoTable.REGISTERED + ">=?" +
-                AND + UserInfoTable.SERVER_UUID + "=?";
+                AND + UserInfoTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID;
 
         return queryPlayerCount(sql, after, before, serverUUID);
     }
@@ -340,11 +333,13 @@ public class PlayerCountQueries {
     }
 
     public static Query<Map<UUID, Integer>> newPlayerCounts(long after, long before) {
-        String sql = SELECT + UserInfoTable.SERVER_UUID + ",COUNT(1) as player_count" +
+        String sql = SELECT + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + " as server_uuid" +
+                ",COUNT(1) as player_count" +
                 FROM + UserInfoTable.TABLE_NAME +
+                INNER_JOIN + ServerTable.TABLE_NAME + " on " + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_ID + '=' + UserInfoTable.SERVER_ID +
                 WHERE + UserInfoTable.REGISTERED + "<=?" +
                 AND + UserInfoTable.REGISTERED + ">=?" +
-                GROUP_BY + UserInfoTable.SERVER_UUID;
+                GROUP_BY + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID;
 
         return new QueryStatement<Map<UUID, Integer>>(sql) {
             @Override
@@ -357,7 +352,7 @@ public class PlayerCountQueries {
             public Map<UUID, Integer> processResults(ResultSet set) throws SQLException {
                 Map<UUID, Integer> byServer = new HashMap<>();
                 while (set.next()) {
-                    byServer.put(UUID.fromString(set.getString(UserInfoTable.SERVER_UUID)), set.getInt("player_count"));
+                    byServer.put(UUID.fromString(set.getString("server_uuid")), set.getInt("player_count"));
                 }
                 return byServer;
             }
@@ -383,7 +378,7 @@ public class PlayerCountQueries {
                     FROM + UserInfoTable.TABLE_NAME +
                     WHERE + UserInfoTable.REGISTERED + "<=?" +
                     AND + UserInfoTable.REGISTERED + ">=?" +
-                    AND + UserInfoTable.SERVER_UUID + "=?" +
+                    AND + UserInfoTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
                     GROUP_BY + "date";
 
             return database.query(new QueryStatement<NavigableMap<Long, Integer>>(selectNewPlayersQuery, 100) {
@@ -426,7 +421,7 @@ public class PlayerCountQueries {
                     FROM + UserInfoTable.TABLE_NAME +
                     WHERE + UserInfoTable.REGISTERED + "<=?" +
                     AND + UserInfoTable.REGISTERED + ">=?" +
-                    AND + UserInfoTable.SERVER_UUID + "=?" +
+                    AND + UserInfoTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
                     GROUP_BY + "date";
 
             return database.query(new QueryStatement<NavigableMap<Long, Integer>>(selectNewPlayersQuery, 100) {
@@ -540,7 +535,7 @@ public class PlayerCountQueries {
                     FROM + UserInfoTable.TABLE_NAME +
                     WHERE + UserInfoTable.REGISTERED + "<=?" +
                     AND + UserInfoTable.REGISTERED + ">=?" +
-                    AND + UserInfoTable.SERVER_UUID + "=?" +
+                    AND + UserInfoTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
                     GROUP_BY + "date";
             String selectAverage = SELECT + "AVG(player_count) as average" + FROM + '(' + selectNewPlayersQuery + ") q1";
 
@@ -562,21 +557,21 @@ public class PlayerCountQueries {
     }
 
     public static Query<Integer> retainedPlayerCount(long after, long before, UUID serverUUID) {
-        String selectNewUUIDs = SELECT + UserInfoTable.USER_UUID +
+        String selectNewUUIDs = SELECT + UserInfoTable.USER_ID +
                 FROM + UserInfoTable.TABLE_NAME +
                 WHERE + UserInfoTable.REGISTERED + ">=?" +
                 AND + UserInfoTable.REGISTERED + "<=?" +
-                AND + UserInfoTable.SERVER_UUID + "=?";
+                AND + UserInfoTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID;
 
-        String selectUniqueUUIDs = SELECT + DISTINCT + SessionsTable.USER_UUID +
+        String selectUniqueUUIDs = SELECT + DISTINCT + SessionsTable.USER_ID +
                 FROM + SessionsTable.TABLE_NAME +
                 WHERE + SessionsTable.SESSION_START + ">=?" +
                 AND + SessionsTable.SESSION_END + "<=?" +
-                AND + SessionsTable.SERVER_UUID + "=?";
+                AND + SessionsTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID;
 
         String sql = SELECT + "COUNT(1) as player_count" +
                 FROM + '(' + selectNewUUIDs + ") q1" +
-                INNER_JOIN + '(' + selectUniqueUUIDs + ") q2 on q1." + UserInfoTable.USER_UUID + "=q2." + SessionsTable.USER_UUID;
+                INNER_JOIN + '(' + selectUniqueUUIDs + ") q2 on q1." + UserInfoTable.USER_ID + "=q2." + SessionsTable.USER_ID;
 
         return new QueryStatement<Integer>(sql) {
             @Override
@@ -601,7 +596,7 @@ public class PlayerCountQueries {
 
     public static Query<Integer> operators(UUID serverUUID) {
         String sql = SELECT + "COUNT(1) as player_count" + FROM + UserInfoTable.TABLE_NAME +
-                WHERE + UserInfoTable.SERVER_UUID + "=?" +
+                WHERE + UserInfoTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
                 AND + UserInfoTable.OP + "=?";
         return new QueryStatement<Integer>(sql) {
             @Override
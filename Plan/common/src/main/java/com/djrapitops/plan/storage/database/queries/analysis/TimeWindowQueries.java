@@ -0,0 +1,356 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.analysis;
+
+import com.djrapitops.plan.delivery.domain.TimeWindow;
+import com.djrapitops.plan.delivery.domain.TimeWindowTotals;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
+import com.djrapitops.plan.storage.database.sql.tables.SessionRollupsTable;
+import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Queries that calculate the same values for multiple time frames with a single table scan.
+ * <p>
+ * Each {@link TimeWindow} becomes a set of {@code CASE WHEN} columns, so overview tabs that show
+ * 24h, 7d, 30d and trend values do not need a query per value.
+ * Values match {@link PlayerCountQueries} and the session queries of the same time frame.
+ *
+ * @author Rsl1122
+ */
+public class TimeWindowQueries {
+
+    private TimeWindowQueries() {
+        // Static method class
+    }
+
+    /**
+     * Fetch unique players, new players, session count, playtime and afk time of a server for each time frame.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @param windows    Time frames to calculate the totals for.
+     * @return Map: Time frame - Totals within it, in the order the time frames were given.
+     */
+    public static Query<Map<TimeWindow, TimeWindowTotals>> fetchTotals(UUID serverUUID, TimeWindow... windows) {
+        return database -> {
+            Map<TimeWindow, TimeWindowTotals> totals = createTotals(windows);
+            if (totals.isEmpty()) return totals;
+            List<TimeWindow> windowList = new ArrayList<>(totals.keySet());
+            database.query(sessionTotals(serverUUID, windowList, totals));
+            database.query(newPlayerTotals(serverUUID, windowList, totals));
+            return totals;
+        };
+    }
+
+    /**
+     * Fetch session count, playtime, afk time and unique players of a server for each time frame.
+     * <p>
+     * New players are left as 0, use {@link #fetchTotals(UUID, TimeWindow...)} if they are needed.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @param windows    Time frames to calculate the totals for.
+     * @return Map: Time frame - Totals within it, in the order the time frames were given.
+     */
+    public static Query<Map<TimeWindow, TimeWindowTotals>> fetchSessionTotals(UUID serverUUID, TimeWindow... windows) {
+        return database -> {
+            Map<TimeWindow, TimeWindowTotals> totals = createTotals(windows);
+            if (totals.isEmpty()) return totals;
+            database.query(sessionTotals(serverUUID, new ArrayList<>(totals.keySet()), totals));
+            return totals;
+        };
+    }
+
+    /**
+     * Fetch the same totals as {@link #fetchTotals(UUID, TimeWindow...)}, with averages per day.
+     * <p>
+     * Averages are calculated over days that have data, like the average queries in {@link PlayerCountQueries}.
+     *
+     * @param timeZoneOffset Offset from {@link java.util.TimeZone#getOffset(long)}, applied to the dates before grouping.
+     * @param serverUUID     UUID of the Plan server.
+     * @param windows        Time frames to calculate the totals for.
+     * @return Map: Time frame - Totals within it, in the order the time frames were given.
+     */
+    public static Query<Map<TimeWindow, TimeWindowTotals>> fetchTotalsWithDailyAverages(long timeZoneOffset, UUID serverUUID, TimeWindow... windows) {
+        return database -> {
+            Map<TimeWindow, TimeWindowTotals> totals = createTotals(windows);
+            if (totals.isEmpty()) return totals;
+            List<TimeWindow> windowList = new ArrayList<>(totals.keySet());
+            Sql sql = database.getSql();
+            database.query(sessionTotals(serverUUID, windowList, totals));
+            database.query(sessionDailyAverages(sql, timeZoneOffset, serverUUID, windowList, totals));
+            database.query(newPlayerTotalsWithDailyAverages(sql, timeZoneOffset, serverUUID, windowList, totals));
+            return totals;
+        };
+    }
+
+    private static Map<TimeWindow, TimeWindowTotals> createTotals(TimeWindow... windows) {
+        Map<TimeWindow, TimeWindowTotals> totals = new LinkedHashMap<>();
+        for (TimeWindow window : windows) {
+            totals.put(window, new TimeWindowTotals(window));
+        }
+        return totals;
+    }
+
+    private static String inWindow(String column) {
+        return "CASE WHEN " + column + ">=?" + AND + column + "<=?";
+    }
+
+    private static long earliest(List<TimeWindow> windows) {
+        long earliest = Long.MAX_VALUE;
+        for (TimeWindow window : windows) {
+            earliest = Math.min(earliest, window.getAfter());
+        }
+        return earliest;
+    }
+
+    private static long latest(List<TimeWindow> windows) {
+        long latest = Long.MIN_VALUE;
+        for (TimeWindow window : windows) {
+            latest = Math.max(latest, window.getBefore());
+        }
+        return latest;
+    }
+
+    // Rows of a window are rollups of its whole hours and sessions of its partial hours, see SessionRollupsTable#rowsWithinWindows
+    private static String inWindowRows() {
+        String hourStart = SessionRollupsTable.HOUR_START;
+        return "CASE WHEN ((" + SessionRollupsTable.IS_ROLLUP + "=1" + AND + hourStart + ">=?" + AND + hourStart + "<?)" +
+                OR + '(' + SessionRollupsTable.IS_ROLLUP + "=0" + AND + hourStart + ">=?" + AND + hourStart + "<=?" +
+                AND + '(' + hourStart + "<?" + OR + hourStart + ">=?)))";
+    }
+
+    private static int setRowsWindow(PreparedStatement statement, int index, TimeWindow window, long timeZoneOffset) throws SQLException {
+        long[] wholeHours = SessionRollupsTable.wholeHoursWithin(window.getAfter(), window.getBefore(), timeZoneOffset);
+        statement.setLong(index, wholeHours[0]);
+        statement.setLong(index + 1, wholeHours[1]);
+        statement.setLong(index + 2, window.getAfter());
+        statement.setLong(index + 3, window.getBefore());
+        statement.setLong(index + 4, wholeHours[0]);
+        statement.setLong(index + 5, wholeHours[1]);
+        return index + 6;
+    }
+
+    private static String rowsOfServerWithin(List<TimeWindow> windows) {
+        return SessionRollupsTable.rowsWithinWindows(windows.size(), SessionRollupsTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID);
+    }
+
+    private static int setRowsOfServerWithin(PreparedStatement statement, int index, UUID serverUUID, long timeZoneOffset, List<TimeWindow> windows) throws SQLException {
+        long[] afters = new long[windows.size()];
+        long[] befores = new long[windows.size()];
+        for (int i = 0; i < windows.size(); i++) {
+            afters[i] = windows.get(i).getAfter();
+            befores[i] = windows.get(i).getBefore();
+        }
+        return SessionRollupsTable.setWindowParameters(statement, index, serverUUID.toString(), timeZoneOffset, afters, befores);
+    }
+
+    private static int setRegisterWindow(PreparedStatement statement, int index, TimeWindow window) throws SQLException {
+        statement.setLong(index, window.getAfter());
+        statement.setLong(index + 1, window.getBefore());
+        return index + 2;
+    }
+
+    private static QueryStatement<Void> sessionTotals(UUID serverUUID, List<TimeWindow> windows, Map<TimeWindow, TimeWindowTotals> totals) {
+        StringBuilder columns = new StringBuilder();
+        for (int i = 0; i < windows.size(); i++) {
+            if (i > 0) columns.append(',');
+            String inWindow = inWindowRows();
+            columns.append("COUNT(DISTINCT ").append(inWindow).append(" THEN ").append(SessionRollupsTable.USER_ID).append(" END) as player_count_").append(i)
+                    .append(",SUM(").append(inWindow).append(" THEN ").append(SessionRollupsTable.SESSION_COUNT).append(" ELSE 0 END) as session_count_").append(i)
+                    .append(",SUM(").append(inWindow).append(" THEN ").append(SessionRollupsTable.PLAYTIME).append(" ELSE 0 END) as playtime_").append(i)
+                    .append(",SUM(").append(inWindow).append(" THEN ").append(SessionRollupsTable.AFK_TIME).append(" ELSE 0 END) as afk_time_").append(i);
+        }
+        String sql = SELECT + columns +
+                FROM + rowsOfServerWithin(windows);
+
+        return new QueryStatement<Void>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int index = 1;
+                for (TimeWindow window : windows) {
+                    for (int column = 0; column < 4; column++) {
+                        index = setRowsWindow(statement, index, window, 0L);
+                    }
+                }
+                setRowsOfServerWithin(statement, index, serverUUID, 0L, windows);
+            }
+
+            @Override
+            public Void processResults(ResultSet set) throws SQLException {
+                if (!set.next()) return null;
+                for (int i = 0; i < windows.size(); i++) {
+                    TimeWindowTotals windowTotals = totals.get(windows.get(i));
+                    windowTotals.setUniquePlayers(set.getInt("player_count_" + i));
+                    windowTotals.setSessionCount(set.getLong("session_count_" + i));
+                    windowTotals.setPlaytime(set.getLong("playtime_" + i));
+                    windowTotals.setAfkTime(set.getLong("afk_time_" + i));
+                }
+                return null;
+            }
+        };
+    }
+
+    private static QueryStatement<Void> newPlayerTotals(UUID serverUUID, List<TimeWindow> windows, Map<TimeWindow, TimeWindowTotals> totals) {
+        StringBuilder columns = new StringBuilder();
+        for (int i = 0; i < windows.size(); i++) {
+            if (i > 0) columns.append(',');
+            columns.append("SUM(").append(inWindow(UserInfoTable.REGISTERED)).append(" THEN 1 ELSE 0 END) as player_count_").append(i);
+        }
+        String sql = SELECT + columns +
+                FROM + UserInfoTable.TABLE_NAME +
+                WHERE + UserInfoTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
+                AND + UserInfoTable.REGISTERED + ">=?" +
+                AND + UserInfoTable.REGISTERED + "<=?";
+
+        return new QueryStatement<Void>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int index = 1;
+                for (TimeWindow window : windows) {
+                    index = setRegisterWindow(statement, index, window);
+                }
+                statement.setString(index, serverUUID.toString());
+                statement.setLong(index + 1, earliest(windows));
+                statement.setLong(index + 2, latest(windows));
+            }
+
+            @Override
+            public Void processResults(ResultSet set) throws SQLException {
+                if (!set.next()) return null;
+                for (int i = 0; i < windows.size(); i++) {
+                    totals.get(windows.get(i)).setNewPlayers(set.getInt("player_count_" + i));
+                }
+                return null;
+            }
+        };
+    }
+
+    private static QueryStatement<Void> sessionDailyAverages(
+            Sql sql, long timeZoneOffset, UUID serverUUID, List<TimeWindow> windows, Map<TimeWindow, TimeWindowTotals> totals
+    ) {
+        StringBuilder columns = new StringBuilder();
+        for (int i = 0; i < windows.size(); i++) {
+            String inWindow = inWindowRows();
+            columns.append(",COUNT(DISTINCT ").append(inWindow).append(" THEN ").append(SessionRollupsTable.USER_ID).append(" END) as player_count_").append(i)
+                    .append(",SUM(").append(inWindow).append(" THEN ").append(SessionRollupsTable.PLAYTIME).append(" ELSE 0 END) as playtime_").append(i)
+                    .append(",SUM(").append(inWindow).append(" THEN 1 ELSE 0 END) as row_count_").append(i);
+        }
+        String selectPerDay = SELECT +
+                sql.dateToEpochSecond(sql.dateToDayStamp(sql.epochSecondToDate('(' + SessionRollupsTable.HOUR_START + "+?)/1000"))) +
+                "*1000 as date" + columns +
+                FROM + rowsOfServerWithin(windows) +
+                GROUP_BY + "date";
+
+        return new QueryStatement<Void>(selectPerDay, 100) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, timeZoneOffset);
+                int index = 2;
+                for (TimeWindow window : windows) {
+                    for (int column = 0; column < 3; column++) {
+                        index = setRowsWindow(statement, index, window, timeZoneOffset);
+                    }
+                }
+                setRowsOfServerWithin(statement, index, serverUUID, timeZoneOffset, windows);
+            }
+
+            @Override
+            public Void processResults(ResultSet set) throws SQLException {
+                int size = windows.size();
+                int[] days = new int[size];
+                long[] playerCounts = new long[size];
+                long[] playtimes = new long[size];
+                while (set.next()) {
+                    for (int i = 0; i < size; i++) {
+                        if (set.getInt("row_count_" + i) == 0) continue;
+                        days[i]++;
+                        playerCounts[i] += set.getInt("player_count_" + i);
+                        playtimes[i] += set.getLong("playtime_" + i);
+                    }
+                }
+                for (int i = 0; i < size; i++) {
+                    if (days[i] == 0) continue;
+                    TimeWindowTotals windowTotals = totals.get(windows.get(i));
+                    windowTotals.setAverageUniquePlayersPerDay((int) ((double) playerCounts[i] / days[i]));
+                    windowTotals.setAveragePlaytimePerDay((long) ((double) playtimes[i] / days[i]));
+                }
+                return null;
+            }
+        };
+    }
+
+    private static QueryStatement<Void> newPlayerTotalsWithDailyAverages(
+            Sql sql, long timeZoneOffset, UUID serverUUID, List<TimeWindow> windows, Map<TimeWindow, TimeWindowTotals> totals
+    ) {
+        StringBuilder columns = new StringBuilder();
+        for (int i = 0; i < windows.size(); i++) {
+            columns.append(",SUM(").append(inWindow(UserInfoTable.REGISTERED)).append(" THEN 1 ELSE 0 END) as player_count_").append(i);
+        }
+        String selectPerDay = SELECT +
+                sql.dateToEpochSecond(sql.dateToDayStamp(sql.epochSecondToDate('(' + UserInfoTable.REGISTERED + "+?)/1000"))) +
+                "*1000 as date" + columns +
+                FROM + UserInfoTable.TABLE_NAME +
+                WHERE + UserInfoTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
+                AND + UserInfoTable.REGISTERED + ">=?" +
+                AND + UserInfoTable.REGISTERED + "<=?" +
+                GROUP_BY + "date";
+
+        return new QueryStatement<Void>(selectPerDay, 100) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, timeZoneOffset);
+                int index = 2;
+                for (TimeWindow window : windows) {
+                    index = setRegisterWindow(statement, index, window);
+                }
+                statement.setString(index, serverUUID.toString());
+                statement.setLong(index + 1, earliest(windows));
+                statement.setLong(index + 2, latest(windows));
+            }
+
+            @Override
+            public Void processResults(ResultSet set) throws SQLException {
+                int size = windows.size();
+                int[] days = new int[size];
+                int[] playerCounts = new int[size];
+                while (set.next()) {
+                    for (int i = 0; i < size; i++) {
+                        int newPlayers = set.getInt("player_count_" + i);
+                        if (newPlayers == 0) continue;
+                        days[i]++;
+                        playerCounts[i] += newPlayers;
+                    }
+                }
+                for (int i = 0; i < size; i++) {
+                    TimeWindowTotals windowTotals = totals.get(windows.get(i));
+                    windowTotals.setNewPlayers(playerCounts[i]);
+                    windowTotals.setAverageNewPlayersPerDay(days[i] != 0 ? (int) ((double) playerCounts[i] / days[i]) : 0);
+                }
+                return null;
+            }
+        };
+    }
+}
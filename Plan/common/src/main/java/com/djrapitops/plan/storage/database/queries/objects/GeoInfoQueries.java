@@ -21,7 +21,9 @@ import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.sql.tables.GeoInfoTable;
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 import com.djrapitops.plan.utilities.java.Lists;
 
 import java.sql.PreparedStatement;
@@ -51,8 +53,9 @@ public class GeoInfoQueries {
         String sql = SELECT +
                 GeoInfoTable.GEOLOCATION + ',' +
                 GeoInfoTable.LAST_USED + ',' +
-                GeoInfoTable.USER_UUID +
-                FROM + GeoInfoTable.TABLE_NAME;
+                UsersTable.TABLE_NAME + '.' + UsersTable.USER_UUID +
+                FROM + GeoInfoTable.TABLE_NAME +
+                INNER_JOIN + UsersTable.TABLE_NAME + " on " + UsersTable.TABLE_NAME + '.' + UsersTable.ID + "=" + GeoInfoTable.USER_ID;
 
         return new QueryAllStatement<Map<UUID, List<GeoInfo>>>(sql, 50000) {
             @Override
@@ -65,7 +68,7 @@ public class GeoInfoQueries {
     private static Map<UUID, List<GeoInfo>> extractGeoInformation(ResultSet set) throws SQLException {
         Map<UUID, List<GeoInfo>> geoInformation = new HashMap<>();
         while (set.next()) {
-            UUID uuid = UUID.fromString(set.getString(GeoInfoTable.USER_UUID));
+            UUID uuid = UUID.fromString(set.getString(UsersTable.USER_UUID));
 
             List<GeoInfo> userGeoInfo = geoInformation.computeIfAbsent(uuid, Lists::create);
             GeoInfo geoInfo = new GeoInfo(set.getString(GeoInfoTable.GEOLOCATION), set.getLong(GeoInfoTable.LAST_USED));
@@ -85,7 +88,7 @@ public class GeoInfoQueries {
                 GeoInfoTable.GEOLOCATION +
                 ",MAX(" + GeoInfoTable.LAST_USED + ") as " + GeoInfoTable.LAST_USED +
                 FROM + GeoInfoTable.TABLE_NAME +
-                WHERE + GeoInfoTable.USER_UUID + "=?" +
+                WHERE + GeoInfoTable.USER_ID + "=" + UsersTable.SELECT_USER_ID_STATEMENT +
                 GROUP_BY + GeoInfoTable.GEOLOCATION;
 
         return new QueryStatement<List<GeoInfo>>(sql, 100) {
@@ -108,13 +111,14 @@ public class GeoInfoQueries {
     }
 
     public static Query<Map<UUID, List<GeoInfo>>> fetchServerGeoInformation(UUID serverUUID) {
-        String sql = SELECT + GeoInfoTable.TABLE_NAME + '.' + GeoInfoTable.USER_UUID + ',' +
+        String sql = SELECT + UsersTable.TABLE_NAME + '.' + UsersTable.USER_UUID + ',' +
                 GeoInfoTable.GEOLOCATION + ',' +
                 GeoInfoTable.LAST_USED +
                 FROM + GeoInfoTable.TABLE_NAME +
                 INNER_JOIN + UserInfoTable.TABLE_NAME + " on " +
-                GeoInfoTable.TABLE_NAME + '.' + GeoInfoTable.USER_UUID + "=" + UserInfoTable.TABLE_NAME + '.' + UserInfoTable.USER_UUID +
-                WHERE + UserInfoTable.SERVER_UUID + "=?";
+                GeoInfoTable.TABLE_NAME + '.' + GeoInfoTable.USER_ID + "=" + UserInfoTable.TABLE_NAME + '.' + UserInfoTable.USER_ID +
+                INNER_JOIN + UsersTable.TABLE_NAME + " on " + UsersTable.TABLE_NAME + '.' + UsersTable.ID + "=" + GeoInfoTable.TABLE_NAME + '.' + GeoInfoTable.USER_ID +
+                WHERE + UserInfoTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID;
         return new QueryStatement<Map<UUID, List<GeoInfo>>>(sql, 10000) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
@@ -130,18 +134,18 @@ public class GeoInfoQueries {
 
     public static Query<Map<String, Integer>> networkGeolocationCounts() {
         String subQuery1 = SELECT +
-                GeoInfoTable.USER_UUID + ", " +
+                GeoInfoTable.USER_ID + ", " +
                 GeoInfoTable.GEOLOCATION + ", " +
                 GeoInfoTable.LAST_USED +
                 FROM + GeoInfoTable.TABLE_NAME;
         String subQuery2 = SELECT +
-                GeoInfoTable.USER_UUID + ", " +
+                GeoInfoTable.USER_ID + ", " +
                 "MAX(" + GeoInfoTable.LAST_USED + ") as m" +
                 FROM + GeoInfoTable.TABLE_NAME +
-                GROUP_BY + GeoInfoTable.USER_UUID;
+                GROUP_BY + GeoInfoTable.USER_ID;
         String sql = SELECT + GeoInfoTable.GEOLOCATION + ", COUNT(1) as c FROM " +
                 "(" + subQuery1 + ") AS q1" +
-                INNER_JOIN + "(" + subQuery2 + ") AS q2 ON q1.uuid = q2.uuid" +
+                INNER_JOIN + "(" + subQuery2 + ") AS q2 ON q1.user_id = q2.user_id" +
                 WHERE + GeoInfoTable.LAST_USED + "=m" +
                 GROUP_BY + GeoInfoTable.GEOLOCATION;
 
@@ -159,21 +163,21 @@ public class GeoInfoQueries {
 
     public static Query<Map<String, Integer>> serverGeolocationCounts(UUID serverUUID) {
         String selectGeolocations = SELECT +
-                GeoInfoTable.USER_UUID + ", " +
+                GeoInfoTable.USER_ID + ", " +
                 GeoInfoTable.GEOLOCATION + ", " +
                 GeoInfoTable.LAST_USED +
                 FROM + GeoInfoTable.TABLE_NAME;
         String selectLatestGeolocationDate = SELECT +
-                GeoInfoTable.USER_UUID + ", " +
+                GeoInfoTable.USER_ID + ", " +
                 "MAX(" + GeoInfoTable.LAST_USED + ") as m" +
                 FROM + GeoInfoTable.TABLE_NAME +
-                GROUP_BY + GeoInfoTable.USER_UUID;
+                GROUP_BY + GeoInfoTable.USER_ID;
         String sql = SELECT + GeoInfoTable.GEOLOCATION + ", COUNT(1) as c FROM " +
                 "(" + selectGeolocations + ") AS q1" +
-                INNER_JOIN + "(" + selectLatestGeolocationDate + ") AS q2 ON q1.uuid = q2.uuid" +
-                INNER_JOIN + UserInfoTable.TABLE_NAME + " u on u." + UserInfoTable.USER_UUID + "=q1.uuid" +
+                INNER_JOIN + "(" + selectLatestGeolocationDate + ") AS q2 ON q1.user_id = q2.user_id" +
+                INNER_JOIN + UserInfoTable.TABLE_NAME + " u on u." + UserInfoTable.USER_ID + "=q1.user_id" +
                 WHERE + GeoInfoTable.LAST_USED + "=m" +
-                AND + "u." + UserInfoTable.SERVER_UUID + "=?" +
+                AND + "u." + UserInfoTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
                 GROUP_BY + GeoInfoTable.GEOLOCATION;
 
         return new QueryStatement<Map<String, Integer>>(sql) {
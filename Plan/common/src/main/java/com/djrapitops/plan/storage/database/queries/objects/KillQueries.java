@@ -20,6 +20,7 @@ import com.djrapitops.plan.gathering.domain.PlayerKill;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.sql.tables.KillsTable;
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
@@ -46,15 +47,15 @@ public class KillQueries {
     }
 
     public static Query<List<PlayerKill>> fetchPlayerKillsOnServer(UUID serverUUID, int limit) {
-        String sql = SELECT + KillsTable.VICTIM_UUID + ", " +
+        String sql = SELECT + "v." + UsersTable.USER_UUID + " as victim_uuid, " +
                 "v." + UsersTable.USER_NAME + " as victim_name, " +
                 "k." + UsersTable.USER_NAME + " as killer_name," +
                 KillsTable.DATE + ", " +
                 KillsTable.WEAPON +
                 FROM + KillsTable.TABLE_NAME +
-                INNER_JOIN + UsersTable.TABLE_NAME + " v on v." + UsersTable.USER_UUID + "=" + KillsTable.VICTIM_UUID +
-                INNER_JOIN + UsersTable.TABLE_NAME + " k on k." + UsersTable.USER_UUID + "=" + KillsTable.KILLER_UUID +
-                WHERE + KillsTable.TABLE_NAME + '.' + KillsTable.SERVER_UUID + "=?" +
+                INNER_JOIN + UsersTable.TABLE_NAME + " v on v." + UsersTable.ID + "=" + KillsTable.VICTIM_ID +
+                INNER_JOIN + UsersTable.TABLE_NAME + " k on k." + UsersTable.ID + "=" + KillsTable.KILLER_ID +
+                WHERE + KillsTable.TABLE_NAME + '.' + KillsTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
                 ORDER_BY + KillsTable.DATE + " DESC LIMIT ?";
 
         return new QueryStatement<List<PlayerKill>>(sql, limit) {
@@ -76,15 +77,15 @@ public class KillQueries {
     }
 
     public static Query<List<PlayerKill>> fetchPlayerKillsOfPlayer(UUID playerUUID) {
-        String sql = SELECT + KillsTable.VICTIM_UUID + ", " +
+        String sql = SELECT + "v." + UsersTable.USER_UUID + " as victim_uuid, " +
                 "v." + UsersTable.USER_NAME + " as victim_name, " +
                 "k." + UsersTable.USER_NAME + " as killer_name," +
                 KillsTable.DATE + ", " +
                 KillsTable.WEAPON +
                 FROM + KillsTable.TABLE_NAME +
-                INNER_JOIN + UsersTable.TABLE_NAME + " v on v." + UsersTable.USER_UUID + "=" + KillsTable.VICTIM_UUID +
-                INNER_JOIN + UsersTable.TABLE_NAME + " k on k." + UsersTable.USER_UUID + "=" + KillsTable.KILLER_UUID +
-                WHERE + KillsTable.TABLE_NAME + '.' + KillsTable.KILLER_UUID + "=?" +
+                INNER_JOIN + UsersTable.TABLE_NAME + " v on v." + UsersTable.ID + "=" + KillsTable.VICTIM_ID +
+                INNER_JOIN + UsersTable.TABLE_NAME + " k on k." + UsersTable.ID + "=" + KillsTable.KILLER_ID +
+                WHERE + KillsTable.TABLE_NAME + '.' + KillsTable.KILLER_ID + "=" + UsersTable.SELECT_USER_ID_STATEMENT +
                 ORDER_BY + KillsTable.DATE + " DESC";
 
         return new QueryStatement<List<PlayerKill>>(sql, 100) {
@@ -105,15 +106,15 @@ public class KillQueries {
     }
 
     public static Query<List<PlayerKill>> fetchPlayerDeathsOfPlayer(UUID playerUUID) {
-        String sql = SELECT + KillsTable.VICTIM_UUID + ", " +
+        String sql = SELECT + "v." + UsersTable.USER_UUID + " as victim_uuid, " +
                 "v." + UsersTable.USER_NAME + " as victim_name, " +
                 "k." + UsersTable.USER_NAME + " as killer_name," +
                 KillsTable.DATE + ", " +
                 KillsTable.WEAPON +
                 FROM + KillsTable.TABLE_NAME +
-                INNER_JOIN + UsersTable.TABLE_NAME + " v on v." + UsersTable.USER_UUID + "=" + KillsTable.VICTIM_UUID +
-                INNER_JOIN + UsersTable.TABLE_NAME + " k on k." + UsersTable.USER_UUID + "=" + KillsTable.KILLER_UUID +
-                WHERE + KillsTable.TABLE_NAME + '.' + KillsTable.VICTIM_UUID + "=?" +
+                INNER_JOIN + UsersTable.TABLE_NAME + " v on v." + UsersTable.ID + "=" + KillsTable.VICTIM_ID +
+                INNER_JOIN + UsersTable.TABLE_NAME + " k on k." + UsersTable.ID + "=" + KillsTable.KILLER_ID +
+                WHERE + KillsTable.TABLE_NAME + '.' + KillsTable.VICTIM_ID + "=" + UsersTable.SELECT_USER_ID_STATEMENT +
                 ORDER_BY + KillsTable.DATE + " DESC";
 
         return new QueryStatement<List<PlayerKill>>(sql, 100) {
@@ -137,7 +138,7 @@ public class KillQueries {
         String victimName = set.getString("victim_name");
         String killerName = set.getString("killer_name");
         if (victimName != null && killerName != null) {
-            UUID victim = UUID.fromString(set.getString(KillsTable.VICTIM_UUID));
+            UUID victim = UUID.fromString(set.getString("victim_uuid"));
             long date = set.getLong(KillsTable.DATE);
             String weapon = set.getString(KillsTable.WEAPON);
             return Optional.of(new PlayerKill(victim, weapon, date, victimName, killerName));
@@ -148,7 +149,7 @@ public class KillQueries {
     public static Query<Long> playerKillCount(long after, long before, UUID serverUUID) {
         String sql = SELECT + "COUNT(1) as count" +
                 FROM + KillsTable.TABLE_NAME +
-                WHERE + KillsTable.SERVER_UUID + "=?" +
+                WHERE + KillsTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
                 AND + KillsTable.DATE + ">=?" +
                 AND + KillsTable.DATE + "<=?";
         return new QueryStatement<Long>(sql) {
@@ -167,23 +168,23 @@ public class KillQueries {
     }
 
     public static Query<Double> averageKDR(long after, long before, UUID serverUUID) {
-        String selectKillCounts = SELECT + "COUNT(1) as kills," + KillsTable.KILLER_UUID +
+        String selectKillCounts = SELECT + "COUNT(1) as kills," + KillsTable.KILLER_ID +
                 FROM + KillsTable.TABLE_NAME +
-                WHERE + KillsTable.SERVER_UUID + "=?" +
+                WHERE + KillsTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
                 AND + KillsTable.DATE + ">=?" +
                 AND + KillsTable.DATE + "<=?" +
-                GROUP_BY + KillsTable.KILLER_UUID;
-        String selectDeathCounts = SELECT + "COUNT(1) as deaths," + KillsTable.VICTIM_UUID +
+                GROUP_BY + KillsTable.KILLER_ID;
+        String selectDeathCounts = SELECT + "COUNT(1) as deaths," + KillsTable.VICTIM_ID +
                 FROM + KillsTable.TABLE_NAME +
-                WHERE + KillsTable.SERVER_UUID + "=?" +
+                WHERE + KillsTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
                 AND + KillsTable.DATE + ">=?" +
                 AND + KillsTable.DATE + "<=?" +
-                GROUP_BY + KillsTable.VICTIM_UUID;
-        String sql = SELECT + "u." + UserInfoTable.USER_UUID + ",kills, deaths" +
+                GROUP_BY + KillsTable.VICTIM_ID;
+        String sql = SELECT + "u." + UserInfoTable.USER_ID + ",kills, deaths" +
                 FROM + UserInfoTable.TABLE_NAME + " u" +
-                LEFT_JOIN + '(' + selectKillCounts + ") q1 on q1." + KillsTable.KILLER_UUID + "=u." + UserInfoTable.USER_UUID +
-                LEFT_JOIN + '(' + selectDeathCounts + ") q2 on q2." + KillsTable.VICTIM_UUID + "=u." + UserInfoTable.USER_UUID +
-                WHERE + "u." + UserInfoTable.SERVER_UUID + "=?";
+                LEFT_JOIN + '(' + selectKillCounts + ") q1 on q1." + KillsTable.KILLER_ID + "=u." + UserInfoTable.USER_ID +
+                LEFT_JOIN + '(' + selectDeathCounts + ") q2 on q2." + KillsTable.VICTIM_ID + "=u." + UserInfoTable.USER_ID +
+                WHERE + "u." + UserInfoTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID;
 
         return new QueryStatement<Double>(sql) {
             @Override
@@ -215,7 +216,7 @@ public class KillQueries {
     public static Query<Long> mobKillCount(long after, long before, UUID serverUUID) {
         String sql = SELECT + "SUM(" + SessionsTable.MOB_KILLS + ") as count" +
                 FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.SERVER_UUID + "=?" +
+                WHERE + SessionsTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
                 AND + SessionsTable.SESSION_END + ">=?" +
                 AND + SessionsTable.SESSION_START + "<=?";
         return new QueryStatement<Long>(sql) {
@@ -236,7 +237,7 @@ public class KillQueries {
     public static Query<Long> deathCount(long after, long before, UUID serverUUID) {
         String sql = SELECT + "SUM(" + SessionsTable.DEATHS + ") as count" +
                 FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.SERVER_UUID + "=?" +
+                WHERE + SessionsTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
                 AND + SessionsTable.SESSION_END + ">=?" +
                 AND + SessionsTable.SESSION_START + "<=?";
         return new QueryStatement<Long>(sql) {
@@ -257,7 +258,7 @@ public class KillQueries {
     public static Query<List<String>> topWeaponsOfServer(long after, long before, UUID serverUUID, int limit) {
         String innerSQL = SELECT + KillsTable.WEAPON + ", COUNT(1) as kills" +
                 FROM + KillsTable.TABLE_NAME +
-                WHERE + KillsTable.SERVER_UUID + "=?" +
+                WHERE + KillsTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
                 AND + KillsTable.DATE + ">=?" +
                 AND + KillsTable.DATE + "<=?" +
                 GROUP_BY + KillsTable.WEAPON;
@@ -286,7 +287,7 @@ public class KillQueries {
     public static Query<List<String>> topWeaponsOfPlayer(long after, long before, UUID playerUUID, int limit) {
         String innerSQL = SELECT + KillsTable.WEAPON + ", COUNT(1) as kills" +
                 FROM + KillsTable.TABLE_NAME +
-                WHERE + KillsTable.KILLER_UUID + "=?" +
+                WHERE + KillsTable.KILLER_ID + "=" + UsersTable.SELECT_USER_ID_STATEMENT +
                 AND + KillsTable.DATE + ">=?" +
                 AND + KillsTable.DATE + "<=?" +
                 GROUP_BY + KillsTable.WEAPON;
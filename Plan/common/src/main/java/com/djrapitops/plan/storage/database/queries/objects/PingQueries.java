@@ -22,6 +22,8 @@ import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.sql.tables.GeoInfoTable;
 import com.djrapitops.plan.storage.database.sql.tables.PingTable;
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 import com.djrapitops.plan.utilities.java.Lists;
 
 import java.sql.PreparedStatement;
@@ -38,6 +40,13 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  */
 public class PingQueries {
 
+    private static final String USER_UUID = "user_uuid";
+    private static final String SERVER_UUID = "server_uuid";
+    private static final String SELECT_UUIDS = UsersTable.TABLE_NAME + '.' + UsersTable.USER_UUID + " as " + USER_UUID + ',' +
+            ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + " as " + SERVER_UUID;
+    private static final String JOIN_UUIDS = INNER_JOIN + UsersTable.TABLE_NAME + " on " + UsersTable.TABLE_NAME + '.' + UsersTable.ID + "=" + PingTable.USER_ID +
+            INNER_JOIN + ServerTable.TABLE_NAME + " on " + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_ID + "=" + PingTable.SERVER_ID;
+
     private PingQueries() {
         /* Static method class */
     }
@@ -53,9 +62,9 @@ public class PingQueries {
                 PingTable.MAX_PING + ',' +
                 PingTable.MIN_PING + ',' +
                 PingTable.AVG_PING + ',' +
-                PingTable.USER_UUID + ',' +
-                PingTable.SERVER_UUID +
-                FROM + PingTable.TABLE_NAME;
+                SELECT_UUIDS +
+                FROM + PingTable.TABLE_NAME +
+                JOIN_UUIDS;
         return new QueryAllStatement<Map<UUID, List<Ping>>>(sql, 100000) {
             @Override
             public Map<UUID, List<Ping>> processResults(ResultSet set) throws SQLException {
@@ -68,8 +77,8 @@ public class PingQueries {
         Map<UUID, List<Ping>> userPings = new HashMap<>();
 
         while (set.next()) {
-            UUID uuid = UUID.fromString(set.getString(PingTable.USER_UUID));
-            UUID serverUUID = UUID.fromString(set.getString(PingTable.SERVER_UUID));
+            UUID uuid = UUID.fromString(set.getString(USER_UUID));
+            UUID serverUUID = UUID.fromString(set.getString(SERVER_UUID));
             long date = set.getLong(PingTable.DATE);
             double avgPing = set.getDouble(PingTable.AVG_PING);
             int minPing = set.getInt(PingTable.MIN_PING);
@@ -92,8 +101,15 @@ public class PingQueries {
      * @return List of Ping entries for this player.
      */
     public static Query<List<Ping>> fetchPingDataOfPlayer(UUID playerUUID) {
-        String sql = SELECT + '*' + FROM + PingTable.TABLE_NAME +
-                WHERE + PingTable.USER_UUID + "=?";
+        String sql = SELECT +
+                PingTable.DATE + ',' +
+                PingTable.MAX_PING + ',' +
+                PingTable.MIN_PING + ',' +
+                PingTable.AVG_PING + ',' +
+                SELECT_UUIDS +
+                FROM + PingTable.TABLE_NAME +
+                JOIN_UUIDS +
+                WHERE + PingTable.USER_ID + "=" + UsersTable.SELECT_USER_ID_STATEMENT;
 
         return new QueryStatement<List<Ping>>(sql, 10000) {
             @Override
@@ -108,7 +124,7 @@ public class PingQueries {
                 while (set.next()) {
                     pings.add(new Ping(
                                     set.getLong(PingTable.DATE),
-                                    UUID.fromString(set.getString(PingTable.SERVER_UUID)),
+                                    UUID.fromString(set.getString(SERVER_UUID)),
                                     set.getInt(PingTable.MIN_PING),
                                     set.getInt(PingTable.MAX_PING),
                                     set.getDouble(PingTable.AVG_PING)
@@ -127,10 +143,10 @@ public class PingQueries {
                 PingTable.MAX_PING + ',' +
                 PingTable.MIN_PING + ',' +
                 PingTable.AVG_PING + ',' +
-                PingTable.USER_UUID + ',' +
-                PingTable.SERVER_UUID +
+                SELECT_UUIDS +
                 FROM + PingTable.TABLE_NAME +
-                WHERE + PingTable.SERVER_UUID + "=?";
+                JOIN_UUIDS +
+                WHERE + PingTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID;
         return new QueryStatement<Map<UUID, List<Ping>>>(sql, 100000) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
@@ -150,9 +166,10 @@ public class PingQueries {
                 PingTable.MAX_PING + ", " +
                 PingTable.MIN_PING + ", " +
                 PingTable.AVG_PING + ", " +
-                PingTable.SERVER_UUID +
+                ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + " as " + SERVER_UUID +
                 FROM + PingTable.TABLE_NAME +
-                WHERE + PingTable.SERVER_UUID + "=?" +
+                INNER_JOIN + ServerTable.TABLE_NAME + " on " + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_ID + "=" + PingTable.SERVER_ID +
+                WHERE + PingTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
                 AND + PingTable.DATE + ">=?" +
                 AND + PingTable.DATE + "<=?";
         return new QueryStatement<List<Ping>>(sql, 1000) {
@@ -168,7 +185,7 @@ public class PingQueries {
                 List<Ping> pings = new ArrayList<>();
 
                 while (set.next()) {
-                    UUID serverUUID = UUID.fromString(set.getString(PingTable.SERVER_UUID));
+                    UUID serverUUID = UUID.fromString(set.getString(SERVER_UUID));
                     long date = set.getLong(PingTable.DATE);
                     double avgPing = set.getDouble(PingTable.AVG_PING);
                     int minPing = set.getInt(PingTable.MIN_PING);
@@ -190,30 +207,30 @@ public class PingQueries {
                 PingTable.MAX_PING + ", " +
                 PingTable.MIN_PING + ", " +
                 PingTable.AVG_PING + ", " +
-                PingTable.USER_UUID + ", " +
-                PingTable.SERVER_UUID +
+                PingTable.USER_ID + ", " +
+                PingTable.SERVER_ID +
                 FROM + PingTable.TABLE_NAME;
 
         String selectGeolocations = SELECT +
-                GeoInfoTable.USER_UUID + ", " +
+                GeoInfoTable.USER_ID + ", " +
                 GeoInfoTable.GEOLOCATION + ", " +
                 GeoInfoTable.LAST_USED +
                 FROM + GeoInfoTable.TABLE_NAME;
         String selectLatestGeolocationDate = SELECT +
-                GeoInfoTable.USER_UUID + ", " +
+                GeoInfoTable.USER_ID + ", " +
                 "MAX(" + GeoInfoTable.LAST_USED + ") as m" +
                 FROM + GeoInfoTable.TABLE_NAME +
-                GROUP_BY + GeoInfoTable.USER_UUID;
+                GROUP_BY + GeoInfoTable.USER_ID;
 
         String selectPingByGeolocation = SELECT + GeoInfoTable.GEOLOCATION +
                 ", MIN(" + PingTable.MIN_PING + ") as minPing" +
                 ", MAX(" + PingTable.MAX_PING + ") as maxPing" +
                 ", AVG(" + PingTable.AVG_PING + ") as avgPing" +
                 FROM + "(" + selectGeolocations + ") AS q1" +
-                INNER_JOIN + "(" + selectLatestGeolocationDate + ") AS q2 ON q1.uuid = q2.uuid" +
-                INNER_JOIN + '(' + selectPingOfServer + ") sp on sp." + PingTable.USER_UUID + "=q1.uuid" +
+                INNER_JOIN + "(" + selectLatestGeolocationDate + ") AS q2 ON q1.user_id = q2.user_id" +
+                INNER_JOIN + '(' + selectPingOfServer + ") sp on sp." + PingTable.USER_ID + "=q1.user_id" +
                 WHERE + GeoInfoTable.LAST_USED + "=m" +
-                AND + "sp." + PingTable.SERVER_UUID + "=?" +
+                AND + "sp." + PingTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
                 GROUP_BY + GeoInfoTable.GEOLOCATION;
 
         return new QueryStatement<Map<String, Ping>>(selectPingByGeolocation) {
@@ -246,20 +263,20 @@ public class PingQueries {
                 PingTable.MAX_PING + ", " +
                 PingTable.MIN_PING + ", " +
                 PingTable.AVG_PING + ", " +
-                PingTable.USER_UUID + ", " +
-                PingTable.SERVER_UUID +
+                PingTable.USER_ID + ", " +
+                PingTable.SERVER_ID +
                 FROM + PingTable.TABLE_NAME;
 
         String selectGeolocations = SELECT +
-                GeoInfoTable.USER_UUID + ", " +
+                GeoInfoTable.USER_ID + ", " +
                 GeoInfoTable.GEOLOCATION + ", " +
                 GeoInfoTable.LAST_USED +
                 FROM + GeoInfoTable.TABLE_NAME;
         String selectLatestGeolocationDate = SELECT +
-                GeoInfoTable.USER_UUID + ", " +
+                GeoInfoTable.USER_ID + ", " +
                 "MAX(" + GeoInfoTable.LAST_USED + ") as m" +
                 FROM + GeoInfoTable.TABLE_NAME +
-                GROUP_BY + GeoInfoTable.USER_UUID;
+                GROUP_BY + GeoInfoTable.USER_ID;
 
         String selectPingByGeolocation = SELECT + GeoInfoTable.GEOLOCATION +
                 ", MIN(" + PingTable.MIN_PING + ") as minPing" +
@@ -267,8 +284,8 @@ public class PingQueries {
                 ", AVG(" + PingTable.AVG_PING + ") as avgPing" +
                 FROM + "(" +
                 "(" + selectGeolocations + ") AS q1" +
-                INNER_JOIN + "(" + selectLatestGeolocationDate + ") AS q2 ON q1.uuid = q2.uuid" +
-                INNER_JOIN + '(' + selectPingOfServer + ") sp on sp." + PingTable.USER_UUID + "=q1.uuid)" +
+                INNER_JOIN + "(" + selectLatestGeolocationDate + ") AS q2 ON q1.user_id = q2.user_id" +
+                INNER_JOIN + '(' + selectPingOfServer + ") sp on sp." + PingTable.USER_ID + "=q1.user_id)" +
                 WHERE + GeoInfoTable.LAST_USED + "=m" +
                 GROUP_BY + GeoInfoTable.GEOLOCATION;
 
@@ -294,7 +311,7 @@ public class PingQueries {
 
     public static Query<Double> averagePing(long after, long before, UUID serverUUID) {
         String sql = SELECT + "AVG(" + PingTable.AVG_PING + ") as average" + FROM + PingTable.TABLE_NAME +
-                WHERE + PingTable.SERVER_UUID + "=?" +
+                WHERE + PingTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
                 AND + PingTable.DATE + ">=?" +
                 AND + PingTable.DATE + "<=?";
 
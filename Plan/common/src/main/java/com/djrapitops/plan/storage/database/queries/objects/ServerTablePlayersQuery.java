@@ -23,6 +23,7 @@ import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
 import com.djrapitops.plan.storage.database.sql.tables.GeoInfoTable;
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
@@ -65,78 +66,102 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
 
     @Override
     public List<TablePlayer> executeQuery(SQLDB db) {
+        String selectBaseUsers = selectTablePlayersSQL() +
+                ORDER_BY + "last_seen DESC LIMIT ?";
+
+        return db.query(new QueryStatement<List<TablePlayer>>(selectBaseUsers, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int index = setTablePlayersSQLParameters(statement, 1, serverUUID, activeMsThreshold, date);
+                statement.setInt(index, xMostRecentPlayers);
+            }
+
+            @Override
+            public List<TablePlayer> processResults(ResultSet set) throws SQLException {
+                List<TablePlayer> players = new ArrayList<>();
+                while (set.next()) {
+                    players.add(extractTablePlayer(set, date));
+                }
+                return players;
+            }
+        });
+    }
+
+    /**
+     * Create SQL that selects the players table rows of a server, without ordering.
+     *
+     * @return SQL with parameters set by {@link #setTablePlayersSQLParameters(PreparedStatement, int, UUID, long, long)}
+     */
+    static String selectTablePlayersSQL() {
         String selectGeolocations = SELECT + DISTINCT +
-                GeoInfoTable.USER_UUID + ", " +
+                GeoInfoTable.USER_ID + ", " +
                 GeoInfoTable.GEOLOCATION + ", " +
                 GeoInfoTable.LAST_USED +
                 FROM + GeoInfoTable.TABLE_NAME;
         String selectLatestGeolocationDate = SELECT +
-                GeoInfoTable.USER_UUID + ", " +
+                GeoInfoTable.USER_ID + ", " +
                 "MAX(" + GeoInfoTable.LAST_USED + ") as last_used_g" +
                 FROM + GeoInfoTable.TABLE_NAME +
-                GROUP_BY + GeoInfoTable.USER_UUID;
+                GROUP_BY + GeoInfoTable.USER_ID;
         String selectLatestGeolocations = SELECT +
                 "g1." + GeoInfoTable.GEOLOCATION + ',' +
-                "g1." + GeoInfoTable.USER_UUID +
+                "g1." + GeoInfoTable.USER_ID +
                 FROM + "(" + selectGeolocations + ") AS g1" +
-                INNER_JOIN + "(" + selectLatestGeolocationDate + ") AS g2 ON g1.uuid = g2.uuid" +
+                INNER_JOIN + "(" + selectLatestGeolocationDate + ") AS g2 ON g1.user_id = g2.user_id" +
                 WHERE + GeoInfoTable.LAST_USED + "=last_used_g";
 
-        String selectSessionData = SELECT + "s." + SessionsTable.USER_UUID + ',' +
+        String selectSessionData = SELECT + "s." + SessionsTable.USER_ID + ',' +
                 "MAX(" + SessionsTable.SESSION_END + ") as last_seen," +
                 "COUNT(1) as count," +
                 "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + ") as playtime" +
                 FROM + SessionsTable.TABLE_NAME + " s" +
-                WHERE + "s." + SessionsTable.SERVER_UUID + "=?" +
-                GROUP_BY + "s." + SessionsTable.USER_UUID;
+                WHERE + "s." + SessionsTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
+                GROUP_BY + "s." + SessionsTable.USER_ID;
 
-        String selectBaseUsers = SELECT +
+        return SELECT +
+                "u." + UsersTable.ID + " as table_user_id," +
                 "u." + UsersTable.USER_UUID + ',' +
                 "u." + UsersTable.USER_NAME + ',' +
                 "u." + UsersTable.REGISTERED + ',' +
                 UserInfoTable.BANNED + ',' +
                 "geoloc." + GeoInfoTable.GEOLOCATION + ',' +
                 "ses.last_seen," +
-                "ses.count," +
+                "ses.count as session_count," +
                 "ses.playtime," +
                 "act.activity_index" +
                 FROM + UsersTable.TABLE_NAME + " u" +
-                INNER_JOIN + UserInfoTable.TABLE_NAME + " on u." + UsersTable.USER_UUID + "=" + UserInfoTable.TABLE_NAME + '.' + UserInfoTable.USER_UUID +
-                LEFT_JOIN + '(' + selectLatestGeolocations + ") geoloc on geoloc." + GeoInfoTable.USER_UUID + "=u." + UsersTable.USER_UUID +
-                LEFT_JOIN + '(' + selectSessionData + ") ses on ses." + SessionsTable.USER_UUID + "=u." + UsersTable.USER_UUID +
-                LEFT_JOIN + '(' + ActivityIndexQueries.selectActivityIndexSQL() + ") act on u." + SessionsTable.USER_UUID + "=act." + UserInfoTable.USER_UUID +
-                WHERE + UserInfoTable.SERVER_UUID + "=?" +
-                ORDER_BY + "ses.last_seen DESC LIMIT ?";
+                INNER_JOIN + UserInfoTable.TABLE_NAME + " on u." + UsersTable.ID + "=" + UserInfoTable.TABLE_NAME + '.' + UserInfoTable.USER_ID +
+                LEFT_JOIN + '(' + selectLatestGeolocations + ") geoloc on geoloc." + GeoInfoTable.USER_ID + "=u." + UsersTable.ID +
+                LEFT_JOIN + '(' + selectSessionData + ") ses on ses." + SessionsTable.USER_ID + "=u." + UsersTable.ID +
+                LEFT_JOIN + '(' + ActivityIndexQueries.selectActivityIndexSQL() + ") act on u." + UsersTable.ID + "=act." + UserInfoTable.USER_ID +
+                WHERE + UserInfoTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID;
+    }
 
-        return db.query(new QueryStatement<List<TablePlayer>>(selectBaseUsers, 1000) {
-            @Override
-            public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, serverUUID.toString()); // Session query
-                ActivityIndexQueries.setSelectActivityIndexSQLParameters(statement, 2, activeMsThreshold, serverUUID, date);
-                statement.setString(13, serverUUID.toString()); // Session query
-                statement.setInt(14, xMostRecentPlayers);
-            }
+    /**
+     * Set parameters of {@link #selectTablePlayersSQL()}.
+     *
+     * @return Index of the next parameter.
+     */
+    static int setTablePlayersSQLParameters(PreparedStatement statement, int index, UUID serverUUID, long activeMsThreshold, long date) throws SQLException {
+        statement.setString(index, serverUUID.toString()); // Session query
+        ActivityIndexQueries.setSelectActivityIndexSQLParameters(statement, index + 1, activeMsThreshold, serverUUID, date);
+        statement.setString(index + 12, serverUUID.toString()); // Session query
+        return index + 13;
+    }
 
-            @Override
-            public List<TablePlayer> processResults(ResultSet set) throws SQLException {
-                List<TablePlayer> players = new ArrayList<>();
-                while (set.next()) {
-                    TablePlayer.Builder player = TablePlayer.builder()
-                            .uuid(UUID.fromString(set.getString(UsersTable.USER_UUID)))
-                            .name(set.getString(UsersTable.USER_NAME))
-                            .geolocation(set.getString(GeoInfoTable.GEOLOCATION))
-                            .registered(set.getLong(UsersTable.REGISTERED))
-                            .lastSeen(set.getLong("last_seen"))
-                            .sessionCount(set.getInt("count"))
-                            .playtime(set.getLong("playtime"))
-                            .activityIndex(new ActivityIndex(set.getDouble("activity_index"), date));
-                    if (set.getBoolean(UserInfoTable.BANNED)) {
-                        player.banned();
-                    }
-                    players.add(player.build());
-                }
-                return players;
-            }
-        });
+    static TablePlayer extractTablePlayer(ResultSet set, long date) throws SQLException {
+        TablePlayer.Builder player = TablePlayer.builder()
+                .uuid(UUID.fromString(set.getString(UsersTable.USER_UUID)))
+                .name(set.getString(UsersTable.USER_NAME))
+                .geolocation(set.getString(GeoInfoTable.GEOLOCATION))
+                .registered(set.getLong(UsersTable.REGISTERED))
+                .lastSeen(set.getLong("last_seen"))
+                .sessionCount(set.getInt("session_count"))
+                .playtime(set.getLong("playtime"))
+                .activityIndex(new ActivityIndex(set.getDouble("activity_index"), date));
+        if (set.getBoolean(UserInfoTable.BANNED)) {
+            player.banned();
+        }
+        return player.build();
     }
-}
\ No newline at end of file
+}
@@ -17,6 +17,8 @@
 package com.djrapitops.plan.storage.database.queries.objects;
 
 import com.djrapitops.plan.delivery.domain.DateHolder;
+import com.djrapitops.plan.delivery.domain.SessionPage;
+import com.djrapitops.plan.delivery.domain.SessionPageRequest;
 import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
 import com.djrapitops.plan.gathering.domain.GMTimes;
@@ -29,6 +31,7 @@ import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
 import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.utilities.comparators.DateHolderRecentComparator;
+import com.djrapitops.plan.utilities.java.Lists;
 import com.djrapitops.plan.utilities.java.Maps;
 
 import java.sql.PreparedStatement;
@@ -50,10 +53,13 @@ public class SessionQueries {
         /* Static method class */
     }
 
+    private static final String USER_UUID = "user_uuid";
+    private static final String SERVER_UUID = "server_uuid";
+
     private static final String SELECT_SESSIONS_STATEMENT = SELECT +
             "s." + SessionsTable.ID + ',' +
-            "s." + SessionsTable.USER_UUID + ',' +
-            "s." + SessionsTable.SERVER_UUID + ',' +
+            "u." + UsersTable.USER_UUID + " as " + USER_UUID + ',' +
+            "server." + ServerTable.SERVER_UUID + " as " + SERVER_UUID + ',' +
             "u." + UsersTable.USER_NAME + " as name," +
             "u_info." + UserInfoTable.REGISTERED + " as registered," +
             "server." + ServerTable.NAME + " as server_name," +
@@ -67,20 +73,23 @@ public class SessionQueries {
             WorldTimesTable.ADVENTURE + ',' +
             WorldTimesTable.SPECTATOR + ',' +
             WorldTable.NAME + ',' +
-            KillsTable.VICTIM_UUID + ',' +
+            "v." + UsersTable.USER_UUID + " as victim_uuid," +
             "v." + UsersTable.USER_NAME + " as victim_name, " +
             KillsTable.DATE + ',' +
             KillsTable.WEAPON +
             FROM + SessionsTable.TABLE_NAME + " s" +
-            INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.USER_UUID + "=s." + SessionsTable.USER_UUID +
-            INNER_JOIN + ServerTable.TABLE_NAME + " server on server." + ServerTable.SERVER_UUID + "=s." + SessionsTable.SERVER_UUID +
-            LEFT_JOIN + UserInfoTable.TABLE_NAME + " u_info on (u_info." + UserInfoTable.USER_UUID + "=s." + SessionsTable.USER_UUID + AND + "u_info." + UserInfoTable.SERVER_UUID + "=s." + SessionsTable.SERVER_UUID + ')' +
+            INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.ID + "=s." + SessionsTable.USER_ID +
+            INNER_JOIN + ServerTable.TABLE_NAME + " server on server." + ServerTable.SERVER_ID + "=s." + SessionsTable.SERVER_ID +
+            LEFT_JOIN + UserInfoTable.TABLE_NAME + " u_info on (u_info." + UserInfoTable.USER_ID + "=s." + SessionsTable.USER_ID + AND + "u_info." + UserInfoTable.SERVER_ID + "=s." + SessionsTable.SERVER_ID + ')' +
             LEFT_JOIN + KillsTable.TABLE_NAME + " ON " + "s." + SessionsTable.ID + '=' + KillsTable.TABLE_NAME + '.' + KillsTable.SESSION_ID +
-            LEFT_JOIN + UsersTable.TABLE_NAME + " v on v." + UsersTable.USER_UUID + '=' + KillsTable.VICTIM_UUID +
+            LEFT_JOIN + UsersTable.TABLE_NAME + " v on v." + UsersTable.ID + '=' + KillsTable.VICTIM_ID +
             INNER_JOIN + WorldTimesTable.TABLE_NAME + " ON s." + SessionsTable.ID + '=' + WorldTimesTable.TABLE_NAME + '.' + WorldTimesTable.SESSION_ID +
             INNER_JOIN + WorldTable.TABLE_NAME + " ON " + WorldTimesTable.TABLE_NAME + '.' + WorldTimesTable.WORLD_ID + '=' + WorldTable.TABLE_NAME + '.' + WorldTable.ID;
 
     private static final String ORDER_BY_SESSION_START_DESC = ORDER_BY + SessionsTable.SESSION_START + " DESC";
+    private static final String ROLLUPS_OF_SERVER_WITHIN_WINDOW = SessionRollupsTable.rowsWithinWindows(1,
+            SessionRollupsTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID);
+    private static final String ROLLUPS_WITHIN_WINDOW = SessionRollupsTable.rowsWithinWindows(1, null);
 
     /**
      * Query the database for Session data with kill, death or world data.
@@ -110,7 +119,7 @@ public class SessionQueries {
 
     public static QueryStatement<List<Session>> fetchSessionsOfServerFlat(UUID serverUUID) {
         String sql = SELECT_SESSIONS_STATEMENT +
-                WHERE + "s." + SessionsTable.SERVER_UUID + "=?" +
+                WHERE + "s." + SessionsTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
                 ORDER_BY_SESSION_START_DESC;
         return new QueryStatement<List<Session>>(sql, 50000) {
             @Override
@@ -133,7 +142,7 @@ public class SessionQueries {
      */
     public static Query<Map<UUID, List<Session>>> fetchSessionsOfPlayer(UUID playerUUID) {
         String sql = SELECT_SESSIONS_STATEMENT +
-                WHERE + "s." + SessionsTable.USER_UUID + "=?" +
+                WHERE + "s." + SessionsTable.USER_ID + "=" + UsersTable.SELECT_USER_ID_STATEMENT +
                 ORDER_BY_SESSION_START_DESC;
         return new QueryStatement<Map<UUID, List<Session>>>(sql, 50000) {
             @Override
@@ -154,52 +163,47 @@ public class SessionQueries {
         Map<UUID, Map<UUID, SortedMap<Long, Session>>> tempSessionMap = new HashMap<>();
 
         // Utilities
-        String[] gms = GMTimes.getGMKeyArray();
         Comparator<DateHolder> mostRecentFirst = new DateHolderRecentComparator();
         Comparator<Long> longRecentComparator = (one, two) -> Long.compare(two, one); // Descending order, most recent first.
 
         while (set.next()) {
-            UUID serverUUID = UUID.fromString(set.getString(SessionsTable.SERVER_UUID));
+            UUID serverUUID = UUID.fromString(set.getString(SERVER_UUID));
             Map<UUID, SortedMap<Long, Session>> serverSessions = tempSessionMap.computeIfAbsent(serverUUID, Maps::create);
 
-            UUID playerUUID = UUID.fromString(set.getString(SessionsTable.USER_UUID));
+            UUID playerUUID = UUID.fromString(set.getString(USER_UUID));
             SortedMap<Long, Session> playerSessions = serverSessions.computeIfAbsent(playerUUID, key -> new TreeMap<>(longRecentComparator));
 
             long sessionStart = set.getLong(SessionsTable.SESSION_START);
             // id, uuid, serverUUID, sessionStart, sessionEnd, mobKills, deaths, afkTime
-            Session session = playerSessions.getOrDefault(sessionStart, new Session(
-                    set.getInt(SessionsTable.ID),
-                    playerUUID,
-                    serverUUID,
-                    sessionStart,
-                    set.getLong(SessionsTable.SESSION_END),
-                    set.getInt(SessionsTable.MOB_KILLS),
-                    set.getInt(SessionsTable.DEATHS),
-                    set.getLong(SessionsTable.AFK_TIME)
-            ));
+            Session session = playerSessions.get(sessionStart);
+            if (session == null) {
+                session = new Session(
+                        set.getInt(SessionsTable.ID),
+                        playerUUID,
+                        serverUUID,
+                        sessionStart,
+                        set.getLong(SessionsTable.SESSION_END),
+                        set.getInt(SessionsTable.MOB_KILLS),
+                        set.getInt(SessionsTable.DEATHS),
+                        set.getLong(SessionsTable.AFK_TIME)
+                );
+            }
 
             WorldTimes worldTimes = session.getValue(SessionKeys.WORLD_TIMES).orElse(new WorldTimes());
             String worldName = set.getString(WorldTable.NAME);
 
             if (!worldTimes.contains(worldName)) {
-                Map<String, Long> gmMap = new HashMap<>();
-                gmMap.put(gms[0], set.getLong(WorldTimesTable.SURVIVAL));
-                gmMap.put(gms[1], set.getLong(WorldTimesTable.CREATIVE));
-                gmMap.put(gms[2], set.getLong(WorldTimesTable.ADVENTURE));
-                gmMap.put(gms[3], set.getLong(WorldTimesTable.SPECTATOR));
-                GMTimes gmTimes = new GMTimes(gmMap);
-                worldTimes.setGMTimesForWorld(worldName, gmTimes);
+                worldTimes.setGMTimesForWorld(worldName, extractGMTimes(set));
             }
 
             String victimName = set.getString("victim_name");
             if (victimName != null) {
-                UUID victim = UUID.fromString(set.getString(KillsTable.VICTIM_UUID));
+                UUID victim = UUID.fromString(set.getString("victim_uuid"));
                 long date = set.getLong(KillsTable.DATE);
                 String weapon = set.getString(KillsTable.WEAPON);
-                List<PlayerKill> playerKills = session.getPlayerKills();
                 PlayerKill newKill = new PlayerKill(victim, weapon, date, victimName);
-                if (!playerKills.contains(newKill)) {
-                    playerKills.add(newKill);
+                if (!session.getPlayerKills().contains(newKill)) {
+                    session.playerKilled(newKill);
                 }
             }
 
@@ -220,17 +224,29 @@ public class SessionQueries {
                 .collect(Collectors.toList());
     }
 
+    private static GMTimes extractGMTimes(ResultSet set) throws SQLException {
+        GMTimes gmTimes = new GMTimes();
+        gmTimes.setAllGMTimes(
+                set.getLong(WorldTimesTable.SURVIVAL),
+                set.getLong(WorldTimesTable.CREATIVE),
+                set.getLong(WorldTimesTable.ADVENTURE),
+                set.getLong(WorldTimesTable.SPECTATOR)
+        );
+        return gmTimes;
+    }
+
     public static Query<List<Session>> fetchServerSessionsWithoutKillOrWorldData(long after, long before, UUID serverUUID) {
         String sql = SELECT +
-                SessionsTable.ID + ',' +
-                SessionsTable.USER_UUID + ',' +
+                SessionsTable.TABLE_NAME + '.' + SessionsTable.ID + ',' +
+                UsersTable.TABLE_NAME + '.' + UsersTable.USER_UUID + " as " + USER_UUID + ',' +
                 SessionsTable.SESSION_START + ',' +
                 SessionsTable.SESSION_END + ',' +
                 SessionsTable.DEATHS + ',' +
                 SessionsTable.MOB_KILLS + ',' +
                 SessionsTable.AFK_TIME +
                 FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.SERVER_UUID + "=?" +
+                INNER_JOIN + UsersTable.TABLE_NAME + " on " + UsersTable.TABLE_NAME + '.' + UsersTable.ID + '=' + SessionsTable.USER_ID +
+                WHERE + SessionsTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
                 AND + SessionsTable.SESSION_START + ">=?" +
                 AND + SessionsTable.SESSION_START + "<=?";
 
@@ -246,7 +262,7 @@ public class SessionQueries {
             public List<Session> processResults(ResultSet set) throws SQLException {
                 List<Session> sessions = new ArrayList<>();
                 while (set.next()) {
-                    UUID uuid = UUID.fromString(set.getString(SessionsTable.USER_UUID));
+                    UUID uuid = UUID.fromString(set.getString(USER_UUID));
                     long start = set.getLong(SessionsTable.SESSION_START);
                     long end = set.getLong(SessionsTable.SESSION_END);
 
@@ -265,7 +281,7 @@ public class SessionQueries {
 
     private static Query<Long> fetchLatestSessionStartLimitForServer(UUID serverUUID, int limit) {
         String sql = SELECT + SessionsTable.SESSION_START + FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.SERVER_UUID + "=?" +
+                WHERE + SessionsTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
                 ORDER_BY_SESSION_START_DESC + " LIMIT ?";
 
         return new QueryStatement<Long>(sql, limit) {
@@ -309,7 +325,7 @@ public class SessionQueries {
 
     public static Query<List<Session>> fetchLatestSessionsOfServer(UUID serverUUID, int limit) {
         String sql = SELECT_SESSIONS_STATEMENT +
-                WHERE + "s." + SessionsTable.SERVER_UUID + "=?" +
+                WHERE + "s." + SessionsTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
                 AND + "s." + SessionsTable.SESSION_START + ">=?" +
                 ORDER_BY_SESSION_START_DESC;
 
@@ -333,7 +349,7 @@ public class SessionQueries {
     public static Query<List<Session>> fetchLatestSessions(int limit) {
         String sql = SELECT_SESSIONS_STATEMENT
                 // Fix for "First Session" icons in the Most recent sessions on network page
-                .replace(LEFT_JOIN + UserInfoTable.TABLE_NAME + " u_info on (u_info." + UserInfoTable.USER_UUID + "=s." + SessionsTable.USER_UUID + AND + "u_info." + UserInfoTable.SERVER_UUID + "=s." + SessionsTable.SERVER_UUID + ')', "")
+                .replace(LEFT_JOIN + UserInfoTable.TABLE_NAME + " u_info on (u_info." + UserInfoTable.USER_ID + "=s." + SessionsTable.USER_ID + AND + "u_info." + UserInfoTable.SERVER_ID + "=s." + SessionsTable.SERVER_ID + ')', "")
                 .replace("u_info", "u") +
                 WHERE + "s." + SessionsTable.SESSION_START + ">=?" +
                 ORDER_BY_SESSION_START_DESC;
@@ -353,18 +369,190 @@ public class SessionQueries {
         };
     }
 
+    /**
+     * Query the database for a page of the most recent sessions.
+     * <p>
+     * The sessions are ordered by start and id, so that the next page can continue after the last session of a page.
+     * World times contain only the total time of each world, player kills are not loaded, only their count.
+     *
+     * @param request Filters, size and position of the page.
+     * @return Page of sessions, with a cursor to the next page if the page is full.
+     * @see #fetchSession(int) for world times and player kills of a session.
+     */
+    public static Query<SessionPage> fetchSessionPage(SessionPageRequest request) {
+        boolean ofServer = request.getServerUUID().isPresent();
+        String registered = ofServer ? "u_info." + UserInfoTable.REGISTERED : "u." + UsersTable.REGISTERED;
+        StringBuilder sql = new StringBuilder(SELECT +
+                "s." + SessionsTable.ID + ',' +
+                "u." + UsersTable.USER_UUID + " as " + USER_UUID + ',' +
+                "server." + ServerTable.SERVER_UUID + " as " + SERVER_UUID + ',' +
+                "u." + UsersTable.USER_NAME + " as name," +
+                registered + " as registered," +
+                "server." + ServerTable.NAME + " as server_name," +
+                "s." + SessionsTable.SESSION_START + ',' +
+                "s." + SessionsTable.SESSION_END + ',' +
+                "s." + SessionsTable.MOB_KILLS + ',' +
+                "s." + SessionsTable.DEATHS + ',' +
+                "s." + SessionsTable.AFK_TIME + ',' +
+                "(SELECT COUNT(1)" + FROM + KillsTable.TABLE_NAME + " k" +
+                WHERE + "k." + KillsTable.SESSION_ID + "=s." + SessionsTable.ID + ") as player_kill_count" +
+                FROM + SessionsTable.TABLE_NAME + " s" +
+                INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.ID + "=s." + SessionsTable.USER_ID +
+                INNER_JOIN + ServerTable.TABLE_NAME + " server on server." + ServerTable.SERVER_ID + "=s." + SessionsTable.SERVER_ID);
+        if (ofServer) {
+            sql.append(LEFT_JOIN + UserInfoTable.TABLE_NAME + " u_info on (u_info." + UserInfoTable.USER_ID + "=s." + SessionsTable.USER_ID + AND + "u_info." + UserInfoTable.SERVER_ID + "=s." + SessionsTable.SERVER_ID + ')');
+        }
+        sql.append(WHERE + "1=1");
+        if (ofServer) {
+            sql.append(AND + "s.").append(SessionsTable.SERVER_ID).append('=').append(ServerTable.STATEMENT_SELECT_SERVER_ID);
+        }
+        if (request.getPlayerUUID().isPresent()) {
+            sql.append(AND + "s.").append(SessionsTable.USER_ID).append('=').append(UsersTable.SELECT_USER_ID_STATEMENT);
+        }
+        if (request.getWorld().isPresent()) {
+            sql.append(AND + "EXISTS (" + SELECT + "1" + FROM + WorldTimesTable.TABLE_NAME + " wt" +
+                    INNER_JOIN + WorldTable.TABLE_NAME + " w on w." + WorldTable.ID + "=wt." + WorldTimesTable.WORLD_ID +
+                    WHERE + "wt." + WorldTimesTable.SESSION_ID + "=s." + SessionsTable.ID +
+                    AND + "w." + WorldTable.NAME + "=?)");
+        }
+        if (request.getAfter().isPresent()) {
+            sql.append(AND + "(s.").append(SessionsTable.SESSION_START).append("<?" + OR + "(s.")
+                    .append(SessionsTable.SESSION_START).append("=?" + AND + "s.").append(SessionsTable.ID).append("<?))");
+        }
+        sql.append(ORDER_BY + "s.").append(SessionsTable.SESSION_START).append(" DESC,s.").append(SessionsTable.ID).append(" DESC")
+                .append(" LIMIT ?");
+
+        return db -> {
+            List<Session> sessions = db.query(new QueryStatement<List<Session>>(sql.toString(), request.getSize()) {
+                @Override
+                public void prepare(PreparedStatement statement) throws SQLException {
+                    int index = 1;
+                    if (ofServer) {
+                        statement.setString(index++, request.getServerUUID().get().toString());
+                    }
+                    if (request.getPlayerUUID().isPresent()) {
+                        statement.setString(index++, request.getPlayerUUID().get().toString());
+                    }
+                    if (request.getWorld().isPresent()) {
+                        statement.setString(index++, request.getWorld().get());
+                    }
+                    if (request.getAfter().isPresent()) {
+                        SessionPage.Cursor after = request.getAfter().get();
+                        statement.setLong(index++, after.getSessionStart());
+                        statement.setLong(index++, after.getSessionStart());
+                        statement.setInt(index++, after.getSessionId());
+                    }
+                    statement.setInt(index, request.getSize());
+                }
+
+                @Override
+                public List<Session> processResults(ResultSet set) throws SQLException {
+                    List<Session> sessions = new ArrayList<>();
+                    while (set.next()) {
+                        Session session = new Session(
+                                set.getInt(SessionsTable.ID),
+                                UUID.fromString(set.getString(USER_UUID)),
+                                UUID.fromString(set.getString(SERVER_UUID)),
+                                set.getLong(SessionsTable.SESSION_START),
+                                set.getLong(SessionsTable.SESSION_END),
+                                set.getInt(SessionsTable.MOB_KILLS),
+                                set.getInt(SessionsTable.DEATHS),
+                                set.getLong(SessionsTable.AFK_TIME)
+                        );
+                        session.putRawData(SessionKeys.NAME, set.getString("name"));
+                        session.putRawData(SessionKeys.SERVER_NAME, set.getString("server_name"));
+                        session.putRawData(SessionKeys.PLAYER_KILL_COUNT, set.getInt("player_kill_count"));
+                        long registerDate = set.getLong("registered");
+                        session.setAsFirstSessionIfMatches(set.wasNull() ? null : registerDate);
+                        sessions.add(session);
+                    }
+                    return sessions;
+                }
+            });
+            if (!sessions.isEmpty()) {
+                Map<Integer, WorldTimes> worldTotals = db.query(fetchWorldTotalsOfSessions(Lists.map(sessions, session -> session.getUnsafe(SessionKeys.DB_ID))));
+                for (Session session : sessions) {
+                    session.setWorldTimes(worldTotals.getOrDefault(session.getUnsafe(SessionKeys.DB_ID), new WorldTimes()));
+                }
+            }
+
+            SessionPage.Cursor next = null;
+            if (sessions.size() >= request.getSize()) {
+                Session last = sessions.get(sessions.size() - 1);
+                next = new SessionPage.Cursor(last.getDate(), last.getUnsafe(SessionKeys.DB_ID));
+            }
+            return new SessionPage(sessions, next);
+        };
+    }
+
+    private static Query<Map<Integer, WorldTimes>> fetchWorldTotalsOfSessions(List<Integer> sessionIds) {
+        String sql = SELECT +
+                "wt." + WorldTimesTable.SESSION_ID + ',' +
+                "w." + WorldTable.NAME + ',' +
+                WorldTimesTable.SURVIVAL + ',' +
+                WorldTimesTable.CREATIVE + ',' +
+                WorldTimesTable.ADVENTURE + ',' +
+                WorldTimesTable.SPECTATOR +
+                FROM + WorldTimesTable.TABLE_NAME + " wt" +
+                INNER_JOIN + WorldTable.TABLE_NAME + " w on w." + WorldTable.ID + "=wt." + WorldTimesTable.WORLD_ID +
+                WHERE + "wt." + WorldTimesTable.SESSION_ID + " IN (" + nParameters(sessionIds.size()) + ')';
+        return new QueryStatement<Map<Integer, WorldTimes>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (int i = 0; i < sessionIds.size(); i++) {
+                    statement.setInt(i + 1, sessionIds.get(i));
+                }
+            }
+
+            @Override
+            public Map<Integer, WorldTimes> processResults(ResultSet set) throws SQLException {
+                Map<Integer, WorldTimes> worldTimesOfSessions = new HashMap<>();
+                while (set.next()) {
+                    worldTimesOfSessions.computeIfAbsent(set.getInt(WorldTimesTable.SESSION_ID), id -> new WorldTimes())
+                            .setGMTimesForWorld(set.getString(WorldTable.NAME), extractGMTimes(set));
+                }
+                return worldTimesOfSessions;
+            }
+        };
+    }
+
+    private static String nParameters(int n) {
+        StringBuilder parameters = new StringBuilder("?");
+        for (int i = 1; i < n; i++) {
+            parameters.append(",?");
+        }
+        return parameters.toString();
+    }
+
+    /**
+     * Query the database for a single session with kill and world data.
+     *
+     * @param sessionId ID of the session in the database.
+     * @return The session, or empty if there is no session with the ID.
+     */
+    public static Query<Optional<Session>> fetchSession(int sessionId) {
+        String sql = SELECT_SESSIONS_STATEMENT +
+                WHERE + "s." + SessionsTable.ID + "=?";
+        return new QueryStatement<Optional<Session>>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, sessionId);
+            }
+
+            @Override
+            public Optional<Session> processResults(ResultSet set) throws SQLException {
+                return extractDataFromSessionSelectStatement(set).stream().findFirst();
+            }
+        };
+    }
+
     public static Query<Long> sessionCount(long after, long before, UUID serverUUID) {
-        String sql = SELECT + "COUNT(1) as count" +
-                FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.SERVER_UUID + "=?" +
-                AND + SessionsTable.SESSION_END + ">=?" +
-                AND + SessionsTable.SESSION_START + "<=?";
+        String sql = SELECT + "SUM(" + SessionRollupsTable.SESSION_COUNT + ") as count" +
+                FROM + ROLLUPS_OF_SERVER_WITHIN_WINDOW;
         return new QueryStatement<Long>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, serverUUID.toString());
-                statement.setLong(2, after);
-                statement.setLong(3, before);
+                SessionRollupsTable.setWindowParameters(statement, 1, serverUUID.toString(), 0L, after, before);
             }
 
             @Override
@@ -375,15 +563,12 @@ public class SessionQueries {
     }
 
     public static Query<Long> sessionCount(long after, long before) {
-        String sql = SELECT + "COUNT(1) as count" +
-                FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.SESSION_END + ">=?" +
-                AND + SessionsTable.SESSION_START + "<=?";
+        String sql = SELECT + "SUM(" + SessionRollupsTable.SESSION_COUNT + ") as count" +
+                FROM + ROLLUPS_WITHIN_WINDOW;
         return new QueryStatement<Long>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setLong(1, after);
-                statement.setLong(2, before);
+                SessionRollupsTable.setWindowParameters(statement, 1, null, 0L, after, before);
             }
 
             @Override
@@ -406,22 +591,17 @@ public class SessionQueries {
         return database -> {
             Sql sql = database.getSql();
             String selectSessionsPerDay = SELECT +
-                    sql.dateToEpochSecond(sql.dateToDayStamp(sql.epochSecondToDate('(' + SessionsTable.SESSION_START + "+?)/1000"))) +
+                    sql.dateToEpochSecond(sql.dateToDayStamp(sql.epochSecondToDate('(' + SessionRollupsTable.HOUR_START + "+?)/1000"))) +
                     "*1000 as date," +
-                    "COUNT(1) as session_count" +
-                    FROM + SessionsTable.TABLE_NAME +
-                    WHERE + SessionsTable.SESSION_END + "<=?" +
-                    AND + SessionsTable.SESSION_START + ">=?" +
-                    AND + SessionsTable.SERVER_UUID + "=?" +
+                    "SUM(" + SessionRollupsTable.SESSION_COUNT + ") as session_count" +
+                    FROM + ROLLUPS_OF_SERVER_WITHIN_WINDOW +
                     GROUP_BY + "date";
 
             return database.query(new QueryStatement<NavigableMap<Long, Integer>>(selectSessionsPerDay, 100) {
                 @Override
                 public void prepare(PreparedStatement statement) throws SQLException {
                     statement.setLong(1, timeZoneOffset);
-                    statement.setLong(2, before);
-                    statement.setLong(3, after);
-                    statement.setString(4, serverUUID.toString());
+                    SessionRollupsTable.setWindowParameters(statement, 2, serverUUID.toString(), timeZoneOffset, after, before);
                 }
 
                 @Override
@@ -437,17 +617,12 @@ public class SessionQueries {
     }
 
     public static Query<Long> playtime(long after, long before, UUID serverUUID) {
-        String sql = SELECT + "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + ") as playtime" +
-                FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.SERVER_UUID + "=?" +
-                AND + SessionsTable.SESSION_END + ">=?" +
-                AND + SessionsTable.SESSION_START + "<=?";
+        String sql = SELECT + "SUM(" + SessionRollupsTable.PLAYTIME + ") as playtime" +
+                FROM + ROLLUPS_OF_SERVER_WITHIN_WINDOW;
         return new QueryStatement<Long>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, serverUUID.toString());
-                statement.setLong(2, after);
-                statement.setLong(3, before);
+                SessionRollupsTable.setWindowParameters(statement, 1, serverUUID.toString(), 0L, after, before);
             }
 
             @Override
@@ -458,25 +633,22 @@ public class SessionQueries {
     }
 
     public static Query<Map<UUID, Long>> playtimeOfPlayer(long after, long before, UUID playerUUID) {
-        String sql = SELECT + SessionsTable.SERVER_UUID + ",SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + ") as playtime" +
-                FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.USER_UUID + "=?" +
-                AND + SessionsTable.SESSION_END + ">=?" +
-                AND + SessionsTable.SESSION_START + "<=?" +
-                GROUP_BY + SessionsTable.SERVER_UUID;
+        String sql = SELECT + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + " as " + SERVER_UUID +
+                ",SUM(" + SessionRollupsTable.PLAYTIME + ") as playtime" +
+                FROM + SessionRollupsTable.rowsWithinWindows(1, SessionRollupsTable.USER_ID + "=" + UsersTable.SELECT_USER_ID_STATEMENT) +
+                INNER_JOIN + ServerTable.TABLE_NAME + " on " + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_ID + '=' + SessionRollupsTable.SERVER_ID +
+                GROUP_BY + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID;
         return new QueryStatement<Map<UUID, Long>>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, playerUUID.toString());
-                statement.setLong(2, after);
-                statement.setLong(3, before);
+                SessionRollupsTable.setWindowParameters(statement, 1, playerUUID.toString(), 0L, after, before);
             }
 
             @Override
             public Map<UUID, Long> processResults(ResultSet set) throws SQLException {
                 Map<UUID, Long> playtimeOfPlayer = new HashMap<>();
                 while (set.next()) {
-                    playtimeOfPlayer.put(UUID.fromString(set.getString(SessionsTable.SERVER_UUID)), set.getLong("playtime"));
+                    playtimeOfPlayer.put(UUID.fromString(set.getString(SERVER_UUID)), set.getLong("playtime"));
                 }
                 return playtimeOfPlayer;
             }
@@ -484,15 +656,12 @@ public class SessionQueries {
     }
 
     public static Query<Long> playtime(long after, long before) {
-        String sql = SELECT + "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + ") as playtime" +
-                FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.SESSION_END + ">=?" +
-                AND + SessionsTable.SESSION_START + "<=?";
+        String sql = SELECT + "SUM(" + SessionRollupsTable.PLAYTIME + ") as playtime" +
+                FROM + ROLLUPS_WITHIN_WINDOW;
         return new QueryStatement<Long>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setLong(1, after);
-                statement.setLong(2, before);
+                SessionRollupsTable.setWindowParameters(statement, 1, null, 0L, after, before);
             }
 
             @Override
@@ -515,22 +684,17 @@ public class SessionQueries {
         return database -> {
             Sql sql = database.getSql();
             String selectPlaytimePerDay = SELECT +
-                    sql.dateToEpochSecond(sql.dateToDayStamp(sql.epochSecondToDate('(' + SessionsTable.SESSION_START + "+?)/1000"))) +
+                    sql.dateToEpochSecond(sql.dateToDayStamp(sql.epochSecondToDate('(' + SessionRollupsTable.HOUR_START + "+?)/1000"))) +
                     "*1000 as date," +
-                    "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + ") as playtime" +
-                    FROM + SessionsTable.TABLE_NAME +
-                    WHERE + SessionsTable.SESSION_END + "<=?" +
-                    AND + SessionsTable.SESSION_START + ">=?" +
-                    AND + SessionsTable.SERVER_UUID + "=?" +
+                    "SUM(" + SessionRollupsTable.PLAYTIME + ") as playtime" +
+                    FROM + ROLLUPS_OF_SERVER_WITHIN_WINDOW +
                     GROUP_BY + "date";
 
             return database.query(new QueryStatement<NavigableMap<Long, Long>>(selectPlaytimePerDay, 100) {
                 @Override
                 public void prepare(PreparedStatement statement) throws SQLException {
                     statement.setLong(1, timeZoneOffset);
-                    statement.setLong(2, before);
-                    statement.setLong(3, after);
-                    statement.setString(4, serverUUID.toString());
+                    SessionRollupsTable.setWindowParameters(statement, 2, serverUUID.toString(), timeZoneOffset, after, before);
                 }
 
                 @Override
@@ -549,13 +713,10 @@ public class SessionQueries {
         return database -> {
             Sql sql = database.getSql();
             String selectPlaytimePerDay = SELECT +
-                    sql.dateToEpochSecond(sql.dateToDayStamp(sql.epochSecondToDate('(' + SessionsTable.SESSION_START + "+?)/1000"))) +
+                    sql.dateToEpochSecond(sql.dateToDayStamp(sql.epochSecondToDate('(' + SessionRollupsTable.HOUR_START + "+?)/1000"))) +
                     "*1000 as date," +
-                    "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + ") as playtime" +
-                    FROM + SessionsTable.TABLE_NAME +
-                    WHERE + SessionsTable.SESSION_END + "<=?" +
-                    AND + SessionsTable.SESSION_START + ">=?" +
-                    AND + SessionsTable.SERVER_UUID + "=?" +
+                    "SUM(" + SessionRollupsTable.PLAYTIME + ") as playtime" +
+                    FROM + ROLLUPS_OF_SERVER_WITHIN_WINDOW +
                     GROUP_BY + "date";
             String selectAverage = SELECT + "AVG(playtime) as average" + FROM + '(' + selectPlaytimePerDay + ") q1";
 
@@ -563,9 +724,7 @@ public class SessionQueries {
                 @Override
                 public void prepare(PreparedStatement statement) throws SQLException {
                     statement.setLong(1, timeZoneOffset);
-                    statement.setLong(2, before);
-                    statement.setLong(3, after);
-                    statement.setString(4, serverUUID.toString());
+                    SessionRollupsTable.setWindowParameters(statement, 2, serverUUID.toString(), timeZoneOffset, after, before);
                 }
 
                 @Override
@@ -579,21 +738,16 @@ public class SessionQueries {
     public static Query<Long> averagePlaytimePerPlayer(long after, long before, UUID serverUUID) {
         return database -> {
             String selectPlaytimePerPlayer = SELECT +
-                    SessionsTable.USER_UUID + "," +
-                    "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + ") as playtime" +
-                    FROM + SessionsTable.TABLE_NAME +
-                    WHERE + SessionsTable.SESSION_END + "<=?" +
-                    AND + SessionsTable.SESSION_START + ">=?" +
-                    AND + SessionsTable.SERVER_UUID + "=?" +
-                    GROUP_BY + SessionsTable.USER_UUID;
+                    SessionRollupsTable.USER_ID + "," +
+                    "SUM(" + SessionRollupsTable.PLAYTIME + ") as playtime" +
+                    FROM + ROLLUPS_OF_SERVER_WITHIN_WINDOW +
+                    GROUP_BY + SessionRollupsTable.USER_ID;
             String selectAverage = SELECT + "AVG(playtime) as average" + FROM + '(' + selectPlaytimePerPlayer + ") q1";
 
             return database.query(new QueryStatement<Long>(selectAverage, 100) {
                 @Override
                 public void prepare(PreparedStatement statement) throws SQLException {
-                    statement.setLong(1, before);
-                    statement.setLong(2, after);
-                    statement.setString(3, serverUUID.toString());
+                    SessionRollupsTable.setWindowParameters(statement, 1, serverUUID.toString(), 0L, after, before);
                 }
 
                 @Override
@@ -609,24 +763,21 @@ public class SessionQueries {
      *
      * @param after  After epoch ms
      * @param before Before epoch ms
-     * @return Average ms played / player, calculated with grouped sums from sessions table.
+     * @return Average ms played / player, calculated with grouped sums from session rollup table.
      */
     public static Query<Long> averagePlaytimePerPlayer(long after, long before) {
         return database -> {
             String selectPlaytimePerPlayer = SELECT +
-                    SessionsTable.USER_UUID + "," +
-                    "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + ") as playtime" +
-                    FROM + SessionsTable.TABLE_NAME +
-                    WHERE + SessionsTable.SESSION_END + "<=?" +
-                    AND + SessionsTable.SESSION_START + ">=?" +
-                    GROUP_BY + SessionsTable.USER_UUID;
+                    SessionRollupsTable.USER_ID + "," +
+                    "SUM(" + SessionRollupsTable.PLAYTIME + ") as playtime" +
+                    FROM + ROLLUPS_WITHIN_WINDOW +
+                    GROUP_BY + SessionRollupsTable.USER_ID;
             String selectAverage = SELECT + "AVG(playtime) as average" + FROM + '(' + selectPlaytimePerPlayer + ") q1";
 
             return database.query(new QueryStatement<Long>(selectAverage, 100) {
                 @Override
                 public void prepare(PreparedStatement statement) throws SQLException {
-                    statement.setLong(1, before);
-                    statement.setLong(2, after);
+                    SessionRollupsTable.setWindowParameters(statement, 1, null, 0L, after, before);
                 }
 
                 @Override
@@ -640,21 +791,16 @@ public class SessionQueries {
     public static Query<Long> averageAfkPerPlayer(long after, long before, UUID serverUUID) {
         return database -> {
             String selectAfkPerPlayer = SELECT +
-                    SessionsTable.USER_UUID + "," +
-                    "SUM(" + SessionsTable.AFK_TIME + ") as afk" +
-                    FROM + SessionsTable.TABLE_NAME +
-                    WHERE + SessionsTable.SESSION_END + "<=?" +
-                    AND + SessionsTable.SESSION_START + ">=?" +
-                    AND + SessionsTable.SERVER_UUID + "=?" +
-                    GROUP_BY + SessionsTable.USER_UUID;
+                    SessionRollupsTable.USER_ID + "," +
+                    "SUM(" + SessionRollupsTable.AFK_TIME + ") as afk" +
+                    FROM + ROLLUPS_OF_SERVER_WITHIN_WINDOW +
+                    GROUP_BY + SessionRollupsTable.USER_ID;
             String selectAverage = SELECT + "AVG(afk) as average" + FROM + '(' + selectAfkPerPlayer + ") q1";
 
             return database.query(new QueryStatement<Long>(selectAverage, 100) {
                 @Override
                 public void prepare(PreparedStatement statement) throws SQLException {
-                    statement.setLong(1, before);
-                    statement.setLong(2, after);
-                    statement.setString(3, serverUUID.toString());
+                    SessionRollupsTable.setWindowParameters(statement, 1, serverUUID.toString(), 0L, after, before);
                 }
 
                 @Override
@@ -670,24 +816,21 @@ public class SessionQueries {
      *
      * @param after  After epoch ms
      * @param before Before epoch ms
-     * @return Average ms afk / player, calculated with grouped sums from sessions table.
+     * @return Average ms afk / player, calculated with grouped sums from session rollup table.
      */
     public static Query<Long> averageAfkPerPlayer(long after, long before) {
         return database -> {
             String selectAfkPerPlayer = SELECT +
-                    SessionsTable.USER_UUID + "," +
-                    "SUM(" + SessionsTable.AFK_TIME + ") as afk" +
-                    FROM + SessionsTable.TABLE_NAME +
-                    WHERE + SessionsTable.SESSION_END + "<=?" +
-                    AND + SessionsTable.SESSION_START + ">=?" +
-                    GROUP_BY + SessionsTable.USER_UUID;
+                    SessionRollupsTable.USER_ID + "," +
+                    "SUM(" + SessionRollupsTable.AFK_TIME + ") as afk" +
+                    FROM + ROLLUPS_WITHIN_WINDOW +
+                    GROUP_BY + SessionRollupsTable.USER_ID;
             String selectAverage = SELECT + "AVG(afk) as average" + FROM + '(' + selectAfkPerPlayer + ") q1";
 
             return database.query(new QueryStatement<Long>(selectAverage, 100) {
                 @Override
                 public void prepare(PreparedStatement statement) throws SQLException {
-                    statement.setLong(1, before);
-                    statement.setLong(2, after);
+                    SessionRollupsTable.setWindowParameters(statement, 1, null, 0L, after, before);
                 }
 
                 @Override
@@ -699,17 +842,12 @@ public class SessionQueries {
     }
 
     public static Query<Long> afkTime(long after, long before, UUID serverUUID) {
-        String sql = SELECT + "SUM(" + SessionsTable.AFK_TIME + ") as afk_time" +
-                FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.SERVER_UUID + "=?" +
-                AND + SessionsTable.SESSION_END + ">=?" +
-                AND + SessionsTable.SESSION_START + "<=?";
+        String sql = SELECT + "SUM(" + SessionRollupsTable.AFK_TIME + ") as afk_time" +
+                FROM + ROLLUPS_OF_SERVER_WITHIN_WINDOW;
         return new QueryStatement<Long>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, serverUUID.toString());
-                statement.setLong(2, after);
-                statement.setLong(3, before);
+                SessionRollupsTable.setWindowParameters(statement, 1, serverUUID.toString(), 0L, after, before);
             }
 
             @Override
@@ -720,15 +858,12 @@ public class SessionQueries {
     }
 
     public static Query<Long> afkTime(long after, long before) {
-        String sql = SELECT + "SUM(" + SessionsTable.AFK_TIME + ") as afk_time" +
-                FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.SESSION_END + ">=?" +
-                AND + SessionsTable.SESSION_START + "<=?";
+        String sql = SELECT + "SUM(" + SessionRollupsTable.AFK_TIME + ") as afk_time" +
+                FROM + ROLLUPS_WITHIN_WINDOW;
         return new QueryStatement<Long>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setLong(1, after);
-                statement.setLong(2, before);
+                SessionRollupsTable.setWindowParameters(statement, 1, null, 0L, after, before);
             }
 
             @Override
@@ -740,18 +875,15 @@ public class SessionQueries {
 
     public static Query<Map<String, Long>> playtimePerServer(long after, long before) {
         String sql = SELECT +
-                "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + ") as playtime," +
+                "SUM(" + SessionRollupsTable.PLAYTIME + ") as playtime," +
                 ServerTable.NAME +
-                FROM + SessionsTable.TABLE_NAME +
-                INNER_JOIN + ServerTable.TABLE_NAME + " s on s." + ServerTable.SERVER_UUID + '=' + SessionsTable.TABLE_NAME + '.' + SessionsTable.SERVER_UUID +
-                WHERE + SessionsTable.SESSION_END + ">=?" +
-                AND + SessionsTable.SESSION_START + "<=?" +
+                FROM + ROLLUPS_WITHIN_WINDOW +
+                INNER_JOIN + ServerTable.TABLE_NAME + " s on s." + ServerTable.SERVER_ID + '=' + SessionRollupsTable.TABLE_NAME + '.' + SessionRollupsTable.SERVER_ID +
                 GROUP_BY + ServerTable.NAME;
         return new QueryStatement<Map<String, Long>>(sql, 100) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setLong(1, after);
-                statement.setLong(2, before);
+                SessionRollupsTable.setWindowParameters(statement, 1, null, 0L, after, before);
             }
 
             @Override
@@ -768,8 +900,8 @@ public class SessionQueries {
     public static Query<Long> lastSeen(UUID playerUUID, UUID serverUUID) {
         String sql = SELECT + "MAX(" + SessionsTable.SESSION_END + ") as last_seen" +
                 FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.USER_UUID + "=?" +
-                AND + SessionsTable.SERVER_UUID + "=?";
+                WHERE + SessionsTable.USER_ID + "=" + UsersTable.SELECT_USER_ID_STATEMENT +
+                AND + SessionsTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID;
         return new QueryStatement<Long>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
@@ -785,18 +917,12 @@ public class SessionQueries {
     }
 
     public static Query<Long> activePlaytime(long after, long before, UUID serverUUID) {
-        String sql = SELECT + "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + '-' + SessionsTable.AFK_TIME +
-                ") as playtime" +
-                FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.SERVER_UUID + "=?" +
-                AND + SessionsTable.SESSION_END + ">=?" +
-                AND + SessionsTable.SESSION_START + "<=?";
+        String sql = SELECT + "SUM(" + SessionRollupsTable.PLAYTIME + '-' + SessionRollupsTable.AFK_TIME + ") as playtime" +
+                FROM + ROLLUPS_OF_SERVER_WITHIN_WINDOW;
         return new QueryStatement<Long>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, serverUUID.toString());
-                statement.setLong(2, after);
-                statement.setLong(3, before);
+                SessionRollupsTable.setWindowParameters(statement, 1, serverUUID.toString(), 0L, after, before);
             }
 
             @Override
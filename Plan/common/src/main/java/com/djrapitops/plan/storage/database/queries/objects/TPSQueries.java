@@ -23,6 +23,8 @@ import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.sql.building.Select;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
+import com.djrapitops.plan.storage.database.sql.tables.TPSAggregateTable;
+import com.djrapitops.plan.utilities.comparators.DateHolderOldestComparator;
 import com.djrapitops.plan.utilities.java.Lists;
 
 import java.sql.PreparedStatement;
@@ -108,6 +110,122 @@ public class TPSQueries {
         };
     }
 
+    /**
+     * Fetch TPS data of a server, using the hourly and daily rows when the resolution allows it.
+     * <p>
+     * Data of the preferred period is used first, finer data fills the time after it and
+     * coarser data fills the periods that have no finer data, such as history after minute samples have been removed.
+     * Compacted rows contain the averages of the period, except for players online which uses the peak.
+     *
+     * @param after      After epoch ms
+     * @param before     Before epoch ms
+     * @param resolution How far apart the data points can be, in ms.
+     * @param serverUUID UUID of the Plan server
+     * @return List of TPS data, oldest first.
+     */
+    public static Query<List<TPS>> fetchTPSDataOfServer(long after, long before, long resolution, UUID serverUUID) {
+        return db -> {
+            // Periods of the data, from coarsest to finest. 0 is used for the minute samples.
+            List<Long> periods = Arrays.asList(TPSAggregateTable.DAY, TPSAggregateTable.HOUR, 0L);
+            int preferred = resolution >= TPSAggregateTable.DAY ? 0 : resolution >= TPSAggregateTable.HOUR ? 1 : 2;
+
+            List<TPS> data = new ArrayList<>();
+            long coveredUntil = after;
+            for (int i = preferred; i < periods.size(); i++) {
+                long period = periods.get(i);
+                List<TPS> ofPeriod = db.query(fetchTPSDataOfPeriod(period, coveredUntil, before, serverUUID));
+                for (TPS tps : ofPeriod) {
+                    coveredUntil = Math.max(coveredUntil, tps.getDate() + Math.max(period, 1L));
+                }
+                data.addAll(ofPeriod);
+            }
+            for (int i = preferred - 1; i >= 0; i--) {
+                long period = periods.get(i);
+                Set<Long> coveredPeriods = new HashSet<>();
+                for (TPS tps : data) {
+                    coveredPeriods.add(tps.getDate() - tps.getDate() % period);
+                }
+                for (TPS tps : db.query(fetchTPSDataOfPeriod(period, after, before, serverUUID))) {
+                    if (!coveredPeriods.contains(tps.getDate())) data.add(tps);
+                }
+            }
+            data.sort(new DateHolderOldestComparator());
+            return data;
+        };
+    }
+
+    private static Query<List<TPS>> fetchTPSDataOfPeriod(long period, long after, long before, UUID serverUUID) {
+        if (period <= 0L) {
+            return fetchTPSDataOfServer(after, before, serverUUID);
+        }
+
+        String sql = SELECT + "*" +
+                FROM + TPSAggregateTable.TABLE_NAME +
+                WHERE + TPSAggregateTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
+                AND + TPSAggregateTable.RESOLUTION + "=?" +
+                AND + TPSAggregateTable.DATE + ">=?" +
+                AND + TPSAggregateTable.DATE + "<=?";
+
+        return new QueryStatement<List<TPS>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, period);
+                statement.setLong(3, after);
+                statement.setLong(4, before);
+            }
+
+            @Override
+            public List<TPS> processResults(ResultSet set) throws SQLException {
+                List<TPS> data = new ArrayList<>();
+                while (set.next()) {
+                    data.add(TPSBuilder.get()
+                            .date(set.getLong(TPSAggregateTable.DATE))
+                            .tps(set.getDouble(TPSAggregateTable.TPS + TPSAggregateTable.AVG))
+                            .playersOnline(set.getInt(TPSAggregateTable.PLAYERS_ONLINE + TPSAggregateTable.MAX))
+                            .usedCPU(set.getDouble(TPSAggregateTable.CPU_USAGE + TPSAggregateTable.AVG))
+                            .usedMemory((long) set.getDouble(TPSAggregateTable.RAM_USAGE + TPSAggregateTable.AVG))
+                            .entities((int) set.getDouble(TPSAggregateTable.ENTITIES + TPSAggregateTable.AVG))
+                            .chunksLoaded((int) set.getDouble(TPSAggregateTable.CHUNKS + TPSAggregateTable.AVG))
+                            .freeDiskSpace((long) set.getDouble(TPSAggregateTable.FREE_DISK + TPSAggregateTable.AVG))
+                            .toTPS());
+                }
+                return data;
+            }
+        };
+    }
+
+    /**
+     * Fetch the start of the latest compacted period of a server.
+     *
+     * @param period     {@link TPSAggregateTable#HOUR} or {@link TPSAggregateTable#DAY}
+     * @param serverUUID UUID of the Plan server
+     * @return Epoch ms of the latest hourly or daily row, empty if the server has none.
+     */
+    public static Query<Optional<Long>> fetchLatestAggregateDate(long period, UUID serverUUID) {
+        String sql = SELECT + "MAX(" + TPSAggregateTable.DATE + ") as latest" +
+                FROM + TPSAggregateTable.TABLE_NAME +
+                WHERE + TPSAggregateTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
+                AND + TPSAggregateTable.RESOLUTION + "=?";
+
+        return new QueryStatement<Optional<Long>>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, period);
+            }
+
+            @Override
+            public Optional<Long> processResults(ResultSet set) throws SQLException {
+                if (set.next()) {
+                    long latest = set.getLong("latest");
+                    if (!set.wasNull()) return Optional.of(latest);
+                }
+                return Optional.empty();
+            }
+        };
+    }
+
     public static Query<List<DateObj<Integer>>> fetchPlayersOnlineOfServer(long after, long before, UUID serverUUID) {
         String sql = SELECT + ServerTable.SERVER_UUID + ',' + DATE + ',' + PLAYERS_ONLINE +
                 FROM + TABLE_NAME +
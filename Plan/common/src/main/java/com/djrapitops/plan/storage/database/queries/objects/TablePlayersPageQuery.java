@@ -0,0 +1,287 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.objects;
+
+import com.djrapitops.plan.delivery.domain.TablePlayer;
+import com.djrapitops.plan.delivery.domain.TablePlayerOrder;
+import com.djrapitops.plan.delivery.domain.TablePlayerPage;
+import com.djrapitops.plan.delivery.domain.TablePlayerPageRequest;
+import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionServerPlayerDataTableQuery;
+import com.djrapitops.plan.storage.database.SQLDB;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
+import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
+import org.apache.commons.lang3.StringUtils;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Query for a single page of the players table, ordered and filtered by the database.
+ * <p>
+ * Pages of a server can also be ordered by an extension provider, and the search matches
+ * text values of extension providers shown in the table in addition to player names.
+ *
+ * @author Rsl1122
+ * @see ServerTablePlayersQuery for the selected rows of a server.
+ * @see NetworkTablePlayersQuery for the selected rows of the network.
+ */
+public class TablePlayersPageQuery implements Query<TablePlayerPage> {
+
+    private final UUID serverUUID; // null for the network
+    private final long date;
+    private final long activeMsThreshold;
+    private final TablePlayerPageRequest request;
+
+    private TablePlayersPageQuery(UUID serverUUID, long date, long activeMsThreshold, TablePlayerPageRequest request) {
+        this.serverUUID = serverUUID;
+        this.date = date;
+        this.activeMsThreshold = activeMsThreshold;
+        this.request = request;
+    }
+
+    /**
+     * Create a query for a page of players of a server.
+     *
+     * @param serverUUID        UUID of the Plan server.
+     * @param date              Date used for Activity Index calculation, unless the request continues from a cursor.
+     * @param activeMsThreshold Playtime threshold for Activity Index calculation
+     * @param request           Requested page.
+     * @return The query.
+     */
+    public static TablePlayersPageQuery ofServer(UUID serverUUID, long date, long activeMsThreshold, TablePlayerPageRequest request) {
+        return new TablePlayersPageQuery(serverUUID, date, activeMsThreshold, request);
+    }
+
+    /**
+     * Create a query for a page of players of the whole network.
+     *
+     * @param date              Date used for Activity Index calculation, unless the request continues from a cursor.
+     * @param activeMsThreshold Playtime threshold for Activity Index calculation
+     * @param request           Requested page.
+     * @return The query.
+     */
+    public static TablePlayersPageQuery ofNetwork(long date, long activeMsThreshold, TablePlayerPageRequest request) {
+        if (request.getOrder() == TablePlayerOrder.EXTENSION) {
+            throw new IllegalArgumentException("Players table of the network has no extension columns to order by");
+        }
+        return new TablePlayersPageQuery(null, date, activeMsThreshold, request);
+    }
+
+    private static String sortExpression(TablePlayerOrder order, TablePlayerOrder.ValueType valueType) {
+        switch (order) {
+            case EXTENSION:
+                return valueType == TablePlayerOrder.ValueType.TEXT ? "COALESCE(ext.string_value,'')" : "COALESCE(ext.decimal_value,0)";
+            case NAME:
+                return "p." + UsersTable.USER_NAME;
+            case ACTIVITY_INDEX:
+                return "COALESCE(p.activity_index,0)";
+            case PLAYTIME:
+                return "COALESCE(p.playtime,0)";
+            case SESSIONS:
+                return "COALESCE(p.session_count,0)";
+            case REGISTERED:
+                return "p." + UsersTable.REGISTERED;
+            case GEOLOCATION:
+                return "COALESCE(p.geolocation,'')";
+            case LAST_SEEN:
+            default:
+                return "COALESCE(p.last_seen,0)";
+        }
+    }
+
+    private static String toLikePattern(String search) {
+        String escaped = StringUtils.replaceEach(search.toLowerCase(),
+                new String[]{"!", "%", "_"},
+                new String[]{"!!", "!%", "!_"});
+        return '%' + escaped + '%';
+    }
+
+    @Override
+    public TablePlayerPage executeQuery(SQLDB db) {
+        // Following pages use the date of the first page, so that the Activity Index players are ordered by does not change.
+        long pageDate = request.getAfter().map(TablePlayerPage.Cursor::getDate).orElse(date);
+        TablePlayerOrder.ValueType valueType = request.getAfter().map(TablePlayerPage.Cursor::getValueType)
+                .orElseGet(() -> getValueType(db));
+        int[] counts = db.query(fetchCounts());
+        return db.query(fetchPage(counts[0], counts[1], pageDate, valueType));
+    }
+
+    private TablePlayerOrder.ValueType getValueType(SQLDB db) {
+        if (request.getOrder() != TablePlayerOrder.EXTENSION) {
+            return request.getOrder().getValueType();
+        }
+        return db.query(ExtensionServerPlayerDataTableQuery.hasTextValues(serverUUID, getExtensionProvider()))
+                ? TablePlayerOrder.ValueType.TEXT
+                : TablePlayerOrder.ValueType.DECIMAL;
+    }
+
+    private String getExtensionProvider() {
+        return request.getExtensionProvider().orElse("");
+    }
+
+    private String searchFilter(String userTable) {
+        String nameFilter = "LOWER(" + userTable + '.' + UsersTable.USER_NAME + ") LIKE ? ESCAPE '!'";
+        if (serverUUID == null) {
+            return nameFilter;
+        }
+        return '(' + nameFilter + OR + userTable + '.' + UsersTable.USER_UUID + " IN (" + ExtensionServerPlayerDataTableQuery.selectPlayersWithMatchingTextSQL() + "))";
+    }
+
+    private int setSearchFilterParameters(PreparedStatement statement, int index) throws SQLException {
+        String likePattern = toLikePattern(request.getSearch().orElse(""));
+        statement.setString(index, likePattern);
+        if (serverUUID == null) {
+            return index + 1;
+        }
+        return ExtensionServerPlayerDataTableQuery.setPlayersWithMatchingTextSQLParameters(statement, index + 1, serverUUID, likePattern);
+    }
+
+    private Query<int[]> fetchCounts() {
+        String searchFilter = request.getSearch().isPresent() ? searchFilter("u") : "1=1";
+        String sql = SELECT + "COUNT(1) as total," +
+                "SUM(CASE WHEN " + searchFilter + " THEN 1 ELSE 0 END) as filtered" +
+                FROM + UsersTable.TABLE_NAME + " u" +
+                (serverUUID != null
+                        ? INNER_JOIN + UserInfoTable.TABLE_NAME + " ui on u." + UsersTable.ID + "=ui." + UserInfoTable.USER_ID +
+                        WHERE + "ui." + UserInfoTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID
+                        : "");
+
+        return new QueryStatement<int[]>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int index = 1;
+                if (request.getSearch().isPresent()) {
+                    index = setSearchFilterParameters(statement, index);
+                }
+                if (serverUUID != null) {
+                    statement.setString(index, serverUUID.toString());
+                }
+            }
+
+            @Override
+            public int[] processResults(ResultSet set) throws SQLException {
+                return set.next() ? new int[]{set.getInt("total"), set.getInt("filtered")} : new int[]{0, 0};
+            }
+        };
+    }
+
+    private Query<TablePlayerPage> fetchPage(int totalCount, int filteredCount, long pageDate, TablePlayerOrder.ValueType valueType) {
+        TablePlayerOrder order = request.getOrder();
+        boolean orderedByExtension = order == TablePlayerOrder.EXTENSION;
+        String sortExpression = sortExpression(order, valueType);
+        String direction = request.isDescending() ? " DESC" : " ASC";
+        String comparison = request.isDescending() ? "<" : ">";
+
+        StringBuilder sql = new StringBuilder(SELECT + "p.*," + sortExpression + " as sort_value" +
+                FROM + '(' + (serverUUID != null ? ServerTablePlayersQuery.selectTablePlayersSQL() : NetworkTablePlayersQuery.selectTablePlayersSQL()) + ") p");
+        if (orderedByExtension) {
+            sql.append(LEFT_JOIN).append('(').append(ExtensionServerPlayerDataTableQuery.selectProviderValuesSQL()).append(") ext")
+                    .append(" on ext.uuid=p.").append(UsersTable.USER_UUID);
+        }
+        sql.append(WHERE).append("1=1");
+        if (request.getSearch().isPresent()) {
+            sql.append(AND).append(searchFilter("p"));
+        }
+        if (request.getAfter().isPresent()) {
+            sql.append(AND).append('(').append(sortExpression).append(comparison).append('?')
+                    .append(OR).append('(').append(sortExpression).append("=?")
+                    .append(AND).append("p.table_user_id").append(comparison).append("?))");
+        }
+        sql.append(ORDER_BY).append(sortExpression).append(direction).append(",p.table_user_id").append(direction)
+                .append(" LIMIT ?");
+        if (!request.getAfter().isPresent() && request.getOffset() > 0) {
+            sql.append(" OFFSET ?");
+        }
+
+        return new QueryStatement<TablePlayerPage>(sql.toString(), request.getSize()) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int index = serverUUID != null
+                        ? ServerTablePlayersQuery.setTablePlayersSQLParameters(statement, 1, serverUUID, activeMsThreshold, pageDate)
+                        : NetworkTablePlayersQuery.setTablePlayersSQLParameters(statement, 1, activeMsThreshold, pageDate);
+                if (orderedByExtension) {
+                    index = ExtensionServerPlayerDataTableQuery.setProviderValuesSQLParameters(statement, index, serverUUID, getExtensionProvider());
+                }
+                if (request.getSearch().isPresent()) {
+                    index = setSearchFilterParameters(statement, index);
+                }
+                if (request.getAfter().isPresent()) {
+                    TablePlayerPage.Cursor after = request.getAfter().get();
+                    setSortValue(statement, index++, after);
+                    setSortValue(statement, index++, after);
+                    statement.setInt(index++, after.getUserId());
+                }
+                statement.setInt(index++, request.getSize());
+                if (!request.getAfter().isPresent() && request.getOffset() > 0) {
+                    statement.setInt(index, request.getOffset());
+                }
+            }
+
+            @Override
+            public TablePlayerPage processResults(ResultSet set) throws SQLException {
+                List<TablePlayer> players = new ArrayList<>();
+                TablePlayerPage.Cursor last = null;
+                while (set.next()) {
+                    players.add(serverUUID != null
+                            ? ServerTablePlayersQuery.extractTablePlayer(set, pageDate)
+                            : NetworkTablePlayersQuery.extractTablePlayer(set, pageDate));
+                    last = new TablePlayerPage.Cursor(order, request.getExtensionProvider().orElse(null), valueType,
+                            getSortValue(set, valueType), set.getInt("table_user_id"), pageDate);
+                }
+                // The page is full, so there might be more players.
+                TablePlayerPage.Cursor next = players.size() >= request.getSize() ? last : null;
+                return new TablePlayerPage(players, totalCount, filteredCount, next);
+            }
+        };
+    }
+
+    private String getSortValue(ResultSet set, TablePlayerOrder.ValueType valueType) throws SQLException {
+        switch (valueType) {
+            case TEXT:
+                return set.getString("sort_value");
+            case DECIMAL:
+                return Double.toString(set.getDouble("sort_value"));
+            case NUMBER:
+            default:
+                return Long.toString(set.getLong("sort_value"));
+        }
+    }
+
+    private void setSortValue(PreparedStatement statement, int index, TablePlayerPage.Cursor cursor) throws SQLException {
+        switch (cursor.getValueType()) {
+            case TEXT:
+                statement.setString(index, cursor.getSortValue());
+                break;
+            case DECIMAL:
+                statement.setDouble(index, cursor.getDecimalSortValue());
+                break;
+            case NUMBER:
+            default:
+                statement.setLong(index, cursor.getNumberSortValue());
+                break;
+        }
+    }
+}
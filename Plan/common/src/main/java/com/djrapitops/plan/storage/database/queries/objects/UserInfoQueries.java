@@ -20,7 +20,9 @@ import com.djrapitops.plan.gathering.domain.UserInfo;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 import com.djrapitops.plan.utilities.java.Lists;
 
 import java.sql.PreparedStatement;
@@ -37,6 +39,13 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  */
 public class UserInfoQueries {
 
+    private static final String USER_UUID = "user_uuid";
+    private static final String SERVER_UUID = "server_uuid";
+    private static final String SELECT_UUIDS = UsersTable.TABLE_NAME + '.' + UsersTable.USER_UUID + " as " + USER_UUID + ',' +
+            ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + " as " + SERVER_UUID;
+    private static final String JOIN_UUIDS = INNER_JOIN + UsersTable.TABLE_NAME + " on " + UsersTable.TABLE_NAME + '.' + UsersTable.ID + "=" + UserInfoTable.USER_ID +
+            INNER_JOIN + ServerTable.TABLE_NAME + " on " + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_ID + "=" + UserInfoTable.SERVER_ID;
+
     private UserInfoQueries() {
         /* Static method class */
     }
@@ -50,20 +59,20 @@ public class UserInfoQueries {
      */
     public static Query<Map<UUID, List<UserInfo>>> fetchAllUserInformation() {
         String sql = SELECT +
-                UserInfoTable.REGISTERED + ',' +
+                UserInfoTable.TABLE_NAME + '.' + UserInfoTable.REGISTERED + ',' +
                 UserInfoTable.BANNED + ',' +
                 UserInfoTable.OP + ',' +
-                UserInfoTable.USER_UUID + ',' +
-                UserInfoTable.SERVER_UUID +
-                FROM + UserInfoTable.TABLE_NAME;
+                SELECT_UUIDS +
+                FROM + UserInfoTable.TABLE_NAME +
+                JOIN_UUIDS;
 
         return new QueryAllStatement<Map<UUID, List<UserInfo>>>(sql, 50000) {
             @Override
             public Map<UUID, List<UserInfo>> processResults(ResultSet set) throws SQLException {
                 Map<UUID, List<UserInfo>> serverMap = new HashMap<>();
                 while (set.next()) {
-                    UUID serverUUID = UUID.fromString(set.getString(UserInfoTable.SERVER_UUID));
-                    UUID uuid = UUID.fromString(set.getString(UserInfoTable.USER_UUID));
+                    UUID serverUUID = UUID.fromString(set.getString(SERVER_UUID));
+                    UUID uuid = UUID.fromString(set.getString(USER_UUID));
 
                     List<UserInfo> userInfos = serverMap.computeIfAbsent(serverUUID, Lists::create);
 
@@ -89,9 +98,10 @@ public class UserInfoQueries {
                 UserInfoTable.TABLE_NAME + '.' + UserInfoTable.REGISTERED + ',' +
                 UserInfoTable.BANNED + ',' +
                 UserInfoTable.OP + ',' +
-                UserInfoTable.SERVER_UUID +
+                ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + " as " + SERVER_UUID +
                 FROM + UserInfoTable.TABLE_NAME +
-                WHERE + UserInfoTable.TABLE_NAME + '.' + UserInfoTable.USER_UUID + "=?";
+                INNER_JOIN + ServerTable.TABLE_NAME + " on " + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_ID + "=" + UserInfoTable.SERVER_ID +
+                WHERE + UserInfoTable.TABLE_NAME + '.' + UserInfoTable.USER_ID + "=" + UsersTable.SELECT_USER_ID_STATEMENT;
 
         return new QueryStatement<List<UserInfo>>(sql) {
             @Override
@@ -106,7 +116,7 @@ public class UserInfoQueries {
                     long registered = set.getLong(UserInfoTable.REGISTERED);
                     boolean op = set.getBoolean(UserInfoTable.OP);
                     boolean banned = set.getBoolean(UserInfoTable.BANNED);
-                    UUID serverUUID = UUID.fromString(set.getString(UserInfoTable.SERVER_UUID));
+                    UUID serverUUID = UUID.fromString(set.getString(SERVER_UUID));
                     userInformation.add(new UserInfo(playerUUID, serverUUID, registered, op, banned));
                 }
                 return userInformation;
@@ -122,13 +132,13 @@ public class UserInfoQueries {
      */
     public static Query<Map<UUID, UserInfo>> fetchUserInformationOfServer(UUID serverUUID) {
         String sql = SELECT +
-                UserInfoTable.REGISTERED + ',' +
+                UserInfoTable.TABLE_NAME + '.' + UserInfoTable.REGISTERED + ',' +
                 UserInfoTable.BANNED + ',' +
                 UserInfoTable.OP + ',' +
-                UserInfoTable.USER_UUID + ',' +
-                UserInfoTable.SERVER_UUID +
+                SELECT_UUIDS +
                 FROM + UserInfoTable.TABLE_NAME +
-                WHERE + UserInfoTable.SERVER_UUID + "=?";
+                JOIN_UUIDS +
+                WHERE + UserInfoTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID;
         return new QueryStatement<Map<UUID, UserInfo>>(sql, 1000) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
@@ -139,8 +149,8 @@ public class UserInfoQueries {
             public Map<UUID, UserInfo> processResults(ResultSet set) throws SQLException {
                 Map<UUID, UserInfo> userInformation = new HashMap<>();
                 while (set.next()) {
-                    UUID serverUUID = UUID.fromString(set.getString(UserInfoTable.SERVER_UUID));
-                    UUID uuid = UUID.fromString(set.getString(UserInfoTable.USER_UUID));
+                    UUID serverUUID = UUID.fromString(set.getString(SERVER_UUID));
+                    UUID uuid = UUID.fromString(set.getString(USER_UUID));
 
                     long registered = set.getLong(UserInfoTable.REGISTERED);
                     boolean banned = set.getBoolean(UserInfoTable.BANNED);
@@ -155,12 +165,13 @@ public class UserInfoQueries {
 
     public static Query<Map<UUID, Long>> fetchRegisterDates(long after, long before, UUID serverUUID) {
         String sql = SELECT +
-                UserInfoTable.USER_UUID + ',' +
-                UserInfoTable.REGISTERED +
+                UsersTable.TABLE_NAME + '.' + UsersTable.USER_UUID + " as " + USER_UUID + ',' +
+                UserInfoTable.TABLE_NAME + '.' + UserInfoTable.REGISTERED +
                 FROM + UserInfoTable.TABLE_NAME +
-                WHERE + UserInfoTable.SERVER_UUID + "=?" +
-                AND + UserInfoTable.REGISTERED + ">=?" +
-                AND + UserInfoTable.REGISTERED + "<=?";
+                INNER_JOIN + UsersTable.TABLE_NAME + " on " + UsersTable.TABLE_NAME + '.' + UsersTable.ID + "=" + UserInfoTable.USER_ID +
+                WHERE + UserInfoTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
+                AND + UserInfoTable.TABLE_NAME + '.' + UserInfoTable.REGISTERED + ">=?" +
+                AND + UserInfoTable.TABLE_NAME + '.' + UserInfoTable.REGISTERED + "<=?";
 
         return new QueryStatement<Map<UUID, Long>>(sql, 1000) {
             @Override
@@ -175,7 +186,7 @@ public class UserInfoQueries {
                 Map<UUID, Long> registerDates = new HashMap<>();
                 while (set.next()) {
                     registerDates.put(
-                            UUID.fromString(set.getString(UserInfoTable.USER_UUID)),
+                            UUID.fromString(set.getString(USER_UUID)),
                             set.getLong(UserInfoTable.REGISTERED)
                     );
                 }
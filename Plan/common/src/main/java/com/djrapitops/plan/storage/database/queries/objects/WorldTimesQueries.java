@@ -20,7 +20,9 @@ import com.djrapitops.plan.gathering.domain.GMTimes;
 import com.djrapitops.plan.gathering.domain.WorldTimes;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 import com.djrapitops.plan.storage.database.sql.tables.WorldTable;
 import com.djrapitops.plan.storage.database.sql.tables.WorldTimesTable;
 
@@ -41,6 +43,7 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 public class WorldTimesQueries {
 
     private static final String WORLD_COLUMN = "world";
+    private static final String SERVER_UUID_COLUMN = "server_uuid";
     private static final String SELECT_WORLD_TIMES_JOIN_WORLD_NAME = WorldTable.TABLE_NAME + '.' + WorldTable.NAME + " as " + WORLD_COLUMN +
             FROM + WorldTimesTable.TABLE_NAME +
             INNER_JOIN + WorldTable.TABLE_NAME + " on " + WorldTable.TABLE_NAME + '.' + WorldTable.ID + "=" + WorldTimesTable.WORLD_ID;
@@ -63,7 +66,7 @@ public class WorldTimesQueries {
     public static Query<WorldTimes> fetchServerTotalWorldTimes(UUID serverUUID) {
         String sql = SELECT_WORLD_TIMES_STATEMENT_START +
                 SELECT_WORLD_TIMES_JOIN_WORLD_NAME +
-                WHERE + WorldTimesTable.TABLE_NAME + '.' + WorldTimesTable.SERVER_UUID + "=?" +
+                WHERE + WorldTimesTable.TABLE_NAME + '.' + WorldTimesTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
                 GROUP_BY + WORLD_COLUMN;
 
         return new QueryStatement<WorldTimes>(sql, 1000) {
@@ -98,7 +101,7 @@ public class WorldTimesQueries {
     public static Query<WorldTimes> fetchPlayerTotalWorldTimes(UUID playerUUID) {
         String sql = SELECT_WORLD_TIMES_STATEMENT_START +
                 SELECT_WORLD_TIMES_JOIN_WORLD_NAME +
-                WHERE + WorldTimesTable.USER_UUID + "=?" +
+                WHERE + WorldTimesTable.USER_ID + "=" + UsersTable.SELECT_USER_ID_STATEMENT +
                 GROUP_BY + WORLD_COLUMN;
 
         return new QueryStatement<WorldTimes>(sql) {
@@ -132,10 +135,11 @@ public class WorldTimesQueries {
      */
     public static Query<Map<UUID, WorldTimes>> fetchPlayerWorldTimesOnServers(UUID playerUUID) {
         String sql = SELECT_WORLD_TIMES_STATEMENT_START +
-                WorldTimesTable.TABLE_NAME + '.' + WorldTimesTable.SERVER_UUID + ',' +
+                ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + " as " + SERVER_UUID_COLUMN + ',' +
                 SELECT_WORLD_TIMES_JOIN_WORLD_NAME +
-                WHERE + WorldTimesTable.TABLE_NAME + '.' + WorldTimesTable.USER_UUID + "=?" +
-                GROUP_BY + WORLD_COLUMN + ',' + WorldTimesTable.TABLE_NAME + '.' + WorldTimesTable.SERVER_UUID;
+                INNER_JOIN + ServerTable.TABLE_NAME + " on " + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_ID + "=" + WorldTimesTable.TABLE_NAME + '.' + WorldTimesTable.SERVER_ID +
+                WHERE + WorldTimesTable.TABLE_NAME + '.' + WorldTimesTable.USER_ID + "=" + UsersTable.SELECT_USER_ID_STATEMENT +
+                GROUP_BY + WORLD_COLUMN + ',' + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID;
 
         return new QueryStatement<Map<UUID, WorldTimes>>(sql, 1000) {
             @Override
@@ -149,7 +153,7 @@ public class WorldTimesQueries {
 
                 Map<UUID, WorldTimes> worldTimesMap = new HashMap<>();
                 while (set.next()) {
-                    UUID serverUUID = UUID.fromString(set.getString(WorldTimesTable.SERVER_UUID));
+                    UUID serverUUID = UUID.fromString(set.getString(SERVER_UUID_COLUMN));
                     WorldTimes worldTimes = worldTimesMap.getOrDefault(serverUUID, new WorldTimes());
                     String worldName = set.getString(WORLD_COLUMN);
 
@@ -164,11 +168,11 @@ public class WorldTimesQueries {
     }
 
     private static GMTimes extractGMTimes(ResultSet set, String[] gms) throws SQLException {
-        Map<String, Long> gmMap = new HashMap<>();
+        GMTimes gmTimes = new GMTimes();
         for (String gameMode : gms) {
-            gmMap.put(gameMode, set.getLong(gameMode));
+            gmTimes.setTime(gameMode, set.getLong(gameMode));
         }
-        return new GMTimes(gmMap);
+        return gmTimes;
     }
 
     public static Query<GMTimes> fetchGMTimes(long after, long before, UUID serverUUID) {
@@ -179,7 +183,7 @@ public class WorldTimesQueries {
                 "SUM(" + WorldTimesTable.SPECTATOR + ") as SPECTATOR" +
                 FROM + WorldTimesTable.TABLE_NAME + " w1" +
                 INNER_JOIN + SessionsTable.TABLE_NAME + " s1 on s1." + SessionsTable.ID + '=' + WorldTimesTable.SESSION_ID +
-                WHERE + "w1." + WorldTimesTable.SERVER_UUID + "=?" +
+                WHERE + "w1." + WorldTimesTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
                 AND + SessionsTable.SESSION_START + ">=?" +
                 AND + SessionsTable.SESSION_END + "<=?";
 
@@ -38,7 +38,7 @@ public class SessionIDServerIDRelationQuery extends QueryAllStatement<Map<Intege
 
     public SessionIDServerIDRelationQuery() {
         super(SELECT + SessionsTable.ID + ',' +
-                "(SELECT plan_servers.id FROM plan_servers WHERE plan_servers.uuid=" + SessionsTable.SERVER_UUID + ") as server_id" +
+                SessionsTable.SERVER_ID +
                 FROM + SessionsTable.TABLE_NAME, 50000);
     }
 
@@ -46,7 +46,7 @@ public class SessionIDServerIDRelationQuery extends QueryAllStatement<Map<Intege
     public Map<Integer, Integer> processResults(ResultSet set) throws SQLException {
         Map<Integer, Integer> idServerIdMap = new HashMap<>();
         while (set.next()) {
-            idServerIdMap.put(set.getInt(SessionsTable.ID), set.getInt("server_id"));
+            idServerIdMap.put(set.getInt(SessionsTable.ID), set.getInt(SessionsTable.SERVER_ID));
         }
         return idServerIdMap;
     }
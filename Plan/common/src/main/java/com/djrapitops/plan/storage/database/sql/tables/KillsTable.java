@@ -22,8 +22,8 @@ import com.djrapitops.plan.gathering.domain.Session;
 import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
-import com.djrapitops.plan.storage.database.transactions.patches.KillsOptimizationPatch;
 import com.djrapitops.plan.storage.database.transactions.patches.KillsServerIDPatch;
+import com.djrapitops.plan.storage.database.transactions.patches.UserAndServerIDPatch;
 import com.djrapitops.plan.storage.database.transactions.patches.Version10Patch;
 import org.apache.commons.lang3.StringUtils;
 
@@ -37,7 +37,7 @@ import java.util.UUID;
  * Patches related to this table:
  * {@link Version10Patch}
  * {@link KillsServerIDPatch}
- * {@link KillsOptimizationPatch}
+ * {@link UserAndServerIDPatch}
  *
  * @author Rsl1122
  */
@@ -46,9 +46,9 @@ public class KillsTable {
     public static final String TABLE_NAME = "plan_kills";
 
     public static final String ID = "id";
-    public static final String KILLER_UUID = "killer_uuid";
-    public static final String VICTIM_UUID = "victim_uuid";
-    public static final String SERVER_UUID = "server_uuid";
+    public static final String KILLER_ID = "killer_id";
+    public static final String VICTIM_ID = "victim_id";
+    public static final String SERVER_ID = "server_id";
     public static final String SESSION_ID = "session_id";
     public static final String WEAPON = "weapon";
     public static final String DATE = "date";
@@ -57,12 +57,15 @@ public class KillsTable {
 
     public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " ("
             + SESSION_ID + ','
-            + KILLER_UUID + ','
-            + VICTIM_UUID + ','
-            + SERVER_UUID + ','
+            + KILLER_ID + ','
+            + VICTIM_ID + ','
+            + SERVER_ID + ','
             + DATE + ','
             + WEAPON
-            + ") VALUES (" + SessionsTable.SELECT_SESSION_ID_STATEMENT + ", ?, ?, ?, ?, ?)";
+            + ") VALUES (" + SessionsTable.SELECT_SESSION_ID_STATEMENT + ", " +
+            UsersTable.SELECT_USER_ID_STATEMENT + ", " +
+            UsersTable.SELECT_USER_ID_STATEMENT + ", " +
+            ServerTable.STATEMENT_SELECT_SERVER_ID + ", ?, ?)";
 
     private KillsTable() {
         /* Static information class */
@@ -71,13 +74,16 @@ public class KillsTable {
     public static String createTableSQL(DBType dbType) {
         return CreateTableBuilder.create(TABLE_NAME, dbType)
                 .column(ID, Sql.INT).primaryKey()
-                .column(KILLER_UUID, Sql.varchar(36)).notNull()
-                .column(VICTIM_UUID, Sql.varchar(36)).notNull()
-                .column(SERVER_UUID, Sql.varchar(36)).notNull()
+                .column(KILLER_ID, Sql.INT).notNull()
+                .column(VICTIM_ID, Sql.INT).notNull()
+                .column(SERVER_ID, Sql.INT).notNull()
                 .column(WEAPON, Sql.varchar(WEAPON_COLUMN_LENGTH)).notNull()
                 .column(DATE, Sql.LONG).notNull()
                 .column(SESSION_ID, Sql.INT).notNull()
                 .foreignKey(SESSION_ID, SessionsTable.TABLE_NAME, SessionsTable.ID)
+                .foreignKey(KILLER_ID, UsersTable.TABLE_NAME, UsersTable.ID)
+                .foreignKey(VICTIM_ID, UsersTable.TABLE_NAME, UsersTable.ID)
+                .foreignKey(SERVER_ID, ServerTable.TABLE_NAME, ServerTable.SERVER_ID)
                 .toString();
     }
 
@@ -0,0 +1,269 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.sql.tables;
+
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.transactions.patches.SessionRollupsPatch;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Table information about 'plan_session_rollups'.
+ * <p>
+ * Each row sums the sessions of a player on a server that started during a single UTC hour.
+ * Day and hour graphs are grouped from these rows instead of the sessions table.
+ * <p>
+ * A session is counted in the hour it started, even if it continues to the next hour or day, like in the sessions table queries.
+ * Queries select from {@link #rowsWithinWindows(int, String)} instead of this table, so that the partial hours at
+ * the ends of a window are read from the sessions table and values of the window are exact.
+ * Days and hours of time zones that are not offset by full hours do not start at the start of a row,
+ * so sessions are grouped one by one for them.
+ * <p>
+ * Patches related to this table:
+ * {@link SessionRollupsPatch}
+ *
+ * @author Rsl1122
+ */
+public class SessionRollupsTable {
+
+    public static final String TABLE_NAME = "plan_session_rollups";
+
+    public static final String ID = "id";
+    public static final String USER_ID = "user_id";
+    public static final String SERVER_ID = "server_id";
+    public static final String HOUR_START = "hour_start";
+    public static final String SESSION_COUNT = "session_count";
+    public static final String PLAYTIME = "playtime";
+    public static final String AFK_TIME = "afk_time";
+
+    // Column of rowsWithinWindows, 1 for rows of this table and 0 for sessions.
+    public static final String IS_ROLLUP = "is_rollup";
+
+    public static final long HOUR_MS = TimeUnit.HOURS.toMillis(1L);
+
+    public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " (" +
+            USER_ID + ',' +
+            SERVER_ID + ',' +
+            HOUR_START + ',' +
+            SESSION_COUNT + ',' +
+            PLAYTIME + ',' +
+            AFK_TIME +
+            ") VALUES (" +
+            UsersTable.SELECT_USER_ID_STATEMENT + ", " +
+            ServerTable.STATEMENT_SELECT_SERVER_ID + ", ?, ?, ?, ?)";
+
+    public static final String UPDATE_STATEMENT = "UPDATE " + TABLE_NAME + " SET " +
+            SESSION_COUNT + '=' + SESSION_COUNT + "+?," +
+            PLAYTIME + '=' + PLAYTIME + "+?," +
+            AFK_TIME + '=' + AFK_TIME + "+?" +
+            WHERE + USER_ID + '=' + UsersTable.SELECT_USER_ID_STATEMENT +
+            AND + SERVER_ID + '=' + ServerTable.STATEMENT_SELECT_SERVER_ID +
+            AND + HOUR_START + "=?";
+
+    private static final String HOUR_OF_SESSION_START = SessionsTable.SESSION_START + '-' + SessionsTable.SESSION_START + '%' + HOUR_MS;
+
+    /**
+     * Rebuilds rollup rows from every row in the sessions table, used when the rollup table is empty.
+     */
+    public static final String INSERT_FROM_SESSIONS_STATEMENT = "INSERT INTO " + TABLE_NAME + " (" +
+            USER_ID + ',' +
+            SERVER_ID + ',' +
+            HOUR_START + ',' +
+            SESSION_COUNT + ',' +
+            PLAYTIME + ',' +
+            AFK_TIME +
+            ") " + SELECT +
+            SessionsTable.USER_ID + ',' +
+            SessionsTable.SERVER_ID + ',' +
+            HOUR_OF_SESSION_START + ',' +
+            "COUNT(1)," +
+            "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + ")," +
+            "SUM(" + SessionsTable.AFK_TIME + ')' +
+            FROM + SessionsTable.TABLE_NAME +
+            GROUP_BY + SessionsTable.USER_ID + ',' + SessionsTable.SERVER_ID + ',' + HOUR_OF_SESSION_START;
+
+    private static final String SELECT_ROLLUPS = SELECT +
+            USER_ID + ',' +
+            SERVER_ID + ',' +
+            HOUR_START + ',' +
+            SESSION_COUNT + ',' +
+            PLAYTIME + ',' +
+            AFK_TIME + ',' +
+            "1 as " + IS_ROLLUP +
+            FROM + TABLE_NAME;
+
+    // Sessions as rows of this table, used for partial hours and when rows can not be grouped by the hours of a time zone.
+    private static final String SELECT_SESSIONS_AS_ROLLUPS = SELECT +
+            SessionsTable.USER_ID + " as " + USER_ID + ',' +
+            SessionsTable.SERVER_ID + " as " + SERVER_ID + ',' +
+            SessionsTable.SESSION_START + " as " + HOUR_START + ',' +
+            "1 as " + SESSION_COUNT + ',' +
+            SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + " as " + PLAYTIME + ',' +
+            SessionsTable.AFK_TIME + " as " + AFK_TIME + ',' +
+            "0 as " + IS_ROLLUP +
+            FROM + SessionsTable.TABLE_NAME;
+
+    private SessionRollupsTable() {
+        /* Static information class */
+    }
+
+    /**
+     * Round an epoch ms down to the start of its UTC hour.
+     *
+     * @param epochMs Epoch ms
+     * @return Epoch ms at the start of the hour.
+     */
+    public static long hourStart(long epochMs) {
+        return epochMs - Math.floorMod(epochMs, HOUR_MS);
+    }
+
+    /**
+     * Check if the days and hours of a time zone start at the start of UTC hours.
+     *
+     * @param timeZoneOffset Offset from {@link java.util.TimeZone#getOffset(long)}.
+     * @return false for time zones like +05:30, which can not be grouped from the rows of this table.
+     */
+    public static boolean isAlignedWithHours(long timeZoneOffset) {
+        return timeZoneOffset % HOUR_MS == 0;
+    }
+
+    /**
+     * Get the whole hours within a window, that can be read from this table.
+     *
+     * @param after          After epoch ms
+     * @param before         Before epoch ms
+     * @param timeZoneOffset Offset from {@link java.util.TimeZone#getOffset(long)} the rows are grouped by, 0 if not grouped.
+     * @return Start (inclusive) and end (exclusive) of the whole hours, both before + 1 if there are none.
+     */
+    public static long[] wholeHoursWithin(long after, long before, long timeZoneOffset) {
+        long afterBefore = before < Long.MAX_VALUE ? before + 1 : before;
+        long start = after == hourStart(after) ? after : hourStart(after) + HOUR_MS;
+        long end = hourStart(afterBefore);
+        if (start >= end || !isAlignedWithHours(timeZoneOffset)) {
+            return new long[]{afterBefore, afterBefore};
+        }
+        return new long[]{start, end};
+    }
+
+    /**
+     * Select the rows of sessions that started within windows, to use in place of this table.
+     * <p>
+     * Whole hours within the windows are rows of this table, sessions of the partial hours at the ends of the windows
+     * are rows of their own. Rows of a window are those with {@link #HOUR_START} within the window, and in case of
+     * multiple windows, only rows of this table within {@link #wholeHoursWithin(long, long, long)} and sessions outside them.
+     *
+     * @param windowCount Number of windows.
+     * @param condition   Condition that the rows should match, with at most one parameter, eg. {@code SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID}, or null.
+     * @return Table of rows with the columns of this table and {@link #IS_ROLLUP}, set the parameters with {@link #setWindowParameters(PreparedStatement, int, String, long, long[], long[])}.
+     */
+    public static String rowsWithinWindows(int windowCount, String condition) {
+        String matchesCondition = condition != null ? AND + condition : "";
+        StringBuilder partialHours = new StringBuilder();
+        for (int i = 0; i < windowCount; i++) {
+            if (i > 0) partialHours.append(OR);
+            partialHours.append('(').append(SessionsTable.SESSION_START).append(">=?").append(AND).append(SessionsTable.SESSION_START).append("<?)")
+                    .append(OR)
+                    .append('(').append(SessionsTable.SESSION_START).append(">=?").append(AND).append(SessionsTable.SESSION_START).append("<=?)");
+        }
+        return "(" + SELECT_ROLLUPS +
+                WHERE + HOUR_START + ">=?" +
+                AND + HOUR_START + "<?" + matchesCondition +
+                " UNION ALL " + SELECT_SESSIONS_AS_ROLLUPS +
+                WHERE + '(' + partialHours + ')' + matchesCondition +
+                ") " + TABLE_NAME;
+    }
+
+    /**
+     * Set the parameters of {@link #rowsWithinWindows(int, String)} for a single window.
+     *
+     * @param statement      Statement to set the parameters of.
+     * @param index          Index of the first parameter.
+     * @param conditionValue Value of the parameter of the condition, or null if the condition has no parameter.
+     * @param timeZoneOffset Offset from {@link java.util.TimeZone#getOffset(long)} the rows are grouped by, 0 if not grouped.
+     * @param after          After epoch ms
+     * @param before         Before epoch ms
+     * @return Index of the next parameter.
+     * @throws SQLException If the parameters can not be set.
+     */
+    public static int setWindowParameters(PreparedStatement statement, int index, String conditionValue, long timeZoneOffset, long after, long before) throws SQLException {
+        return setWindowParameters(statement, index, conditionValue, timeZoneOffset, new long[]{after}, new long[]{before});
+    }
+
+    /**
+     * Set the parameters of {@link #rowsWithinWindows(int, String)}.
+     *
+     * @param statement      Statement to set the parameters of.
+     * @param index          Index of the first parameter.
+     * @param conditionValue Value of the parameter of the condition, or null if the condition has no parameter.
+     * @param timeZoneOffset Offset from {@link java.util.TimeZone#getOffset(long)} the rows are grouped by, 0 if not grouped.
+     * @param afters         After epoch ms of each window.
+     * @param befores        Before epoch ms of each window.
+     * @return Index of the next parameter.
+     * @throws SQLException If the parameters can not be set.
+     */
+    public static int setWindowParameters(
+            PreparedStatement statement, int index, String conditionValue, long timeZoneOffset, long[] afters, long[] befores
+    ) throws SQLException {
+        long wholeHoursStart = Long.MAX_VALUE;
+        long wholeHoursEnd = Long.MIN_VALUE;
+        long[][] wholeHours = new long[afters.length][];
+        for (int i = 0; i < afters.length; i++) {
+            wholeHours[i] = wholeHoursWithin(afters[i], befores[i], timeZoneOffset);
+            if (wholeHours[i][0] < wholeHours[i][1]) {
+                wholeHoursStart = Math.min(wholeHoursStart, wholeHours[i][0]);
+                wholeHoursEnd = Math.max(wholeHoursEnd, wholeHours[i][1]);
+            }
+        }
+        if (wholeHoursStart > wholeHoursEnd) {
+            // No whole hours, no rows of this table.
+            wholeHoursStart = 0L;
+            wholeHoursEnd = 0L;
+        }
+
+        statement.setLong(index++, wholeHoursStart);
+        statement.setLong(index++, wholeHoursEnd);
+        if (conditionValue != null) statement.setString(index++, conditionValue);
+        for (int i = 0; i < afters.length; i++) {
+            statement.setLong(index++, afters[i]);
+            statement.setLong(index++, wholeHours[i][0]);
+            statement.setLong(index++, wholeHours[i][1]);
+            statement.setLong(index++, befores[i]);
+        }
+        if (conditionValue != null) statement.setString(index++, conditionValue);
+        return index;
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableBuilder.create(TABLE_NAME, dbType)
+                .column(ID, Sql.INT).primaryKey()
+                .column(USER_ID, Sql.INT).notNull()
+                .column(SERVER_ID, Sql.INT).notNull()
+                .column(HOUR_START, Sql.LONG).notNull()
+                .column(SESSION_COUNT, Sql.INT).notNull()
+                .column(PLAYTIME, Sql.LONG).notNull()
+                .column(AFK_TIME, Sql.LONG).notNull()
+                .foreignKey(USER_ID, UsersTable.TABLE_NAME, UsersTable.ID)
+                .foreignKey(SERVER_ID, ServerTable.TABLE_NAME, ServerTable.SERVER_ID)
+                .toString();
+    }
+}
@@ -20,7 +20,7 @@ import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
 import com.djrapitops.plan.storage.database.transactions.patches.SessionAFKTimePatch;
-import com.djrapitops.plan.storage.database.transactions.patches.SessionsOptimizationPatch;
+import com.djrapitops.plan.storage.database.transactions.patches.UserAndServerIDPatch;
 import com.djrapitops.plan.storage.database.transactions.patches.Version10Patch;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
@@ -31,7 +31,7 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  * Patches related to this table:
  * {@link Version10Patch}
  * {@link SessionAFKTimePatch}
- * {@link SessionsOptimizationPatch}
+ * {@link UserAndServerIDPatch}
  *
  * @author Rsl1122
  */
@@ -40,8 +40,8 @@ public class SessionsTable {
     public static final String TABLE_NAME = "plan_sessions";
 
     public static final String ID = "id";
-    public static final String USER_UUID = "uuid";
-    public static final String SERVER_UUID = "server_uuid";
+    public static final String USER_ID = "user_id";
+    public static final String SERVER_ID = "server_id";
     public static final String SESSION_START = "session_start";
     public static final String SESSION_END = "session_end";
     public static final String MOB_KILLS = "mob_kills";
@@ -49,18 +49,18 @@ public class SessionsTable {
     public static final String AFK_TIME = "afk_time";
 
     public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " ("
-            + USER_UUID + ','
+            + USER_ID + ','
             + SESSION_START + ','
             + SESSION_END + ','
             + DEATHS + ','
             + MOB_KILLS + ','
             + AFK_TIME + ','
-            + SERVER_UUID
-            + ") VALUES (?, ?, ?, ?, ?, ?, ?)";
+            + SERVER_ID
+            + ") VALUES (" + UsersTable.SELECT_USER_ID_STATEMENT + ", ?, ?, ?, ?, ?, " + ServerTable.STATEMENT_SELECT_SERVER_ID + ")";
 
     public static final String SELECT_SESSION_ID_STATEMENT = "(SELECT " + TABLE_NAME + '.' + ID + FROM + TABLE_NAME +
-            WHERE + TABLE_NAME + '.' + USER_UUID + "=?" +
-            AND + TABLE_NAME + '.' + SERVER_UUID + "=?" +
+            WHERE + TABLE_NAME + '.' + USER_ID + "=" + UsersTable.SELECT_USER_ID_STATEMENT +
+            AND + TABLE_NAME + '.' + SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
             AND + SESSION_START + "=?" +
             AND + SESSION_END + "=? LIMIT 1)";
 
@@ -71,13 +71,15 @@ public class SessionsTable {
     public static String createTableSQL(DBType dbType) {
         return CreateTableBuilder.create(TABLE_NAME, dbType)
                 .column(ID, Sql.INT).primaryKey()
-                .column(USER_UUID, Sql.varchar(36)).notNull()
-                .column(SERVER_UUID, Sql.varchar(36)).notNull()
+                .column(USER_ID, Sql.INT).notNull()
+                .column(SERVER_ID, Sql.INT).notNull()
                 .column(SESSION_START, Sql.LONG).notNull()
                 .column(SESSION_END, Sql.LONG).notNull()
                 .column(MOB_KILLS, Sql.INT).notNull()
                 .column(DEATHS, Sql.INT).notNull()
                 .column(AFK_TIME, Sql.LONG).notNull()
+                .foreignKey(USER_ID, UsersTable.TABLE_NAME, UsersTable.ID)
+                .foreignKey(SERVER_ID, ServerTable.TABLE_NAME, ServerTable.SERVER_ID)
                 .toString();
     }
 }
\ No newline at end of file
@@ -0,0 +1,175 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.sql.tables;
+
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Table information about 'plan_tps_aggregates'.
+ * <p>
+ * Holds min, average and max of {@link TPSTable} samples compacted into hourly and daily rows,
+ * so that performance history can be kept after the minute samples are removed.
+ * The {@link #RESOLUTION} column tells the length of the period a row covers.
+ *
+ * @author Rsl1122
+ */
+public class TPSAggregateTable {
+
+    public static final String TABLE_NAME = "plan_tps_aggregates";
+
+    public static final long HOUR = TimeUnit.HOURS.toMillis(1L);
+    public static final long DAY = TimeUnit.DAYS.toMillis(1L);
+
+    public static final String SERVER_ID = "server_id";
+    public static final String RESOLUTION = "resolution";
+    public static final String DATE = "date";
+    public static final String TPS = TPSTable.TPS;
+    public static final String PLAYERS_ONLINE = TPSTable.PLAYERS_ONLINE;
+    public static final String CPU_USAGE = TPSTable.CPU_USAGE;
+    public static final String RAM_USAGE = TPSTable.RAM_USAGE;
+    public static final String ENTITIES = TPSTable.ENTITIES;
+    public static final String CHUNKS = TPSTable.CHUNKS;
+    public static final String FREE_DISK = TPSTable.FREE_DISK;
+
+    public static final String MIN = "_min";
+    public static final String AVG = "_avg";
+    public static final String MAX = "_max";
+
+    private static final String[] VALUE_COLUMNS = {TPS, PLAYERS_ONLINE, CPU_USAGE, RAM_USAGE, ENTITIES, CHUNKS, FREE_DISK};
+
+    // Three columns for each value: min, average and max.
+    public static final int AGGREGATE_COLUMN_COUNT = VALUE_COLUMNS.length * 3;
+
+    private static final String INSERT_INTO = "INSERT INTO " + TABLE_NAME + " (" +
+            SERVER_ID + ',' + RESOLUTION + ',' + DATE + ',' + aggregateColumns() + ") ";
+
+    /**
+     * Parameters: server UUID, resolution, date and the aggregate columns in the order of {@link #aggregateColumns()}.
+     */
+    public static final String INSERT_STATEMENT = INSERT_INTO + "VALUES (" +
+            ServerTable.STATEMENT_SELECT_SERVER_ID + ",?,?" + StringUtils.repeat(",?", AGGREGATE_COLUMN_COUNT) + ')';
+
+    /**
+     * Compacts minute samples of a server into hourly rows.
+     * <p>
+     * Parameters: server UUID, start of first hour, end of last hour (exclusive).
+     */
+    public static final String INSERT_HOURS_FROM_SAMPLES_STATEMENT = INSERT_INTO +
+            SELECT + TPSTable.SERVER_ID + ',' + HOUR + ',' + periodStart(TPSTable.DATE, HOUR) + ',' + aggregatesOfSamples() +
+            FROM + TPSTable.TABLE_NAME +
+            WHERE + TPSTable.SERVER_ID + '=' + ServerTable.STATEMENT_SELECT_SERVER_ID +
+            AND + TPSTable.DATE + ">=?" +
+            AND + TPSTable.DATE + "<?" +
+            GROUP_BY + TPSTable.SERVER_ID + ',' + periodStart(TPSTable.DATE, HOUR);
+
+    /**
+     * Compacts hourly rows of a server into daily rows.
+     * <p>
+     * Parameters: server UUID, start of first day, end of last day (exclusive).
+     */
+    public static final String INSERT_DAYS_FROM_HOURS_STATEMENT = INSERT_INTO +
+            SELECT + SERVER_ID + ',' + DAY + ',' + periodStart(DATE, DAY) + ',' + aggregatesOfAggregates() +
+            FROM + TABLE_NAME +
+            WHERE + SERVER_ID + '=' + ServerTable.STATEMENT_SELECT_SERVER_ID +
+            AND + RESOLUTION + '=' + HOUR +
+            AND + DATE + ">=?" +
+            AND + DATE + "<?" +
+            GROUP_BY + SERVER_ID + ',' + periodStart(DATE, DAY);
+
+    private TPSAggregateTable() {
+        /* Static information class */
+    }
+
+    private static String periodStart(String dateColumn, long period) {
+        return '(' + dateColumn + '-' + dateColumn + '%' + period + ')';
+    }
+
+    /**
+     * Get the min, average and max columns of every value.
+     *
+     * @return Column names separated by commas.
+     */
+    public static String aggregateColumns() {
+        StringBuilder columns = new StringBuilder();
+        for (String column : VALUE_COLUMNS) {
+            if (columns.length() > 0) columns.append(',');
+            columns.append(column).append(MIN).append(',')
+                    .append(column).append(AVG).append(',')
+                    .append(column).append(MAX);
+        }
+        return columns.toString();
+    }
+
+    private static String aggregatesOfSamples() {
+        StringBuilder select = new StringBuilder();
+        for (String column : VALUE_COLUMNS) {
+            if (select.length() > 0) select.append(',');
+            select.append("MIN(").append(column).append("),")
+                    .append("AVG(").append(column).append("),")
+                    .append("MAX(").append(column).append(')');
+        }
+        return select.toString();
+    }
+
+    private static String aggregatesOfAggregates() {
+        StringBuilder select = new StringBuilder();
+        for (String column : VALUE_COLUMNS) {
+            if (select.length() > 0) select.append(',');
+            select.append("MIN(").append(column).append(MIN).append("),")
+                    .append("AVG(").append(column).append(AVG).append("),")
+                    .append("MAX(").append(column).append(MAX).append(')');
+        }
+        return select.toString();
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableBuilder.create(TABLE_NAME, dbType)
+                .column(SERVER_ID, Sql.INT).notNull()
+                .column(RESOLUTION, Sql.LONG).notNull()
+                .column(DATE, Sql.LONG).notNull()
+                .column(TPS + MIN, Sql.DOUBLE).notNull()
+                .column(TPS + AVG, Sql.DOUBLE).notNull()
+                .column(TPS + MAX, Sql.DOUBLE).notNull()
+                .column(PLAYERS_ONLINE + MIN, Sql.INT).notNull()
+                .column(PLAYERS_ONLINE + AVG, Sql.DOUBLE).notNull()
+                .column(PLAYERS_ONLINE + MAX, Sql.INT).notNull()
+                .column(CPU_USAGE + MIN, Sql.DOUBLE).notNull()
+                .column(CPU_USAGE + AVG, Sql.DOUBLE).notNull()
+                .column(CPU_USAGE + MAX, Sql.DOUBLE).notNull()
+                .column(RAM_USAGE + MIN, Sql.LONG).notNull()
+                .column(RAM_USAGE + AVG, Sql.DOUBLE).notNull()
+                .column(RAM_USAGE + MAX, Sql.LONG).notNull()
+                .column(ENTITIES + MIN, Sql.INT).notNull()
+                .column(ENTITIES + AVG, Sql.DOUBLE).notNull()
+                .column(ENTITIES + MAX, Sql.INT).notNull()
+                .column(CHUNKS + MIN, Sql.INT).notNull()
+                .column(CHUNKS + AVG, Sql.DOUBLE).notNull()
+                .column(CHUNKS + MAX, Sql.INT).notNull()
+                .column(FREE_DISK + MIN, Sql.LONG).notNull()
+                .column(FREE_DISK + AVG, Sql.DOUBLE).notNull()
+                .column(FREE_DISK + MAX, Sql.LONG).notNull()
+                .foreignKey(SERVER_ID, ServerTable.TABLE_NAME, ServerTable.SERVER_ID)
+                .toString();
+    }
+}
@@ -19,7 +19,7 @@ package com.djrapitops.plan.storage.database.sql.tables;
 import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
-import com.djrapitops.plan.storage.database.transactions.patches.UserInfoOptimizationPatch;
+import com.djrapitops.plan.storage.database.transactions.patches.UserAndServerIDPatch;
 import com.djrapitops.plan.storage.database.transactions.patches.Version10Patch;
 
 /**
@@ -27,7 +27,7 @@ import com.djrapitops.plan.storage.database.transactions.patches.Version10Patch;
  * <p>
  * Patches related to this table:
  * {@link Version10Patch}
- * {@link UserInfoOptimizationPatch}
+ * {@link UserAndServerIDPatch}
  * {@link com.djrapitops.plan.storage.database.transactions.patches.RegisterDateMinimizationPatch}
  *
  * @author Rsl1122
@@ -37,19 +37,21 @@ public class UserInfoTable {
     public static final String TABLE_NAME = "plan_user_info";
 
     public static final String ID = "id";
-    public static final String USER_UUID = "uuid";
-    public static final String SERVER_UUID = "server_uuid";
+    public static final String USER_ID = "user_id";
+    public static final String SERVER_ID = "server_id";
     public static final String REGISTERED = "registered";
     public static final String OP = "opped";
     public static final String BANNED = "banned";
 
     public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " (" +
-            USER_UUID + ',' +
+            USER_ID + ',' +
             REGISTERED + ',' +
-            SERVER_UUID + ',' +
+            SERVER_ID + ',' +
             BANNED + ',' +
             OP +
-            ") VALUES (?, ?, ?, ?, ?)";
+            ") VALUES (" +
+            UsersTable.SELECT_USER_ID_STATEMENT + ", ?, " +
+            ServerTable.STATEMENT_SELECT_SERVER_ID + ", ?, ?)";
 
     private UserInfoTable() {
         /* Static information class */
@@ -58,11 +60,13 @@ public class UserInfoTable {
     public static String createTableSQL(DBType dbType) {
         return CreateTableBuilder.create(TABLE_NAME, dbType)
                 .column(ID, Sql.INT).primaryKey()
-                .column(USER_UUID, Sql.varchar(36)).notNull()
-                .column(SERVER_UUID, Sql.varchar(36)).notNull()
+                .column(USER_ID, Sql.INT).notNull()
+                .column(SERVER_ID, Sql.INT).notNull()
                 .column(REGISTERED, Sql.LONG).notNull()
                 .column(OP, Sql.BOOL).notNull().defaultValue(false)
                 .column(BANNED, Sql.BOOL).notNull().defaultValue(false)
+                .foreignKey(USER_ID, UsersTable.TABLE_NAME, UsersTable.ID)
+                .foreignKey(SERVER_ID, ServerTable.TABLE_NAME, ServerTable.SERVER_ID)
                 .toString();
     }
 }
@@ -54,6 +54,7 @@ public class BackupCopyTransaction extends RemoveEverythingTransaction {
         copyCommonUserInformation();
         copyWorldNames();
         copyTPSData();
+        copyTPSAggregates();
         copyPlanWebUsers();
         copyGeoInformation();
         copyNicknameData();
@@ -91,6 +92,10 @@ public class BackupCopyTransaction extends RemoveEverythingTransaction {
         copy(LargeStoreQueries::storeAllTPSData, LargeFetchQueries.fetchAllTPSData());
     }
 
+    private void copyTPSAggregates() {
+        copy(LargeStoreQueries::storeAllTPSAggregates, LargeFetchQueries.fetchAllTPSAggregates());
+    }
+
     private void copyPerServerUserInformation() {
         copy(LargeStoreQueries::storePerServerUserInformation, UserInfoQueries.fetchAllUserInformation());
     }
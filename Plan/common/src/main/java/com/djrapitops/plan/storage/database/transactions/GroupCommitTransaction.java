@@ -0,0 +1,91 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions;
+
+import java.util.*;
+
+/**
+ * Transaction that executes multiple group committable transactions with a single commit.
+ * <p>
+ * The transactions are executed in the order they were added.
+ * If one of them fails its changes are rolled back and the rest are still committed,
+ * the failure can be obtained with {@link #getFailure(Transaction)}.
+ * If the database does not support rolling back a single transaction, the whole group fails.
+ *
+ * @author Rsl1122
+ * @see Transaction#isGroupCommittable()
+ */
+public class GroupCommitTransaction extends Transaction {
+
+    private final List<Transaction> transactions;
+    private final Map<Transaction, RuntimeException> failures;
+
+    public GroupCommitTransaction() {
+        transactions = new ArrayList<>();
+        failures = new HashMap<>();
+    }
+
+    public void add(Transaction transaction) {
+        transactions.add(transaction);
+    }
+
+    public List<Transaction> getTransactions() {
+        return Collections.unmodifiableList(transactions);
+    }
+
+    public int size() {
+        return transactions.size();
+    }
+
+    @Override
+    protected boolean shouldBeExecuted() {
+        return !transactions.isEmpty();
+    }
+
+    @Override
+    protected void performOperations() {
+        // Transaction may be attempted again after a deadlock.
+        failures.clear();
+        for (Transaction transaction : transactions) {
+            try {
+                executeOtherIsolated(transaction);
+            } catch (RuntimeException failure) {
+                if (!supportsIsolation()) throw failure;
+                failures.put(transaction, failure);
+            }
+        }
+    }
+
+    /**
+     * Mark the transactions that did not fail as executed after the group has been committed.
+     */
+    public void markCommitted() {
+        if (!wasSuccessful()) return;
+        for (Transaction transaction : transactions) {
+            if (!failures.containsKey(transaction)) transaction.success = true;
+        }
+    }
+
+    public Optional<RuntimeException> getFailure(Transaction transaction) {
+        return Optional.ofNullable(failures.get(transaction));
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " of " + transactions.size() + (success ? " (finished)" : "");
+    }
+}
@@ -16,18 +16,23 @@
  */
 package com.djrapitops.plan.storage.database.transactions;
 
+import com.djrapitops.plan.delivery.webserver.cache.DataDomain;
+import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
+import com.djrapitops.plan.delivery.webserver.stream.LiveEvent;
+import com.djrapitops.plan.delivery.webserver.stream.LiveEventStream;
 import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.SQLDB;
 import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plugin.api.TimeAmount;
 import com.djrapitops.plugin.task.AbsRunnable;
 import com.djrapitops.plugin.utilities.Verify;
 
 import java.sql.*;
-import java.util.UUID;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -52,9 +57,19 @@ public abstract class Transaction {
     protected boolean success;
     protected int attempts;
 
+    // Data that was changed by the transaction, null server UUID means data of all servers.
+    private final Map<DataDomain, Set<UUID>> changedData;
+    // Events sent to open web pages after commit.
+    private final List<LiveEvent> liveEvents;
+    // Actions run after commit, for updating in-memory state that should not outlive a rollback.
+    private final List<Runnable> afterCommitActions;
+
     protected Transaction() {
         success = false;
         attempts = 0;
+        changedData = new EnumMap<>(DataDomain.class);
+        liveEvents = new ArrayList<>();
+        afterCommitActions = new ArrayList<>();
     }
 
     public void executeTransaction(SQLDB db) {
@@ -80,21 +95,53 @@ public abstract class Transaction {
             }
         }
 
+        boolean wasExecutingTransaction = db.setExecutingTransaction(true);
         try {
             initializeTransaction(db);
+            changedData.clear();
+            liveEvents.clear();
+            afterCommitActions.clear();
             performOperations();
             if (connection != null) connection.commit();
             success = true;
+            publishChangedData();
         } catch (SQLException statementFail) {
             manageFailure(statementFail); // Throws a DBOpException.
+        } catch (RuntimeException failure) {
+            // Nothing of a failed transaction may remain on the connection, it could be committed by someone else.
+            rollbackTransaction();
+            throw failure;
         } finally {
             db.returnToPool(connection);
+            connection = null;
+            db.setExecutingTransaction(wasExecutingTransaction);
         }
     }
 
+    private void publishChangedData() {
+        for (Map.Entry<DataDomain, Set<UUID>> changed : changedData.entrySet()) {
+            DataDomain domain = changed.getKey();
+            for (UUID serverUUID : changed.getValue()) {
+                if (serverUUID != null) {
+                    JSONCache.invalidate(domain, serverUUID);
+                } else {
+                    JSONCache.invalidate(domain);
+                }
+            }
+        }
+        changedData.clear();
+        liveEvents.forEach(LiveEventStream::publish);
+        liveEvents.clear();
+        afterCommitActions.forEach(Runnable::run);
+        afterCommitActions.clear();
+    }
+
     private void manageFailure(SQLException statementFail) {
         String failMsg = getClass().getSimpleName() + " failed: " + statementFail.getMessage();
         String rollbackStatusMsg = rollbackTransaction();
+        // Another attempt uses a new connection.
+        db.returnToPool(connection);
+        connection = null;
 
         // Retry if deadlock occurs.
         int errorCode = statementFail.getErrorCode();
@@ -132,19 +179,17 @@ public abstract class Transaction {
     }
 
     private String rollbackTransaction() {
+        if (connection == null) return "";
         String rollbackStatusMsg = ", Transaction was rolled back.";
-        boolean hasNoSavepoints = !SUPPORTS_SAVE_POINTS.get();
-        if (hasNoSavepoints) {
-            rollbackStatusMsg = ", additionally rollbacks are not supported on this server version.";
-        } else {
-            // Rollbacks are supported.
-            try {
-                if (Verify.notNull(connection, savepoint)) {
-                    connection.rollback(savepoint);
-                }
-            } catch (SQLException rollbackFail) {
-                rollbackStatusMsg = ", additionally Transaction rollback failed: " + rollbackFail.getMessage();
+        try {
+            if (SUPPORTS_SAVE_POINTS.get() && savepoint != null) {
+                connection.rollback(savepoint);
+            } else {
+                // Without savepoints the whole connection is rolled back, no other transaction uses it at the same time.
+                connection.rollback();
             }
+        } catch (SQLException rollbackFail) {
+            rollbackStatusMsg = ", additionally Transaction rollback failed: " + rollbackFail.getMessage();
         }
         return rollbackStatusMsg;
     }
@@ -161,6 +206,45 @@ public abstract class Transaction {
         return true;
     }
 
+    /**
+     * Override this method to allow committing the transaction together with other transactions.
+     * <p>
+     * Group committed transactions are executed in the order they were submitted inside a single
+     * database transaction, see {@link GroupCommitTransaction}.
+     * Only transactions that perform a few small writes and do not rely on their own commit should be grouped.
+     *
+     * @return true if the transaction can be committed as a part of a group.
+     */
+    public boolean isGroupCommittable() {
+        return false;
+    }
+
+    /**
+     * Override this method to allow executing the transaction in parallel with transactions of other keys.
+     * <p>
+     * Transactions with the same key are executed in the order they were submitted.
+     * Transactions without a key are executed in the order they were submitted, but not necessarily in order with keyed transactions.
+     *
+     * @return UUID of the player or server the stored data belongs to, or null by default.
+     */
+    public UUID getPartitionKey() {
+        return null;
+    }
+
+    /**
+     * Override this method if the transaction refers to data stored by transactions of other partition keys.
+     * <p>
+     * The transaction is executed after the transactions of these keys that were submitted before it,
+     * for example a session is stored after the world names of its server.
+     * Transactions of its own key submitted after it wait for it, so the submission order of the key is kept.
+     *
+     * @return UUIDs of the players or servers the stored data refers to, empty by default.
+     * @see #getPartitionKey()
+     */
+    public Collection<UUID> getDependencyKeys() {
+        return Collections.emptyList();
+    }
+
     /**
      * Implement this method for transaction execution.
      */
@@ -194,10 +278,92 @@ public abstract class Transaction {
         }
     }
 
+    /**
+     * Mark data of a server as changed by this transaction.
+     * <p>
+     * Cached data that depends on it is invalidated after the transaction has been committed.
+     *
+     * @param domain     Kind of data that changed.
+     * @param serverUUID UUID of the server the data belongs to.
+     */
+    protected void dataChanged(DataDomain domain, UUID serverUUID) {
+        changedData.computeIfAbsent(domain, key -> new HashSet<>()).add(serverUUID);
+    }
+
+    /**
+     * Mark data of all servers as changed by this transaction.
+     *
+     * @param domain Kind of data that changed.
+     */
+    protected void dataChanged(DataDomain domain) {
+        dataChanged(domain, null);
+    }
+
+    /**
+     * Send an event to open web pages after the transaction has been committed.
+     *
+     * @param event Event to send.
+     */
+    protected void liveEvent(LiveEvent event) {
+        liveEvents.add(event);
+    }
+
+    /**
+     * Run an action after the transaction has been committed.
+     * <p>
+     * The action is not run if the transaction is rolled back.
+     *
+     * @param action Action to run, for example updating an in-memory cache of database IDs.
+     */
+    protected void afterCommit(Runnable action) {
+        afterCommitActions.add(action);
+    }
+
+    private void mergeChangedData(Transaction transaction) {
+        for (Map.Entry<DataDomain, Set<UUID>> changed : transaction.changedData.entrySet()) {
+            changedData.computeIfAbsent(changed.getKey(), key -> new HashSet<>()).addAll(changed.getValue());
+        }
+        transaction.changedData.clear();
+        liveEvents.addAll(transaction.liveEvents);
+        transaction.liveEvents.clear();
+        afterCommitActions.addAll(transaction.afterCommitActions);
+        transaction.afterCommitActions.clear();
+    }
+
+    /**
+     * Execute a query.
+     * <p>
+     * Query statements are executed with the connection of this transaction when it is open,
+     * so that they see the uncommitted changes of this transaction and the transactions grouped with it.
+     *
+     * @param query Query to execute.
+     * @param <T>   Type of the result.
+     * @return Result of the query.
+     */
     protected <T> T query(Query<T> query) {
+        if (connection != null && query instanceof QueryStatement) {
+            return queryWithinTransaction((QueryStatement<T>) query);
+        }
         return query.executeQuery(db);
     }
 
+    /**
+     * Execute a query with the connection of this transaction.
+     * <p>
+     * Unlike {@link #query(Query)}, the query can see the uncommitted changes of this transaction.
+     *
+     * @param query Query to execute.
+     * @param <T>   Type of the result.
+     * @return Result of the query.
+     */
+    protected <T> T queryWithinTransaction(QueryStatement<T> query) {
+        try (PreparedStatement statement = connection.prepareStatement(query.getSql())) {
+            return query.executeQuery(statement);
+        } catch (SQLException e) {
+            throw DBOpException.forCause(query.getSql(), e);
+        }
+    }
+
     protected boolean execute(Executable executable) {
         return executable.execute(connection);
     }
@@ -226,12 +392,95 @@ public abstract class Transaction {
         transaction.db = db;
         transaction.dbType = dbType;
         transaction.connection = this.connection;
+        transaction.changedData.clear();
+        transaction.liveEvents.clear();
+        transaction.afterCommitActions.clear();
         transaction.performOperations();
+        mergeChangedData(transaction);
         transaction.connection = null;
         transaction.dbType = null;
         transaction.db = null;
     }
 
+    /**
+     * Execute another transaction as a part of this one, so that a failure only undoes its own changes.
+     * <p>
+     * Unlike {@link #executeOther(Transaction)}, the condition of the other transaction is checked.
+     * If the database does not support savepoints the changes can not be undone separately,
+     * see {@link #supportsIsolation()}.
+     *
+     * @param transaction Transaction to execute.
+     * @return false if the transaction was not executed because of its condition.
+     * @throws DBOpException If the transaction failed.
+     */
+    protected boolean executeOtherIsolated(Transaction transaction) {
+        transaction.db = db;
+        transaction.dbType = dbType;
+        // Condition is checked with the connection of this transaction to see changes of earlier grouped transactions.
+        transaction.connection = this.connection;
+        try {
+            if (!transaction.shouldBeExecuted()) {
+                return false;
+            }
+            Savepoint isolation = createIsolationSavePoint();
+            transaction.changedData.clear();
+            transaction.liveEvents.clear();
+            transaction.afterCommitActions.clear();
+            try {
+                transaction.performOperations();
+            } catch (RuntimeException failure) {
+                rollbackIsolated(isolation, failure);
+                throw failure;
+            }
+            releaseIsolationSavePoint(isolation);
+            mergeChangedData(transaction);
+            return true;
+        } finally {
+            transaction.connection = null;
+            transaction.dbType = null;
+            transaction.db = null;
+        }
+    }
+
+    private Savepoint createIsolationSavePoint() {
+        if (!SUPPORTS_SAVE_POINTS.get()) return null;
+        try {
+            return connection.setSavepoint();
+        } catch (SQLException noSavePoints) {
+            SUPPORTS_SAVE_POINTS.set(false);
+            return null;
+        }
+    }
+
+    private void rollbackIsolated(Savepoint isolation, RuntimeException failure) {
+        if (isolation == null) return;
+        try {
+            connection.rollback(isolation);
+        } catch (SQLException rollbackFail) {
+            // Changes of the failed transaction remain, so the whole transaction has to be rolled back.
+            SUPPORTS_SAVE_POINTS.set(false);
+            failure.addSuppressed(rollbackFail);
+        }
+    }
+
+    private void releaseIsolationSavePoint(Savepoint isolation) {
+        if (isolation == null) return;
+        try {
+            connection.releaseSavepoint(isolation);
+        } catch (SQLException ignored) {
+            // Savepoint is released on commit in any case.
+        }
+    }
+
+    /**
+     * Check if failures of transactions executed with {@link #executeOtherIsolated(Transaction)} can be undone separately.
+     *
+     * @return false if savepoints are not available on this database.
+     */
+    protected static boolean supportsIsolation() {
+        return SUPPORTS_SAVE_POINTS.get();
+    }
+
     protected Database.State getDBState() {
         return db.getState();
     }
@@ -49,13 +49,15 @@ public class RemovePlayerTransaction extends ThrowawayTransaction {
     protected void performOperations() {
         query(PlayerFetchQueries.playerUserName(playerUUID)).ifPresent(this::deleteWebUser);
 
-        deleteFromTable(GeoInfoTable.TABLE_NAME);
+        deleteFromUserIDTable(GeoInfoTable.TABLE_NAME, GeoInfoTable.USER_ID);
         deleteFromTable(NicknamesTable.TABLE_NAME);
         deleteFromKillsTable();
-        deleteFromTable(WorldTimesTable.TABLE_NAME);
-        deleteFromTable(SessionsTable.TABLE_NAME);
-        deleteFromTable(PingTable.TABLE_NAME);
-        deleteFromTable(UserInfoTable.TABLE_NAME);
+        deleteFromUserIDTable(WorldTimesTable.TABLE_NAME, WorldTimesTable.USER_ID);
+        deleteFromUserIDTable(SessionRollupsTable.TABLE_NAME, SessionRollupsTable.USER_ID);
+        deleteFromUserIDTable(SessionsTable.TABLE_NAME, SessionsTable.USER_ID);
+        deleteFromUserIDTable(PingTable.TABLE_NAME, PingTable.USER_ID);
+        deleteFromUserIDTable(UserInfoTable.TABLE_NAME, UserInfoTable.USER_ID);
+        // plan_users is removed last, other tables reference it.
         deleteFromTable(UsersTable.TABLE_NAME);
 
         deleteFromTable(ExtensionPlayerTableValueTable.TABLE_NAME);
@@ -76,10 +78,19 @@ public class RemovePlayerTransaction extends ThrowawayTransaction {
         });
     }
 
+    private void deleteFromUserIDTable(String tableName, String userIDColumn) {
+        execute(new ExecStatement(DELETE_FROM + tableName + WHERE + userIDColumn + "=" + UsersTable.SELECT_USER_ID_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, playerUUID.toString());
+            }
+        });
+    }
+
     private void deleteFromKillsTable() {
         String sql = DELETE_FROM + KillsTable.TABLE_NAME +
-                WHERE + KillsTable.KILLER_UUID + "=?" +
-                OR + KillsTable.VICTIM_UUID + "=?";
+                WHERE + KillsTable.KILLER_ID + "=" + UsersTable.SELECT_USER_ID_STATEMENT +
+                OR + KillsTable.VICTIM_ID + "=" + UsersTable.SELECT_USER_ID_STATEMENT;
         execute(new ExecStatement(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
@@ -18,6 +18,7 @@ package com.djrapitops.plan.storage.database.transactions.commands;
 
 import com.djrapitops.plan.delivery.domain.WebUser;
 import com.djrapitops.plan.delivery.webserver.auth.ActiveCookieStore;
+import com.djrapitops.plan.delivery.webserver.auth.VerifiedCredentialCache;
 import com.djrapitops.plan.storage.database.queries.objects.WebUserQueries;
 import com.djrapitops.plan.storage.database.sql.tables.SecurityTable;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
@@ -46,6 +47,9 @@ public class RemoveWebUserTransaction extends Transaction {
     protected void performOperations() {
         // Logout the user
         query(WebUserQueries.fetchUser(username)).ifPresent(ActiveCookieStore::removeCookie);
+        VerifiedCredentialCache.removeVerifications(username);
+        // Requests verified before the user was deleted may have cached the credentials again.
+        afterCommit(() -> VerifiedCredentialCache.removeVerifications(username));
 
         String sql = DELETE_FROM + SecurityTable.TABLE_NAME + WHERE + SecurityTable.USERNAME + "=?";
 
@@ -18,6 +18,7 @@ package com.djrapitops.plan.storage.database.transactions.events;
 
 import com.djrapitops.plan.storage.database.sql.building.Update;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Executable;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
@@ -42,6 +43,16 @@ public class BanStatusTransaction extends Transaction {
         this.banStatus = banStatus;
     }
 
+    @Override
+    public boolean isGroupCommittable() {
+        return true;
+    }
+
+    @Override
+    public UUID getPartitionKey() {
+        return playerUUID;
+    }
+
     @Override
     protected void performOperations() {
         execute(updateBanStatus());
@@ -49,7 +60,7 @@ public class BanStatusTransaction extends Transaction {
 
     private Executable updateBanStatus() {
         String sql = Update.values(UserInfoTable.TABLE_NAME, UserInfoTable.BANNED)
-                .where(UserInfoTable.USER_UUID + "=?")
+                .where(UserInfoTable.USER_ID + "=" + UsersTable.SELECT_USER_ID_STATEMENT)
                 .toString();
 
         return new ExecStatement(sql) {
@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.storage.database.transactions.events;
 
+import com.djrapitops.plan.delivery.webserver.cache.DataDomain;
 import com.djrapitops.plan.gathering.domain.GeoInfo;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
@@ -68,10 +69,22 @@ public class GeoInfoStoreTransaction extends Transaction {
         return new GeoInfo(country, time);
     }
 
+    @Override
+    public boolean isGroupCommittable() {
+        return true;
+    }
+
+    @Override
+    public UUID getPartitionKey() {
+        return playerUUID;
+    }
+
     @Override
     protected void performOperations() {
         if (geoInfo == null) geoInfo = createGeoInfo();
         if (geoInfo.getGeolocation() == null) return; // Don't save null geolocation.
         execute(DataStoreQueries.storeGeoInfo(playerUUID, geoInfo));
+        // Geolocations are not stored per server.
+        dataChanged(DataDomain.GEOLOCATIONS);
     }
 }
\ No newline at end of file
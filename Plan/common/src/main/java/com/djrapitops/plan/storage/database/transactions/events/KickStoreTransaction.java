@@ -39,6 +39,16 @@ public class KickStoreTransaction extends ThrowawayTransaction {
         this.playerUUID = playerUUID;
     }
 
+    @Override
+    public boolean isGroupCommittable() {
+        return true;
+    }
+
+    @Override
+    public UUID getPartitionKey() {
+        return playerUUID;
+    }
+
     @Override
     protected void performOperations() {
         String sql = "UPDATE " + UsersTable.TABLE_NAME + " SET "
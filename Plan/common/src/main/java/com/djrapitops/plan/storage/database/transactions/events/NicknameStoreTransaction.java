@@ -45,6 +45,16 @@ public class NicknameStoreTransaction extends ThrowawayTransaction {
         return !isNicknameCachedCheck.test(playerUUID, nickname.getName());
     }
 
+    @Override
+    public boolean isGroupCommittable() {
+        return true;
+    }
+
+    @Override
+    public UUID getPartitionKey() {
+        return playerUUID;
+    }
+
     @Override
     protected void performOperations() {
         execute(DataStoreQueries.storePlayerNickname(playerUUID, nickname));
@@ -18,6 +18,7 @@ package com.djrapitops.plan.storage.database.transactions.events;
 
 import com.djrapitops.plan.storage.database.sql.building.Update;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Executable;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
@@ -41,6 +42,16 @@ public class OperatorStatusTransaction extends ThrowawayTransaction {
         this.operatorStatus = operatorStatus;
     }
 
+    @Override
+    public boolean isGroupCommittable() {
+        return true;
+    }
+
+    @Override
+    public UUID getPartitionKey() {
+        return playerUUID;
+    }
+
     @Override
     protected void performOperations() {
         execute(updateOperatorStatus());
@@ -48,7 +59,7 @@ public class OperatorStatusTransaction extends ThrowawayTransaction {
 
     private Executable updateOperatorStatus() {
         String sql = Update.values(UserInfoTable.TABLE_NAME, UserInfoTable.OP)
-                .where(UserInfoTable.USER_UUID + "=?")
+                .where(UserInfoTable.USER_ID + "=" + UsersTable.SELECT_USER_ID_STATEMENT)
                 .toString();
 
         return new ExecStatement(sql) {
@@ -0,0 +1,72 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.events;
+
+import com.djrapitops.plan.delivery.webserver.cache.DataDomain;
+import com.djrapitops.plan.gathering.domain.Ping;
+import com.djrapitops.plan.storage.database.queries.LargeStoreQueries;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+
+import java.util.*;
+
+/**
+ * Transaction to store aggregated Ping values of multiple players on a server.
+ *
+ * @author Rsl1122
+ */
+public class PingBatchStoreTransaction extends Transaction {
+
+    private final UUID serverUUID;
+    private final Map<UUID, Ping> pings;
+
+    /**
+     * Create the transaction.
+     *
+     * @param serverUUID UUID of the server the pings were sampled on.
+     * @param pings      Map: Player UUID - Aggregated ping.
+     */
+    public PingBatchStoreTransaction(UUID serverUUID, Map<UUID, Ping> pings) {
+        this.serverUUID = serverUUID;
+        this.pings = pings;
+    }
+
+    @Override
+    public UUID getPartitionKey() {
+        return serverUUID;
+    }
+
+    @Override
+    public Collection<UUID> getDependencyKeys() {
+        // Ping refers to the players, so it is stored after the players have been registered.
+        return pings.keySet();
+    }
+
+    @Override
+    protected boolean shouldBeExecuted() {
+        return !pings.isEmpty();
+    }
+
+    @Override
+    protected void performOperations() {
+        Map<UUID, List<Ping>> pingsOfPlayers = new HashMap<>();
+        for (Map.Entry<UUID, Ping> entry : pings.entrySet()) {
+            pingsOfPlayers.put(entry.getKey(), Collections.singletonList(entry.getValue()));
+        }
+        execute(LargeStoreQueries.storeAllPingData(pingsOfPlayers));
+        dataChanged(DataDomain.PING, serverUUID);
+    }
+}
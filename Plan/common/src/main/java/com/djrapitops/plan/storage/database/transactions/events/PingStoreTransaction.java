@@ -17,6 +17,7 @@
 package com.djrapitops.plan.storage.database.transactions.events;
 
 import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.delivery.webserver.cache.DataDomain;
 import com.djrapitops.plan.gathering.domain.Ping;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
@@ -44,10 +45,16 @@ public class PingStoreTransaction extends Transaction {
         this.pingList = pingList;
     }
 
+    @Override
+    public UUID getPartitionKey() {
+        return playerUUID;
+    }
+
     @Override
     protected void performOperations() {
         Ping ping = calculateAggregatePing();
         execute(DataStoreQueries.storePing(playerUUID, serverUUID, ping));
+        dataChanged(DataDomain.PING, serverUUID);
     }
 
     private Ping calculateAggregatePing() {
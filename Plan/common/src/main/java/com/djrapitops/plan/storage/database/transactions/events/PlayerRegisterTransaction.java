@@ -16,8 +16,7 @@
  */
 package com.djrapitops.plan.storage.database.transactions.events;
 
-import com.djrapitops.plan.delivery.webserver.cache.DataID;
-import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
+import com.djrapitops.plan.delivery.webserver.cache.DataDomain;
 import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
@@ -49,16 +48,26 @@ public class PlayerRegisterTransaction extends Transaction {
         return playerUUID != null && playerName != null;
     }
 
+    @Override
+    public boolean isGroupCommittable() {
+        return true;
+    }
+
+    @Override
+    public UUID getPartitionKey() {
+        return playerUUID;
+    }
+
     @Override
     protected void performOperations() {
         if (!query(PlayerFetchQueries.isPlayerRegistered(playerUUID))) {
             long registerDate = registered.getAsLong();
             insertUser(registerDate);
             SessionCache.getCachedSession(playerUUID).ifPresent(session -> session.setAsFirstSessionIfMatches(registerDate));
+            // Users are shared by all servers of the network
+            dataChanged(DataDomain.REGISTRATIONS);
         }
         execute(DataStoreQueries.updatePlayerName(playerUUID, playerName));
-
-        JSONCache.invalidateMatching(DataID.PLAYERS);
     }
 
     private void insertUser(long registerDate) {
@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.storage.database.transactions.events;
 
+import com.djrapitops.plan.delivery.webserver.cache.DataDomain;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.queries.PlayerFetchQueries;
 
@@ -50,5 +51,6 @@ public class PlayerServerRegisterTransaction extends PlayerRegisterTransaction {
         if (foundRegisterDate.isPresent() && foundRegisterDate.get() > registerDate) {
             execute(DataStoreQueries.updateMainRegisterDate(playerUUID, registerDate));
         }
+        dataChanged(DataDomain.REGISTRATIONS, serverUUID);
     }
 }
\ No newline at end of file
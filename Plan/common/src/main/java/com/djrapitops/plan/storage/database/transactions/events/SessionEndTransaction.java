@@ -17,12 +17,16 @@
 package com.djrapitops.plan.storage.database.transactions.events;
 
 import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
-import com.djrapitops.plan.delivery.webserver.cache.DataID;
-import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
+import com.djrapitops.plan.delivery.webserver.cache.DataDomain;
+import com.djrapitops.plan.delivery.webserver.stream.LiveEvent;
 import com.djrapitops.plan.gathering.domain.Session;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+
 /**
  * Transaction for storing a session after a session has ended.
  *
@@ -36,22 +40,31 @@ public class SessionEndTransaction extends Transaction {
         this.session = session;
     }
 
+    @Override
+    public boolean isGroupCommittable() {
+        return true;
+    }
+
+    @Override
+    public UUID getPartitionKey() {
+        // The session refers to the player, so it is stored after the player has been registered.
+        return session.getValue(SessionKeys.UUID).orElse(null);
+    }
+
+    @Override
+    public Collection<UUID> getDependencyKeys() {
+        // World times refer to the world names of the server.
+        return session.getValue(SessionKeys.SERVER_UUID)
+                .map(Collections::singletonList)
+                .orElse(Collections.emptyList());
+    }
+
     @Override
     protected void performOperations() {
         execute(DataStoreQueries.storeSession(session));
-
+        execute(DataStoreQueries.storeSessionRollup(session));
         session.getValue(SessionKeys.SERVER_UUID)
-                .ifPresent(serverUUID -> JSONCache.invalidate(
-                        serverUUID,
-                        DataID.SESSIONS,
-                        DataID.GRAPH_WORLD_PIE,
-                        DataID.GRAPH_PUNCHCARD,
-                        DataID.KILLS,
-                        DataID.ONLINE_OVERVIEW,
-                        DataID.SESSIONS_OVERVIEW,
-                        DataID.PVP_PVE,
-                        DataID.GRAPH_UNIQUE_NEW,
-                        DataID.GRAPH_CALENDAR
-                ));
+                .ifPresent(serverUUID -> dataChanged(DataDomain.SESSIONS, serverUUID));
+        liveEvent(LiveEvent.sessionEnded(session));
     }
 }
\ No newline at end of file
@@ -16,6 +16,8 @@
  */
 package com.djrapitops.plan.storage.database.transactions.events;
 
+import com.djrapitops.plan.delivery.webserver.cache.DataDomain;
+import com.djrapitops.plan.delivery.webserver.stream.LiveEvent;
 import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
@@ -37,8 +39,15 @@ public class TPSStoreTransaction extends Transaction {
         this.tps = tps;
     }
 
+    @Override
+    public UUID getPartitionKey() {
+        return serverUUID;
+    }
+
     @Override
     protected void performOperations() {
         execute(DataStoreQueries.storeTPS(serverUUID, tps));
+        dataChanged(DataDomain.TPS, serverUUID);
+        liveEvent(LiveEvent.tpsSample(serverUUID, tps));
     }
 }
\ No newline at end of file
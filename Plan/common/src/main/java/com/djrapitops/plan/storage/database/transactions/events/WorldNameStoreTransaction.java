@@ -62,6 +62,16 @@ public class WorldNameStoreTransaction extends Transaction {
         });
     }
 
+    @Override
+    public boolean isGroupCommittable() {
+        return true;
+    }
+
+    @Override
+    public UUID getPartitionKey() {
+        return serverUUID;
+    }
+
     @Override
     protected void performOperations() {
         execute(DataStoreQueries.insertWorldName(serverUUID, worldName));
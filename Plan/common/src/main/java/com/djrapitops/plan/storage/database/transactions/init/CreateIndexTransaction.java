@@ -34,32 +34,39 @@ public class CreateIndexTransaction extends Transaction {
         createIndex(UsersTable.TABLE_NAME, "plan_users_uuid_index",
                 UsersTable.USER_UUID
         );
-        createIndex(UserInfoTable.TABLE_NAME, "plan_user_info_uuid_index",
-                UserInfoTable.USER_UUID,
-                UserInfoTable.SERVER_UUID
+        createIndex(UserInfoTable.TABLE_NAME, "plan_user_info_user_id_index",
+                UserInfoTable.USER_ID,
+                UserInfoTable.SERVER_ID
         );
-        createIndex(SessionsTable.TABLE_NAME, "plan_sessions_uuid_index",
-                SessionsTable.USER_UUID,
-                SessionsTable.SERVER_UUID
+        createIndex(SessionsTable.TABLE_NAME, "plan_sessions_user_id_index",
+                SessionsTable.USER_ID,
+                SessionsTable.SERVER_ID
         );
         createIndex(SessionsTable.TABLE_NAME, "plan_sessions_date_index",
                 SessionsTable.SESSION_START
         );
-        createIndex(WorldTimesTable.TABLE_NAME, "plan_world_times_uuid_index",
-                WorldTimesTable.USER_UUID,
-                WorldTimesTable.SERVER_UUID
+        createIndex(SessionRollupsTable.TABLE_NAME, "plan_session_rollups_server_id_index",
+                SessionRollupsTable.SERVER_ID,
+                SessionRollupsTable.HOUR_START
         );
-        createIndex(KillsTable.TABLE_NAME, "plan_kills_uuid_index",
-                KillsTable.KILLER_UUID,
-                KillsTable.VICTIM_UUID,
-                KillsTable.SERVER_UUID
+        createIndex(SessionRollupsTable.TABLE_NAME, "plan_session_rollups_user_id_index",
+                SessionRollupsTable.USER_ID
+        );
+        createIndex(WorldTimesTable.TABLE_NAME, "plan_world_times_user_id_index",
+                WorldTimesTable.USER_ID,
+                WorldTimesTable.SERVER_ID
+        );
+        createIndex(KillsTable.TABLE_NAME, "plan_kills_user_id_index",
+                KillsTable.KILLER_ID,
+                KillsTable.VICTIM_ID,
+                KillsTable.SERVER_ID
         );
         createIndex(KillsTable.TABLE_NAME, "plan_kills_date_index",
                 KillsTable.DATE
         );
-        createIndex(PingTable.TABLE_NAME, "plan_ping_uuid_index",
-                PingTable.USER_UUID,
-                PingTable.SERVER_UUID
+        createIndex(PingTable.TABLE_NAME, "plan_ping_user_id_index",
+                PingTable.USER_ID,
+                PingTable.SERVER_ID
         );
         createIndex(PingTable.TABLE_NAME, "plan_ping_date_index",
                 PingTable.DATE
@@ -67,6 +74,11 @@ public class CreateIndexTransaction extends Transaction {
         createIndex(TPSTable.TABLE_NAME, "plan_tps_date_index",
                 TPSTable.DATE
         );
+        createIndex(TPSAggregateTable.TABLE_NAME, "plan_tps_aggregates_server_id_index",
+                TPSAggregateTable.SERVER_ID,
+                TPSAggregateTable.RESOLUTION,
+                TPSAggregateTable.DATE
+        );
     }
 
     private void createIndex(String tableName, String indexName, String... indexedColumns) {
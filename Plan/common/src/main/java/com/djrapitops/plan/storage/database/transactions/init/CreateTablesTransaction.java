@@ -40,8 +40,10 @@ public class CreateTablesTransaction extends OperationCriticalTransaction {
         execute(KillsTable.createTableSQL(dbType));
         execute(PingTable.createTableSQL(dbType));
         execute(TPSTable.createTableSQL(dbType));
+        execute(TPSAggregateTable.createTableSQL(dbType));
         execute(WorldTable.createTableSQL(dbType));
         execute(WorldTimesTable.createTableSQL(dbType));
+        execute(SessionRollupsTable.createTableSQL(dbType));
         execute(SecurityTable.createTableSQL(dbType));
         execute(SettingsTable.createTableSQL(dbType));
 
@@ -20,6 +20,7 @@ import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
 import com.djrapitops.plan.storage.database.sql.tables.PingTable;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
+import com.djrapitops.plan.storage.database.sql.tables.TPSAggregateTable;
 import com.djrapitops.plan.storage.database.sql.tables.TPSTable;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Executable;
@@ -41,15 +42,18 @@ public class RemoveOldSampledDataTransaction extends ThrowawayTransaction {
 
     private final UUID serverUUID;
     private final long deleteTPSOlderThanMs;
+    private final long deleteHourlyTPSOlderThanMs;
     private final long deletePingOlderThanMs;
 
     public RemoveOldSampledDataTransaction(
             UUID serverUUID,
             long deleteTPSOlderThanMs,
+            long deleteHourlyTPSOlderThanMs,
             long deletePingOlderThanMs
     ) {
         this.serverUUID = serverUUID;
         this.deleteTPSOlderThanMs = deleteTPSOlderThanMs;
+        this.deleteHourlyTPSOlderThanMs = deleteHourlyTPSOlderThanMs;
         this.deletePingOlderThanMs = deletePingOlderThanMs;
     }
 
@@ -57,10 +61,34 @@ public class RemoveOldSampledDataTransaction extends ThrowawayTransaction {
     protected void performOperations() {
         Optional<Integer> allTimePeak = query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID)).map(DateObj::getValue);
 
+        // TPS samples are compacted to hours, and hours to days, before they are removed.
+        long now = System.currentTimeMillis();
+        Optional<Long> latestDay = query(TPSQueries.fetchLatestAggregateDate(TPSAggregateTable.DAY, serverUUID));
+        long compactHoursAfter = Math.max(
+                query(TPSQueries.fetchLatestAggregateDate(TPSAggregateTable.HOUR, serverUUID)).map(hour -> hour + TPSAggregateTable.HOUR).orElse(0L),
+                latestDay.map(day -> day + TPSAggregateTable.DAY).orElse(0L)
+        );
+        execute(compact(TPSAggregateTable.INSERT_HOURS_FROM_SAMPLES_STATEMENT, compactHoursAfter, now - now % TPSAggregateTable.HOUR));
+        long compactDaysAfter = latestDay.map(day -> day + TPSAggregateTable.DAY).orElse(0L);
+        execute(compact(TPSAggregateTable.INSERT_DAYS_FROM_HOURS_STATEMENT, compactDaysAfter, now - now % TPSAggregateTable.DAY));
+
         execute(cleanTPSTable(allTimePeak.orElse(-1)));
+        execute(cleanHourlyTPSAggregates());
         execute(cleanPingTable());
     }
 
+    private Executable compact(String sql, long after, long before) {
+        if (after >= before) return Executable.empty();
+        return new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, after);
+                statement.setLong(3, before);
+            }
+        };
+    }
+
     private Executable cleanTPSTable(int allTimePlayerPeak) {
         String sql = DELETE_FROM + TPSTable.TABLE_NAME +
                 WHERE + TPSTable.DATE + "<?" +
@@ -77,10 +105,25 @@ public class RemoveOldSampledDataTransaction extends ThrowawayTransaction {
         };
     }
 
+    private Executable cleanHourlyTPSAggregates() {
+        String sql = DELETE_FROM + TPSAggregateTable.TABLE_NAME +
+                WHERE + TPSAggregateTable.RESOLUTION + '=' + TPSAggregateTable.HOUR +
+                AND + TPSAggregateTable.DATE + "<?" +
+                AND + TPSAggregateTable.SERVER_ID + '=' + ServerTable.STATEMENT_SELECT_SERVER_ID;
+
+        return new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, System.currentTimeMillis() - deleteHourlyTPSOlderThanMs);
+                statement.setString(2, serverUUID.toString());
+            }
+        };
+    }
+
     private Executable cleanPingTable() {
         String sql = DELETE_FROM + PingTable.TABLE_NAME +
                 WHERE + '(' + PingTable.DATE + "<?" +
-                AND + PingTable.SERVER_UUID + "=?)" +
+                AND + PingTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID + ")" +
                 OR + PingTable.MIN_PING + "<0";
 
         return new ExecStatement(sql) {
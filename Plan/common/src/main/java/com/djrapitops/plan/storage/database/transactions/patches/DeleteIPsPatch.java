@@ -55,12 +55,14 @@ public class DeleteIPsPatch extends Patch {
         dropTable(GeoInfoTable.TABLE_NAME);
         execute(GeoInfoTable.createTableSQL(dbType));
 
+        String userIDColumn = hasColumn(tempTableName, GeoInfoTable.USER_ID) ? GeoInfoTable.USER_ID
+                : "(SELECT plan_users.id FROM plan_users WHERE plan_users.uuid = " + tempTableName + ".uuid LIMIT 1)";
         execute("INSERT INTO " + GeoInfoTable.TABLE_NAME + " (" +
-                GeoInfoTable.USER_UUID + ',' +
+                GeoInfoTable.USER_ID + ',' +
                 GeoInfoTable.LAST_USED + ',' +
                 GeoInfoTable.GEOLOCATION +
                 ") SELECT " + DISTINCT +
-                GeoInfoTable.USER_UUID + ',' +
+                userIDColumn + ',' +
                 GeoInfoTable.LAST_USED + ',' +
                 GeoInfoTable.GEOLOCATION +
                 FROM + tempTableName
@@ -31,14 +31,14 @@ public class KillsServerIDPatch extends Patch {
         String tableName = KillsTable.TABLE_NAME;
         String columnName = "server_id";
 
-        // KillsOptimizationPatch makes this patch incompatible with newer patch versions.
-        return hasColumn(tableName, KillsTable.SERVER_UUID)
+        // Tables with server_uuid column are from a newer version, UserAndServerIDPatch replaces the column.
+        return hasColumn(tableName, "server_uuid")
                 || (hasColumn(tableName, columnName) && allValuesHaveValueZero(tableName, columnName));
     }
 
     @Override
     protected void applyPatch() {
-        if (hasColumn(KillsTable.TABLE_NAME, KillsTable.SERVER_UUID)) {
+        if (hasColumn(KillsTable.TABLE_NAME, "server_uuid")) {
             return;
         }
 
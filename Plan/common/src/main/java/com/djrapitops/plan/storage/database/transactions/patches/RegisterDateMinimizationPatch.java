@@ -43,11 +43,11 @@ public class RegisterDateMinimizationPatch extends Patch {
 
     private Query<Map<UUID, Long>> fetchSmallestServerRegisterDates() {
         String sql = SELECT + "u1.uuid,u1." + UsersTable.REGISTERED + ",min_registered" + FROM + '(' +
-                SELECT + UserInfoTable.USER_UUID + ',' +
+                SELECT + UserInfoTable.USER_ID + ',' +
                 "MIN(" + UserInfoTable.REGISTERED + ") as min_registered" +
                 FROM + UserInfoTable.TABLE_NAME +
-                GROUP_BY + UserInfoTable.USER_UUID + ") u2" +
-                INNER_JOIN + UsersTable.TABLE_NAME + " u1 on u1.uuid=u2.uuid" +
+                GROUP_BY + UserInfoTable.USER_ID + ") u2" +
+                INNER_JOIN + UsersTable.TABLE_NAME + " u1 on u1." + UsersTable.ID + "=u2." + UserInfoTable.USER_ID +
                 WHERE + "u1." + UsersTable.REGISTERED + ">min_registered";
 
         return new QueryAllStatement<Map<UUID, Long>>(sql, 500) {
@@ -0,0 +1,202 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.patches;
+
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.storage.database.sql.tables.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Patch that replaces the UUID columns of player and server data tables with integer IDs.
+ * <p>
+ * The IDs reference plan_users and plan_servers, which makes the tables and their indexes smaller
+ * and joins between the tables cheaper than comparing UUID strings.
+ * <p>
+ * Tables that still have the integer columns of Plan 4 are only recreated if they are missing the id column.
+ *
+ * @author Rsl1122
+ */
+public class UserAndServerIDPatch extends Patch {
+
+    private static final String OLD_USER_UUID = "uuid";
+    private static final String OLD_SERVER_UUID = "server_uuid";
+
+    @Override
+    public boolean hasBeenApplied() {
+        return isApplied(SessionsTable.TABLE_NAME, SessionsTable.ID, SessionsTable.USER_ID)
+                && isApplied(KillsTable.TABLE_NAME, KillsTable.ID, KillsTable.KILLER_ID)
+                && isApplied(WorldTimesTable.TABLE_NAME, WorldTimesTable.ID, WorldTimesTable.USER_ID)
+                && isApplied(PingTable.TABLE_NAME, PingTable.ID, PingTable.USER_ID)
+                && isApplied(UserInfoTable.TABLE_NAME, UserInfoTable.ID, UserInfoTable.USER_ID)
+                && isApplied(GeoInfoTable.TABLE_NAME, GeoInfoTable.ID, GeoInfoTable.USER_ID);
+    }
+
+    private boolean isApplied(String tableName, String idColumn, String userIDColumn) {
+        return hasColumn(tableName, idColumn)
+                && hasColumn(tableName, userIDColumn)
+                && !hasTable(getTempTableName(tableName)); // If this table exists the patch has failed to finish.
+    }
+
+    private String getTempTableName(String tableName) {
+        return "temp_" + tableName;
+    }
+
+    @Override
+    protected void applyPatch() {
+        try {
+            // Sessions are patched first so that kills and world times are created with a reference to the new table.
+            patchTable(SessionsTable.TABLE_NAME, SessionsTable.createTableSQL(dbType),
+                    new String[]{
+                            SessionsTable.ID,
+                            SessionsTable.SESSION_START,
+                            SessionsTable.SESSION_END,
+                            SessionsTable.MOB_KILLS,
+                            SessionsTable.DEATHS,
+                            SessionsTable.AFK_TIME
+                    },
+                    IDColumn.user(SessionsTable.USER_ID, OLD_USER_UUID),
+                    IDColumn.server(SessionsTable.SERVER_ID, OLD_SERVER_UUID)
+            );
+            patchTable(KillsTable.TABLE_NAME, KillsTable.createTableSQL(dbType),
+                    new String[]{
+                            KillsTable.ID,
+                            KillsTable.SESSION_ID,
+                            KillsTable.WEAPON,
+                            KillsTable.DATE
+                    },
+                    IDColumn.user(KillsTable.KILLER_ID, "killer_uuid"),
+                    IDColumn.user(KillsTable.VICTIM_ID, "victim_uuid"),
+                    IDColumn.server(KillsTable.SERVER_ID, OLD_SERVER_UUID)
+            );
+            patchTable(WorldTimesTable.TABLE_NAME, WorldTimesTable.createTableSQL(dbType),
+                    new String[]{
+                            WorldTimesTable.ID,
+                            WorldTimesTable.SESSION_ID,
+                            WorldTimesTable.WORLD_ID,
+                            WorldTimesTable.SURVIVAL,
+                            WorldTimesTable.CREATIVE,
+                            WorldTimesTable.ADVENTURE,
+                            WorldTimesTable.SPECTATOR
+                    },
+                    IDColumn.user(WorldTimesTable.USER_ID, OLD_USER_UUID),
+                    IDColumn.server(WorldTimesTable.SERVER_ID, OLD_SERVER_UUID)
+            );
+            patchTable(PingTable.TABLE_NAME, PingTable.createTableSQL(dbType),
+                    new String[]{
+                            PingTable.ID,
+                            PingTable.DATE,
+                            PingTable.MAX_PING,
+                            PingTable.MIN_PING,
+                            PingTable.AVG_PING
+                    },
+                    IDColumn.user(PingTable.USER_ID, OLD_USER_UUID),
+                    IDColumn.server(PingTable.SERVER_ID, OLD_SERVER_UUID)
+            );
+            patchTable(UserInfoTable.TABLE_NAME, UserInfoTable.createTableSQL(dbType),
+                    new String[]{
+                            UserInfoTable.ID,
+                            UserInfoTable.REGISTERED,
+                            UserInfoTable.OP,
+                            UserInfoTable.BANNED
+                    },
+                    IDColumn.user(UserInfoTable.USER_ID, OLD_USER_UUID),
+                    IDColumn.server(UserInfoTable.SERVER_ID, OLD_SERVER_UUID)
+            );
+            patchTable(GeoInfoTable.TABLE_NAME, GeoInfoTable.createTableSQL(dbType),
+                    new String[]{
+                            GeoInfoTable.ID,
+                            GeoInfoTable.GEOLOCATION,
+                            GeoInfoTable.LAST_USED
+                    },
+                    IDColumn.user(GeoInfoTable.USER_ID, OLD_USER_UUID)
+            );
+        } catch (Exception e) {
+            throw new DBOpException(UserAndServerIDPatch.class.getSimpleName() + " failed.", e);
+        }
+    }
+
+    private void patchTable(String tableName, String createTableSQL, String[] copiedColumns, IDColumn... idColumns) {
+        String tempTableName = getTempTableName(tableName);
+        if (isApplied(tableName, copiedColumns[0], idColumns[0].column)) {
+            return;
+        }
+
+        dropForeignKeys(tableName);
+        ensureNoForeignKeyConstraints(tableName);
+
+        if (!hasTable(tempTableName)) {
+            renameTable(tableName, tempTableName);
+        }
+        // Previous attempt might have created the table before failing.
+        dropTable(tableName);
+        execute(createTableSQL);
+
+        List<String> insertedColumns = new ArrayList<>();
+        List<String> selectedColumns = new ArrayList<>();
+        StringBuilder joins = new StringBuilder();
+        for (String column : copiedColumns) {
+            // Tables of Plan 4 are missing some columns, they get default values.
+            if (hasColumn(tempTableName, column)) {
+                insertedColumns.add(column);
+                selectedColumns.add(tempTableName + '.' + column);
+            }
+        }
+        for (int i = 0; i < idColumns.length; i++) {
+            IDColumn idColumn = idColumns[i];
+            insertedColumns.add(idColumn.column);
+            if (hasColumn(tempTableName, idColumn.column)) {
+                selectedColumns.add(tempTableName + '.' + idColumn.column);
+            } else {
+                // Rows of players or servers that no longer exist are left out.
+                String alias = "j" + i;
+                joins.append(INNER_JOIN).append(idColumn.referencedTable).append(' ').append(alias)
+                        .append(" on ").append(alias).append(".uuid=").append(tempTableName).append('.').append(idColumn.uuidColumn);
+                selectedColumns.add(alias + ".id");
+            }
+        }
+
+        execute("INSERT INTO " + tableName + " (" + String.join(",", insertedColumns) + ") " +
+                SELECT + String.join(",", selectedColumns) +
+                FROM + tempTableName + joins);
+
+        dropTable(tempTableName);
+    }
+
+    private static class IDColumn {
+        private final String column;
+        private final String uuidColumn;
+        private final String referencedTable;
+
+        private IDColumn(String column, String uuidColumn, String referencedTable) {
+            this.column = column;
+            this.uuidColumn = uuidColumn;
+            this.referencedTable = referencedTable;
+        }
+
+        static IDColumn user(String column, String uuidColumn) {
+            return new IDColumn(column, uuidColumn, UsersTable.TABLE_NAME);
+        }
+
+        static IDColumn server(String column, String uuidColumn) {
+            return new IDColumn(column, uuidColumn, ServerTable.TABLE_NAME);
+        }
+    }
+}
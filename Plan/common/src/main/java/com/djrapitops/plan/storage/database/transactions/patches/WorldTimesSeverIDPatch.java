@@ -33,7 +33,7 @@ public class WorldTimesSeverIDPatch extends Patch {
         String tableName = WorldTimesTable.TABLE_NAME;
         String columnName = "server_id";
 
-        // WorldTimesOptimizationPatch makes this patch incompatible with newer patch versions.
+        // Tables with server_uuid column are from a newer version, UserAndServerIDPatch replaces the column.
         return hasColumn(tableName, "server_uuid")
                 || hasColumn(tableName, columnName)
                 && allValuesHaveValueZero(tableName, columnName);
@@ -20,6 +20,7 @@ import com.djrapitops.plan.storage.database.queries.LargeStoreQueries;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
 import com.djrapitops.plan.storage.database.sql.tables.WorldTable;
 import com.djrapitops.plan.storage.database.sql.tables.WorldTimesTable;
@@ -66,14 +67,14 @@ public class WorldsServerIDPatch extends Patch {
         String worldIDColumn = WorldTimesTable.TABLE_NAME + '.' + WorldTimesTable.WORLD_ID;
         String worldSessionIDColumn = WorldTimesTable.TABLE_NAME + '.' + WorldTimesTable.SESSION_ID;
         String sessionIDColumn = SessionsTable.TABLE_NAME + '.' + SessionsTable.ID;
-        String sessionServerUUIDColumn = SessionsTable.TABLE_NAME + '.' + SessionsTable.SERVER_UUID;
+        String sessionServerIDColumn = SessionsTable.TABLE_NAME + '.' + SessionsTable.SERVER_ID;
 
         String sql = SELECT + DISTINCT +
                 WorldTable.NAME + FROM +
                 WorldTable.TABLE_NAME +
                 INNER_JOIN + WorldTimesTable.TABLE_NAME + " on " + worldIDColumn + "=" + WorldTable.TABLE_NAME + '.' + WorldTable.ID +
                 INNER_JOIN + SessionsTable.TABLE_NAME + " on " + worldSessionIDColumn + "=" + sessionIDColumn +
-                WHERE + sessionServerUUIDColumn + "=?";
+                WHERE + sessionServerIDColumn + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID;
 
         return query(new QueryStatement<Set<String>>(sql, 1000) {
             @Override
@@ -30,6 +30,7 @@ import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 import com.djrapitops.plan.storage.database.transactions.commands.RemovePlayerTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.RemoveDuplicateUserInfoTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.RemoveOldExtensionsTransaction;
@@ -100,6 +101,7 @@ public class DBCleanTask extends AbsRunnable {
                 database.executeTransaction(new RemoveOldSampledDataTransaction(
                         serverInfo.getServerUUID(),
                         config.get(TimeSettings.DELETE_TPS_DATA_AFTER),
+                        config.get(TimeSettings.DELETE_HOURLY_TPS_DATA_AFTER),
                         config.get(TimeSettings.DELETE_PING_DATA_AFTER)
                 ));
                 database.executeTransaction(new RemoveDuplicateUserInfoTransaction());
@@ -136,9 +138,10 @@ public class DBCleanTask extends AbsRunnable {
     private Query<List<UUID>> fetchInactivePlayerUUIDs(long keepActiveAfter) {
         String sql = SELECT + "uuid, last_seen" + FROM +
                 '(' + SELECT + "MAX(" + SessionsTable.SESSION_END + ") as last_seen, " +
-                SessionsTable.USER_UUID +
+                UsersTable.TABLE_NAME + '.' + UsersTable.USER_UUID +
                 FROM + SessionsTable.TABLE_NAME +
-                GROUP_BY + SessionsTable.USER_UUID + ") as q1" +
+                INNER_JOIN + UsersTable.TABLE_NAME + " on " + UsersTable.TABLE_NAME + '.' + UsersTable.ID + '=' + SessionsTable.USER_ID +
+                GROUP_BY + UsersTable.TABLE_NAME + '.' + UsersTable.USER_UUID + ") as q1" +
                 WHERE + "last_seen < ?";
         return new QueryStatement<List<UUID>>(sql, 20000) {
 
@@ -0,0 +1,40 @@
+/**
+ * Subscribe to live events sent by the webserver.
+ * <p>
+ * The browser reconnects automatically if the connection is lost.
+ * Exported pages have no webserver to stream from, so the address is empty for them and nothing is subscribed.
+ *
+ * @param address Address of the event stream
+ * @param handlers Object with a function for each event type to listen to, eg. {online: function (data) {...}}
+ */
+function subscribeLiveEvents(address, handlers) {
+    if (!address || !window.EventSource || address.endsWith(".json")) return;
+
+    var source = new EventSource(address, {withCredentials: true});
+    Object.keys(handlers).forEach(function (type) {
+        source.addEventListener(type, function (event) {
+            handlers[type](JSON.parse(event.data));
+        });
+    });
+}
+
+/**
+ * Add a point to every Highcharts series with a matching name.
+ *
+ * @param date Epoch ms of the points
+ * @param valuesBySeriesName Object with the value for each series name, negative values are not added.
+ */
+function addLivePoints(date, valuesBySeriesName) {
+    Highcharts.charts.forEach(function (chart) {
+        if (!chart) return;
+        var changed = false;
+        chart.series.forEach(function (series) {
+            var value = valuesBySeriesName[series.name];
+            if (value !== undefined && value >= 0) {
+                series.addPoint([date, value], false);
+                changed = true;
+            }
+        });
+        if (changed) chart.redraw();
+    });
+}
@@ -0,0 +1,99 @@
+/**
+ * Load the players table.
+ * <p>
+ * Pages of the table are requested from the server one at a time so that the table does not need all players at once.
+ * Exported pages only have a single json file, so the whole table is loaded from it instead.
+ *
+ * @param address Address to request players table json from
+ * @param table jQuery object for the table element
+ */
+function loadPlayersTable(address, table) {
+    if (address.endsWith(".json")) {
+        jsonRequest(address, function (json, error) {
+            if (json) {
+                table.DataTable({
+                    responsive: true,
+                    columns: json.columns,
+                    data: json.data,
+                    order: [[5, "desc"]]
+                });
+            } else if (error) {
+                table.text("Failed to load Players table data: " + error);
+            }
+        });
+        return;
+    }
+
+    const pageLength = 10;
+    const separator = address.includes("?") ? "&" : "?";
+
+    // Cursors returned by the server, by the ordering, search and start index of the page they point to.
+    const cursors = {};
+
+    function getDataProperty(column) {
+        return typeof column.data === "string" ? column.data : column.data._.split(".")[0];
+    }
+
+    function pageAddress(order, direction, search, start, length) {
+        let pageAddress = address + separator + "size=" + length + "&order=" + order + "&direction=" + direction;
+        if (search) pageAddress += "&search=" + encodeURIComponent(search);
+        const cursor = cursors[[order, direction, search, start].join("/")];
+        if (cursor) {
+            pageAddress += "&after=" + cursor;
+        } else if (start > 0) {
+            pageAddress += "&offset=" + start;
+        }
+        return pageAddress;
+    }
+
+    function rememberNextCursor(json, order, direction, search, start, length) {
+        if (json.next) cursors[[order, direction, search, start + length].join("/")] = json.next;
+    }
+
+    jsonRequest(pageAddress("seen", "desc", "", 0, pageLength), function (firstPage, error) {
+        if (!firstPage) {
+            if (error) table.text("Failed to load Players table data: " + error);
+            return;
+        }
+        // Every column, including extension columns, is ordered by the server.
+        const columns = firstPage.columns;
+        rememberNextCursor(firstPage, "seen", "desc", "", 0, pageLength);
+
+        table.DataTable({
+            responsive: true,
+            serverSide: true,
+            searchDelay: 400,
+            pageLength: pageLength,
+            columns: columns,
+            order: [[5, "desc"]],
+            ajax: function (data, callback) {
+                const order = getDataProperty(columns[data.order[0].column]);
+                const direction = data.order[0].dir;
+                const search = data.search.value;
+                const respond = function (json) {
+                    callback({
+                        draw: data.draw,
+                        recordsTotal: json.recordsTotal,
+                        recordsFiltered: json.recordsFiltered,
+                        data: json.data
+                    });
+                };
+
+                if (firstPage && order === "seen" && direction === "desc" && !search && data.start === 0 && data.length === pageLength) {
+                    respond(firstPage);
+                    firstPage = null;
+                    return;
+                }
+                firstPage = null;
+                jsonRequest(pageAddress(order, direction, search, data.start, data.length), function (json, error) {
+                    if (json && !error) {
+                        rememberNextCursor(json, order, direction, search, data.start, data.length);
+                        respond(json);
+                    } else {
+                        table.find("tbody").text("Failed to load Players table data: " + error);
+                    }
+                });
+            }
+        });
+    });
+}
@@ -32,23 +32,94 @@ function loadSessionAccordion(json, error) {
     }
 }
 
-function onOpenSession(i, sessions) {
+/**
+ * Load the session accordion one page at a time, world times and kills of a session are loaded when it is opened.
+ * Exported pages only have a single json file, so all sessions are loaded from it instead.
+ * @param address Address to request sessions json from
+ */
+function loadSessionAccordionPages(address) {
+    if (address.endsWith(".json")) {
+        jsonRequest(address, loadSessionAccordion);
+        return;
+    }
+    var sessionTable = $("#sessions-overview").find("#tableAccordion").find("tbody");
+    var separator = address.includes("?") ? "&" : "?";
+    var detailsAddress = address.substring(0, address.indexOf("/v1/")) + "/v1/sessionDetails?session=";
+    var sessions = [];
+
+    function loadPage(after) {
+        jsonRequest(address + separator + "size=25" + (after ? "&after=" + after : ""), function (json, error) {
+            $('#session_more').remove();
+            if (error) {
+                sessionTable.append(`<tr><td>Error: ` + error + '</td><td>-</td><td>-</td><td>-</td></tr>');
+                return;
+            }
+            if (!sessions.length && !json.sessions.length) {
+                sessionTable.append(`<tr><td>No Data</td><td>-</td><td>-</td><td>-</td></tr>`);
+                return;
+            }
+
+            var first = sessions.length;
+            var sessionsHtml = '';
+            for (var i = 0; i < json.sessions.length; i++) {
+                sessions.push(json.sessions[i]);
+                sessionsHtml += createAccordionTitle(first + i, json.sessions[i]) + createAccordionBody(first + i, json.sessions[i]);
+            }
+            if (json.next) {
+                sessionsHtml += `<tr id="session_more"><td colspan="4"><button class="btn bg-teal float-right"><i class="fa fa-fw fa-angle-double-down"></i> Load more</button></td></tr>`;
+            }
+            sessionTable.append(sessionsHtml);
+
+            for (var j = first; j < sessions.length; j++) {
+                $('#session_h_' + j).click(onOpenSession(j, sessions, detailsAddress));
+            }
+            if (json.next) {
+                $('#session_more').find('button').click(function () {
+                    $(this).prop('disabled', true);
+                    loadPage(json.next);
+                });
+            }
+        });
+    }
+
+    loadPage();
+}
+
+function onOpenSession(i, sessions, detailsAddress) {
     var opened = false;
     return function () {
         if (opened) {
             return;
         }
-        setTimeout(function () {
-            var session = sessions[i];
-            var worldSeries = {name: `World Playtime`, colorByPoint: true, data: session.world_series};
-            var gmSeries = session.gm_series;
-
-            worldPie("worldpie_" + i, worldSeries, gmSeries);
-        }, 250);
+        var session = sessions[i];
+        if (session.world_series || !detailsAddress) {
+            setTimeout(function () {
+                drawSessionWorldPie(i, session);
+            }, 250);
+        } else {
+            jsonRequest(detailsAddress + session.id, function (details, error) {
+                if (error) {
+                    $('#session_kills_' + i).text("Failed to load session details: " + error);
+                    return;
+                }
+                session.player_kills = details.player_kills;
+                session.world_series = details.world_series;
+                session.gm_series = details.gm_series;
+                $('#session_kills_' + i).replaceWith(createKillsTable(session.player_kills));
+                drawSessionWorldPie(i, session);
+            });
+        }
         opened = true;
     }
 }
 
+function drawSessionWorldPie(i, session) {
+    var worldSeries = {name: `World Playtime`, colorByPoint: true, data: session.world_series};
+    var gmSeries = session.gm_series;
+
+    worldPie("worldpie_" + i, worldSeries, gmSeries);
+}
+
 function loadPlayerKills(json, error) {
     if (error) {
         $('#playerKillTable').replaceWith(`<p>Failed to load player kills: ` + error + '</p>');
@@ -85,10 +156,10 @@ function createAccordionBody(i, session) {
         `<p><i class="col-green fa fa-fw fa-server"></i> Server<span class="float-right"><b>` + session.server_name + `</b></span></p>` +
         (session.avg_ping ? `<p><i class="col-amber fa fa-fw fa-signal"></i> Average Ping<span class="float-right"><b>` + session.avg_ping + `</b></span></p>` : ``) +
         `<br>` +
-        `<p><i class="col-red fa fa-fw fa-crosshairs"></i> Player Kills<span class="float-right"><b>` + session.player_kills.length + `</b></span></p>` +
+        `<p><i class="col-red fa fa-fw fa-crosshairs"></i> Player Kills<span class="float-right"><b>` + (session.player_kills ? session.player_kills.length : session.player_kill_count) + `</b></span></p>` +
         `<p><i class="col-green fa fa-fw fa-crosshairs"></i> Mob Kills<span class="float-right"><b>` + session.mob_kills + `</b></span></p>` +
         `<p><i class=" fa fa-fw fa-skull"></i> Deaths<span class="float-right"><b>` + session.deaths + `</b></span></p><hr>` +
-        createKillsTable(session.player_kills) +
+        (session.player_kills ? createKillsTable(session.player_kills) : `<div id="session_kills_` + i + `"></div>`) +
         `</div><div class="col-xs-12  col-sm-12 col-md-6 col-lg-6">` +
         `<div id="worldpie_` + i + `" class="chart-pie"></div>` +
         `<a href="` + (session.network_server ? `./player/` : `../player/`) + session.player_url_name + `" class="float-right btn bg-blue"><i class="fa fa-user"></i><span> Player Page</span></a>` +
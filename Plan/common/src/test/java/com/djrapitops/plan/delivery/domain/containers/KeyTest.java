@@ -68,4 +68,19 @@ class KeyTest {
         assertNotEquals(testKey, testKey2);
     }
 
-}
\ No newline at end of file
+    @Test
+    void equalInstancesShareOrdinal() {
+        Key<List<Integer>> testKey = new Key<>(new Type<List<Integer>>() {}, "test");
+        Key<List<Integer>> testKey2 = new Key<>(new Type<List<Integer>>() {}, "test");
+        assertEquals(testKey.getOrdinal(), testKey2.getOrdinal());
+        assertEquals(testKey, Key.forOrdinal(testKey2.getOrdinal()));
+    }
+
+    @Test
+    void differentInstancesHaveDifferentOrdinal() {
+        Key<List<Long>> testKey = new Key<>(new Type<List<Long>>() {}, "test");
+        Key<List<Integer>> testKey2 = new Key<>(new Type<List<Integer>>() {}, "test");
+        assertNotEquals(testKey.getOrdinal(), testKey2.getOrdinal());
+    }
+
+}
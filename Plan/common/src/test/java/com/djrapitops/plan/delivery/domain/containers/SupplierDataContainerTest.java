@@ -21,6 +21,8 @@ import com.djrapitops.plan.delivery.domain.container.SupplierDataContainer;
 import com.djrapitops.plan.delivery.domain.keys.Key;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -110,4 +112,19 @@ class SupplierDataContainerTest {
         assertSame(found, secondCall);
     }
 
-}
\ No newline at end of file
+    @Test
+    void cachingSupplierIsCalledOnce() {
+        DataContainer container = new SupplierDataContainer();
+        AtomicInteger calls = new AtomicInteger();
+
+        container.putCachingSupplier(TEST_KEY, () -> {
+            calls.incrementAndGet();
+            return null;
+        });
+
+        assertNull(container.getUnsafe(TEST_KEY));
+        assertNull(container.getUnsafe(TEST_KEY));
+        assertEquals(1, calls.get());
+    }
+
+}
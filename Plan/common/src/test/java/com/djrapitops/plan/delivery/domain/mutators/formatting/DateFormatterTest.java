@@ -0,0 +1,132 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain.mutators.formatting;
+
+import com.djrapitops.plan.delivery.formatting.time.DateFormatter;
+import com.djrapitops.plan.delivery.formatting.time.SecondFormatter;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.FormatSettings;
+import com.djrapitops.plan.settings.config.paths.PluginSettings;
+import com.djrapitops.plan.settings.locale.Locale;
+import org.apache.commons.lang3.time.FastDateFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link DateFormatter} settings and recent day names.
+ *
+ * @author Rsl1122
+ */
+class DateFormatterTest {
+
+    private static final long SEP_9_2001 = 1_000_000_000_000L; // Sep 9 2001, 01:46:40 UTC
+
+    private PlanConfig config;
+    private Runnable reload;
+    private SecondFormatter underTest;
+
+    @BeforeEach
+    void setUpFormatter() {
+        config = Mockito.mock(PlanConfig.class);
+        when(config.get(PluginSettings.LOCALE)).thenReturn("default");
+        when(config.get(FormatSettings.TIMEZONE)).thenReturn("UTC");
+        when(config.isTrue(FormatSettings.DATE_RECENT_DAYS)).thenReturn(true);
+        when(config.get(FormatSettings.DATE_RECENT_DAYS_PATTERN)).thenReturn("MMM d YYYY");
+        when(config.get(FormatSettings.DATE_FULL)).thenReturn("MMM d YYYY, HH:mm:ss");
+
+        underTest = new SecondFormatter(config, new Locale());
+
+        ArgumentCaptor<Runnable> reloadListener = ArgumentCaptor.forClass(Runnable.class);
+        verify(config).onReload(reloadListener.capture());
+        reload = reloadListener.getValue();
+    }
+
+    @Test
+    void oldDateIsFormattedWithPattern() {
+        assertEquals("Sep 9 2001, 01:46:40", underTest.apply(SEP_9_2001));
+    }
+
+    @Test
+    void timeZoneChangeTakesEffectAfterReload() {
+        when(config.get(FormatSettings.TIMEZONE)).thenReturn("GMT+2");
+        assertEquals("Sep 9 2001, 01:46:40", underTest.apply(SEP_9_2001));
+
+        reload.run();
+        assertEquals("Sep 9 2001, 03:46:40", underTest.apply(SEP_9_2001));
+    }
+
+    @Test
+    void localeChangeTakesEffectAfterReload() {
+        underTest.apply(SEP_9_2001);
+        when(config.get(PluginSettings.LOCALE)).thenReturn("de");
+        reload.run();
+
+        String expected = FastDateFormat.getInstance("MMM d YYYY, HH:mm:ss", TimeZone.getTimeZone("UTC"), java.util.Locale.GERMAN)
+                .format(SEP_9_2001);
+        assertEquals(expected, underTest.apply(SEP_9_2001));
+    }
+
+    @Test
+    void recentDaysAreReplacedWithDayNames() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        long startOfToday = today.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+        long oneHour = TimeUnit.HOURS.toMillis(1L);
+
+        assertEquals("Today, 00:00:00", underTest.apply(startOfToday));
+        assertEquals("Yesterday, 23:00:00", underTest.apply(startOfToday - oneHour));
+        assertEquals("Yesterday, 00:00:00", underTest.apply(startOfToday - TimeUnit.DAYS.toMillis(1L)));
+
+        LocalDate threeDaysAgo = today.minusDays(3L);
+        String dayName = threeDaysAgo.getDayOfWeek().getDisplayName(TextStyle.FULL, java.util.Locale.ENGLISH);
+        assertEquals(dayName + ", 12:00:00", underTest.apply(startOfToday - TimeUnit.DAYS.toMillis(3L) + 12L * oneHour));
+    }
+
+    @Test
+    void formattingIsThreadSafe() throws InterruptedException, ExecutionException {
+        long startOfToday = LocalDate.now(ZoneOffset.UTC).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                long date = i % 2 == 0 ? SEP_9_2001 : startOfToday;
+                if (i % 100 == 0) executor.submit(reload);
+                results.add(executor.submit(() -> underTest.apply(date)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                String expected = i % 2 == 0 ? "Sep 9 2001, 01:46:40" : "Today, 00:00:00";
+                assertEquals(expected, results.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
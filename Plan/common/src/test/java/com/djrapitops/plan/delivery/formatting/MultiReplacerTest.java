@@ -0,0 +1,70 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.formatting;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for {@link MultiReplacer}.
+ *
+ * @author Rsl1122
+ */
+class MultiReplacerTest {
+
+    @Test
+    void longestMatchIsReplaced() {
+        MultiReplacer replacer = MultiReplacer.builder()
+                .replace("Players", "Pelaajat")
+                .replace("Players Online", "Pelaajia paikalla")
+                .build();
+
+        assertEquals("Pelaajia paikalla, Pelaajat", replacer.apply("Players Online, Players"));
+    }
+
+    @Test
+    void replacedTextIsNotReplacedAgain() {
+        MultiReplacer replacer = MultiReplacer.builder()
+                .replace("Online", "Players Online")
+                .replace("Players", "Pelaajat")
+                .build();
+
+        assertEquals("Players Online", replacer.apply("Online"));
+    }
+
+    @Test
+    void firstReplacementOfSameStringIsUsed() {
+        MultiReplacer replacer = MultiReplacer.builder()
+                .replace("Name", "Nimi")
+                .replace("Name", "Namn")
+                .build();
+
+        assertEquals("Nimi", replacer.apply("Name"));
+    }
+
+    @Test
+    void textWithoutMatchesIsReturnedAsIs() {
+        MultiReplacer replacer = MultiReplacer.builder()
+                .replace("Players", "Pelaajat")
+                .build();
+
+        String text = "Player Play";
+        assertSame(text, replacer.apply(text));
+    }
+}
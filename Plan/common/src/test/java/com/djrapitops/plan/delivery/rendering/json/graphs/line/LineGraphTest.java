@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Stack;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -68,6 +69,16 @@ class LineGraphTest {
         }
     }
 
+    @Test
+    void seriesIsWrittenWithGapsAndNullValues() {
+        List<Point> points = new ArrayList<>();
+        points.add(new Point(0, 1.5));
+        points.add(new Point(TimeUnit.MINUTES.toMillis(10L), (Double) null));
+
+        String expected = "[[0,1.5],[60000,null],[600000,null]]";
+        assertEquals(expected, new LineGraph(points, true).toHighChartsSeries());
+    }
+
     private void assertBracketMatch(char[] chars) {
         Stack<Character> bracketStack = new Stack<>();
         for (int i = 0; i < chars.length; i++) {
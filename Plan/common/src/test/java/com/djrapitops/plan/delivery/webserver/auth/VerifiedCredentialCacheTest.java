@@ -0,0 +1,76 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.auth;
+
+import com.djrapitops.plan.delivery.domain.auth.User;
+import com.djrapitops.plan.exceptions.WebUserAuthException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link VerifiedCredentialCache}.
+ *
+ * @author Rsl1122
+ */
+class VerifiedCredentialCacheTest {
+
+    private static final String CREDENTIALS = "dGVzdDp0ZXN0UGFzcw=="; // test:testPass
+    private static final User USER = new User("test", "console", null, "hash", 0, Collections.emptyList());
+
+    @BeforeEach
+    void clearCache() {
+        VerifiedCredentialCache.removeAll();
+    }
+
+    @Test
+    void successfulVerificationIsCached() {
+        AtomicInteger verifications = new AtomicInteger();
+        VerifiedCredentialCache.getOrVerify(CREDENTIALS, () -> {
+            verifications.incrementAndGet();
+            return USER;
+        });
+        User result = VerifiedCredentialCache.getOrVerify(CREDENTIALS, () -> fail("Should have been cached"));
+
+        assertSame(USER, result);
+        assertEquals(1, verifications.get());
+    }
+
+    @Test
+    void failedVerificationIsNotCached() {
+        assertThrows(WebUserAuthException.class, () -> VerifiedCredentialCache.getOrVerify(CREDENTIALS, () -> {
+            throw new WebUserAuthException(FailReason.USER_PASS_MISMATCH, "test");
+        }));
+        User result = VerifiedCredentialCache.getOrVerify(CREDENTIALS, () -> USER);
+
+        assertSame(USER, result);
+    }
+
+    @Test
+    void removedUserIsVerifiedAgain() {
+        VerifiedCredentialCache.getOrVerify(CREDENTIALS, () -> USER);
+        VerifiedCredentialCache.removeVerifications("test");
+
+        assertThrows(WebUserAuthException.class, () -> VerifiedCredentialCache.getOrVerify(CREDENTIALS, () -> {
+            throw new WebUserAuthException(FailReason.USER_DOES_NOT_EXIST, "test");
+        }));
+    }
+}
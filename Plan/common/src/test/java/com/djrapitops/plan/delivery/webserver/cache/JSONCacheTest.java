@@ -21,9 +21,10 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Tests JSONCache invalidation.
@@ -111,4 +112,91 @@ class JSONCacheTest {
         assertNotContains();
         assertNotContainsUUID();
     }
-}
\ No newline at end of file
+
+    @Test
+    void invalidatedByDomainOfServer() {
+        cachedByDataIDName();
+        cachedByServerUUID();
+        JSONCache.getOrCache(DataID.GRAPH_PERFORMANCE, TEST_UUID, () -> CACHED);
+        JSONCache.invalidate(DataDomain.SESSIONS, TEST_UUID);
+        assertNotContains();
+        assertNotContainsUUID();
+        assertTrue(JSONCache.getCachedIDs().contains(DataID.GRAPH_PERFORMANCE.of(TEST_UUID)));
+    }
+
+    @Test
+    void invalidatedByDomainDoesNotAffectOtherServers() {
+        UUID otherUUID = UUID.randomUUID();
+        JSONCache.getOrCache(TEST_ID, otherUUID, () -> CACHED);
+        JSONCache.invalidate(DataDomain.SESSIONS, TEST_UUID);
+        assertTrue(JSONCache.getCachedIDs().contains(TEST_ID.of(otherUUID)));
+    }
+
+    @Test
+    void invalidateMatchingDoesNotInvalidateIDsWithSamePrefix() {
+        cachedByServerUUID();
+        JSONCache.getOrCache(DataID.SESSIONS_OVERVIEW, TEST_UUID, () -> CACHED);
+        JSONCache.invalidateMatching(TEST_ID);
+        assertNotContainsUUID();
+        assertTrue(JSONCache.getCachedIDs().contains(DataID.SESSIONS_OVERVIEW.of(TEST_UUID)));
+    }
+
+    @Test
+    void concurrentMissesAreComputedOnce() throws Exception {
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch computing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(() -> JSONCache.getOrCache(TEST_ID, TEST_UUID, () -> {
+                computations.incrementAndGet();
+                computing.countDown();
+                awaitUninterruptibly(release);
+                return CACHED;
+            }));
+            computing.await(5, TimeUnit.SECONDS);
+            Future<?> second = executor.submit(() -> JSONCache.getOrCache(TEST_ID, TEST_UUID, () -> {
+                computations.incrementAndGet();
+                return CACHED;
+            }));
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, computations.get());
+    }
+
+    @Test
+    void invalidationDoesNotWaitForComputation() throws Exception {
+        CountDownLatch computing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> computation = executor.submit(() -> JSONCache.getOrCache(TEST_ID, TEST_UUID, () -> {
+                computing.countDown();
+                awaitUninterruptibly(release);
+                return CACHED;
+            }));
+            computing.await(5, TimeUnit.SECONDS);
+
+            executor.submit(() -> JSONCache.invalidate(DataDomain.SESSIONS, TEST_UUID)).get(1, TimeUnit.SECONDS);
+
+            release.countDown();
+            computation.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        // Result that was computed before the invalidation is not cached.
+        assertNotContainsUUID();
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
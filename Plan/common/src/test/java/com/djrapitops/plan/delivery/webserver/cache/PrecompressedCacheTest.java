@@ -0,0 +1,86 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.cache;
+
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link PrecompressedCache}.
+ *
+ * @author Rsl1122
+ */
+class PrecompressedCacheTest {
+
+    private static final byte[] CONTENT = "{\"value\":\"Cached\"}".getBytes(StandardCharsets.UTF_8);
+
+    @BeforeEach
+    void cleanCache() {
+        JSONCache.invalidateAll();
+        PrecompressedCache.invalidateAll();
+    }
+
+    @Test
+    void compressedFormDecompressesToContent() throws IOException {
+        PrecompressedContent content = PrecompressedCache.store(CONTENT);
+
+        ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(content.getCompressed()))) {
+            byte[] buffer = new byte[1024];
+            int count;
+            while ((count = in.read(buffer)) != -1) {
+                decompressed.write(buffer, 0, count);
+            }
+        }
+        assertArrayEquals(CONTENT, decompressed.toByteArray());
+    }
+
+    @Test
+    void sameContentHasSameETag() {
+        String expected = PrecompressedCache.store(CONTENT).getETag();
+        String result = PrecompressedCache.store(CONTENT.clone()).getETag();
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void differentContentHasDifferentETag() {
+        String first = PrecompressedCache.store(CONTENT).getETag();
+        String second = PrecompressedCache.store("{}".getBytes(StandardCharsets.UTF_8)).getETag();
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void jsonCacheResponsesHaveETagOfCompressedContent() {
+        Response computed = JSONCache.getOrCache(DataID.SESSIONS, () -> "{\"value\":\"Cached\"}");
+        Response cached = JSONCache.getOrCache(DataID.SESSIONS, () -> fail("Should have been cached"));
+
+        String eTag = computed.getHeaders().get("ETag");
+        assertNotNull(eTag);
+        assertEquals(eTag, cached.getHeaders().get("ETag"));
+        assertTrue(PrecompressedCache.findByETag(eTag).isPresent());
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.stream;
+
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.web.resolver.ResponseBuilder;
+import com.jayway.awaitility.Awaitility;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.*;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link LiveEventStream}.
+ *
+ * @author Rsl1122
+ */
+class LiveEventStreamTest {
+
+    private static final UUID SERVER_UUID = UUID.randomUUID();
+    private static final UUID OTHER_SERVER_UUID = UUID.randomUUID();
+
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            ResponseBuilder response = Response.builder()
+                    .setMimeType(LiveEventStream.MIME_TYPE)
+                    .setContent("retry: 1000\n\n");
+            if (exchange.getRequestURI().getQuery() != null) {
+                response.setHeader(LiveEventStream.SERVER_FILTER_HEADER, SERVER_UUID);
+            }
+            LiveEventStream.subscribe(exchange, response.build());
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        LiveEventStream.closeAll();
+        server.stop(0);
+    }
+
+    private BufferedReader subscribe(String query) throws IOException, InterruptedException {
+        int subscribers = LiveEventStream.getSubscriberCount();
+        URL url = new URL("http://localhost:" + server.getAddress().getPort() + "/" + query);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setReadTimeout(10000);
+        assertEquals(200, connection.getResponseCode());
+        assertTrue(connection.getContentType().startsWith(LiveEventStream.MIME_TYPE));
+        BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+        assertEquals("retry: 1000", reader.readLine());
+        assertEquals("", reader.readLine());
+        for (int i = 0; i < 50 && LiveEventStream.getSubscriberCount() <= subscribers; i++) {
+            Thread.sleep(10);
+        }
+        return reader;
+    }
+
+    @Test
+    void eventsAreSentToSubscriber() throws IOException, InterruptedException {
+        BufferedReader reader = subscribe("");
+        UUID playerUUID = UUID.randomUUID();
+
+        LiveEventStream.publish(LiveEvent.playerJoined(SERVER_UUID, playerUUID, 5));
+
+        assertEquals("event: join", reader.readLine());
+        String data = reader.readLine();
+        assertTrue(data.startsWith("data: {"), data);
+        assertTrue(data.contains(playerUUID.toString()), data);
+        assertTrue(data.contains("\"online\":5"), data);
+        assertEquals("", reader.readLine());
+    }
+
+    @Test
+    void eventsOfOtherServersAreNotSentToFilteredSubscriber() throws IOException, InterruptedException {
+        BufferedReader reader = subscribe("?server");
+
+        LiveEventStream.publish(LiveEvent.playerJoined(OTHER_SERVER_UUID, UUID.randomUUID(), 1));
+        LiveEventStream.publish(LiveEvent.playerLeft(SERVER_UUID, UUID.randomUUID(), 0));
+
+        assertEquals("event: leave", reader.readLine());
+        assertTrue(reader.readLine().contains(SERVER_UUID.toString()));
+    }
+
+    @Test
+    void subscribersAreDisconnectedOnClose() throws IOException, InterruptedException {
+        BufferedReader reader = subscribe("");
+        assertEquals(1, LiveEventStream.getSubscriberCount());
+
+        LiveEventStream.closeAll();
+
+        assertEquals(0, LiveEventStream.getSubscriberCount());
+        assertNull(reader.readLine());
+    }
+
+    @Test
+    void concurrentSubscribersAreLimited() throws InterruptedException, ExecutionException {
+        int extra = 10;
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> subscribes = new ArrayList<>();
+            for (int i = 0; i < LiveEventStream.MAX_SUBSCRIBERS + extra; i++) {
+                HttpExchange exchange = Mockito.mock(HttpExchange.class);
+                when(exchange.getResponseHeaders()).thenReturn(new Headers());
+                when(exchange.getResponseBody()).thenReturn(new ByteArrayOutputStream());
+                doAnswer(invocation -> rejected.incrementAndGet()).when(exchange).sendResponseHeaders(eq(503), anyLong());
+                subscribes.add(executor.submit(() -> {
+                    start.await();
+                    LiveEventStream.subscribe(exchange, Response.builder()
+                            .setMimeType(LiveEventStream.MIME_TYPE)
+                            .setContent("retry: 1000\n\n")
+                            .build());
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> subscribe : subscribes) {
+                subscribe.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(LiveEventStream.MAX_SUBSCRIBERS, LiveEventStream.getSubscriberCount());
+        assertEquals(extra, rejected.get());
+        assertTrue(LiveEventStream.isFull());
+
+        LiveEventStream.closeAll();
+        assertFalse(LiveEventStream.isFull());
+    }
+
+    @Test
+    void blockedWriteIsInterruptedAndClosedByWriter() throws IOException, InterruptedException {
+        BufferedReader reader = subscribe("");
+
+        StallingOutputStream stallingOut = new StallingOutputStream();
+        HttpExchange stalled = Mockito.mock(HttpExchange.class);
+        when(stalled.getResponseHeaders()).thenReturn(new Headers());
+        when(stalled.getResponseBody()).thenReturn(stallingOut);
+        AtomicReference<String> closingThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            closingThread.set(Thread.currentThread().getName());
+            return null;
+        }).when(stalled).close();
+        LiveEventStream.subscribe(stalled, Response.builder()
+                .setMimeType(LiveEventStream.MIME_TYPE)
+                .setContent("retry: 1000\n\n")
+                .build());
+        assertEquals(2, LiveEventStream.getSubscriberCount());
+
+        stallingOut.stall();
+        LiveEventStream.publish(LiveEvent.playerLeft(SERVER_UUID, UUID.randomUUID(), 0));
+
+        // Other subscriber gets the event at the latest when the blocked write times out.
+        assertEquals("event: leave", reader.readLine());
+        Awaitility.await()
+                .atMost(LiveEventStream.WRITE_TIMEOUT_MS + 5000L, TimeUnit.MILLISECONDS)
+                .until(() -> closingThread.get() != null);
+        assertEquals("Plan LiveEventStream Writer", closingThread.get());
+        assertEquals(1, LiveEventStream.getSubscriberCount());
+    }
+
+    private static class StallingOutputStream extends OutputStream {
+        private volatile boolean stalled;
+
+        void stall() {
+            stalled = true;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!stalled) return;
+            try {
+                Thread.sleep(Long.MAX_VALUE);
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException("Write was interrupted");
+            }
+        }
+    }
+}
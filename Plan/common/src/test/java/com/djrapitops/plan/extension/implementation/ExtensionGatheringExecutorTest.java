@@ -0,0 +1,135 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation;
+
+import com.djrapitops.plan.utilities.logging.ErrorContext;
+import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import com.djrapitops.plugin.logging.L;
+import com.djrapitops.plugin.logging.console.TestPluginLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link ExtensionGatheringExecutor}.
+ *
+ * @author Rsl1122
+ */
+class ExtensionGatheringExecutorTest {
+
+    private ErrorLogger errorLogger;
+    private ExtensionGatheringExecutor underTest;
+
+    @BeforeEach
+    void setUp() {
+        errorLogger = Mockito.mock(ErrorLogger.class);
+        underTest = new ExtensionGatheringExecutor(new TestPluginLogger(), errorLogger);
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.disable();
+    }
+
+    @Test
+    void allExtensionsAreGathered() {
+        AtomicInteger gathered = new AtomicInteger();
+        Map<String, Callable<Boolean>> gatherings = new HashMap<>();
+        gatherings.put("First", () -> gathered.incrementAndGet() > 0);
+        gatherings.put("Second", () -> gathered.incrementAndGet() > 0);
+
+        underTest.executeAll(gatherings);
+
+        assertEquals(2, gathered.get());
+        assertEquals(1, underTest.getStatistics().get("First").getCalls());
+        assertEquals(1, underTest.getStatistics().get("Second").getCalls());
+    }
+
+    @Test
+    void failingExtensionIsSkippedAfterTooManyFailures() {
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < ExtensionGatheringExecutor.FAILURES_BEFORE_SKIPPING + 2; i++) {
+            underTest.execute("Failing", () -> calls.incrementAndGet() < 0);
+        }
+
+        assertEquals(ExtensionGatheringExecutor.FAILURES_BEFORE_SKIPPING, calls.get());
+        ExtensionCallStatistics statistics = underTest.getStatistics().get("Failing");
+        assertEquals(ExtensionGatheringExecutor.FAILURES_BEFORE_SKIPPING, statistics.getFailures());
+        assertEquals(2, statistics.getSkipped());
+    }
+
+    @Test
+    void thrownExceptionCountsAsFailure() {
+        underTest.execute("Throwing", () -> {
+            throw new IllegalStateException("Test");
+        });
+
+        assertEquals(1, underTest.getStatistics().get("Throwing").getFailures());
+    }
+
+    @Test
+    void errorNotCaughtByCallIsLogged() {
+        AbstractMethodError error = new AbstractMethodError("Test");
+        underTest.execute("Erroring", () -> {
+            throw error;
+        });
+
+        verify(errorLogger).log(eq(L.WARN), eq(error), any(ErrorContext.class));
+        assertEquals(1, underTest.getStatistics().get("Erroring").getFailures());
+    }
+
+    @Test
+    void callsOverConcurrencyLimitAreSkipped() throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(ExtensionGatheringExecutor.CONCURRENT_CALLS_PER_EXTENSION);
+        CountDownLatch release = new CountDownLatch(1);
+        Callable<Boolean> blocking = () -> {
+            running.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        };
+
+        Thread[] callers = new Thread[ExtensionGatheringExecutor.CONCURRENT_CALLS_PER_EXTENSION];
+        for (int i = 0; i < callers.length; i++) {
+            callers[i] = new Thread(() -> underTest.execute("Blocking", blocking));
+            callers[i].start();
+        }
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        underTest.execute("Blocking", () -> true);
+        release.countDown();
+        for (Thread caller : callers) {
+            caller.join();
+        }
+
+        ExtensionCallStatistics statistics = underTest.getStatistics().get("Blocking");
+        assertEquals(ExtensionGatheringExecutor.CONCURRENT_CALLS_PER_EXTENSION, statistics.getCalls());
+        assertEquals(1, statistics.getSkipped());
+    }
+}
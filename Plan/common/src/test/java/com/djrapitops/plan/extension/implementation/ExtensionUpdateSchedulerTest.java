@@ -0,0 +1,92 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation;
+
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.TimeSettings;
+import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import com.djrapitops.plugin.logging.console.TestPluginLogger;
+import com.jayway.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import utilities.mocks.TestProcessing;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link ExtensionUpdateScheduler}.
+ *
+ * @author Rsl1122
+ */
+class ExtensionUpdateSchedulerTest {
+
+    private ExtensionUpdateScheduler underTest;
+
+    @BeforeEach
+    void setUp() {
+        PlanConfig config = Mockito.mock(PlanConfig.class);
+        when(config.get(TimeSettings.EXTENSION_UPDATE_WINDOW)).thenReturn(100L);
+        when(config.get(TimeSettings.EXTENSION_UPDATE_MAX_DELAY)).thenReturn(TimeUnit.SECONDS.toMillis(5));
+        ErrorLogger errorLogger = Mockito.mock(ErrorLogger.class);
+
+        underTest = new ExtensionUpdateScheduler(config, new TestProcessing(() -> null, new TestPluginLogger(), errorLogger), errorLogger);
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.disable();
+    }
+
+    @Test
+    void repeatedRequestsAreMerged() {
+        AtomicInteger updates = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            underTest.requestUpdate("Extension", "player", updates::incrementAndGet);
+        }
+
+        Awaitility.await().atMost(2, TimeUnit.SECONDS).until(() -> updates.get() == 1);
+        ExtensionUpdateStatistics statistics = underTest.getStatistics().get("Extension");
+        assertEquals(10, statistics.getRequests());
+        assertEquals(1, statistics.getUpdates());
+        assertEquals(9, statistics.getMerged());
+    }
+
+    @Test
+    void requestsForDifferentTargetsAreNotMerged() {
+        AtomicInteger updates = new AtomicInteger();
+        underTest.requestUpdate("Extension", "player", updates::incrementAndGet);
+        underTest.requestUpdate("Extension", "server", updates::incrementAndGet);
+
+        Awaitility.await().atMost(2, TimeUnit.SECONDS).until(() -> updates.get() == 2);
+    }
+
+    @Test
+    void requestIsDroppedWhenGatheringStarts() throws InterruptedException {
+        AtomicInteger updates = new AtomicInteger();
+        underTest.requestUpdate("Extension", "player", updates::incrementAndGet);
+        underTest.gatheringStarted("Extension", "player");
+
+        Thread.sleep(300);
+        assertEquals(0, updates.get());
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers;
+
+import com.djrapitops.plan.extension.DataExtension;
+import com.djrapitops.plan.extension.Group;
+import com.djrapitops.plan.extension.NotReadyException;
+import org.junit.jupiter.api.Test;
+import utilities.TestConstants;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link MethodWrapper}.
+ *
+ * @author Rsl1122
+ */
+class MethodWrapperTest {
+
+    private final TestExtension extension = new TestExtension();
+
+    private <T> MethodWrapper<T> wrap(String methodName, Class<T> returnType, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return new MethodWrapper<>(TestExtension.class.getMethod(methodName, parameterTypes), returnType);
+    }
+
+    @Test
+    void serverMethodIsCalled() throws NoSuchMethodException {
+        MethodWrapper<Long> method = wrap("number", Long.class);
+        assertEquals(5L, method.callMethod(extension, Parameters.server(TestConstants.SERVER_UUID)));
+    }
+
+    @Test
+    void playerMethodIsCalledWithUUID() throws NoSuchMethodException {
+        MethodWrapper<String> method = wrap("uuid", String.class, UUID.class);
+        Parameters parameters = Parameters.player(TestConstants.SERVER_UUID, TestConstants.PLAYER_ONE_UUID, TestConstants.PLAYER_ONE_NAME);
+        assertEquals(TestConstants.PLAYER_ONE_UUID.toString(), method.callMethod(extension, parameters));
+    }
+
+    @Test
+    void playerMethodIsCalledWithName() throws NoSuchMethodException {
+        MethodWrapper<Boolean> method = wrap("named", Boolean.class, String.class);
+        Parameters parameters = Parameters.player(TestConstants.SERVER_UUID, TestConstants.PLAYER_ONE_UUID, TestConstants.PLAYER_ONE_NAME);
+        assertTrue(method.callMethod(extension, parameters));
+    }
+
+    @Test
+    void groupMethodIsCalled() throws NoSuchMethodException {
+        MethodWrapper<String> method = wrap("group", String.class, Group.class);
+        assertEquals("Group", method.callMethod(extension, Parameters.group(TestConstants.SERVER_UUID, "Group")));
+    }
+
+    @Test
+    void notReadyMethodReturnsNull() throws NoSuchMethodException {
+        MethodWrapper<Double> method = wrap("notReady", Double.class);
+        assertNull(method.callMethod(extension, Parameters.server(TestConstants.SERVER_UUID)));
+    }
+
+    @Test
+    void failingMethodThrowsIllegalArgumentException() throws NoSuchMethodException {
+        MethodWrapper<Double> method = wrap("failing", Double.class);
+        Parameters parameters = Parameters.server(TestConstants.SERVER_UUID);
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> method.callMethod(extension, parameters));
+        assertTrue(thrown.getCause() instanceof UnsupportedOperationException);
+    }
+
+    @Test
+    void reflectiveCallerGivesSameResults() throws Throwable {
+        MethodCaller caller = MethodCaller.reflective(TestExtension.class.getMethod("named", String.class));
+        Parameters parameters = Parameters.player(TestConstants.SERVER_UUID, TestConstants.PLAYER_ONE_UUID, TestConstants.PLAYER_ONE_NAME);
+        assertEquals(true, caller.call(extension, parameters));
+
+        MethodCaller failing = MethodCaller.reflective(TestExtension.class.getMethod("failing"));
+        assertThrows(UnsupportedOperationException.class, () -> failing.call(extension, Parameters.server(TestConstants.SERVER_UUID)));
+    }
+
+    public static class TestExtension implements DataExtension {
+        public long number() {
+            return 5L;
+        }
+
+        public String uuid(UUID playerUUID) {
+            return playerUUID.toString();
+        }
+
+        public boolean named(String playerName) {
+            return TestConstants.PLAYER_ONE_NAME.equals(playerName);
+        }
+
+        public String group(Group group) {
+            return group.getGroupName();
+        }
+
+        public double notReady() {
+            throw new NotReadyException();
+        }
+
+        public double failing() {
+            throw new UnsupportedOperationException("Failed");
+        }
+    }
+}
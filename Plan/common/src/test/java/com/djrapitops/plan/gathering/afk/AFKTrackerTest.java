@@ -0,0 +1,99 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.afk;
+
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.TimeSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import utilities.TestConstants;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link AFKTracker}.
+ *
+ * @author Rsl1122
+ */
+class AFKTrackerTest {
+
+    private static final UUID PLAYER = TestConstants.PLAYER_ONE_UUID;
+
+    private AFKTracker underTest;
+    private AtomicInteger permissionChecks;
+
+    @BeforeEach
+    void setUp() {
+        PlanConfig config = Mockito.mock(PlanConfig.class);
+        when(config.get(TimeSettings.AFK_THRESHOLD)).thenReturn(TimeUnit.MINUTES.toMillis(3));
+        underTest = new AFKTracker(config);
+        permissionChecks = new AtomicInteger();
+    }
+
+    private boolean checkPermission(boolean hasPermission) {
+        permissionChecks.incrementAndGet();
+        return hasPermission;
+    }
+
+    @Test
+    void permissionIsCheckedOnceWithinRefreshInterval() {
+        long time = System.currentTimeMillis();
+        underTest.performedAction(PLAYER, time, false, this::checkPermission);
+        underTest.performedAction(PLAYER, time + 10L, false, this::checkPermission);
+
+        assertEquals(1, permissionChecks.get());
+    }
+
+    @Test
+    void permissionIsCheckedAgainAfterRefresh() {
+        long time = System.currentTimeMillis();
+        underTest.performedAction(PLAYER, time, false, this::checkPermission);
+        underTest.refreshPermission(PLAYER);
+        underTest.performedAction(PLAYER, time + 10L, false, this::checkPermission);
+
+        assertEquals(2, permissionChecks.get());
+    }
+
+    @Test
+    void ignoredPlayerIsNotAfk() {
+        long time = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(10);
+        underTest.performedAction(PLAYER, time, true, this::checkPermission);
+
+        assertFalse(underTest.isAfk(PLAYER));
+    }
+
+    @Test
+    void playerIsAfkAfterThreshold() {
+        long time = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(10);
+        underTest.performedAction(PLAYER, time, false, this::checkPermission);
+
+        assertTrue(underTest.isAfk(PLAYER));
+    }
+
+    @Test
+    void afkCommandMakesPlayerAfk() {
+        underTest.usedAfkCommand(PLAYER, System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(1));
+
+        assertTrue(underTest.isAfk(PLAYER));
+    }
+}
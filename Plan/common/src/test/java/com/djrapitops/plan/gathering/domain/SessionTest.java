@@ -17,6 +17,7 @@
 package com.djrapitops.plan.gathering.domain;
 
 import com.djrapitops.plan.delivery.domain.container.DataContainer;
+import com.djrapitops.plan.delivery.domain.keys.Key;
 import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
 import org.junit.jupiter.api.Test;
 import utilities.RandomData;
@@ -103,4 +104,38 @@ class SessionTest {
 
         assertEquals(5L, worldTimes.getGMTimes("One").getTotal());
     }
-}
\ No newline at end of file
+
+    @Test
+    void databaseSessionValuesAreAvailableThroughKeys() {
+        Session session = new Session(5, TestConstants.PLAYER_ONE_UUID, serverUUID, 1000L, 6000L, 2, 3, 500L);
+
+        assertEquals(5, session.getUnsafe(SessionKeys.DB_ID));
+        assertEquals(6000L, session.getUnsafe(SessionKeys.END));
+        assertEquals(5000L, session.getUnsafe(SessionKeys.LENGTH));
+        assertEquals(4500L, session.getUnsafe(SessionKeys.ACTIVE_TIME));
+        assertEquals(2, session.getUnsafe(SessionKeys.MOB_KILL_COUNT));
+        assertEquals(3, session.getUnsafe(SessionKeys.DEATH_COUNT));
+        assertFalse(session.supports(SessionKeys.NAME));
+    }
+
+    @Test
+    void activeSessionHasNoEndOrId() {
+        Session session = new Session(TestConstants.PLAYER_ONE_UUID, serverUUID, System.currentTimeMillis(), "World", "SURVIVAL");
+
+        assertFalse(session.supports(SessionKeys.END));
+        assertFalse(session.supports(SessionKeys.DB_ID));
+        assertFalse(session.isFetchedFromDB());
+        assertTrue(session.supports(SessionKeys.LENGTH));
+    }
+
+    @Test
+    void otherKeysCanBeStored() {
+        Session session = new Session(TestConstants.PLAYER_ONE_UUID, serverUUID, System.currentTimeMillis(), "World", "SURVIVAL");
+        session.putRawData(SessionKeys.NAME, "Name");
+        Key<String> otherKey = new Key<>(String.class, "other");
+        session.putRawData(otherKey, "Value");
+
+        assertEquals("Name", session.getUnsafe(SessionKeys.NAME));
+        assertEquals("Value", session.getUnsafe(otherKey));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.timed;
+
+import com.djrapitops.plan.gathering.domain.Ping;
+import org.junit.jupiter.api.Test;
+import utilities.TestConstants;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link PingHistory}.
+ *
+ * @author Rsl1122
+ */
+class PingHistoryTest {
+
+    @Test
+    void aggregateIsCalculatedFromSamples() {
+        PingHistory history = new PingHistory(5);
+        history.add(1L, 50);
+        history.add(2L, -1);
+        history.add(3L, 70);
+        history.add(4L, 10);
+        history.add(5L, 90);
+        assertTrue(history.isFull());
+
+        Ping ping = history.toAggregate(TestConstants.SERVER_UUID);
+        assertEquals(5L, ping.getDate());
+        assertEquals(10, ping.getMin());
+        assertEquals(90, ping.getMax());
+        assertEquals(50.0, ping.getAverage());
+    }
+
+    @Test
+    void oldestSampleIsReplacedWhenFull() {
+        PingHistory history = new PingHistory(3);
+        for (int i = 1; i <= 4; i++) {
+            history.add(i, i * 10);
+        }
+        assertEquals(3, history.size());
+
+        Ping ping = history.toAggregate(TestConstants.SERVER_UUID);
+        assertEquals(4L, ping.getDate());
+        assertEquals(20, ping.getMin());
+        assertEquals(40, ping.getMax());
+    }
+
+    @Test
+    void clearEmptiesHistory() {
+        PingHistory history = new PingHistory();
+        history.add(1L, 50);
+        history.clear();
+        assertTrue(history.isEmpty());
+        assertThrows(IllegalStateException.class, () -> history.toAggregate(TestConstants.SERVER_UUID));
+    }
+
+    @Test
+    void allHistoriesWithSamplesAreAggregatedAndCleared() {
+        PingHistory full = new PingHistory(2);
+        full.add(1L, 10);
+        full.add(2L, 20);
+        PingHistory partial = new PingHistory(2);
+        partial.add(2L, 30);
+        PingHistory empty = new PingHistory(2);
+
+        Map<UUID, PingHistory> histories = new HashMap<>();
+        histories.put(TestConstants.PLAYER_ONE_UUID, full);
+        histories.put(TestConstants.PLAYER_TWO_UUID, partial);
+        histories.put(UUID.randomUUID(), empty);
+
+        Map<UUID, Ping> aggregates = PingHistory.aggregateAll(histories, TestConstants.SERVER_UUID);
+        assertEquals(2, aggregates.size());
+        assertEquals(20, aggregates.get(TestConstants.PLAYER_ONE_UUID).getMax());
+        assertEquals(30, aggregates.get(TestConstants.PLAYER_TWO_UUID).getMax());
+        assertTrue(full.isEmpty());
+        assertTrue(partial.isEmpty());
+    }
+
+    @Test
+    void medianMatchesSortedMedian() {
+        Random random = new Random(17L);
+        for (int n = 1; n < 40; n++) {
+            int[] values = random.ints(n, 0, 100).toArray();
+            int[] sorted = values.clone();
+            Arrays.sort(sorted);
+            double expected = n % 2 == 0 ? (sorted[n / 2 - 1] + sorted[n / 2]) / 2.0 : sorted[n / 2];
+
+            assertEquals(expected, PingHistory.median(values, n));
+        }
+    }
+}
@@ -111,6 +111,7 @@ public class ConfigSettingKeyTest {
         settings.remove(DisplaySettings.WORLD_ALIASES);
         settings.remove(DatabaseSettings.H2_USER);
         settings.remove(DatabaseSettings.H2_PASS);
+        settings.remove(DatabaseSettings.READ_CONNECTIONS);
         return settings;
     }
 
@@ -23,8 +23,8 @@ import com.djrapitops.plan.storage.database.queries.containers.ContainerFetchQue
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythingTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.CreateTablesTransaction;
-import com.djrapitops.plan.storage.database.transactions.patches.KillsOptimizationPatch;
 import com.djrapitops.plan.storage.database.transactions.patches.Patch;
+import com.djrapitops.plan.storage.database.transactions.patches.UserAndServerIDPatch;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.io.TempDir;
 import utilities.*;
@@ -146,10 +146,10 @@ class DBPatchMySQLRegressionTest extends DBPatchRegressionTest {
     }
 
     @Test
-    void mysqlDoesNotApplyKillsOptimizationPatchAgain() {
+    void mysqlDoesNotApplyUserAndServerIDPatchAgain() {
         mysqlPatchesAreApplied();
 
-        KillsOptimizationPatch patch = new KillsOptimizationPatch();
+        UserAndServerIDPatch patch = new UserAndServerIDPatch();
         underTest.executeTransaction(patch);
 
         assertTrue(patch.hasBeenApplied());
@@ -34,6 +34,8 @@ import com.djrapitops.plan.storage.database.queries.containers.ServerPlayerConta
 import com.djrapitops.plan.storage.database.queries.objects.*;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
+import com.djrapitops.plan.storage.database.transactions.GroupCommitTransaction;
 import com.djrapitops.plan.storage.database.transactions.StoreConfigTransaction;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.storage.database.transactions.commands.RemovePlayerTransaction;
@@ -51,8 +53,10 @@ import utilities.TestData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+import static com.djrapitops.plan.storage.database.sql.building.Sql.FROM;
 import static com.djrapitops.plan.storage.database.sql.building.Sql.SELECT;
 import static com.djrapitops.plan.storage.database.sql.building.Sql.WHERE;
 import static org.junit.jupiter.api.Assertions.*;
@@ -273,7 +277,8 @@ public interface DatabaseTest extends DatabaseTestPreparer {
                 , new Transaction() {
                     @Override
                     protected void performOperations() {
-                        execute("UPDATE " + UserInfoTable.TABLE_NAME + " SET " + UserInfoTable.REGISTERED + "=0" + WHERE + UserInfoTable.USER_UUID + "='" + playerUUID + "'");
+                        execute("UPDATE " + UserInfoTable.TABLE_NAME + " SET " + UserInfoTable.REGISTERED + "=0" + WHERE + UserInfoTable.USER_ID + "=(" +
+                                SELECT + UsersTable.ID + FROM + UsersTable.TABLE_NAME + WHERE + UsersTable.USER_UUID + "='" + playerUUID + "')");
                     }
                 }
         );
@@ -317,4 +322,42 @@ public interface DatabaseTest extends DatabaseTestPreparer {
         List<TablePlayer> result = db().query(new NetworkTablePlayersQuery(System.currentTimeMillis(), 10L, 1));
         assertEquals(1, result.size(), () -> "Incorrect query result: " + result);
     }
+
+    @Test
+    default void groupCommitStoresOtherTransactionsWhenOneFails() {
+        Transaction failing = new Transaction() {
+            @Override
+            protected void performOperations() {
+                execute("INSERT INTO plan_non_existent_table (id) VALUES (1)");
+            }
+        };
+        GroupCommitTransaction group = new GroupCommitTransaction();
+        group.add(new WorldNameStoreTransaction(serverUUID(), worlds[0]));
+        group.add(failing);
+        group.add(new WorldNameStoreTransaction(serverUUID(), worlds[1]));
+        db().executeTransaction(group);
+        group.markCommitted();
+
+        assertTrue(group.getFailure(failing).isPresent());
+        assertFalse(failing.wasSuccessful());
+
+        Collection<String> expected = Arrays.asList(worlds);
+        Collection<String> result = db().query(LargeFetchQueries.fetchAllWorldNames()).get(serverUUID());
+        assertEquals(new HashSet<>(expected), new HashSet<>(result));
+    }
+
+    @Test
+    default void queriesOfTransactionSeeItsUncommittedChanges() {
+        AtomicReference<Collection<String>> seenWorlds = new AtomicReference<>();
+        db().executeTransaction(new Transaction() {
+            @Override
+            protected void performOperations() {
+                executeOther(new WorldNameStoreTransaction(serverUUID(), worlds[0]));
+                seenWorlds.set(query(LargeFetchQueries.fetchAllWorldNames()).get(serverUUID()));
+            }
+        });
+
+        assertTrue(seenWorlds.get().contains(worlds[0]));
+        assertTrue(db().getConnectionPoolStatistics().isPresent());
+    }
 }
@@ -0,0 +1,220 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.gathering.domain.Ping;
+import com.djrapitops.plan.gathering.domain.Session;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.TimeSettings;
+import com.djrapitops.plan.settings.locale.Locale;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.events.PingBatchStoreTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.SessionEndTransaction;
+import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import com.djrapitops.plugin.logging.console.TestPluginLogger;
+import com.djrapitops.plugin.task.RunnableFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.sql.Connection;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the order in which {@link SQLDB} executes transactions on its writer threads.
+ *
+ * @author Rsl1122
+ */
+class SQLDBLanesTest {
+
+    private static final int LANES = 4;
+
+    private SQLDB underTest;
+    private List<String> executed;
+    private CountDownLatch hold;
+
+    @BeforeEach
+    void setUp() {
+        PlanConfig config = Mockito.mock(PlanConfig.class);
+        when(config.getOrDefault(TimeSettings.DB_TRANSACTION_FINISH_WAIT_DELAY, TimeUnit.SECONDS.toMillis(20L)))
+                .thenReturn(TimeUnit.SECONDS.toMillis(5L));
+
+        underTest = new SQLDB(UUID::randomUUID, new Locale(), config, Mockito.mock(RunnableFactory.class),
+                new TestPluginLogger(), Mockito.mock(ErrorLogger.class)) {
+            @Override
+            protected int getWriterThreadCount() {
+                return LANES;
+            }
+
+            @Override
+            public void setupDataSource() {
+                // Transactions of the test do not use connections.
+            }
+
+            @Override
+            public Connection getConnection() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void returnToPool(Connection connection) {
+                // Transactions of the test do not use connections.
+            }
+
+            @Override
+            public DBType getType() {
+                return DBType.MYSQL;
+            }
+        };
+        underTest.setState(Database.State.OPEN);
+
+        executed = Collections.synchronizedList(new ArrayList<>());
+        hold = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hold.countDown();
+        underTest.close();
+    }
+
+    private static UUID keyOnLane(int lane) {
+        UUID key;
+        do {
+            key = UUID.randomUUID();
+        } while (Math.floorMod(key.hashCode(), LANES) != lane);
+        return key;
+    }
+
+    private Future<?> execute(String name, UUID key, Collection<UUID> dependencyKeys, boolean waitForRelease) {
+        return underTest.executeTransaction(new Transaction() {
+            @Override
+            public UUID getPartitionKey() {
+                return key;
+            }
+
+            @Override
+            public Collection<UUID> getDependencyKeys() {
+                return dependencyKeys;
+            }
+
+            @Override
+            public void executeTransaction(SQLDB db) {
+                try {
+                    if (waitForRelease) hold.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                executed.add(name);
+            }
+
+            @Override
+            protected void performOperations() {
+                // Execution is recorded instead.
+            }
+        });
+    }
+
+    @Test
+    void transactionsOfSameKeyAreExecutedInSubmissionOrder() throws Exception {
+        UUID player = keyOnLane(1);
+        execute("register", player, Collections.emptyList(), true);
+        Future<?> session = execute("session", player, Collections.emptyList(), false);
+
+        hold.countDown();
+        session.get(5, TimeUnit.SECONDS);
+        assertEquals(Arrays.asList("register", "session"), executed);
+    }
+
+    @Test
+    void transactionsOfOtherKeysAreNotWaitedFor() throws Exception {
+        execute("first", keyOnLane(1), Collections.emptyList(), true);
+        execute("second", keyOnLane(2), Collections.emptyList(), false).get(5, TimeUnit.SECONDS);
+
+        assertEquals(Collections.singletonList("second"), executed);
+    }
+
+    @Test
+    void transactionIsExecutedAfterTransactionsOfItsDependencyKeys() throws Exception {
+        UUID server = keyOnLane(1);
+        UUID player = keyOnLane(2);
+        execute("world", server, Collections.emptyList(), true);
+        Future<?> session = execute("session", player, Collections.singletonList(server), false);
+
+        assertThrows(TimeoutException.class, () -> session.get(200, TimeUnit.MILLISECONDS));
+        assertTrue(executed.isEmpty());
+
+        hold.countDown();
+        session.get(5, TimeUnit.SECONDS);
+        assertEquals(Arrays.asList("world", "session"), executed);
+    }
+
+    @Test
+    void transactionOfSameKeyIsExecutedAfterEarlierDependentTransaction() throws Exception {
+        UUID server = keyOnLane(1);
+        UUID player = keyOnLane(2);
+        execute("world", server, Collections.emptyList(), true);
+        execute("session end", player, Collections.singletonList(server), false);
+        Future<?> join = execute("join", player, Collections.emptyList(), false);
+
+        assertThrows(TimeoutException.class, () -> join.get(200, TimeUnit.MILLISECONDS));
+        assertTrue(executed.isEmpty());
+
+        hold.countDown();
+        join.get(5, TimeUnit.SECONDS);
+        assertEquals(Arrays.asList("world", "session end", "join"), executed);
+    }
+
+    @Test
+    void transactionsSubmittedAfterDependentTransactionAreNotWaitedFor() throws Exception {
+        UUID server = keyOnLane(1);
+        UUID player = keyOnLane(2);
+        execute("world", server, Collections.emptyList(), true);
+        Future<?> session = execute("session", player, Collections.singletonList(server), false);
+        execute("other", keyOnLane(3), Collections.emptyList(), false).get(5, TimeUnit.SECONDS);
+
+        hold.countDown();
+        session.get(5, TimeUnit.SECONDS);
+        assertEquals(Arrays.asList("other", "world", "session"), executed);
+    }
+
+    @Test
+    void sessionIsStoredOnThreadOfThePlayerAfterWorldNamesOfTheServer() {
+        UUID player = UUID.randomUUID();
+        UUID server = UUID.randomUUID();
+        SessionEndTransaction transaction = new SessionEndTransaction(new Session(player, server, 0L, "World", "SURVIVAL"));
+
+        assertEquals(player, transaction.getPartitionKey());
+        assertEquals(Collections.singletonList(server), new ArrayList<>(transaction.getDependencyKeys()));
+    }
+
+    @Test
+    void pingIsStoredAfterThePlayersHaveBeenRegistered() {
+        UUID server = UUID.randomUUID();
+        Map<UUID, Ping> pings = new HashMap<>();
+        pings.put(UUID.randomUUID(), new Ping(0L, server, 1, 3, 2));
+        pings.put(UUID.randomUUID(), new Ping(0L, server, 1, 3, 2));
+        PingBatchStoreTransaction transaction = new PingBatchStoreTransaction(server, pings);
+
+        assertEquals(pings.keySet(), new HashSet<>(transaction.getDependencyKeys()));
+    }
+}
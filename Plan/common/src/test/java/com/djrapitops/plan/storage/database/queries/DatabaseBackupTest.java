@@ -26,7 +26,9 @@ import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
 import com.djrapitops.plan.storage.database.H2DB;
 import com.djrapitops.plan.storage.database.SQLiteDB;
 import com.djrapitops.plan.storage.database.queries.objects.*;
+import com.djrapitops.plan.storage.database.sql.tables.TPSAggregateTable;
 import com.djrapitops.plan.storage.database.transactions.BackupCopyTransaction;
+import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.commands.RegisterWebUserTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.*;
 import com.djrapitops.plan.utilities.PassEncryptUtil;
@@ -37,6 +39,8 @@ import utilities.TestConstants;
 
 import java.io.File;
 import java.nio.file.Files;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
 
@@ -62,6 +66,14 @@ public interface DatabaseBackupTest extends DatabaseTestPreparer {
         for (TPS tps : expected) {
             execute(DataStoreQueries.storeTPS(serverUUID(), tps));
         }
+        execute(new ExecStatement(TPSAggregateTable.INSERT_HOURS_FROM_SAMPLES_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID().toString());
+                statement.setLong(2, 0L);
+                statement.setLong(3, Long.MAX_VALUE);
+            }
+        });
 
         db().executeTransaction(new PingStoreTransaction(
                 playerUUID, serverUUID(),
@@ -92,6 +104,8 @@ public interface DatabaseBackupTest extends DatabaseTestPreparer {
             assertQueryResultIsEqual(db(), backup, SessionQueries.fetchAllSessions());
             assertQueryResultIsEqual(db(), backup, LargeFetchQueries.fetchAllWorldNames());
             assertQueryResultIsEqual(db(), backup, LargeFetchQueries.fetchAllTPSData());
+            assertQueryResultIsEqual(db(), backup, TPSQueries.fetchLatestAggregateDate(TPSAggregateTable.HOUR, serverUUID()));
+            assertQueryResultIsEqual(db(), backup, TPSQueries.fetchTPSDataOfServer(0L, System.currentTimeMillis(), TPSAggregateTable.HOUR, serverUUID()));
             assertQueryResultIsEqual(db(), backup, ServerQueries.fetchPlanServerInformation());
             assertQueryResultIsEqual(db(), backup, WebUserQueries.fetchAllUsers());
         } finally {
@@ -119,6 +133,8 @@ public interface DatabaseBackupTest extends DatabaseTestPreparer {
             assertQueryResultIsEqual(db(), backup, SessionQueries.fetchAllSessions());
             assertQueryResultIsEqual(db(), backup, LargeFetchQueries.fetchAllWorldNames());
             assertQueryResultIsEqual(db(), backup, LargeFetchQueries.fetchAllTPSData());
+            assertQueryResultIsEqual(db(), backup, TPSQueries.fetchLatestAggregateDate(TPSAggregateTable.HOUR, serverUUID()));
+            assertQueryResultIsEqual(db(), backup, TPSQueries.fetchTPSDataOfServer(0L, System.currentTimeMillis(), TPSAggregateTable.HOUR, serverUUID()));
             assertQueryResultIsEqual(db(), backup, ServerQueries.fetchPlanServerInformation());
             assertQueryResultIsEqual(db(), backup, WebUserQueries.fetchAllUsers());
         } finally {
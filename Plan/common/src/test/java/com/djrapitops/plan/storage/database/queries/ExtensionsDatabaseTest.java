@@ -17,6 +17,9 @@
 package com.djrapitops.plan.storage.database.queries;
 
 import com.djrapitops.plan.data.element.TableContainer;
+import com.djrapitops.plan.delivery.domain.TablePlayerOrder;
+import com.djrapitops.plan.delivery.domain.TablePlayerPage;
+import com.djrapitops.plan.delivery.domain.TablePlayerPageRequest;
 import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.DataExtension;
 import com.djrapitops.plan.extension.ExtensionService;
@@ -33,7 +36,12 @@ import com.djrapitops.plan.extension.implementation.storage.transactions.results
 import com.djrapitops.plan.extension.table.Table;
 import com.djrapitops.plan.gathering.domain.Session;
 import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
+import com.djrapitops.plan.storage.database.queries.objects.TablePlayersPageQuery;
+import com.djrapitops.plan.storage.database.sql.tables.ExtensionGroupsTable;
+import com.djrapitops.plan.storage.database.sql.tables.ExtensionPlayerTableValueTable;
+import com.djrapitops.plan.storage.database.sql.tables.ExtensionPlayerValueTable;
 import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythingTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.PlayerServerRegisterTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.WorldNameStoreTransaction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,11 +49,18 @@ import utilities.OptionalAssert;
 import utilities.RandomData;
 import utilities.TestConstants;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -103,12 +118,41 @@ public interface ExtensionsDatabaseTest extends DatabaseTestPreparer {
         OptionalAssert.equals("Group", tabData.getString("groupVal").map(ExtensionStringData::getFormattedValue));
     }
 
+    @Test
+    default void extensionPlayerValuesAreReplacedWhenGatheredAgain() {
+        extensionPlayerValuesAreStored();
+
+        ExtensionSvc extensionService = (ExtensionSvc) system().getExtensionService();
+        extensionService.updatePlayerValues(playerUUID, TestConstants.PLAYER_ONE_NAME, CallEvents.MANUAL);
+
+        // PlayerExtension has 5 values and 1 group
+        assertEquals(5, db().query(countPlayerRows(ExtensionPlayerValueTable.TABLE_NAME)));
+        assertEquals(1, db().query(countPlayerRows(ExtensionGroupsTable.TABLE_NAME)));
+    }
+
+    default Query<Integer> countPlayerRows(String tableName) {
+        String sql = SELECT + "COUNT(1) as c" + FROM + tableName + WHERE + ExtensionPlayerValueTable.USER_UUID + "=?"; // Same column name in groups table
+        return new QueryStatement<Integer>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, playerUUID.toString());
+            }
+
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getInt("c") : 0;
+            }
+        };
+    }
+
     @Test
     default void extensionPlayerValuesCanBeQueriedAsTableData() {
         extensionPlayerValuesAreStored();
         db().executeTransaction(new WorldNameStoreTransaction(serverUUID(), worlds[0]));
         db().executeTransaction(new WorldNameStoreTransaction(serverUUID(), worlds[1]));
 
+        // Sessions refer to registered users
+        db().executeTransaction(new PlayerServerRegisterTransaction(playerUUID, RandomData::randomTime, TestConstants.PLAYER_ONE_NAME, serverUUID()));
         // Store a session to check against issue https://github.com/plan-player-analytics/Plan/issues/1039
         Session session = new Session(playerUUID, serverUUID(), 32345L, worlds[0], "SURVIVAL");
         session.endSession(42345L);
@@ -128,6 +172,61 @@ public interface ExtensionsDatabaseTest extends DatabaseTestPreparer {
         OptionalAssert.equals("Something", playerData.getString("stringVal").map(ExtensionStringData::getFormattedValue));
     }
 
+    @Test
+    default void extensionPlayerValuesCanBeQueriedForPageOfPlayersTable() {
+        extensionPlayerValuesAreStored();
+
+        Map<UUID, ExtensionTabData> result = db().query(new ExtensionServerPlayerDataTableQuery(serverUUID(), Collections.singletonList(playerUUID)));
+        assertEquals(1, result.size());
+        ExtensionTabData playerData = result.get(playerUUID);
+        assertNotNull(playerData);
+        OptionalAssert.equals("5", playerData.getNumber("value").map(data -> data.getFormattedValue(Object::toString)));
+
+        Map<UUID, ExtensionTabData> otherPlayers = db().query(new ExtensionServerPlayerDataTableQuery(serverUUID(), Collections.singletonList(player2UUID)));
+        assertTrue(otherPlayers.isEmpty());
+
+        List<ExtensionDescriptive> descriptives = db().query(ExtensionServerPlayerDataTableQuery.fetchTableDescriptives(serverUUID()));
+        assertTrue(descriptives.stream().anyMatch(descriptive -> "value".equals(descriptive.getName())));
+    }
+
+    @Test
+    default void playersTablePagesAreOrderedByExtensionValues() {
+        extensionPlayerValuesAreStored();
+        db().executeTransaction(new PlayerServerRegisterTransaction(playerUUID, RandomData::randomTime, TestConstants.PLAYER_ONE_NAME, serverUUID()));
+        db().executeTransaction(new PlayerServerRegisterTransaction(player2UUID, RandomData::randomTime, TestConstants.PLAYER_TWO_NAME, serverUUID()));
+
+        for (String provider : new String[]{"value", "doubleVal", "stringVal"}) {
+            TablePlayerPage first = db().query(TablePlayersPageQuery.ofServer(serverUUID(), System.currentTimeMillis(), TimeUnit.HOURS.toMillis(1L),
+                    TablePlayerPageRequest.orderedByExtension(provider, true, null, 1, null, 0)));
+            assertEquals(playerUUID, first.getPlayers().get(0).getPlayerUUID(), () -> "First page ordered by " + provider);
+
+            TablePlayerPage.Cursor cursor = first.getNextCursor()
+                    .flatMap(next -> TablePlayerPage.Cursor.decode(next.encode()))
+                    .orElseThrow(AssertionError::new);
+            assertEquals(TablePlayerOrder.EXTENSION, cursor.getOrder());
+            OptionalAssert.equals(provider, cursor.getExtensionProvider());
+
+            TablePlayerPage second = db().query(TablePlayersPageQuery.ofServer(serverUUID(), System.currentTimeMillis(), TimeUnit.HOURS.toMillis(1L),
+                    TablePlayerPageRequest.orderedByExtension(provider, true, null, 1, cursor, 0)));
+            assertEquals(player2UUID, second.getPlayers().get(0).getPlayerUUID(), () -> "Second page ordered by " + provider);
+        }
+    }
+
+    @Test
+    default void playersTablePageIsFilteredByExtensionValues() {
+        extensionPlayerValuesAreStored();
+        db().executeTransaction(new PlayerServerRegisterTransaction(playerUUID, RandomData::randomTime, TestConstants.PLAYER_ONE_NAME, serverUUID()));
+        db().executeTransaction(new PlayerServerRegisterTransaction(player2UUID, RandomData::randomTime, TestConstants.PLAYER_TWO_NAME, serverUUID()));
+
+        TablePlayerPage page = db().query(TablePlayersPageQuery.ofServer(serverUUID(), System.currentTimeMillis(), TimeUnit.HOURS.toMillis(1L),
+                new TablePlayerPageRequest(TablePlayerOrder.NAME, false, "SOMETH", 10, null, 0)));
+
+        assertEquals(2, page.getTotalCount());
+        assertEquals(1, page.getFilteredCount());
+        assertEquals(1, page.getPlayers().size());
+        assertEquals(playerUUID, page.getPlayers().get(0).getPlayerUUID());
+    }
+
     @Test
     default void extensionServerValuesAreStored() {
         ExtensionSvc extensionService = (ExtensionSvc) system().getExtensionService();
@@ -349,6 +448,25 @@ public interface ExtensionsDatabaseTest extends DatabaseTestPreparer {
         assertEquals(expected.buildHtml(), table.getHtmlTable().buildHtml());
     }
 
+    @Test
+    default void extensionPlayerTableRowsAreUpdatedWhenChanged() {
+        ExtensionSvc extensionService = (ExtensionSvc) system().getExtensionService();
+
+        extensionService.register(new ChangingTableExtension());
+        ChangingTableExtension.rows = Arrays.asList("a", "a", "b");
+        extensionService.updatePlayerValues(playerUUID, TestConstants.PLAYER_ONE_NAME, CallEvents.MANUAL);
+        assertEquals(3, db().query(countPlayerRows(ExtensionPlayerTableValueTable.TABLE_NAME)));
+
+        ChangingTableExtension.rows = Arrays.asList("a", "c");
+        extensionService.updatePlayerValues(playerUUID, TestConstants.PLAYER_ONE_NAME, CallEvents.MANUAL);
+        assertEquals(2, db().query(countPlayerRows(ExtensionPlayerTableValueTable.TABLE_NAME)));
+
+        ExtensionTabData tabData = db().query(new ExtensionPlayerDataQuery(playerUUID)).get(serverUUID()).get(0).getTabs().get(0);
+        TableContainer table = tabData.getTableData().get(0).getHtmlTable();
+        String body = table.parseBody();
+        assertTrue(body.contains("<td>a</td>") && body.contains("<td>c</td>") && !body.contains("<td>b</td>"), body);
+    }
+
     @PluginInfo(name = "ConditionalExtension")
     class ConditionalExtension implements DataExtension {
 
@@ -488,4 +606,19 @@ public interface ExtensionsDatabaseTest extends DatabaseTestPreparer {
                     .build();
         }
     }
+
+    @PluginInfo(name = "ChangingTableExtension")
+    class ChangingTableExtension implements DataExtension {
+
+        static List<String> rows = Collections.emptyList();
+
+        @TableProvider(tableColor = Color.AMBER)
+        public Table playerTable(UUID playerUUID) {
+            Table.Factory table = Table.builder().columnOne("first", Icon.called("gavel").build());
+            for (String row : rows) {
+                table.addRow(row);
+            }
+            return table.build();
+        }
+    }
 }
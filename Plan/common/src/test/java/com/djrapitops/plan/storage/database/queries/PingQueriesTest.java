@@ -22,8 +22,10 @@ import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
 import com.djrapitops.plan.storage.database.queries.objects.PingQueries;
 import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythingTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.PingStoreTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.PlayerRegisterTransaction;
 import org.junit.jupiter.api.Test;
 import utilities.RandomData;
+import utilities.TestConstants;
 
 import java.util.Collections;
 import java.util.List;
@@ -37,6 +39,7 @@ public interface PingQueriesTest extends DatabaseTestPreparer {
 
     @Test
     default void singlePingIsStored() {
+        db().executeTransaction(new PlayerRegisterTransaction(playerUUID, RandomData::randomTime, TestConstants.PLAYER_ONE_NAME));
         DateObj<Integer> saved = RandomData.randomIntDateObject();
         int value = saved.getValue();
         db().executeTransaction(new PingStoreTransaction(playerUUID, serverUUID(),
@@ -51,6 +54,7 @@ public interface PingQueriesTest extends DatabaseTestPreparer {
 
     @Test
     default void pingIsStored() {
+        db().executeTransaction(new PlayerRegisterTransaction(playerUUID, RandomData::randomTime, TestConstants.PLAYER_ONE_NAME));
         Map<UUID, List<Ping>> expected = Collections.singletonMap(playerUUID, RandomData.randomPings(serverUUID()));
         execute(LargeStoreQueries.storeAllPingData(expected));
         Map<UUID, List<Ping>> fetched = db().query(PingQueries.fetchAllPingData());
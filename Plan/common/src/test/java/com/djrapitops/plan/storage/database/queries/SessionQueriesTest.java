@@ -16,23 +16,36 @@
  */
 package com.djrapitops.plan.storage.database.queries;
 
+import com.djrapitops.plan.delivery.domain.SessionPage;
+import com.djrapitops.plan.delivery.domain.SessionPageRequest;
 import com.djrapitops.plan.delivery.domain.TablePlayer;
+import com.djrapitops.plan.delivery.domain.TablePlayerOrder;
+import com.djrapitops.plan.delivery.domain.TablePlayerPage;
+import com.djrapitops.plan.delivery.domain.TablePlayerPageRequest;
+import com.djrapitops.plan.delivery.domain.TimeWindow;
+import com.djrapitops.plan.delivery.domain.TimeWindowTotals;
 import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
 import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
+import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
 import com.djrapitops.plan.gathering.domain.PlayerKill;
 import com.djrapitops.plan.gathering.domain.Session;
 import com.djrapitops.plan.gathering.domain.WorldTimes;
 import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
+import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.TimeWindowQueries;
 import com.djrapitops.plan.storage.database.queries.containers.PlayerContainerQuery;
 import com.djrapitops.plan.storage.database.queries.objects.KillQueries;
 import com.djrapitops.plan.storage.database.queries.objects.ServerTablePlayersQuery;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
+import com.djrapitops.plan.storage.database.queries.objects.TablePlayersPageQuery;
 import com.djrapitops.plan.storage.database.queries.objects.WorldTimesQueries;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythingTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.PlayerServerRegisterTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.SessionEndTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.WorldNameStoreTransaction;
+import com.djrapitops.plan.storage.database.transactions.patches.SessionRollupsPatch;
 import com.djrapitops.plugin.api.TimeAmount;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
@@ -41,6 +54,7 @@ import utilities.TestConstants;
 
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -244,6 +258,113 @@ public interface SessionQueriesTest extends DatabaseTestPreparer {
         assertEquals(0, db().query(KillQueries.playerKillCount(0, System.currentTimeMillis(), serverUUID())));
     }
 
+    @Test
+    default void sessionRollupsMatchStoredSessions() {
+        prepareForSessionSave();
+        Session first = RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID);
+        Session second = RandomData.randomSession(serverUUID(), worlds, player2UUID, playerUUID);
+        db().executeTransaction(new SessionEndTransaction(first));
+        db().executeTransaction(new SessionEndTransaction(second));
+
+        long now = System.currentTimeMillis();
+        assertEquals(first.getLength() + second.getLength(), db().query(SessionQueries.playtime(0L, now, serverUUID())));
+        assertEquals(2L, db().query(SessionQueries.sessionCount(0L, now, serverUUID())));
+        assertEquals(2, db().query(PlayerCountQueries.uniquePlayerCount(0L, now, serverUUID())));
+    }
+
+    @Test
+    default void sessionsArePlacedOnDaysOfTimeZonesNotAlignedWithHours() {
+        prepareForSessionSave();
+        long day = TimeUnit.DAYS.toMillis(18000L); // 2019-04-14 00:00 UTC
+        long offset = TimeUnit.MINUTES.toMillis(330L); // +05:30
+        // 18:40 UTC is 00:10 of the next day in the time zone, but the rollup row starts at 23:30 of the first day.
+        long start = day + TimeUnit.MINUTES.toMillis(18L * 60L + 40L);
+        Session session = new Session(playerUUID, serverUUID(), start, worlds[0], "SURVIVAL");
+        session.endSession(start + TimeUnit.MINUTES.toMillis(10L));
+        db().executeTransaction(new SessionEndTransaction(session));
+
+        long nextDay = day + TimeUnit.DAYS.toMillis(1L);
+        long before = day + TimeUnit.DAYS.toMillis(2L);
+        assertEquals(Collections.singletonMap(nextDay, 1), db().query(SessionQueries.sessionCountPerDay(day, before, offset, serverUUID())));
+        assertEquals(Collections.singletonMap(nextDay, 1), db().query(PlayerCountQueries.uniquePlayerCounts(day, before, offset, serverUUID())));
+        assertEquals(Collections.singletonMap(day, 1), db().query(SessionQueries.sessionCountPerDay(day, before, 0L, serverUUID())));
+    }
+
+    @Test
+    default void sessionRollupsPatchFillsRollupsOfExistingSessions() {
+        prepareForSessionSave();
+        Session session = RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID);
+        execute(DataStoreQueries.storeSession(session));
+
+        long now = System.currentTimeMillis();
+        assertEquals(0L, db().query(SessionQueries.sessionCount(0L, now, serverUUID())));
+
+        db().executeTransaction(new SessionRollupsPatch());
+
+        assertEquals(session.getLength(), db().query(SessionQueries.playtime(0L, now, serverUUID())));
+        assertEquals(1L, db().query(SessionQueries.sessionCount(0L, now, serverUUID())));
+    }
+
+    @Test
+    default void timeWindowTotalsMatchSingleWindowQueries() {
+        prepareForSessionSave();
+        db().executeTransaction(new SessionEndTransaction(RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID)));
+        db().executeTransaction(new SessionEndTransaction(RandomData.randomSession(serverUUID(), worlds, player2UUID, playerUUID)));
+
+        long now = System.currentTimeMillis();
+        TimeWindow allTime = new TimeWindow(0L, now);
+        TimeWindow week = new TimeWindow(now - TimeUnit.DAYS.toMillis(7L), now);
+        Map<TimeWindow, TimeWindowTotals> totals = db().query(TimeWindowQueries.fetchTotalsWithDailyAverages(0L, serverUUID(), allTime, week));
+
+        for (TimeWindow window : Arrays.asList(allTime, week)) {
+            long after = window.getAfter();
+            TimeWindowTotals windowTotals = totals.get(window);
+            assertEquals(db().query(SessionQueries.playtime(after, now, serverUUID())), windowTotals.getPlaytime());
+            assertEquals(db().query(SessionQueries.sessionCount(after, now, serverUUID())), windowTotals.getSessionCount());
+            assertEquals(db().query(PlayerCountQueries.uniquePlayerCount(after, now, serverUUID())), windowTotals.getUniquePlayers());
+            assertEquals(db().query(PlayerCountQueries.newPlayerCount(after, now, serverUUID())), windowTotals.getNewPlayers());
+            assertEquals(db().query(PlayerCountQueries.averageUniquePlayerCount(after, now, 0L, serverUUID())), windowTotals.getAverageUniquePlayersPerDay());
+            assertEquals(db().query(PlayerCountQueries.averageNewPlayerCount(after, now, 0L, serverUUID())), windowTotals.getAverageNewPlayersPerDay());
+            assertEquals(db().query(SessionQueries.averagePlaytimePerDay(after, now, 0L, serverUUID())), windowTotals.getAveragePlaytimePerDay());
+        }
+    }
+
+    @Test
+    default void sessionsInPartialHoursOutsideWindowAreNotCounted() {
+        prepareForSessionSave();
+        long hour = TimeUnit.DAYS.toMillis(18000L) + TimeUnit.HOURS.toMillis(5L);
+        long after = hour + TimeUnit.MINUTES.toMillis(30L);
+        long before = hour + TimeUnit.MINUTES.toMillis(200L);
+
+        long[][] sessions = {
+                {hour + TimeUnit.MINUTES.toMillis(10L), 5L}, // Partial hour before the window
+                {hour + TimeUnit.MINUTES.toMillis(40L), 10L},
+                {hour + TimeUnit.MINUTES.toMillis(65L), 15L},
+                {hour + TimeUnit.MINUTES.toMillis(190L), 7L},
+                {hour + TimeUnit.MINUTES.toMillis(210L), 5L} // Partial hour after the window
+        };
+        for (int i = 0; i < sessions.length; i++) {
+            long start = sessions[i][0];
+            Session session = new Session(i % 2 == 0 ? playerUUID : player2UUID, serverUUID(), start, worlds[0], "SURVIVAL");
+            session.endSession(start + TimeUnit.MINUTES.toMillis(sessions[i][1]));
+            db().executeTransaction(new SessionEndTransaction(session));
+        }
+
+        assertEquals(3L, db().query(SessionQueries.sessionCount(after, before, serverUUID())));
+        assertEquals(TimeUnit.MINUTES.toMillis(32L), db().query(SessionQueries.playtime(after, before, serverUUID())));
+        assertEquals(2, db().query(PlayerCountQueries.uniquePlayerCount(after, before, serverUUID())));
+
+        TimeWindow window = new TimeWindow(after, before);
+        TimeWindow partialHour = new TimeWindow(hour, after - 1L);
+        Map<TimeWindow, TimeWindowTotals> totals = db().query(TimeWindowQueries.fetchTotals(serverUUID(), window, partialHour));
+        assertEquals(3L, totals.get(window).getSessionCount());
+        assertEquals(TimeUnit.MINUTES.toMillis(32L), totals.get(window).getPlaytime());
+        assertEquals(2, totals.get(window).getUniquePlayers());
+        assertEquals(1L, totals.get(partialHour).getSessionCount());
+        assertEquals(TimeUnit.MINUTES.toMillis(5L), totals.get(partialHour).getPlaytime());
+        assertEquals(1, totals.get(partialHour).getUniquePlayers());
+    }
+
     @Test
     default void removeEverythingRemovesWorldNames() {
         prepareForSessionSave();
@@ -321,4 +442,148 @@ public interface SessionQueriesTest extends DatabaseTestPreparer {
                         ". Playtime for reference container: <w1:" + playtime1 + ", w2:" + playtime2 + ", w3:" + playtime3 + ">"
         );
     }
+
+    @Test
+    default void sessionPagesContainEverySessionOnce() {
+        prepareForSessionSave();
+        RandomData.randomSessions(serverUUID(), worlds, playerUUID, player2UUID)
+                .forEach(session -> execute(DataStoreQueries.storeSession(session)));
+        RandomData.randomSessions(serverUUID(), worlds, player2UUID, playerUUID)
+                .forEach(session -> execute(DataStoreQueries.storeSession(session)));
+
+        List<Session> stored = db().query(SessionQueries.fetchSessionsOfServerFlat(serverUUID()));
+        Set<Integer> expected = stored.stream().map(session -> session.getUnsafe(SessionKeys.DB_ID)).collect(Collectors.toSet());
+
+        for (UUID serverUUID : new UUID[]{serverUUID(), null}) {
+            List<Integer> pages = new ArrayList<>();
+            long previousStart = Long.MAX_VALUE;
+            SessionPage.Cursor cursor = null;
+            do {
+                SessionPage page = db().query(SessionQueries.fetchSessionPage(new SessionPageRequest(serverUUID, null, null, 7, cursor)));
+                for (Session session : page.getSessions()) {
+                    assertTrue(session.getDate() <= previousStart, "Sessions were not ordered by start");
+                    previousStart = session.getDate();
+                    pages.add(session.getUnsafe(SessionKeys.DB_ID));
+                }
+                cursor = page.getNextCursor()
+                        .flatMap(next -> SessionPage.Cursor.decode(next.encode()))
+                        .orElse(null);
+            } while (cursor != null);
+
+            assertEquals(expected, new HashSet<>(pages));
+            assertEquals(expected.size(), pages.size());
+        }
+    }
+
+    @Test
+    default void sessionPageIsFilteredByPlayerAndWorld() {
+        prepareForSessionSave();
+        RandomData.randomSessions(serverUUID(), worlds, playerUUID, player2UUID)
+                .forEach(session -> execute(DataStoreQueries.storeSession(session)));
+        RandomData.randomSessions(serverUUID(), worlds, player2UUID, playerUUID)
+                .forEach(session -> execute(DataStoreQueries.storeSession(session)));
+        List<Session> stored = db().query(SessionQueries.fetchSessionsOfServerFlat(serverUUID()));
+
+        SessionPage playerPage = db().query(SessionQueries.fetchSessionPage(new SessionPageRequest(serverUUID(), player2UUID, null, 1000, null)));
+        long expectedPlayerSessions = stored.stream().filter(session -> player2UUID.equals(session.getUnsafe(SessionKeys.UUID))).count();
+        assertEquals(expectedPlayerSessions, playerPage.getSessions().size());
+        assertTrue(playerPage.getSessions().stream().allMatch(session -> player2UUID.equals(session.getUnsafe(SessionKeys.UUID))));
+
+        SessionPage worldPage = db().query(SessionQueries.fetchSessionPage(new SessionPageRequest(null, null, worlds[0], 1000, null)));
+        long expectedWorldSessions = stored.stream().filter(session -> session.getUnsafe(SessionKeys.WORLD_TIMES).contains(worlds[0])).count();
+        assertEquals(expectedWorldSessions, worldPage.getSessions().size());
+    }
+
+    @Test
+    default void sessionOfPageHasKillCountAndDetailsCanBeQueried() {
+        prepareForSessionSave();
+        Session session = RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID);
+        execute(DataStoreQueries.storeSession(session));
+
+        SessionPage page = db().query(SessionQueries.fetchSessionPage(new SessionPageRequest(serverUUID(), null, null, 10, null)));
+        assertEquals(1, page.getSessions().size());
+        assertFalse(page.getNextCursor().isPresent());
+        Session pageSession = page.getSessions().get(0);
+        assertEquals(session.getPlayerKills().size(), pageSession.getUnsafe(SessionKeys.PLAYER_KILL_COUNT));
+        assertEquals(session.getUnsafe(SessionKeys.WORLD_TIMES), pageSession.getUnsafe(SessionKeys.WORLD_TIMES));
+
+        Session details = db().query(SessionQueries.fetchSession(pageSession.getUnsafe(SessionKeys.DB_ID)))
+                .orElseThrow(AssertionError::new);
+        assertEquals(session, details);
+        assertEquals(session.getPlayerKills(), details.getPlayerKills());
+    }
+
+    @Test
+    default void playersTablePagesContainEveryPlayerOnce() {
+        prepareForSessionSave();
+        List<Session> player1Sessions = RandomData.randomSessions(serverUUID(), worlds, playerUUID, player2UUID);
+        player1Sessions.forEach(session -> execute(DataStoreQueries.storeSession(session)));
+
+        long time = System.currentTimeMillis();
+        for (TablePlayerOrder order : TablePlayerOrder.values()) {
+            if (order == TablePlayerOrder.EXTENSION) continue; // Tested in ExtensionsDatabaseTest
+            for (boolean descending : new boolean[]{true, false}) {
+                List<UUID> serverPages = new ArrayList<>();
+                List<UUID> networkPages = new ArrayList<>();
+                TablePlayerPage.Cursor serverCursor = null;
+                TablePlayerPage.Cursor networkCursor = null;
+                for (int i = 0; i < 3; i++) {
+                    TablePlayerPage serverPage = db().query(TablePlayersPageQuery.ofServer(serverUUID(), time, TimeUnit.HOURS.toMillis(1L),
+                            new TablePlayerPageRequest(order, descending, null, 1, serverCursor, 0)));
+                    TablePlayerPage networkPage = db().query(TablePlayersPageQuery.ofNetwork(time, TimeUnit.HOURS.toMillis(1L),
+                            new TablePlayerPageRequest(order, descending, null, 1, networkCursor, 0)));
+                    assertEquals(2, serverPage.getTotalCount());
+                    assertEquals(2, networkPage.getTotalCount());
+                    serverPage.getPlayers().forEach(player -> serverPages.add(player.getPlayerUUID()));
+                    networkPage.getPlayers().forEach(player -> networkPages.add(player.getPlayerUUID()));
+                    serverCursor = serverPage.getNextCursor()
+                            .flatMap(cursor -> TablePlayerPage.Cursor.decode(cursor.encode()))
+                            .orElse(null);
+                    networkCursor = networkPage.getNextCursor()
+                            .flatMap(cursor -> TablePlayerPage.Cursor.decode(cursor.encode()))
+                            .orElse(null);
+                    if (serverCursor == null && networkCursor == null) break;
+                }
+
+                List<UUID> expected = Arrays.asList(playerUUID, player2UUID);
+                assertEquals(new HashSet<>(expected), new HashSet<>(serverPages), () -> "Server pages ordered by " + order);
+                assertEquals(2, serverPages.size(), () -> "Server pages ordered by " + order);
+                assertEquals(new HashSet<>(expected), new HashSet<>(networkPages), () -> "Network pages ordered by " + order);
+                assertEquals(2, networkPages.size(), () -> "Network pages ordered by " + order);
+            }
+        }
+    }
+
+    @Test
+    default void playersTablePagesUseActivityIndexDateOfFirstPage() {
+        prepareForSessionSave();
+
+        long firstPageDate = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(1L);
+        TablePlayerPage first = db().query(TablePlayersPageQuery.ofServer(serverUUID(), firstPageDate, TimeUnit.HOURS.toMillis(1L),
+                new TablePlayerPageRequest(TablePlayerOrder.ACTIVITY_INDEX, true, null, 1, null, 0)));
+        TablePlayerPage.Cursor cursor = first.getNextCursor()
+                .flatMap(next -> TablePlayerPage.Cursor.decode(next.encode()))
+                .orElseThrow(AssertionError::new);
+        assertEquals(firstPageDate, cursor.getDate());
+
+        TablePlayerPage second = db().query(TablePlayersPageQuery.ofServer(serverUUID(), System.currentTimeMillis(), TimeUnit.HOURS.toMillis(1L),
+                new TablePlayerPageRequest(TablePlayerOrder.ACTIVITY_INDEX, true, null, 1, cursor, 0)));
+        assertEquals(1, second.getPlayers().size());
+        assertEquals(firstPageDate, second.getPlayers().get(0).getCurrentActivityIndex()
+                .map(ActivityIndex::getDate).orElseThrow(AssertionError::new));
+        assertNotEquals(first.getPlayers().get(0).getPlayerUUID(), second.getPlayers().get(0).getPlayerUUID());
+    }
+
+    @Test
+    default void playersTablePageIsFilteredByName() {
+        prepareForSessionSave();
+
+        TablePlayerPage page = db().query(TablePlayersPageQuery.ofServer(serverUUID(), System.currentTimeMillis(), TimeUnit.HOURS.toMillis(1L),
+                new TablePlayerPageRequest(TablePlayerOrder.NAME, false, "player_TWO", 10, null, 0)));
+
+        assertEquals(2, page.getTotalCount());
+        assertEquals(1, page.getFilteredCount());
+        assertEquals(1, page.getPlayers().size());
+        assertEquals(player2UUID, page.getPlayers().get(0).getPlayerUUID());
+    }
 }
@@ -18,10 +18,12 @@ package com.djrapitops.plan.storage.database.queries;
 
 import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.gathering.domain.builders.TPSBuilder;
 import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
 import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
 import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythingTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.TPSStoreTransaction;
+import com.djrapitops.plan.storage.database.transactions.init.RemoveOldSampledDataTransaction;
 import com.djrapitops.plan.utilities.java.Lists;
 import org.junit.jupiter.api.Test;
 import utilities.RandomData;
@@ -29,6 +31,7 @@ import utilities.RandomData;
 import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -67,4 +70,38 @@ public interface TPSQueriesTest extends DatabaseTestPreparer {
         int actual = db().query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID())).map(DateObj::getValue).orElse(-1);
         assertEquals(expected, actual, () -> "Wrong return value. " + Lists.map(tpsData, TPS::getPlayers).toString());
     }
+
+    @Test
+    default void oldTPSSamplesAreCompactedToHours() {
+        long hour = TimeUnit.HOURS.toMillis(1L);
+        long twoDaysAgo = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(2L);
+        long hourStart = twoDaysAgo - twoDaysAgo % hour;
+        for (int i = 0; i < 3; i++) {
+            execute(DataStoreQueries.storeTPS(serverUUID(), TPSBuilder.get()
+                    .date(hourStart + TimeUnit.MINUTES.toMillis(i))
+                    .tps(20.0 - i)
+                    .playersOnline(i)
+                    .usedCPU(50.0)
+                    .usedMemory(1000L)
+                    .entities(100)
+                    .chunksLoaded(200)
+                    .freeDiskSpace(5000L)
+                    .toTPS()));
+        }
+
+        db().executeTransaction(new RemoveOldSampledDataTransaction(serverUUID(),
+                TimeUnit.DAYS.toMillis(1L), TimeUnit.DAYS.toMillis(365L), TimeUnit.DAYS.toMillis(14L)
+        ));
+
+        // Only the all time peak sample remains
+        assertEquals(1, db().query(TPSQueries.fetchTPSDataOfServer(serverUUID())).size());
+
+        List<TPS> hourly = db().query(TPSQueries.fetchTPSDataOfServer(0L, System.currentTimeMillis(), hour, serverUUID()));
+        assertEquals(1, hourly.size());
+        TPS compacted = hourly.get(0);
+        assertEquals(hourStart, compacted.getDate());
+        assertEquals(19.0, compacted.getTicksPerSecond(), 0.001);
+        assertEquals(2, compacted.getPlayers());
+        assertEquals(200, compacted.getChunksLoaded());
+    }
 }
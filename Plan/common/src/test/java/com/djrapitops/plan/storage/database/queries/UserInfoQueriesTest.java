@@ -169,6 +169,9 @@ public interface UserInfoQueriesTest extends DatabaseTestPreparer {
 
     @Test
     default void cleanRemovesOnlyDuplicatedUserInfo() {
+        db().executeTransaction(new PlayerRegisterTransaction(playerUUID, () -> 0L, TestConstants.PLAYER_ONE_NAME));
+        db().executeTransaction(new PlayerRegisterTransaction(player2UUID, () -> 0L, TestConstants.PLAYER_TWO_NAME));
+
         // Store one duplicate
         db().executeTransaction(new Transaction() {
             @Override
@@ -20,6 +20,7 @@ import cn.nukkit.Player;
 import cn.nukkit.event.EventHandler;
 import cn.nukkit.event.EventPriority;
 import cn.nukkit.event.Listener;
+import cn.nukkit.event.entity.EntityLevelChangeEvent;
 import cn.nukkit.event.player.*;
 import com.djrapitops.plan.gathering.afk.AFKTracker;
 import com.djrapitops.plan.settings.Permissions;
@@ -29,9 +30,8 @@ import com.djrapitops.plan.utilities.logging.ErrorLogger;
 import com.djrapitops.plugin.logging.L;
 
 import javax.inject.Inject;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 /**
  * Listener that keeps track of actions that are not considered being AFK.
@@ -46,13 +46,13 @@ public class NukkitAFKListener implements Listener {
     // Static so that /reload does not cause afk tracking to fail.
     static AFKTracker AFK_TRACKER;
 
-    private final Map<UUID, Boolean> ignorePermissionInfo;
+    private static final Predicate<Player> HAS_IGNORE_PERMISSION = player -> player.hasPermission(Permissions.IGNORE_AFK.getPermission());
+
     private final ErrorLogger errorLogger;
 
     @Inject
     public NukkitAFKListener(PlanConfig config, ErrorLogger errorLogger) {
         this.errorLogger = errorLogger;
-        this.ignorePermissionInfo = new HashMap<>();
 
         NukkitAFKListener.assignAFKTracker(config);
     }
@@ -66,19 +66,7 @@ public class NukkitAFKListener implements Listener {
     private void event(PlayerEvent event) {
         try {
             Player player = event.getPlayer();
-            UUID uuid = player.getUniqueId();
-            long time = System.currentTimeMillis();
-
-            boolean ignored = ignorePermissionInfo.computeIfAbsent(uuid, keyUUID -> player.hasPermission(Permissions.IGNORE_AFK.getPermission()));
-            if (ignored) {
-                AFK_TRACKER.hasIgnorePermission(uuid);
-                ignorePermissionInfo.put(uuid, true);
-                return;
-            } else {
-                ignorePermissionInfo.put(uuid, false);
-            }
-
-            AFK_TRACKER.performedAction(uuid, time);
+            AFK_TRACKER.performedAction(player.getUniqueId(), System.currentTimeMillis(), player, HAS_IGNORE_PERMISSION);
         } catch (Exception e) {
             errorLogger.log(L.ERROR, e, ErrorContext.builder().related(event).build());
         }
@@ -105,8 +93,11 @@ public class NukkitAFKListener implements Listener {
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
-    public void onLeave(PlayerQuitEvent event) {
-        ignorePermissionInfo.remove(event.getPlayer().getUniqueId());
+    public void onWorldChange(EntityLevelChangeEvent event) {
+        if (event.getEntity() instanceof Player) {
+            // Permissions can be different per world.
+            AFK_TRACKER.refreshPermission(((Player) event.getEntity()).getUniqueId());
+        }
     }
 
 }
\ No newline at end of file
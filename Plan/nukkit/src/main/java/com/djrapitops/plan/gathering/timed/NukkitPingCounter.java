@@ -29,12 +29,12 @@ import cn.nukkit.event.EventHandler;
 import cn.nukkit.event.Listener;
 import cn.nukkit.event.player.PlayerJoinEvent;
 import cn.nukkit.event.player.PlayerQuitEvent;
-import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.gathering.domain.Ping;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.transactions.events.PingStoreTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.PingBatchStoreTransaction;
 import com.djrapitops.plugin.api.TimeAmount;
 import com.djrapitops.plugin.task.AbsRunnable;
 import com.djrapitops.plugin.task.RunnableFactory;
@@ -42,6 +42,7 @@ import com.djrapitops.plugin.task.RunnableFactory;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -55,7 +56,8 @@ import java.util.concurrent.TimeUnit;
 @Singleton
 public class NukkitPingCounter extends AbsRunnable implements Listener {
 
-    private final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    private final Map<UUID, PingHistory> playerHistory;
+    private int runsSinceStore;
 
     private final PlanConfig config;
     private final DBSystem dbSystem;
@@ -73,18 +75,18 @@ public class NukkitPingCounter extends AbsRunnable implements Listener {
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
         this.runnableFactory = runnableFactory;
-        playerHistory = new HashMap<>();
+        playerHistory = new ConcurrentHashMap<>();
     }
 
     @Override
     public void run() {
         long time = System.currentTimeMillis();
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
+        Iterator<Map.Entry<UUID, PingHistory>> iterator = playerHistory.entrySet().iterator();
 
         while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
+            Map.Entry<UUID, PingHistory> entry = iterator.next();
             UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
+            PingHistory history = entry.getValue();
             Optional<Player> player = Server.getInstance().getPlayer(uuid);
             if (player.isPresent()) {
                 int ping = player.get().getPing();
@@ -92,21 +94,30 @@ public class NukkitPingCounter extends AbsRunnable implements Listener {
                     // Don't accept bad values
                     continue;
                 }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
-                    dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
-                    );
-                    history.clear();
-                }
+                history.add(time, ping);
             } else {
                 iterator.remove();
             }
         }
+
+        runsSinceStore++;
+        if (runsSinceStore >= PingHistory.SAMPLES_PER_AGGREGATE) {
+            runsSinceStore = 0;
+            storeAggregates();
+        }
+    }
+
+    private void storeAggregates() {
+        UUID serverUUID = serverInfo.getServerUUID();
+        Map<UUID, Ping> aggregates = PingHistory.aggregateAll(playerHistory, serverUUID);
+        if (!aggregates.isEmpty()) {
+            // Every player is stored on the same interval boundary in a single transaction.
+            dbSystem.getDatabase().executeTransaction(new PingBatchStoreTransaction(serverUUID, aggregates));
+        }
     }
 
     public void addPlayer(Player player) {
-        playerHistory.put(player.getUniqueId(), new ArrayList<>());
+        playerHistory.put(player.getUniqueId(), new PingHistory());
     }
 
     public void removePlayer(Player player) {
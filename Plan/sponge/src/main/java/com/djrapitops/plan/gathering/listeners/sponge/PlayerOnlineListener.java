@@ -19,7 +19,7 @@ package com.djrapitops.plan.gathering.listeners.sponge;
 import com.djrapitops.plan.delivery.domain.Nickname;
 import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
 import com.djrapitops.plan.delivery.export.Exporter;
-import com.djrapitops.plan.delivery.webserver.cache.DataID;
+import com.djrapitops.plan.delivery.webserver.cache.DataDomain;
 import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
 import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.ExtensionSvc;
@@ -154,8 +154,7 @@ public class PlayerOnlineListener {
         UUID playerUUID = player.getUniqueId();
         UUID serverUUID = serverInfo.getServerUUID();
         long time = System.currentTimeMillis();
-        JSONCache.invalidate(DataID.SERVER_OVERVIEW, serverUUID);
-        JSONCache.invalidate(DataID.GRAPH_PERFORMANCE, serverUUID);
+        JSONCache.invalidate(DataDomain.ONLINE_PLAYERS, serverUUID);
 
         SpongeAFKListener.AFK_TRACKER.performedAction(playerUUID, time);
 
@@ -219,8 +218,7 @@ public class PlayerOnlineListener {
         String playerName = player.getName();
         UUID playerUUID = player.getUniqueId();
         UUID serverUUID = serverInfo.getServerUUID();
-        JSONCache.invalidate(DataID.SERVER_OVERVIEW, serverUUID);
-        JSONCache.invalidate(DataID.GRAPH_PERFORMANCE, serverUUID);
+        JSONCache.invalidate(DataDomain.ONLINE_PLAYERS, serverUUID);
 
         SpongeAFKListener.AFK_TRACKER.loggedOut(playerUUID, time);
 
@@ -31,12 +31,9 @@ import org.spongepowered.api.event.entity.living.humanoid.player.PlayerChangeCli
 import org.spongepowered.api.event.entity.living.humanoid.player.TargetPlayerEvent;
 import org.spongepowered.api.event.filter.cause.First;
 import org.spongepowered.api.event.message.MessageChannelEvent;
-import org.spongepowered.api.event.network.ClientConnectionEvent;
 
 import javax.inject.Inject;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
+import java.util.function.Predicate;
 
 /**
  * Listener that keeps track of actions that are not considered being AFK.
@@ -51,13 +48,13 @@ public class SpongeAFKListener {
     // Static so that /reload does not cause afk tracking to fail.
     static AFKTracker AFK_TRACKER;
 
-    private final Map<UUID, Boolean> ignorePermissionInfo;
+    private static final Predicate<Player> HAS_IGNORE_PERMISSION = player -> player.hasPermission(Permissions.IGNORE_AFK.getPermission());
+
     private final ErrorLogger errorLogger;
 
     @Inject
     public SpongeAFKListener(PlanConfig config, ErrorLogger errorLogger) {
         this.errorLogger = errorLogger;
-        this.ignorePermissionInfo = new HashMap<>();
 
         SpongeAFKListener.assignAFKTracker(config);
     }
@@ -87,19 +84,7 @@ public class SpongeAFKListener {
     }
 
     private void performedAction(Player player) {
-        UUID uuid = player.getUniqueId();
-        long time = System.currentTimeMillis();
-
-        boolean ignored = ignorePermissionInfo.computeIfAbsent(uuid, keyUUID -> player.hasPermission(Permissions.IGNORE_AFK.getPermission()));
-        if (ignored) {
-            AFK_TRACKER.hasIgnorePermission(uuid);
-            ignorePermissionInfo.put(uuid, true);
-            return;
-        } else {
-            ignorePermissionInfo.put(uuid, false);
-        }
-
-        AFK_TRACKER.performedAction(uuid, time);
+        AFK_TRACKER.performedAction(player.getUniqueId(), System.currentTimeMillis(), player, HAS_IGNORE_PERMISSION);
     }
 
     @Listener(order = Order.POST)
@@ -118,7 +103,10 @@ public class SpongeAFKListener {
     }
 
     @Listener(order = Order.POST)
-    public void onLeave(ClientConnectionEvent.Disconnect event) {
-        ignorePermissionInfo.remove(event.getTargetEntity().getUniqueId());
+    public void onWorldChange(MoveEntityEvent.Teleport event, @First Player player) {
+        if (!event.getFromTransform().getExtent().equals(event.getToTransform().getExtent())) {
+            // Permissions can be different per world.
+            AFK_TRACKER.refreshPermission(player.getUniqueId());
+        }
     }
 }
\ No newline at end of file
@@ -17,10 +17,16 @@
 package com.djrapitops.plan.gathering.timed;
 
 import com.djrapitops.plan.PlanVelocity;
+import com.djrapitops.plan.identification.ServerInfo;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.events.PingBatchStoreTransaction;
 import com.velocitypowered.api.proxy.Player;
 import com.velocitypowered.api.proxy.ProxyServer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import utilities.TestConstants;
 import utilities.mocks.PlanVelocityMocker;
@@ -29,7 +35,8 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 /**
  * Tests for {@link VelocityPingCounter}.
@@ -67,4 +74,37 @@ public class VelocityPingCounterTest {
         assertTrue(counter.playerHistory.isEmpty());
     }
 
-}
\ No newline at end of file
+    @Test
+    void pingOfAllPlayersIsStoredInOneTransactionOnIntervalBoundary() {
+        Player secondPlayer = Mockito.mock(Player.class);
+        when(secondPlayer.getPing()).thenReturn(10L);
+        when(secondPlayer.getUniqueId()).thenReturn(TestConstants.PLAYER_TWO_UUID);
+
+        ProxyServer proxy = plugin.getProxy();
+        when(proxy.getPlayer(TestConstants.PLAYER_ONE_UUID)).thenReturn(Optional.of(player));
+        when(proxy.getPlayer(TestConstants.PLAYER_TWO_UUID)).thenReturn(Optional.of(secondPlayer));
+
+        Database database = Mockito.mock(Database.class);
+        DBSystem dbSystem = Mockito.mock(DBSystem.class);
+        when(dbSystem.getDatabase()).thenReturn(database);
+        ServerInfo serverInfo = Mockito.mock(ServerInfo.class);
+        when(serverInfo.getServerUUID()).thenReturn(TestConstants.SERVER_UUID);
+
+        VelocityPingCounter counter = new VelocityPingCounter(plugin, null, dbSystem, serverInfo, null);
+        counter.addPlayer(player);
+        for (int i = 1; i < PingHistory.SAMPLES_PER_AGGREGATE; i++) {
+            counter.run();
+            if (i == 10) {
+                // Joins in the middle of the interval, stored with the other player
+                counter.addPlayer(secondPlayer);
+            }
+        }
+        verify(database, never()).executeTransaction(any());
+
+        counter.run();
+        ArgumentCaptor<Transaction> stored = ArgumentCaptor.forClass(Transaction.class);
+        verify(database, times(1)).executeTransaction(stored.capture());
+        assertTrue(stored.getValue() instanceof PingBatchStoreTransaction);
+        assertTrue(counter.playerHistory.values().stream().allMatch(PingHistory::isEmpty));
+    }
+}